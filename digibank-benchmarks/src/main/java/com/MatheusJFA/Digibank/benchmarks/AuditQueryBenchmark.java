@@ -0,0 +1,166 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditEvent;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditQuery;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditQueryResult;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditRecord;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditSegmentStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Consultas à trilha de auditoria sobre 90 dias de eventos: pelo AuditSegmentStore (segmentos comprimidos, índice
+// esparso e memória mapeada) e, como referência, varrendo o arquivo JSON por linha que o FileAuditSink grava.
+// No setup mostra o tamanho em disco de cada formato.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+@State(Scope.Benchmark)
+public class AuditQueryBenchmark {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final int DAYS = 90;
+    private static final int USERS = 20_000;
+
+    @Param({"10000"})
+    public int eventsPerDay;
+
+    private Path directory;
+    private Path jsonFile;
+    private AuditSegmentStore store;
+    private Instant end;
+    private String user;
+
+    @Setup
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("digibank-audit-segments");
+        jsonFile = Files.createTempFile("digibank-audit", ".log");
+        store = new AuditSegmentStore(directory.toString(), 128, 1000, 0);
+
+        final var random = new SplittableRandom(42);
+        final String[] users = new String[USERS];
+        for (int i = 0; i < USERS; i++) users[i] = new UUID(random.nextLong(), random.nextLong()).toString();
+        user = users[0];
+
+        end = Instant.parse("2026-10-01T00:00:00Z");
+        final Instant start = end.minus(Duration.ofDays(DAYS));
+        final long step = Duration.ofDays(1).toMillis() / eventsPerDay;
+
+        final List<AuditRecord> batch = new ArrayList<>(512);
+        try (BufferedWriter json = Files.newBufferedWriter(jsonFile)) {
+            for (long i = 0; i < (long) DAYS * eventsPerDay; i++) {
+                final boolean failure = random.nextInt(20) == 0;
+                final AuditRecord record = new AuditRecord(
+                        start.plusMillis(i * step),
+                        failure ? AuditEvent.Type.SECURITY_FAILURE : AuditEvent.Type.SECURITY_CHECK,
+                        users[random.nextInt(USERS)],
+                        "UserService.findById",
+                        List.of(users[random.nextInt(USERS)], "j***@email.com"),
+                        failure ? "AccessDeniedException: Acesso negado" : null);
+
+                json.write(MAPPER.writeValueAsString(record));
+                json.newLine();
+                batch.add(record);
+                if (batch.size() == 512) {
+                    store.write(batch);
+                    batch.clear();
+                }
+            }
+        }
+        store.write(batch);
+        invoke(store, "close");
+
+        System.out.printf("%n%d eventos: segmentos %.1f MB, JSON por linha %.1f MB%n", (long) DAYS * eventsPerDay,
+                size(directory) / 1e6, Files.size(jsonFile) / 1e6);
+    }
+
+    private static long size(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void invoke(Object target, String name) throws ReflectiveOperationException {
+        final Method method = target.getClass().getDeclaredMethod(name);
+        method.setAccessible(true);
+        method.invoke(target);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        Files.delete(directory);
+        Files.delete(jsonFile);
+    }
+
+    // Quem acessou (ou foi acessado por) um usuário no último mês
+    @Benchmark
+    public AuditQueryResult userLastMonth() throws IOException {
+        return store.query(new AuditQuery(end.minus(Duration.ofDays(30)), end, user, null, 100));
+    }
+
+    // Falhas de um usuário nos 90 dias
+    @Benchmark
+    public AuditQueryResult userFailuresAllDays() throws IOException {
+        return store.query(new AuditQuery(end.minus(Duration.ofDays(DAYS)), end, user, AuditEvent.Type.SECURITY_FAILURE, 100));
+    }
+
+    // Tudo o que aconteceu em uma hora de 45 dias atrás
+    @Benchmark
+    public AuditQueryResult oneHourWindow() throws IOException {
+        final Instant from = end.minus(Duration.ofDays(45));
+        return store.query(new AuditQuery(from, from.plus(Duration.ofHours(1)), null, null, 1000));
+    }
+
+    // Referência: a mesma pergunta de userLastMonth varrendo o JSON por linha
+    @Benchmark
+    public List<AuditRecord> userLastMonthJsonScan() throws IOException {
+        final Instant from = end.minus(Duration.ofDays(30));
+        final List<AuditRecord> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(jsonFile)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.contains(user)) continue;
+                final AuditRecord record = MAPPER.readValue(line, AuditRecord.class);
+                if (!record.timestamp().isBefore(from) && record.timestamp().isBefore(end)) events.add(record);
+            }
+        }
+        events.sort(Comparator.comparing(AuditRecord::timestamp).reversed());
+        return events.subList(0, Math.min(100, events.size()));
+    }
+}
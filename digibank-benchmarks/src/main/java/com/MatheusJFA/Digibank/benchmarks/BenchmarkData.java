@@ -0,0 +1,137 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.dictionaries.CountryCodes;
+import com.MatheusJFA.Digibank.domain.valueObject.Luhn;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+// Massa de dados determinística (semente fixa) compartilhada pelos benchmarks, para que execuções
+// diferentes comparem exatamente as mesmas entradas
+final class BenchmarkData {
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+
+    private static final String[] DOMAINS = {"email.com", "digibank.com.br", "mail.example.org", "empresa.co"};
+    private static final String[] CARD_PREFIXES = {"4", "51", "55", "2221", "34", "37", "6011", "3528", "62"};
+
+    private BenchmarkData() {
+    }
+
+    static String[] cpfs(long seed) {
+        final var random = new SplittableRandom(seed);
+        final String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = cpf(random);
+        }
+        return values;
+    }
+
+    static String[] maskedCpfs(String[] cpfs) {
+        final String[] values = new String[cpfs.length];
+        for (int i = 0; i < cpfs.length; i++) {
+            final String cpf = cpfs[i];
+            values[i] = cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+        }
+        return values;
+    }
+
+    static String[] emails(long seed) {
+        final var random = new SplittableRandom(seed);
+        final String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = "usuario." + random.nextInt(1_000_000) + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+        }
+        return values;
+    }
+
+    // Domínio com muitos rótulos e TLD inválido: força a antiga EMAIL_REGEX a testar cada divisão entre rótulos e TLD
+    static String[] adversarialEmails(int labels) {
+        final String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = "u" + i + "@" + "aa.".repeat(labels) + "a1";
+        }
+        return values;
+    }
+
+    static String[] phones(long seed, boolean masked) {
+        final var random = new SplittableRandom(seed);
+        final int[] ddis = {55, 1, 351, 44, 49};
+        final String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final int ddi = ddis[random.nextInt(ddis.length)];
+            final int ddd = 11 + random.nextInt(88);
+            final int prefix = 90000 + random.nextInt(10000);
+            final int suffix = random.nextInt(10000);
+            values[i] = masked
+                    ? String.format("+%d (%d) %05d-%04d", ddi, ddd, prefix, suffix)
+                    : String.format("%d%d%05d%04d", ddi, ddd, prefix, suffix);
+        }
+        return values;
+    }
+
+    // Os mesmos telefones mascarados, com +55 no lugar de +1 e +351: o Phone de antes do parser de passada única só
+    // aceitava 12 ou 13 dígitos com DDI de 2 ou 3 (benchmarks.legacy.LegacyPhone)
+    static String[] baselinePhones(long seed) {
+        final String[] values = phones(seed, true);
+        for (int i = 0; i < values.length; i++) values[i] = values[i].replaceFirst("^\\+(1|351) ", "+55 ");
+        return values;
+    }
+
+    static String[] cardNumbers(long seed) {
+        final var random = new SplittableRandom(seed);
+        final String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final String prefix = CARD_PREFIXES[random.nextInt(CARD_PREFIXES.length)];
+            final int length = prefix.startsWith("3") && !prefix.startsWith("35") ? 15 : 16;
+            final var payload = new StringBuilder(prefix);
+            while (payload.length() < length - 1) payload.append((char) ('0' + random.nextInt(10)));
+            values[i] = payload.append(Luhn.checkDigit(payload)).toString();
+        }
+        return values;
+    }
+
+    static int[] areaCodes(long seed) {
+        final var random = new SplittableRandom(seed);
+        final Integer[] known = CountryCodes.AREA_CODE_TO_COUNTRY.keySet().toArray(Integer[]::new);
+        final int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = known[random.nextInt(known.length)];
+        }
+        return values;
+    }
+
+    static String cardExpiration() {
+        return "12/" + LocalDate.now().plusYears(1).toString().substring(2, 4);
+    }
+
+    private static String cpf(SplittableRandom random) {
+        final int[] digits = new int[11];
+        do {
+            for (int i = 0; i < 9; i++) digits[i] = random.nextInt(10);
+        } while (allEqual(digits));
+
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+
+        final char[] chars = new char[11];
+        for (int i = 0; i < 11; i++) chars[i] = (char) ('0' + digits[i]);
+        return new String(chars);
+    }
+
+    private static int checkDigit(int[] digits, int count) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) sum += digits[i] * (count + 1 - i);
+        final int digit = (sum * 10) % 11;
+        return digit == 10 ? 0 : digit;
+    }
+
+    private static boolean allEqual(int[] digits) {
+        for (int i = 1; i < 9; i++) {
+            if (digits[i] != digits[0]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Ponto de entrada do jar de benchmarks. Executa o JMH gravando o resultado em JSON e, quando uma
+// linha de base é informada, compara as duas execuções e termina com código 1 se houver regressão.
+//
+//   java -jar benchmarks.jar [-o resultado.json] [-b base.json] [-t limite%] [opções e filtros do JMH]
+//   java -jar benchmarks.jar --compare base.json atual.json [-t limite%]
+public final class BenchmarkRunner {
+    private static final String DEFAULT_OUTPUT = "jmh-results.json";
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(DEFAULT_OUTPUT);
+        Path baseline = null;
+        Path compareWith = null;
+        double threshold = DEFAULT_THRESHOLD;
+        final List<String> jmhArgs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-o", "--output" -> output = Path.of(args[++i]);
+                case "-b", "--baseline" -> baseline = Path.of(args[++i]);
+                case "-t", "--threshold" -> threshold = Double.parseDouble(args[++i]);
+                case "--compare" -> {
+                    baseline = Path.of(args[++i]);
+                    compareWith = Path.of(args[++i]);
+                }
+                default -> jmhArgs.add(args[i]);
+            }
+        }
+
+        if (compareWith == null) {
+            final var commandLine = new CommandLineOptions(jmhArgs.toArray(String[]::new));
+
+            // Listagens e ajuda (-l, -lp, -h...) não executam benchmarks; ficam com o Main do próprio JMH
+            if (commandLine.shouldList() || commandLine.shouldListWithParams() || commandLine.shouldHelp()
+                    || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+                Main.main(jmhArgs.toArray(String[]::new));
+                return;
+            }
+
+            final var options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(output.toString())
+                    .build();
+
+            new Runner(options).run();
+            compareWith = output;
+        }
+
+        if (baseline == null) return;
+
+        final var report = RegressionReport.compare(baseline, compareWith, threshold);
+        System.out.println();
+        System.out.print(report.format());
+
+        if (report.hasRegressions()) {
+            System.err.printf("Regressões acima de %.1f%% em relação a %s%n", threshold, baseline);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyCPF;
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyValidators;
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.CPFValidator;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class CPFBenchmark {
+    private String[] cpfs;
+    private String[] maskedCpfs;
+    private long[] numericCpfs;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        cpfs = BenchmarkData.cpfs(42);
+        maskedCpfs = BenchmarkData.maskedCpfs(cpfs);
+        numericCpfs = new long[cpfs.length];
+        for (int i = 0; i < cpfs.length; i++) numericCpfs[i] = Long.parseLong(cpfs[i]);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public CPF construct() {
+        return new CPF(cpfs[next()]);
+    }
+
+    @Benchmark
+    public CPF constructMasked() {
+        return new CPF(maskedCpfs[next()]);
+    }
+
+    // O new CPF(String) de antes do validador de passada única
+    @Benchmark
+    public LegacyCPF legacyConstruct() {
+        return new LegacyCPF(cpfs[next()]);
+    }
+
+    @Benchmark
+    public LegacyCPF legacyConstructMasked() {
+        return new LegacyCPF(maskedCpfs[next()]);
+    }
+
+    @Benchmark
+    public CPF interned() {
+        return ValueObjects.cpf(cpfs[next()]);
+    }
+
+    @Benchmark
+    public CPF fromLong() {
+        return CPF.of(numericCpfs[next()]);
+    }
+
+    @Benchmark
+    public byte validate() {
+        return CPFValidator.validate(maskedCpfs[next()]);
+    }
+
+    @Benchmark
+    public boolean legacyRegexValidate() {
+        return LegacyValidators.isValidCPF(maskedCpfs[next()]);
+    }
+
+    @Benchmark
+    public String format() {
+        return CPF.of(numericCpfs[next()]).mask();
+    }
+}
@@ -0,0 +1,60 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.dictionaries.CountryCodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class CountryCodesBenchmark {
+    private int[] areaCodes;
+    private String[] e164;
+    private String[] countries;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        areaCodes = BenchmarkData.areaCodes(42);
+        e164 = BenchmarkData.phones(42, false);
+        countries = new String[areaCodes.length];
+        for (int i = 0; i < areaCodes.length; i++) countries[i] = CountryCodes.getCountryByAreaCode(areaCodes[i]);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public String countryByAreaCode() {
+        return CountryCodes.getCountryByAreaCode(areaCodes[next()]);
+    }
+
+    @Benchmark
+    public String countryByAreaCodeMap() {
+        return CountryCodes.AREA_CODE_TO_COUNTRY.get(areaCodes[next()]);
+    }
+
+    @Benchmark
+    public int areaCodeLength() {
+        return CountryCodes.areaCodeLength(e164[next()], 0);
+    }
+
+    @Benchmark
+    public Integer areaCodeByCountryName() {
+        return CountryCodes.getAreaCodeByCountryName(countries[next()]);
+    }
+}
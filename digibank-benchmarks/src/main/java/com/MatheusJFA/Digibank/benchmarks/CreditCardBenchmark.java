@@ -0,0 +1,74 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyValidators;
+import com.MatheusJFA.Digibank.domain.dictionaries.CardBins;
+import com.MatheusJFA.Digibank.domain.valueObject.BulkValidationResult;
+import com.MatheusJFA.Digibank.domain.valueObject.CreditCard;
+import com.MatheusJFA.Digibank.domain.valueObject.Luhn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class CreditCardBenchmark {
+    private String[] cardNumbers;
+    private String expiration;
+    private byte[] columns;
+    private int columnCount;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        cardNumbers = BenchmarkData.cardNumbers(42);
+        expiration = BenchmarkData.cardExpiration();
+
+        final String[] sixteenDigits = Arrays.stream(cardNumbers).filter(number -> number.length() == 16).toArray(String[]::new);
+        columnCount = sixteenDigits.length;
+        columns = Luhn.toColumns(sixteenDigits, 16);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public CreditCard construct() {
+        return new CreditCard(cardNumbers[next()], "JOAO DA SILVA", expiration, "123");
+    }
+
+    @Benchmark
+    public boolean luhn() {
+        return Luhn.isValid(cardNumbers[next()]);
+    }
+
+    // Custo total do lote colunar; divida pelo tamanho do lote para comparar com luhn()
+    @Benchmark
+    public BulkValidationResult luhnColumnarBatch() {
+        return Luhn.validateColumns(columns, columnCount, 16);
+    }
+
+    @Benchmark
+    public String cardType() {
+        return CardBins.classify(cardNumbers[next()]);
+    }
+
+    @Benchmark
+    public String legacyRegexCardType() {
+        return LegacyValidators.getCardType(cardNumbers[next()]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyValidators;
+import com.MatheusJFA.Digibank.domain.valueObject.Email;
+import com.MatheusJFA.Digibank.domain.valueObject.EmailParser;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class EmailBenchmark {
+    private String[] emails;
+    private int cursor;
+
+    // Estado separado para que apenas os benchmarks adversariais sejam parametrizados
+    @State(Scope.Thread)
+    public static class Adversarial {
+        // Quantidade de rótulos do domínio; o custo da regex antiga cresce de forma superlinear com ela
+        @Param({"16", "256"})
+        public int labels;
+
+        private String[] emails;
+
+        @Setup
+        public void setup() {
+            emails = BenchmarkData.adversarialEmails(labels);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        emails = BenchmarkData.emails(42);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public Email construct() {
+        return new Email(emails[next()]);
+    }
+
+    @Benchmark
+    public Email interned() {
+        return ValueObjects.email(emails[next()]);
+    }
+
+    @Benchmark
+    public int parse() {
+        return EmailParser.parse(emails[next()]);
+    }
+
+    @Benchmark
+    public boolean legacyRegexValidate() {
+        return LegacyValidators.isValidEmail(emails[next()]);
+    }
+
+    @Benchmark
+    public int parseAdversarial(Adversarial adversarial) {
+        return EmailParser.parse(adversarial.emails[next()]);
+    }
+
+    @Benchmark
+    public boolean legacyRegexAdversarial(Adversarial adversarial) {
+        return LegacyValidators.isValidEmail(adversarial.emails[next()]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyCPF;
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyEmail;
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyPhone;
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyUser;
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.Email;
+import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Relatório de ocupação de memória (JOL) dos objetos de domínio: layout de cada classe e o total retido por usuário,
+// hoje (objetos de valor compartilhados pelo ValueObjects) e na linha de base (benchmarks.legacy, com a regex e os
+// limites de tamanho em campos de instância e o CPF como String).
+//
+//   java -cp benchmarks.jar com.MatheusJFA.Digibank.benchmarks.FootprintReport
+public final class FootprintReport {
+    private FootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        for (Class<?> type : List.of(LegacyCPF.class, LegacyEmail.class, LegacyPhone.class, LegacyUser.class,
+                CPF.class, Email.class, Phone.class, User.class)) {
+            System.out.println(ClassLayout.parseClass(type).toPrintable());
+        }
+
+        final String[] cpfs = BenchmarkData.cpfs(42);
+        final String[] emails = BenchmarkData.emails(42);
+        final String[] phones = BenchmarkData.baselinePhones(42);
+
+        final List<User> users = new ArrayList<>(BenchmarkData.SIZE);
+        final List<LegacyUser> legacyUsers = new ArrayList<>(BenchmarkData.SIZE);
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            users.add(User.create("John Doe", "hash", emails[i], cpfs[i], phones[i], BenchmarkData.BIRTH_DATE, Role.USER));
+            legacyUsers.add(new LegacyUser("John Doe", "hash", emails[i], cpfs[i], phones[i], BenchmarkData.BIRTH_DATE, Role.USER));
+        }
+
+        final User user = users.get(0);
+        final LegacyUser legacyUser = legacyUsers.get(0);
+        System.out.printf("%-8s %10s %10s%n", "", "antes", "depois");
+        row("CPF", legacyUser.getCpf(), user.getCpf());
+        row("Email", legacyUser.getEmail(), user.getEmail());
+        row("Phone", legacyUser.getPhone(), user.getPhone());
+        row("User", legacyUser, user);
+
+        // Mesmos valores repetidos (o mesmo cliente em várias requisições): com o flyweight o grafo compartilha CPF,
+        // Email e Phone entre as cópias
+        final List<User> repeated = new ArrayList<>(BenchmarkData.SIZE);
+        final List<LegacyUser> legacyRepeated = new ArrayList<>(BenchmarkData.SIZE);
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            repeated.add(User.create("John Doe", "hash", emails[0], cpfs[0], phones[0], BenchmarkData.BIRTH_DATE, Role.USER));
+            legacyRepeated.add(new LegacyUser("John Doe", "hash", emails[0], cpfs[0], phones[0], BenchmarkData.BIRTH_DATE, Role.USER));
+        }
+
+        System.out.printf("%d usuários distintos:  %d -> %d bytes/usuário%n", users.size(),
+                perUser(legacyUsers), perUser(users));
+        System.out.printf("%d usuários repetidos: %d -> %d bytes/usuário%n", repeated.size(),
+                perUser(legacyRepeated), perUser(repeated));
+    }
+
+    private static void row(String name, Object before, Object after) {
+        System.out.printf("%-8s %10d %10d bytes (grafo completo)%n", name,
+                GraphLayout.parseInstance(before).totalSize(), GraphLayout.parseInstance(after).totalSize());
+    }
+
+    private static long perUser(List<?> users) {
+        return GraphLayout.parseInstance(users.toArray()).totalSize() / users.size();
+    }
+}
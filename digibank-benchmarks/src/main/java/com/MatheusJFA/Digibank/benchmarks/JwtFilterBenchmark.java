@@ -0,0 +1,111 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyJwtValidation;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtKeyRing;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo da autenticação JWT por requisição no filtro. Multiplicado pela taxa de requisições (ex.: 5 mil/s)
+// dá a fração de CPU gasta só com a verificação dos tokens.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef".getBytes());
+
+    // Quantidade de clientes distintos; com mais tokens que posições no cache parte das requisições faz o parse
+    @Param({"256", "65536"})
+    public int clients;
+
+    private LegacyJwtValidation legacy;
+    private JwtTokenUtil parseOnce;
+    private JwtTokenUtil cached;
+    private String[] tokens;
+    private UserDetails[] users;
+    private int cursor;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        legacy = new LegacyJwtValidation(SECRET);
+        parseOnce = tokenUtil(0);
+        cached = tokenUtil(4096);
+
+        tokens = new String[clients];
+        users = new UserDetails[clients];
+        for (int i = 0; i < clients; i++) {
+            users[i] = new User("user-" + i, "", List.of());
+            tokens[i] = cached.generateToken(users[i]);
+        }
+    }
+
+    private static JwtTokenUtil tokenUtil(int cacheSize) throws ReflectiveOperationException {
+        final var keyRing = new JwtKeyRing(SECRET, null);
+        invokeInit(JwtKeyRing.class, keyRing);
+
+        final var tokenUtil = new JwtTokenUtil(keyRing);
+        set(tokenUtil, "expirationMs", 3_600_000L);
+        set(tokenUtil, "claimsCacheSize", cacheSize);
+
+        invokeInit(JwtTokenUtil.class, tokenUtil);
+        return tokenUtil;
+    }
+
+    private static void invokeInit(Class<?> type, Object target) throws ReflectiveOperationException {
+        final Method init = type.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(target);
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        final Field field = JwtTokenUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private int next() {
+        return cursor++ % clients;
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        final int i = next();
+        return legacy.authenticate(tokens[i], users[i].getUsername());
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        final int i = next();
+        final Claims claims = parseOnce.parseAndVerify(tokens[i]);
+        return parseOnce.validateClaims(claims, users[i]);
+    }
+
+    @Benchmark
+    public boolean parseOnceCached() {
+        final int i = next();
+        final Claims claims = cached.parseAndVerify(tokens[i]);
+        return cached.validateClaims(claims, users[i]);
+    }
+}
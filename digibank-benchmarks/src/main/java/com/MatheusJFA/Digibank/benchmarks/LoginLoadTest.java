@@ -0,0 +1,176 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.infrastructure.security.login.LoginService;
+import com.MatheusJFA.Digibank.shared.exceptions.LoginUnavailableException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Teste de carga do LoginService: N clientes disparam logins ao mesmo tempo contra um H2 em memória, com o BCrypt
+// no custo de produção. Mostra a latência vista pelo cliente para logins aceitos e recusados (503), a vazão e os
+// percentis dos timers de hashing e de espera na fila publicados pelo serviço.
+//
+//   java -cp benchmarks.jar com.MatheusJFA.Digibank.benchmarks.LoginLoadTest \
+//        [--clients 500] [--rounds 1] [--strength 10] [--threads 0] [--queue 64] [--max-wait-ms 1000]
+public final class LoginLoadTest {
+    private static final String PASSWORD = "senha-forte-123";
+    private static final int WARMUP_LOGINS = 20;
+
+    private LoginLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = 500;
+        int rounds = 1;
+        int strength = 10;
+        int threads = 0;
+        int queue = 64;
+        long maxWaitMs = 1000;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--clients" -> clients = Integer.parseInt(args[++i]);
+                case "--rounds" -> rounds = Integer.parseInt(args[++i]);
+                case "--strength" -> strength = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--queue" -> queue = Integer.parseInt(args[++i]);
+                case "--max-wait-ms" -> maxWaitMs = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        final var jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:login-load;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id            UUID         NOT NULL PRIMARY KEY,
+                    email         VARCHAR(255) NOT NULL UNIQUE,
+                    password_hash VARCHAR(255) NOT NULL,
+                    is_active     BOOLEAN      NOT NULL,
+                    role          VARCHAR(255) NOT NULL,
+                    last_modified_date TIMESTAMP,
+                    version       BIGINT
+                )""");
+
+        final var encoder = new BCryptPasswordEncoder(strength);
+        final String hash = encoder.encode(PASSWORD);
+        final List<Object[]> rows = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "cliente" + i + "@email.com", hash});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password_hash, is_active, role) VALUES (?, ?, ?, TRUE, 'USER')", rows);
+
+        final var registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build().merge(config);
+            }
+        });
+
+        // Aquecimento do JIT em uma instância separada, para não contaminar os timers medidos
+        final var warmup = new LoginService(jdbcTemplate, encoder, event -> { }, new SimpleMeterRegistry(), 1, WARMUP_LOGINS, maxWaitMs);
+        for (int i = 0; i < WARMUP_LOGINS; i++) {
+            warmup.authenticate("cliente0@email.com", PASSWORD).get();
+        }
+
+        final var service = new LoginService(jdbcTemplate, encoder, event -> { }, registry, threads, queue, maxWaitMs);
+
+        final int total = clients * rounds;
+        final long[] accepted = new long[total];
+        final long[] rejected = new long[total];
+        final var acceptedCount = new AtomicInteger();
+        final var rejectedCount = new AtomicInteger();
+        final var failed = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(clients);
+
+        final int clientRounds = rounds;
+        try (var clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                final String email = "cliente" + c + "@email.com";
+                clientThreads.execute(() -> {
+                    try {
+                        start.await();
+                        for (int r = 0; r < clientRounds; r++) {
+                            final long begin = System.nanoTime();
+                            try {
+                                service.authenticate(email, PASSWORD).get();
+                                accepted[acceptedCount.getAndIncrement()] = System.nanoTime() - begin;
+                            } catch (ExecutionException e) {
+                                if (e.getCause() instanceof LoginUnavailableException) {
+                                    rejected[rejectedCount.getAndIncrement()] = System.nanoTime() - begin;
+                                } else {
+                                    failed.incrementAndGet();
+                                }
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            final long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            final double seconds = (System.nanoTime() - begin) / 1e9;
+
+            System.out.printf("%d clientes x %d rodadas, BCrypt custo %d, %d CPUs%n",
+                    clients, rounds, strength, Runtime.getRuntime().availableProcessors());
+            System.out.printf("Tempo total: %.2f s, %.1f logins aceitos/s%n", seconds, acceptedCount.get() / seconds);
+            print("Aceitos (200)", Arrays.copyOf(accepted, acceptedCount.get()));
+            print("Recusados (503)", Arrays.copyOf(rejected, rejectedCount.get()));
+            if (failed.get() > 0) System.out.printf("Falhas inesperadas: %d%n", failed.get());
+
+            printTimer(registry, "digibank.auth.password", "BCrypt (verify)");
+            printTimer(registry, "digibank.auth.login.queue.wait", "Espera na fila");
+        }
+    }
+
+    private static void print(String label, long[] latencies) {
+        if (latencies.length == 0) {
+            System.out.printf("%-16s 0%n", label);
+            return;
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %5d  p50 %8.2f ms  p90 %8.2f ms  p99 %8.2f ms  máx %8.2f ms%n", label, latencies.length,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static void printTimer(SimpleMeterRegistry registry, String name, String label) {
+        final var timer = registry.find(name).timer();
+        if (timer == null) return;
+
+        final var snapshot = timer.takeSnapshot();
+        final var percentiles = new StringBuilder();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.append(String.format("  p%.0f %8.2f ms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        System.out.printf("%-16s %5d%s%n", label, snapshot.count(), percentiles);
+    }
+}
@@ -0,0 +1,99 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Permission;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.infrastructure.security.authorization.PermissionAuthorizationManager;
+import com.MatheusJFA.Digibank.infrastructure.security.authorization.RequiresPermission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo por chamada da autorização de método: só o proxy, @PreAuthorize("hasRole(...)") avaliado por SpEL e
+// @RequiresPermission avaliado pelo bitset do papel. Rodar com -prof gc para ver a alocação por chamada.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PermissionCheckBenchmark {
+
+    public static class AuditService {
+        public String plain() {
+            return "ok";
+        }
+
+        @PreAuthorize("hasRole('ADMINISTRATOR')")
+        public String preAuthorize() {
+            return "ok";
+        }
+
+        @RequiresPermission(Permission.AUDIT_READ)
+        public String requiresPermission() {
+            return "ok";
+        }
+    }
+
+    private AuditService service;
+
+    @Setup
+    public void setup() {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "user-1", null, Role.ADMINISTRATOR.authorities()));
+
+        // Como na aplicação: GrantedAuthorityDefaults("") tira o prefixo ROLE_
+        final var expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setDefaultRolePrefix("");
+        final var preAuthorizeManager = new PreAuthorizeAuthorizationManager();
+        preAuthorizeManager.setExpressionHandler(expressionHandler);
+
+        service = proxy(new AuditService(),
+                AuthorizationManagerBeforeMethodInterceptor.preAuthorize(preAuthorizeManager),
+                PermissionAuthorizationManager.interceptor());
+    }
+
+    private static AuditService proxy(AuditService target, Advisor... advisors) {
+        final var factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        for (Advisor advisor : advisors) factory.addAdvisor(advisor);
+        return (AuditService) factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String withoutCheck() {
+        return service.plain();
+    }
+
+    @Benchmark
+    public String preAuthorizeSpel() {
+        return service.preAuthorize();
+    }
+
+    @Benchmark
+    public String requiresPermissionBitset() {
+        return service.requiresPermission();
+    }
+}
@@ -0,0 +1,88 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacyPhone;
+import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class PhoneBenchmark {
+    private String[] masked;
+    private String[] unmasked;
+    private Phone[] phones;
+    private String[] baselineMasked;
+    private LegacyPhone[] legacyPhones;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        masked = BenchmarkData.phones(42, true);
+        unmasked = BenchmarkData.phones(42, false);
+        phones = new Phone[unmasked.length];
+        for (int i = 0; i < unmasked.length; i++) phones[i] = new Phone(unmasked[i]);
+        baselineMasked = BenchmarkData.baselinePhones(42);
+        legacyPhones = new LegacyPhone[baselineMasked.length];
+        for (int i = 0; i < baselineMasked.length; i++) legacyPhones[i] = new LegacyPhone(baselineMasked[i]);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public Phone constructMasked() {
+        return new Phone(masked[next()]);
+    }
+
+    @Benchmark
+    public Phone constructUnmasked() {
+        return new Phone(unmasked[next()]);
+    }
+
+    @Benchmark
+    public Phone constructBaselineMasked() {
+        return new Phone(baselineMasked[next()]);
+    }
+
+    // O new Phone(String) e o mask() de antes do parser de passada única, com os mesmos telefones
+    @Benchmark
+    public LegacyPhone legacyConstructMasked() {
+        return new LegacyPhone(baselineMasked[next()]);
+    }
+
+    @Benchmark
+    public String legacyMask() {
+        return legacyPhones[next()].mask();
+    }
+
+    @Benchmark
+    public Phone interned() {
+        return ValueObjects.phone(masked[next()]);
+    }
+
+    @Benchmark
+    public String mask() {
+        return phones[next()].mask();
+    }
+
+    @Benchmark
+    public String country() {
+        return phones[next()].getCountry();
+    }
+}
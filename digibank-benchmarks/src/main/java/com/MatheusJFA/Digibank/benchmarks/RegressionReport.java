@@ -0,0 +1,142 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Compara dois resultados JSON do JMH (-rf json). Um benchmark é considerado regressão quando piora mais
+// que o limite percentual e a diferença é maior que a soma das margens de erro das duas execuções.
+// Em modo de vazão (thrpt) maior é melhor; nos demais modos (avgt, sample, ss) menor é melhor.
+public final class RegressionReport {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Entry> entries;
+
+    private RegressionReport(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static RegressionReport compare(Path baseline, Path current, double thresholdPercent) throws IOException {
+        final Map<String, Score> baselineScores = read(baseline);
+        final Map<String, Score> currentScores = read(current);
+
+        final List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, Score> score : currentScores.entrySet()) {
+            final Score before = baselineScores.get(score.getKey());
+            entries.add(new Entry(score.getKey(), before, score.getValue(), thresholdPercent));
+        }
+        return new RegressionReport(entries);
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public boolean hasRegressions() {
+        return entries.stream().anyMatch(Entry::isRegression);
+    }
+
+    public String format() {
+        final var output = new StringBuilder();
+        output.append(String.format(Locale.ROOT, "%-90s %14s %14s %9s  %s%n", "Benchmark", "Base", "Atual", "Variação", "Status"));
+
+        for (Entry entry : entries) {
+            if (entry.baseline == null) {
+                output.append(String.format(Locale.ROOT, "%-90s %14s %14.3f %9s  NOVO%n",
+                        entry.name, "-", entry.current.score, ""));
+                continue;
+            }
+
+            output.append(String.format(Locale.ROOT, "%-90s %14.3f %14.3f %+8.2f%%  %s%n",
+                    entry.name, entry.baseline.score, entry.current.score, entry.changePercent(),
+                    entry.isRegression() ? "REGRESSÃO" : entry.isImprovement() ? "MELHORIA" : "ok"));
+        }
+        return output.toString();
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        final Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(file.toFile())) {
+            final JsonNode metric = result.path("primaryMetric");
+            final double error = metric.path("scoreError").asDouble(0);
+
+            scores.put(key(result), new Score(
+                    result.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.path("scoreUnit").asText()
+            ));
+        }
+        return scores;
+    }
+
+    // Benchmarks parametrizados (@Param) geram um resultado por combinação de parâmetros
+    private static String key(JsonNode result) {
+        final var key = new StringBuilder(result.path("benchmark").asText());
+        final JsonNode params = result.path("params");
+        if (params.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                key.append(':').append(field.getKey()).append('=').append(field.getValue().asText());
+            }
+        }
+        return key.toString();
+    }
+
+    public record Score(String mode, double score, double error, String unit) {
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    public static final class Entry {
+        private final String name;
+        private final Score baseline;
+        private final Score current;
+        private final double thresholdPercent;
+
+        private Entry(String name, Score baseline, Score current, double thresholdPercent) {
+            this.name = name;
+            this.baseline = baseline;
+            this.current = current;
+            this.thresholdPercent = thresholdPercent;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public double changePercent() {
+            if (baseline == null || baseline.score == 0) return 0;
+            return (current.score - baseline.score) / baseline.score * 100;
+        }
+
+        public boolean isRegression() {
+            return significant() && worsening() > thresholdPercent;
+        }
+
+        public boolean isImprovement() {
+            return significant() && -worsening() > thresholdPercent;
+        }
+
+        // Variação percentual no sentido "pior", independente do modo
+        private double worsening() {
+            return current.higherIsBetter() ? -changePercent() : changePercent();
+        }
+
+        private boolean significant() {
+            return baseline != null
+                    && baseline.mode.equals(current.mode)
+                    && Math.abs(current.score - baseline.score) > baseline.error + current.error;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.benchmarks.legacy.LegacySecurityAuditAspect;
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditPipeline;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditRecord;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditSink;
+import com.MatheusJFA.Digibank.infrastructure.security.SecurityAuditAspect;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo por chamada de um método com @PreAuthorize passando pelo aspecto de auditoria: sem aspecto (apenas o proxy),
+// com o aspecto antigo (formatação e log.info síncrono em arquivo) e com o pipeline assíncrono (evento na fila,
+// mascaramento e gravação em arquivo na thread de drenagem). Ao final mostra quantos eventos foram gravados e
+// quantos descartados por fila cheia.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityAuditBenchmark {
+
+    public static class TransferService {
+        @PreAuthorize("hasRole('USER')")
+        public String transfer(CPF cpf, String email, long amount) {
+            return "ok";
+        }
+    }
+
+    // Mesmo formato do FileAuditSink da aplicação: um JSON por linha e um flush por lote
+    private static final class JsonFileSink implements AuditSink {
+        private static final ObjectMapper MAPPER = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        private final BufferedWriter writer;
+
+        JsonFileSink(Path file) throws IOException {
+            this.writer = Files.newBufferedWriter(file);
+        }
+
+        @Override
+        public void write(List<AuditRecord> batch) throws IOException {
+            for (AuditRecord record : batch) {
+                writer.write(MAPPER.writeValueAsString(record));
+                writer.newLine();
+            }
+            writer.flush();
+        }
+    }
+
+    private final CPF cpf = new CPF("12345678909");
+    private TransferService plain;
+    private TransferService legacy;
+    private TransferService async;
+    private AuditPipeline pipeline;
+    private SimpleMeterRegistry registry;
+
+    @Setup
+    public void setup() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user-1", null, List.of()));
+
+        registry = new SimpleMeterRegistry();
+        final var sinks = new StaticListableBeanFactory();
+        sinks.addBean("file", new JsonFileSink(Files.createTempFile("digibank-audit", ".log")));
+        pipeline = new AuditPipeline(sinks.getBeanProvider(AuditSink.class), registry, 65536, 512, 50);
+        invoke(pipeline, "init");
+
+        plain = proxy();
+        legacy = proxy(new LegacySecurityAuditAspect());
+        async = proxy(new SecurityAuditAspect(pipeline));
+    }
+
+    private static TransferService proxy(Object... aspects) {
+        final var factory = new AspectJProxyFactory(new TransferService());
+        factory.setProxyTargetClass(true);
+        for (Object aspect : aspects) factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static void invoke(Object target, String name) throws ReflectiveOperationException {
+        final Method method = target.getClass().getDeclaredMethod(name);
+        method.setAccessible(true);
+        method.invoke(target);
+    }
+
+    @TearDown
+    public void tearDown() throws ReflectiveOperationException {
+        invoke(pipeline, "close");
+        System.out.printf("%nEventos do pipeline: gravados %.0f, descartados %.0f%n",
+                registry.get("digibank.audit.events").tag("result", "written").counter().count(),
+                registry.get("digibank.audit.events").tag("result", "dropped").counter().count());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String withoutAudit() {
+        return plain.transfer(cpf, "joao@email.com", 100);
+    }
+
+    @Benchmark
+    public String synchronousLog() {
+        return legacy.transfer(cpf, "joao@email.com", 100);
+    }
+
+    @Benchmark
+    public String asyncPipeline() {
+        return async.transfer(cpf, "joao@email.com", 100);
+    }
+}
@@ -0,0 +1,54 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class UserBenchmark {
+    private String[] cpfs;
+    private String[] emails;
+    private String[] phones;
+    private User user;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        cpfs = BenchmarkData.cpfs(42);
+        emails = BenchmarkData.emails(42);
+        phones = BenchmarkData.phones(42, true);
+        user = User.create("John Doe", "hash", emails[0], cpfs[0], phones[0], BenchmarkData.BIRTH_DATE, Role.USER);
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public User create() {
+        final int i = next();
+        return User.create("John Doe", "hash", emails[i], cpfs[i], phones[i], BenchmarkData.BIRTH_DATE, Role.USER);
+    }
+
+    @Benchmark
+    public User update() {
+        final int i = next();
+        return user.update("John Doe", emails[i], cpfs[i], phones[i], BenchmarkData.BIRTH_DATE);
+    }
+}
@@ -0,0 +1,145 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.cache.UserBinaryCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Usuário no cache do Redis: UserBinaryCodec, JSON com Jackson (snapshot com os mesmos campos, sem o hash da senha) e,
+// como referência, serialização Java, que além de maior perde o id e os metadados de BaseEntity (não Serializable).
+// No setup mostra o tamanho médio de uma entrada em cada formato.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class UserCodecBenchmark {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3b1pVu2f8Q7Ol8c6vJ0G0tK";
+
+    record Snapshot(UUID id, String name, String email, long cpf, String phone, LocalDate birthDate,
+                    boolean active, Role role, LocalDateTime lastLogin, String createdBy, LocalDateTime createdDate,
+                    String lastModifiedBy, LocalDateTime lastModifiedDate, long version) {
+    }
+
+    private final UserBinaryCodec codec = new UserBinaryCodec();
+
+    private User[] users;
+    private byte[][] binary;
+    private byte[][] json;
+    private byte[][] jdk;
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        final String[] cpfs = BenchmarkData.cpfs(42);
+        final String[] emails = BenchmarkData.emails(42);
+        final String[] phones = BenchmarkData.phones(42, true);
+        final LocalDateTime created = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+        users = new User[BenchmarkData.SIZE];
+        binary = new byte[BenchmarkData.SIZE][];
+        json = new byte[BenchmarkData.SIZE][];
+        jdk = new byte[BenchmarkData.SIZE][];
+        long binaryBytes = 0, jsonBytes = 0, jdkBytes = 0;
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            users[i] = User.restore(UUID.randomUUID(), "John Doe", PASSWORD_HASH, ValueObjects.email(emails[i]),
+                    ValueObjects.cpf(cpfs[i]), ValueObjects.phone(phones[i]), BenchmarkData.BIRTH_DATE, true, Role.USER,
+                    created.plusDays(i), "system", created, "admin@email.com", created.plusHours(i), i);
+            binary[i] = codec.serialize(users[i]);
+            json[i] = MAPPER.writeValueAsBytes(snapshot(users[i]));
+            jdk[i] = jdkSerialize(users[i]);
+            binaryBytes += binary[i].length;
+            jsonBytes += json[i].length;
+            jdkBytes += jdk[i].length;
+        }
+
+        System.out.printf("%nBytes por usuário: binário %d, JSON %d, serialização Java %d%n",
+                binaryBytes / BenchmarkData.SIZE, jsonBytes / BenchmarkData.SIZE, jdkBytes / BenchmarkData.SIZE);
+    }
+
+    private static Snapshot snapshot(User user) {
+        return new Snapshot(user.getId(), user.getName(), user.getEmail().getValue(),
+                user.getCpf().toLong(), user.getPhone().getValue(), user.getBirthDate(), user.isActive(), user.getRole(),
+                user.getLastLogin(), user.getCreatedBy(), user.getCreatedDate(), user.getLastModifiedBy(),
+                user.getLastModifiedDate(), user.getVersion());
+    }
+
+    private static byte[] jdkSerialize(User user) throws IOException {
+        final var bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(user);
+        }
+        return bytes.toByteArray();
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.serialize(users[next()]);
+    }
+
+    @Benchmark
+    public User binaryDecode() {
+        return codec.deserialize(binary[next()]);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return MAPPER.writeValueAsBytes(snapshot(users[next()]));
+    }
+
+    @Benchmark
+    public User jsonDecode() throws IOException {
+        final Snapshot snapshot = MAPPER.readValue(json[next()], Snapshot.class);
+        return User.restore(snapshot.id(), snapshot.name(), null,
+                ValueObjects.restoredEmail(snapshot.email()), ValueObjects.restoredCpf(snapshot.cpf()),
+                ValueObjects.restoredPhone(snapshot.phone()), snapshot.birthDate(), snapshot.active(), snapshot.role(),
+                snapshot.lastLogin(), snapshot.createdBy(), snapshot.createdDate(), snapshot.lastModifiedBy(),
+                snapshot.lastModifiedDate(), snapshot.version());
+    }
+
+    @Benchmark
+    public byte[] jdkEncode() throws IOException {
+        return jdkSerialize(users[next()]);
+    }
+
+    @Benchmark
+    public Object jdkDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(jdk[next()]))) {
+            return in.readObject();
+        }
+    }
+}
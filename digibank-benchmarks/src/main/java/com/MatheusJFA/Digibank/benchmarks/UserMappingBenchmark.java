@@ -0,0 +1,57 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.persistence.UserJPA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class UserMappingBenchmark {
+    private User[] users;
+    private UserJPA[] entities;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final String[] cpfs = BenchmarkData.cpfs(42);
+        final String[] emails = BenchmarkData.emails(42);
+        final String[] phones = BenchmarkData.phones(42, true);
+
+        users = new User[BenchmarkData.SIZE];
+        entities = new UserJPA[BenchmarkData.SIZE];
+        for (int i = 0; i < BenchmarkData.SIZE; i++) {
+            users[i] = User.create("John Doe", "hash", emails[i], cpfs[i], phones[i], BenchmarkData.BIRTH_DATE, Role.USER);
+            entities[i] = UserJPA.from(users[i]);
+        }
+    }
+
+    private int next() {
+        return cursor++ & BenchmarkData.MASK;
+    }
+
+    @Benchmark
+    public UserJPA from() {
+        return UserJPA.from(users[next()]);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return entities[next()].toDomain();
+    }
+}
@@ -0,0 +1,103 @@
+package com.MatheusJFA.Digibank.benchmarks;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.persistence.UserPageReader;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Primeira página e página a 10 páginas do fim da listagem de usuários pelo keyset do UserPageReader (H2 em
+// memória, mesma tabela e índice da migration V3): o custo deve ser o mesmo. Não há comparação com OFFSET: nesta
+// tabela o H2 responde OFFSET profundo e count(*) quase sem custo e não reproduz o que acontece no Postgres.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+@State(Scope.Benchmark)
+public class UserPaginationBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"200000"})
+    public int users;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UserPageReader reader;
+    private String deepCursor;
+
+    @Setup
+    public void setup() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:pagination;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id UUID NOT NULL PRIMARY KEY, name VARCHAR(255) NOT NULL, password_hash VARCHAR(255) NOT NULL,
+                    email VARCHAR(255) NOT NULL UNIQUE, cpf BIGINT NOT NULL UNIQUE, phone VARCHAR(255) NOT NULL,
+                    birth_date DATE NOT NULL, is_active BOOLEAN NOT NULL, role VARCHAR(255) NOT NULL,
+                    last_login TIMESTAMP, created_by VARCHAR(255), created_date TIMESTAMP NOT NULL,
+                    last_modified_by VARCHAR(255), last_modified_date TIMESTAMP, version BIGINT)
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_users_created_date_id ON users (created_date DESC, id DESC)");
+
+        final LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        final List<Object[]> rows = new ArrayList<>(10_000);
+        for (int i = 0; i < users; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "user" + i + "@email.com", 10_000_000_000L + i,
+                    start.plusMinutes(i)});
+            if (rows.size() == 10_000) insert(rows);
+        }
+        insert(rows);
+
+        reader = new UserPageReader(jdbcTemplate);
+        final int deepOffset = users - 10 * PAGE_SIZE;
+        String cursor = null;
+        for (int read = 0; read < deepOffset; read += UserPageReader.MAX_PAGE_SIZE) {
+            cursor = reader.read(cursor, UserPageReader.MAX_PAGE_SIZE, false).nextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, name, password_hash, email, cpf, phone, birth_date, is_active, role, created_date, version)
+                VALUES (?, 'John Doe', 'hash', ?, ?, '5531123456789', DATE '1990-01-01', TRUE, 'USER', ?, 0)
+                """, rows);
+        rows.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public CursorPage<User> keysetFirstPage() {
+        return reader.read(null, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public CursorPage<User> keysetDeepPage() {
+        return reader.read(deepCursor, PAGE_SIZE, false);
+    }
+}
@@ -0,0 +1,20 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+// Cópia do CPF de antes do flyweight: o valor como String de 11 dígitos, validado por regex a cada instância.
+// Serve apenas como linha de base de memória no FootprintReport; não deve ser usada pela aplicação.
+public class LegacyCPF {
+    private final static String CPF_UNMASK = "[^0-9]";
+
+    private String value;
+
+    public LegacyCPF(String value) {
+        if (!LegacyValidators.isValidCPF(value)) {
+            throw new IllegalArgumentException("O CPF informado é inválido");
+        }
+        this.value = value.replaceAll(CPF_UNMASK, "");
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+// Cópia do Email de antes do flyweight, com a regex como campo de instância (uma referência a mais por objeto).
+// Serve apenas como linha de base de memória no FootprintReport; não deve ser usada pela aplicação.
+public class LegacyEmail {
+    private final String EMAIL_REGEX = "^(?=.{1,64}@)[\\p{L}0-9_-]+(\\.[\\p{L}0-9_-]+)*@"
+            + "[^-][\\p{L}0-9-]+(\\.[\\p{L}0-9-]+)*(\\.[\\p{L}]{2,})$";
+
+    private String value;
+
+    public LegacyEmail(String value) {
+        if (value == null || !value.matches(EMAIL_REGEX)) {
+            throw new IllegalArgumentException("O Email informado é inválido");
+        }
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,32 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.util.Date;
+
+// Fluxo do JwtRequestFilter antes do parse único: subject, depois validateToken (subject de novo e expiração),
+// cada chamada decodificando a chave e criando um parser novo
+public final class LegacyJwtValidation {
+    private final String secret;
+
+    public LegacyJwtValidation(String secret) {
+        this.secret = secret;
+    }
+
+    public boolean authenticate(String token, String username) {
+        final String id = claims(token).getSubject();
+        return id.equals(username) && claims(token).getSubject().equals(username) && !claims(token).getExpiration().before(new Date());
+    }
+
+    private Claims claims(String token) {
+        return Jwts.parserBuilder().setSigningKey(signingKey()).build().parseClaimsJws(token).getBody();
+    }
+
+    private Key signingKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
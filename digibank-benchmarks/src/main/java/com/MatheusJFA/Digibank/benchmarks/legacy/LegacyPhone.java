@@ -0,0 +1,31 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+// Cópia do Phone de antes do flyweight, com a regex e os limites de tamanho como campos de instância.
+// Serve apenas como linha de base (FootprintReport e PhoneBenchmark); não deve ser usada pela aplicação.
+public class LegacyPhone {
+    private final String PHONE_REGEX = "^\\+\\d{2,3}\\s\\(\\d{2}\\)\\s\\d{4,5}-\\d{4}$";
+    private final int MIN_LENGTH = 12;
+    private final int MAX_LENGTH = 13;
+
+    private String value;
+
+    public LegacyPhone(String value) {
+        if (value == null || !value.matches(PHONE_REGEX)) {
+            throw new IllegalArgumentException("O telefone deve estar no formato +DDI (DDD) 9999-9999 ou +DDI (DDD) 99999-9999.");
+        }
+
+        final var unmaskedValue = value.replaceAll("[^\\d]", "");
+        if (unmaskedValue.length() < MIN_LENGTH || unmaskedValue.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("O telefone deve ter entre " + MIN_LENGTH + " e " + MAX_LENGTH + " dígitos, sem formatação.");
+        }
+        this.value = unmaskedValue;
+    }
+
+    public String mask() {
+        return value.replaceAll("(\\d{2})(\\d{2})(\\d{4,5})(\\d{4})", "+$1 ($2) $3-$4");
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
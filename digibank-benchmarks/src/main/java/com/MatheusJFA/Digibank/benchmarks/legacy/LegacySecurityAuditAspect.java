@@ -0,0 +1,40 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+
+// SecurityAuditAspect antes do pipeline assíncrono: Arrays.toString dos argumentos e dois log.info síncronos
+// na thread da requisição, com CPF e e-mail em texto puro
+@Aspect
+public class LegacySecurityAuditAspect {
+    private static final Logger log = LoggerFactory.getLogger(LegacySecurityAuditAspect.class);
+
+    @Before("@annotation(org.springframework.security.access.prepost.PreAuthorize)")
+    public void logSecurityCheck(JoinPoint joinPoint) {
+        String username = getCurrentUsername();
+        String methodName = joinPoint.getSignature().getName();
+        String args = Arrays.toString(joinPoint.getArgs());
+
+        log.info("SECURITY_CHECK - Usuário: {} está tentando acessar o método: {} com os argumentos: {}", username, methodName, args);
+    }
+
+    @AfterReturning("@annotation(org.springframework.security.access.prepost.PreAuthorize)")
+    public void logSecuritySuccess(JoinPoint joinPoint) {
+        String username = getCurrentUsername();
+        String methodName = joinPoint.getSignature().getName();
+
+        log.info("SECURITY_SUCCESS - Usuário: {} acessou com sucesso o método: {}", username, methodName);
+    }
+
+    private String getCurrentUsername() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "ANONYMOUS";
+    }
+}
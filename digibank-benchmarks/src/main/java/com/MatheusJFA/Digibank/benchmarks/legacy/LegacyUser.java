@@ -0,0 +1,45 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.shared.base.BaseEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Campos do User de antes do flyweight (sem eventos nem campos alterados), com os objetos de valor da época.
+// Serve apenas como linha de base de memória no FootprintReport; não deve ser usada pela aplicação.
+public class LegacyUser extends BaseEntity {
+    private String name;
+    private String passwordHash;
+    private LegacyEmail email;
+    private LegacyCPF cpf;
+    private LegacyPhone phone;
+    private LocalDate birthDate;
+    private boolean isActive;
+    private Role role;
+    private LocalDateTime lastLogin;
+
+    public LegacyUser(String name, String passwordHash, String email, String cpf, String phone, LocalDate birthDate, Role role) {
+        super();
+        this.name = name;
+        this.passwordHash = passwordHash;
+        this.email = new LegacyEmail(email);
+        this.cpf = new LegacyCPF(cpf);
+        this.phone = new LegacyPhone(phone);
+        this.birthDate = birthDate;
+        this.isActive = true;
+        this.role = role;
+    }
+
+    public LegacyEmail getEmail() {
+        return email;
+    }
+
+    public LegacyCPF getCpf() {
+        return cpf;
+    }
+
+    public LegacyPhone getPhone() {
+        return phone;
+    }
+}
@@ -0,0 +1,63 @@
+package com.MatheusJFA.Digibank.benchmarks.legacy;
+
+// Cópia das validações baseadas em regex que existiam antes dos parsers de passada única.
+// Serve apenas como linha de base nos benchmarks; não deve ser usada pela aplicação.
+public final class LegacyValidators {
+    private static final String EMAIL_REGEX = "^(?=.{1,64}@)[\\p{L}0-9_-]+(\\.[\\p{L}0-9_-]+)*@"
+            + "[^-][\\p{L}0-9-]+(\\.[\\p{L}0-9-]+)*(\\.[\\p{L}]{2,})$";
+
+    private static final String CPF_SAME_DIGITS_REGEX = "(\\d)\\1{10}";
+    private static final String CPF_UNMASK = "[^0-9]";
+    private static final int CPF_LENGTH = 11;
+
+    private LegacyValidators() {
+    }
+
+    public static boolean isValidEmail(String value) {
+        return value.matches(EMAIL_REGEX);
+    }
+
+    public static boolean isValidCPF(String value) {
+        final var unmaskedValue = value.replaceAll(CPF_UNMASK, "");
+
+        if (unmaskedValue.length() != CPF_LENGTH) return false;
+        if (unmaskedValue.matches(CPF_SAME_DIGITS_REGEX)) return false;
+
+        var sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += Character.getNumericValue(unmaskedValue.charAt(i)) * (10 - i);
+        }
+
+        var firstDigit = (sum * 10) % 11;
+        if (firstDigit == 10) firstDigit = 0;
+        if (Character.getNumericValue(unmaskedValue.charAt(9)) != firstDigit) return false;
+
+        sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += Character.getNumericValue(unmaskedValue.charAt(i)) * (11 - i);
+        }
+
+        var secondDigit = (sum * 10) % 11;
+        if (secondDigit == 10) secondDigit = 0;
+        return Character.getNumericValue(unmaskedValue.charAt(10)) == secondDigit;
+    }
+
+    public static String getCardType(String cardNumber) {
+        String number = cardNumber.replaceAll("\\s", "");
+        if (number.matches("^3[47][0-9]{13}$")) return "American Express";
+        if (number.matches("^3(?:0[0-5]|[68][0-9])[0-9]{11}$")) return "Diners";
+        if (number.matches("^6011[0-9]{12}$") || number.matches("^65[0-9]{14}$") || number.matches("^64[4-9][0-9]{13}$")) return "Discover";
+        if (number.matches("^35(2[89]|[3-8][0-9])[0-9]{12}$")) return "JCB";
+        if (number.matches("^(5[1-5][0-9]{14}|2(2[2-9][0-9]{12}|[3-6][0-9]{13}|7[01][0-9]{12}|720[0-9]{12}))$")) return "Mastercard";
+        if (number.matches("^4[0-9]{12}(?:[0-9]{3})?(?:[0-9]{3})?$")) return "Visa";
+        if (number.matches("^62[0-9]{14,17}$")) return "China UnionPay";
+        if (number.matches("^4360[0-9]{12}$")) return "Cartes Bancaires";
+        if (number.matches("^4035[0-9]{12}$")) return "Cartes Bancaires / Visa Debit";
+        if (number.matches("^4871[0-9]{12}$")) return "Bancontact / Visa";
+        if (number.matches("^6703[0-9]{12}$")) return "Bancontact / Maestro";
+        if (number.matches("^4166[0-9]{12}$")) return "Visa Classic";
+        if (number.matches("^5454[0-9]{12}$")) return "Mastercard";
+        if (number.matches("^2222[0-9]{12}$")) return "Mastercard Credit";
+        return "Desconhecido";
+    }
+}
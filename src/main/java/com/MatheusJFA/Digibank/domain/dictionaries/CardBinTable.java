@@ -0,0 +1,204 @@
+package com.MatheusJFA.Digibank.domain.dictionaries;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Tabela imutável de faixas BIN/IIN organizada como uma trie de dígitos.
+// Cada nó já guarda, para cada tamanho de PAN, a bandeira vencedora considerando ele e seus ancestrais,
+// então a classificação é uma única leitura do PAN da esquerda para a direita, sem alocação.
+//
+// Formato do arquivo (uma faixa por linha, a ordem define a prioridade como no antigo encadeamento de regex):
+//   # version: 1
+//   <prefixo ou inicio-fim>,<tamanhos: 16 | 13|16|19 | 16-19>,<bandeira>
+public final class CardBinTable {
+    public static final String UNKNOWN = "Desconhecido";
+
+    static final int MAX_PAN_LENGTH = 19;
+
+    private static final int NO_RULE = Integer.MAX_VALUE;
+
+    private final Node root;
+    private final String[] brands;
+    private final String version;
+
+    private CardBinTable(Node root, String[] brands, String version) {
+        this.root = root;
+        this.brands = brands;
+        this.version = version;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    // Classifica o PAN ignorando espaços em branco; qualquer outro caractere não numérico resulta em UNKNOWN
+    public String classify(CharSequence pan) {
+        if (pan == null) return UNKNOWN;
+
+        Node node = root;
+        boolean walking = true;
+        int length = 0;
+
+        for (int i = 0, size = pan.length(); i < size; i++) {
+            final char c = pan.charAt(i);
+            final int digit = c - '0';
+
+            if (digit >= 0 && digit <= 9) {
+                if (++length > MAX_PAN_LENGTH) return UNKNOWN;
+
+                if (walking) {
+                    final Node child = node.children[digit];
+                    if (child == null) walking = false;
+                    else node = child;
+                }
+            } else if (!isWhitespace(c)) {
+                return UNKNOWN;
+            }
+        }
+
+        final int rule = node.bestRuleByLength[length];
+        return rule == NO_RULE ? UNKNOWN : brands[rule];
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    public static CardBinTable load(InputStream input) throws IOException {
+        final var builder = new Builder();
+        try (var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                builder.parseLine(line.trim(), lineNumber);
+            }
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[10];
+        private final int[] bestRuleByLength = new int[MAX_PAN_LENGTH + 1];
+
+        private Node() {
+            Arrays.fill(bestRuleByLength, NO_RULE);
+        }
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private final List<String> brands = new ArrayList<>();
+        private String version = "unversioned";
+
+        private Builder() {
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        // Adiciona uma faixa de prefixos [start, end] (mesma quantidade de dígitos) válida para os tamanhos informados.
+        // Faixas adicionadas antes têm prioridade sobre as adicionadas depois.
+        public Builder range(String start, String end, int[] lengths, String brand) {
+            if (start.isEmpty() || start.length() != end.length() || start.compareTo(end) > 0) {
+                throw new IllegalArgumentException("Faixa BIN inválida: " + start + "-" + end);
+            }
+
+            final int rule = brands.size();
+            brands.add(brand);
+
+            final long first = Long.parseLong(start);
+            final long last = Long.parseLong(end);
+            for (long prefix = first; prefix <= last; prefix++) {
+                insert(pad(prefix, start.length()), lengths, rule);
+            }
+            return this;
+        }
+
+        private void insert(String prefix, int[] lengths, int rule) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                final int digit = prefix.charAt(i) - '0';
+                if (node.children[digit] == null) node.children[digit] = new Node();
+                node = node.children[digit];
+            }
+
+            for (int length : lengths) {
+                if (length < 1 || length > MAX_PAN_LENGTH) {
+                    throw new IllegalArgumentException("Tamanho de PAN inválido: " + length);
+                }
+                node.bestRuleByLength[length] = Math.min(node.bestRuleByLength[length], rule);
+            }
+        }
+
+        private void parseLine(String line, int lineNumber) {
+            if (line.isEmpty()) return;
+
+            if (line.startsWith("#")) {
+                final String comment = line.substring(1).trim();
+                if (comment.startsWith("version:")) version = comment.substring("version:".length()).trim();
+                return;
+            }
+
+            final String[] fields = line.split(",", 3);
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Linha " + lineNumber + " da tabela BIN deve ter 3 campos: " + line);
+            }
+
+            final String[] range = fields[0].trim().split("-");
+            final String start = range[0];
+            final String end = range.length > 1 ? range[1] : range[0];
+
+            range(start, end, parseLengths(fields[1].trim()), fields[2].trim());
+        }
+
+        private static int[] parseLengths(String lengths) {
+            if (lengths.contains("-")) {
+                final String[] bounds = lengths.split("-");
+                final int min = Integer.parseInt(bounds[0]);
+                final int max = Integer.parseInt(bounds[1]);
+                final int[] result = new int[max - min + 1];
+                for (int i = 0; i < result.length; i++) result[i] = min + i;
+                return result;
+            }
+
+            final String[] values = lengths.split("\\|");
+            final int[] result = new int[values.length];
+            for (int i = 0; i < values.length; i++) result[i] = Integer.parseInt(values[i].trim());
+            return result;
+        }
+
+        private static String pad(long prefix, int width) {
+            final var value = Long.toString(prefix);
+            return value.length() >= width ? value : "0".repeat(width - value.length()) + value;
+        }
+
+        public CardBinTable build() {
+            propagate(root, root.bestRuleByLength);
+            return new CardBinTable(root, brands.toArray(String[]::new), version);
+        }
+
+        // Cada nó herda a regra de maior prioridade dos ancestrais para cada tamanho de PAN
+        private static void propagate(Node node, int[] inherited) {
+            for (int length = 0; length <= MAX_PAN_LENGTH; length++) {
+                node.bestRuleByLength[length] = Math.min(node.bestRuleByLength[length], inherited[length]);
+            }
+
+            for (Node child : node.children) {
+                if (child != null) propagate(child, node.bestRuleByLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.MatheusJFA.Digibank.domain.dictionaries;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+// Ponto de acesso à tabela BIN em uso. A tabela padrão vem de dictionaries/card-bins.csv e pode ser
+// trocada em tempo de execução (ex.: nova versão com faixas Elo ou Hipercard) sem mudança de código.
+public final class CardBins {
+    private static final String DEFAULT_TABLE = "/dictionaries/card-bins.csv";
+
+    private static volatile CardBinTable current = loadDefault();
+
+    private CardBins() {
+    }
+
+    public static String classify(CharSequence pan) {
+        return current.classify(pan);
+    }
+
+    public static CardBinTable current() {
+        return current;
+    }
+
+    public static String version() {
+        return current.version();
+    }
+
+    // Troca a tabela atômicamente; classificações em andamento terminam com a tabela anterior
+    public static void replace(CardBinTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("A tabela BIN não pode ser nula");
+        }
+        current = table;
+    }
+
+    public static CardBinTable reload(InputStream input) throws IOException {
+        final var table = CardBinTable.load(input);
+        replace(table);
+        return table;
+    }
+
+    public static void resetToDefault() {
+        replace(loadDefault());
+    }
+
+    private static CardBinTable loadDefault() {
+        try (InputStream input = CardBins.class.getResourceAsStream(DEFAULT_TABLE)) {
+            if (input == null) {
+                throw new IllegalStateException("Tabela BIN padrão não encontrada: " + DEFAULT_TABLE);
+            }
+            return CardBinTable.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível carregar a tabela BIN padrão", e);
+        }
+    }
+}
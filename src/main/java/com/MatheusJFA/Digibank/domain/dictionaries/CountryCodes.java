@@ -1,234 +1,315 @@
 package com.MatheusJFA.Digibank.domain.dictionaries;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 
-public class CountryCodes {
+// Tabela de DDIs (1 a 999) indexada diretamente pelo código: a consulta é um acesso a array,
+// sem boxing e sem alocação. Também resolve qual prefixo de um número bruto é o DDI (maior prefixo conhecido).
+public final class CountryCodes {
+    public static final String UNKNOWN_COUNTRY = "País desconhecido";
+
+    private static final int MAX_AREA_CODE = 999;
+
+    private static final String[] NAMES = new String[MAX_AREA_CODE + 1];
+    private static final String[] ISO_CODES = new String[MAX_AREA_CODE + 1];
+
+    static {
+        register(1, "US", "Estados Unidos/Canadá");
+        register(7, "RU", "Rússia/Cazaquistão");
+        register(20, "EG", "Egito");
+        register(27, "ZA", "África do Sul");
+        register(30, "GR", "Grécia");
+        register(31, "NL", "Holanda");
+        register(32, "BE", "Bélgica");
+        register(33, "FR", "França");
+        register(34, "ES", "Espanha");
+        register(36, "HU", "Hungria");
+        register(39, "IT", "Itália");
+        register(40, "RO", "Romênia");
+        register(41, "CH", "Suíça");
+        register(43, "AT", "Áustria");
+        register(44, "GB", "Reino Unido");
+        register(45, "DK", "Dinamarca");
+        register(46, "SE", "Suécia");
+        register(47, "NO", "Noruega");
+        register(48, "PL", "Polônia");
+        register(49, "DE", "Alemanha");
+        register(51, "PE", "Peru");
+        register(52, "MX", "México");
+        register(53, "CU", "Cuba");
+        register(54, "AR", "Argentina");
+        register(55, "BR", "Brasil");
+        register(56, "CL", "Chile");
+        register(57, "CO", "Colômbia");
+        register(58, "VE", "Venezuela");
+        register(60, "MY", "Malásia");
+        register(61, "AU", "Austrália");
+        register(62, "ID", "Indonésia");
+        register(63, "PH", "Filipinas");
+        register(64, "NZ", "Nova Zelândia");
+        register(65, "SG", "Singapura");
+        register(66, "TH", "Tailândia");
+        register(81, "JP", "Japão");
+        register(82, "KR", "Coreia do Sul");
+        register(84, "VN", "Vietnã");
+        register(86, "CN", "China");
+        register(90, "TR", "Turquia");
+        register(91, "IN", "Índia");
+        register(92, "PK", "Paquistão");
+        register(93, "AF", "Afeganistão");
+        register(94, "LK", "Sri Lanka");
+        register(95, "MM", "Myanmar (Birmânia)");
+        register(98, "IR", "Irã");
+        register(212, "MA", "Marrocos");
+        register(213, "DZ", "Argélia");
+        register(216, "TN", "Tunísia");
+        register(218, "LY", "Líbia");
+        register(220, "GM", "Gâmbia");
+        register(221, "SN", "Senegal");
+        register(222, "MR", "Mauritânia");
+        register(223, "ML", "Mali");
+        register(224, "GN", "Guiné");
+        register(225, "CI", "Costa do Marfim");
+        register(226, "BF", "Burkina Faso");
+        register(227, "NE", "Níger");
+        register(228, "TG", "Togo");
+        register(229, "BJ", "Benin");
+        register(230, "MU", "Maurício");
+        register(231, "LR", "Libéria");
+        register(232, "SL", "Serra Leoa");
+        register(233, "GH", "Gana");
+        register(234, "NG", "Nigéria");
+        register(235, "TD", "Chade");
+        register(236, "CF", "República Centro-Africana");
+        register(237, "CM", "Camarões");
+        register(238, "CV", "Cabo Verde");
+        register(239, "ST", "São Tomé e Príncipe");
+        register(240, "GQ", "Guiné Equatorial");
+        register(241, "GA", "Gabão");
+        register(242, "CG", "República do Congo");
+        register(243, "CD", "República Democrática do Congo");
+        register(244, "AO", "Angola");
+        register(245, "GW", "Guiné-Bissau");
+        register(246, "IO", "Diego Garcia");
+        register(248, "SC", "Seicheles");
+        register(249, "SD", "Sudão");
+        register(250, "RW", "Ruanda");
+        register(251, "ET", "Etiópia");
+        register(252, "SO", "Somália");
+        register(253, "DJ", "Djibuti");
+        register(254, "KE", "Quênia");
+        register(255, "TZ", "Tanzânia");
+        register(256, "UG", "Uganda");
+        register(257, "BI", "Burundi");
+        register(258, "MZ", "Moçambique");
+        register(260, "ZM", "Zâmbia");
+        register(261, "MG", "Madagascar");
+        register(262, "RE", "Reunião/Mayotte");
+        register(263, "ZW", "Zimbábue");
+        register(264, "NA", "Namíbia");
+        register(265, "MW", "Malawi");
+        register(266, "LS", "Lesoto");
+        register(267, "BW", "Botsuana");
+        register(268, "SZ", "Suazilândia");
+        register(269, "KM", "Comores");
+        register(290, "SH", "Santa Helena");
+        register(291, "ER", "Eritreia");
+        register(297, "AW", "Aruba");
+        register(298, "FO", "Ilhas Faroé");
+        register(299, "GL", "Groenlândia");
+        register(350, "GI", "Gibraltar");
+        register(351, "PT", "Portugal");
+        register(352, "LU", "Luxemburgo");
+        register(353, "IE", "Irlanda");
+        register(354, "IS", "Islândia");
+        register(355, "AL", "Albânia");
+        register(356, "MT", "Malta");
+        register(357, "CY", "Chipre");
+        register(358, "FI", "Finlândia");
+        register(359, "BG", "Bulgária");
+        register(370, "LT", "Lituânia");
+        register(371, "LV", "Letônia");
+        register(372, "EE", "Estônia");
+        register(373, "MD", "Moldávia");
+        register(374, "AM", "Armênia");
+        register(375, "BY", "Bielorrússia");
+        register(376, "AD", "Andorra");
+        register(377, "MC", "Mônaco");
+        register(378, "SM", "San Marino");
+        register(379, "VA", "Vaticano");
+        register(380, "UA", "Ucrânia");
+        register(381, "RS", "Sérvia");
+        register(382, "ME", "Montenegro");
+        register(383, "XK", "Kosovo");
+        register(385, "HR", "Croácia");
+        register(386, "SI", "Eslovênia");
+        register(387, "BA", "Bósnia e Herzegovina");
+        register(389, "MK", "Macedônia do Norte");
+        register(420, "CZ", "República Tcheca");
+        register(421, "SK", "Eslováquia");
+        register(423, "LI", "Liechtenstein");
+        register(500, "FK", "Ilhas Malvinas");
+        register(501, "BZ", "Belize");
+        register(502, "GT", "Guatemala");
+        register(503, "SV", "El Salvador");
+        register(504, "HN", "Honduras");
+        register(505, "NI", "Nicarágua");
+        register(506, "CR", "Costa Rica");
+        register(507, "PA", "Panamá");
+        register(508, "PM", "Saint-Pierre e Miquelon");
+        register(509, "HT", "Haiti");
+        register(590, "GP", "Guadalupe");
+        register(591, "BO", "Bolívia");
+        register(592, "GY", "Guiana");
+        register(593, "EC", "Equador");
+        register(594, "GF", "Guiana Francesa");
+        register(595, "PY", "Paraguai");
+        register(596, "MQ", "Martinica");
+        register(597, "SR", "Suriname");
+        register(598, "UY", "Uruguai");
+        register(599, "AN", "Antilhas Holandesas");
+        register(670, "TL", "Timor-Leste");
+        register(672, "AQ", "Antártica/Ilhas Heard e McDonald");
+        register(673, "BN", "Brunei");
+        register(674, "NR", "Nauru");
+        register(675, "PG", "Papua-Nova Guiné");
+        register(676, "TO", "Tonga");
+        register(677, "SB", "Ilhas Salomão");
+        register(678, "VU", "Vanuatu");
+        register(679, "FJ", "Fiji");
+        register(680, "PW", "Palau");
+        register(681, "WF", "Wallis e Futuna");
+        register(682, "CK", "Ilhas Cook");
+        register(683, "NU", "Niue");
+        register(685, "WS", "Samoa");
+        register(686, "KI", "Kiribati");
+        register(687, "NC", "Nova Caledônia");
+        register(688, "TV", "Tuvalu");
+        register(689, "PF", "Polinésia Francesa");
+        register(690, "TK", "Tokelau");
+        register(691, "FM", "Micronésia");
+        register(692, "MH", "Ilhas Marshall");
+        register(850, "KP", "Coreia do Norte");
+        register(852, "HK", "Hong Kong");
+        register(853, "MO", "Macau");
+        register(855, "KH", "Camboja");
+        register(856, "LA", "Laos");
+        register(880, "BD", "Bangladesh");
+        register(886, "TW", "Taiwan");
+        register(960, "MV", "Maldivas");
+        register(961, "LB", "Líbano");
+        register(962, "JO", "Jordânia");
+        register(963, "SY", "Síria");
+        register(964, "IQ", "Iraque");
+        register(965, "KW", "Kuwait");
+        register(966, "SA", "Arábia Saudita");
+        register(967, "YE", "Iêmen");
+        register(968, "OM", "Omã");
+        register(970, "PS", "Palestina");
+        register(971, "AE", "Emirados Árabes Unidos");
+        register(972, "IL", "Israel");
+        register(973, "BH", "Bahrein");
+        register(974, "QA", "Catar");
+        register(975, "BT", "Butão");
+        register(976, "MN", "Mongólia");
+        register(977, "NP", "Nepal");
+        register(992, "TJ", "Tajiquistão");
+        register(993, "TM", "Turcomenistão");
+        register(994, "AZ", "Azerbaijão");
+        register(995, "GE", "Geórgia");
+        register(996, "KG", "Quirguistão");
+        register(998, "UZ", "Uzbequistão");
+    }
+
+    // Visão imutável mantida para quem precisa iterar a tabela completa
     public static final Map<Integer, String> AREA_CODE_TO_COUNTRY = createMap();
 
+    private CountryCodes() {
+    }
+
+    private static void register(int areaCode, String isoCode, String name) {
+        NAMES[areaCode] = name;
+        ISO_CODES[areaCode] = isoCode;
+    }
+
     private static Map<Integer, String> createMap() {
-        Map<Integer, String> map = new HashMap<>();
-
-        map.put(1, "Estados Unidos/Canadá");
-        map.put(7, "Rússia/Cazaquistão");
-        map.put(20, "Egito");
-        map.put(27, "África do Sul");
-        map.put(30, "Grécia");
-        map.put(31, "Holanda");
-        map.put(32, "Bélgica");
-        map.put(33, "França");
-        map.put(34, "Espanha");
-        map.put(36, "Hungria");
-        map.put(39, "Itália");
-        map.put(40, "Romênia");
-        map.put(41, "Suíça");
-        map.put(43, "Áustria");
-        map.put(44, "Reino Unido");
-        map.put(45, "Dinamarca");
-        map.put(46, "Suécia");
-        map.put(47, "Noruega");
-        map.put(48, "Polônia");
-        map.put(49, "Alemanha");
-        map.put(51, "Peru");
-        map.put(52, "México");
-        map.put(53, "Cuba");
-        map.put(54, "Argentina");
-        map.put(55, "Brasil");
-        map.put(56, "Chile");
-        map.put(57, "Colômbia");
-        map.put(58, "Venezuela");
-        map.put(60, "Malásia");
-        map.put(61, "Austrália");
-        map.put(62, "Indonésia");
-        map.put(63, "Filipinas");
-        map.put(64, "Nova Zelândia");
-        map.put(65, "Singapura");
-        map.put(66, "Tailândia");
-        map.put(81, "Japão");
-        map.put(82, "Coreia do Sul");
-        map.put(84, "Vietnã");
-        map.put(86, "China");
-        map.put(90, "Turquia");
-        map.put(91, "Índia");
-        map.put(92, "Paquistão");
-        map.put(93, "Afeganistão");
-        map.put(94, "Sri Lanka");
-        map.put(95, "Myanmar (Birmânia)");
-        map.put(98, "Irã");
-        map.put(212, "Marrocos");
-        map.put(213, "Argélia");
-        map.put(216, "Tunísia");
-        map.put(218, "Líbia");
-        map.put(220, "Gâmbia");
-        map.put(221, "Senegal");
-        map.put(222, "Mauritânia");
-        map.put(223, "Mali");
-        map.put(224, "Guiné");
-        map.put(225, "Costa do Marfim");
-        map.put(226, "Burkina Faso");
-        map.put(227, "Níger");
-        map.put(228, "Togo");
-        map.put(229, "Benin");
-        map.put(230, "Maurício");
-        map.put(231, "Libéria");
-        map.put(232, "Serra Leoa");
-        map.put(233, "Gana");
-        map.put(234, "Nigéria");
-        map.put(235, "Chade");
-        map.put(236, "República Centro-Africana");
-        map.put(237, "Camarões");
-        map.put(238, "Cabo Verde");
-        map.put(239, "São Tomé e Príncipe");
-        map.put(240, "Guiné Equatorial");
-        map.put(241, "Gabão");
-        map.put(242, "República do Congo");
-        map.put(243, "República Democrática do Congo");
-        map.put(244, "Angola");
-        map.put(245, "Guiné-Bissau");
-        map.put(246, "Diego Garcia");
-        map.put(248, "Seicheles");
-        map.put(249, "Sudão");
-        map.put(250, "Ruanda");
-        map.put(251, "Etiópia");
-        map.put(252, "Somália");
-        map.put(253, "Djibuti");
-        map.put(254, "Quênia");
-        map.put(255, "Tanzânia");
-        map.put(256, "Uganda");
-        map.put(257, "Burundi");
-        map.put(258, "Moçambique");
-        map.put(260, "Zâmbia");
-        map.put(261, "Madagascar");
-        map.put(262, "Reunião/Mayotte");
-        map.put(263, "Zimbábue");
-        map.put(264, "Namíbia");
-        map.put(265, "Malawi");
-        map.put(266, "Lesoto");
-        map.put(267, "Botsuana");
-        map.put(268, "Suazilândia");
-        map.put(269, "Comores");
-        map.put(290, "Santa Helena");
-        map.put(291, "Eritreia");
-        map.put(297, "Aruba");
-        map.put(298, "Ilhas Faroé");
-        map.put(299, "Groenlândia");
-        map.put(350, "Gibraltar");
-        map.put(351, "Portugal");
-        map.put(352, "Luxemburgo");
-        map.put(353, "Irlanda");
-        map.put(354, "Islândia");
-        map.put(355, "Albânia");
-        map.put(356, "Malta");
-        map.put(357, "Chipre");
-        map.put(358, "Finlândia");
-        map.put(359, "Bulgária");
-        map.put(370, "Lituânia");
-        map.put(371, "Letônia");
-        map.put(372, "Estônia");
-        map.put(373, "Moldávia");
-        map.put(374, "Armênia");
-        map.put(375, "Bielorrússia");
-        map.put(376, "Andorra");
-        map.put(377, "Mônaco");
-        map.put(378, "San Marino");
-        map.put(379, "Vaticano");
-        map.put(380, "Ucrânia");
-        map.put(381, "Sérvia");
-        map.put(382, "Montenegro");
-        map.put(383, "Kosovo");
-        map.put(385, "Croácia");
-        map.put(386, "Eslovênia");
-        map.put(387, "Bósnia e Herzegovina");
-        map.put(389, "Macedônia do Norte");
-        map.put(420, "República Tcheca");
-        map.put(421, "Eslováquia");
-        map.put(423, "Liechtenstein");
-        map.put(500, "Ilhas Malvinas");
-        map.put(501, "Belize");
-        map.put(502, "Guatemala");
-        map.put(503, "El Salvador");
-        map.put(504, "Honduras");
-        map.put(505, "Nicarágua");
-        map.put(506, "Costa Rica");
-        map.put(507, "Panamá");
-        map.put(508, "Saint-Pierre e Miquelon");
-        map.put(509, "Haiti");
-        map.put(590, "Guadalupe");
-        map.put(591, "Bolívia");
-        map.put(592, "Guiana");
-        map.put(593, "Equador");
-        map.put(594, "Guiana Francesa");
-        map.put(595, "Paraguai");
-        map.put(596, "Martinica");
-        map.put(597, "Suriname");
-        map.put(598, "Uruguai");
-        map.put(599, "Antilhas Holandesas");
-        map.put(670, "Timor-Leste");
-        map.put(672, "Antártica/Ilhas Heard e McDonald");
-        map.put(673, "Brunei");
-        map.put(674, "Nauru");
-        map.put(675, "Papua-Nova Guiné");
-        map.put(676, "Tonga");
-        map.put(677, "Ilhas Salomão");
-        map.put(678, "Vanuatu");
-        map.put(679, "Fiji");
-        map.put(680, "Palau");
-        map.put(681, "Wallis e Futuna");
-        map.put(682, "Ilhas Cook");
-        map.put(683, "Niue");
-        map.put(685, "Samoa");
-        map.put(686, "Kiribati");
-        map.put(687, "Nova Caledônia");
-        map.put(688, "Tuvalu");
-        map.put(689, "Polinésia Francesa");
-        map.put(690, "Tokelau");
-        map.put(691, "Micronésia");
-        map.put(692, "Ilhas Marshall");
-        map.put(850, "Coreia do Norte");
-        map.put(852, "Hong Kong");
-        map.put(853, "Macau");
-        map.put(855, "Camboja");
-        map.put(856, "Laos");
-        map.put(880, "Bangladesh");
-        map.put(886, "Taiwan");
-        map.put(960, "Maldivas");
-        map.put(961, "Líbano");
-        map.put(962, "Jordânia");
-        map.put(963, "Síria");
-        map.put(964, "Iraque");
-        map.put(965, "Kuwait");
-        map.put(966, "Arábia Saudita");
-        map.put(967, "Iêmen");
-        map.put(968, "Omã");
-        map.put(970, "Palestina");
-        map.put(971, "Emirados Árabes Unidos");
-        map.put(972, "Israel");
-        map.put(973, "Bahrein");
-        map.put(974, "Catar");
-        map.put(975, "Butão");
-        map.put(976, "Mongólia");
-        map.put(977, "Nepal");
-        map.put(992, "Tajiquistão");
-        map.put(993, "Turcomenistão");
-        map.put(994, "Azerbaijão");
-        map.put(995, "Geórgia");
-        map.put(996, "Quirguistão");
-        map.put(998, "Uzbequistão");
-
-        return map;
+        Map<Integer, String> map = new LinkedHashMap<>();
+        for (int areaCode = 1; areaCode <= MAX_AREA_CODE; areaCode++) {
+            if (NAMES[areaCode] != null) map.put(areaCode, NAMES[areaCode]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    public static boolean isKnown(int areaCode) {
+        return areaCode > 0 && areaCode <= MAX_AREA_CODE && NAMES[areaCode] != null;
+    }
+
+    public static String getCountryByAreaCode(int areaCode) {
+        return isKnown(areaCode) ? NAMES[areaCode] : UNKNOWN_COUNTRY;
+    }
+
+    // Código ISO 3166-1 alfa-2 do país (ex.: 55 -> "BR"), ou null quando o DDI não é conhecido
+    public static String getIsoCodeByAreaCode(int areaCode) {
+        return isKnown(areaCode) ? ISO_CODES[areaCode] : null;
+    }
+
+    // Retorna quantos dígitos iniciais formam o DDI (maior prefixo conhecido, de 3 a 1 dígitos), ou 0 se nenhum for conhecido
+    public static int areaCodeLength(char[] digits, int offset, int length) {
+        int areaCode = 0;
+        int matched = 0;
+        for (int size = 1; size <= 3 && size <= length; size++) {
+            final int digit = digits[offset + size - 1] - '0';
+            if (digit < 0 || digit > 9) break;
+
+            areaCode = areaCode * 10 + digit;
+            if (NAMES[areaCode] != null) matched = size;
+        }
+        return matched;
     }
 
-    public static String getCountryByAreaCode(Integer areaCode) {
-        return AREA_CODE_TO_COUNTRY.getOrDefault(areaCode, "País desconhecido");
+    public static int areaCodeLength(CharSequence digits, int offset) {
+        int areaCode = 0;
+        int matched = 0;
+        for (int size = 1; size <= 3 && offset + size <= digits.length(); size++) {
+            final int digit = digits.charAt(offset + size - 1) - '0';
+            if (digit < 0 || digit > 9) break;
+
+            areaCode = areaCode * 10 + digit;
+            if (NAMES[areaCode] != null) matched = size;
+        }
+        return matched;
+    }
+
+    // Resolve o DDI a partir dos primeiros dígitos do número, ou 0 quando nenhum prefixo é conhecido
+    public static int resolveAreaCode(CharSequence digits, int offset) {
+        final int length = areaCodeLength(digits, offset);
+        int areaCode = 0;
+        for (int i = 0; i < length; i++) {
+            areaCode = areaCode * 10 + (digits.charAt(offset + i) - '0');
+        }
+        return areaCode;
     }
 
     public static Integer getAreaCodeByCountryName(String country) {
-        for (Map.Entry<Integer, String> entry : AREA_CODE_TO_COUNTRY.entrySet()) {
-            if (entry.getValue().equalsIgnoreCase(country)) {
-                return entry.getKey();
+        for (int areaCode = 1; areaCode <= MAX_AREA_CODE; areaCode++) {
+            if (NAMES[areaCode] != null && NAMES[areaCode].equalsIgnoreCase(country)) {
+                return areaCode;
             }
         }
 
         throw new IllegalArgumentException("Código de área não encontrado para o país: " + country);
     }
+
+    public static Integer getAreaCodeByIsoCode(String isoCode) {
+        final String normalized = isoCode == null ? "" : isoCode.toUpperCase(Locale.ROOT);
+        for (int areaCode = 1; areaCode <= MAX_AREA_CODE; areaCode++) {
+            if (normalized.equals(ISO_CODES[areaCode])) {
+                return areaCode;
+            }
+        }
+
+        throw new IllegalArgumentException("Código de área não encontrado para o código ISO: " + isoCode);
+    }
 }
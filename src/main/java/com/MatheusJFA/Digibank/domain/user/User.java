@@ -1,23 +1,28 @@
 package com.MatheusJFA.Digibank.domain.user;
 
 import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserEvent;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
 import com.MatheusJFA.Digibank.domain.valueObject.CPF;
 import com.MatheusJFA.Digibank.domain.valueObject.Email;
 import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
 import com.MatheusJFA.Digibank.shared.base.BaseEntity;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidFieldException;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Slf4j
@@ -43,9 +48,16 @@ public class User extends BaseEntity implements UserDetails, Serializable {
 
     private LocalDateTime lastLogin;
 
+    // Eventos ainda não publicados; o gateway os recolhe com pullEvents() depois de persistir
+    @Getter(AccessLevel.NONE)
+    private transient List<UserEvent> events;
+
+    // Campos alterados desde a carga ou a última gravação (bits de UserField)
+    @Getter(AccessLevel.NONE)
+    private transient int dirtyFields;
+
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        log.info("Obtendo autoridades de {} para o usuário {}", this.role, this.getId());
-        return List.of(new SimpleGrantedAuthority(this.role.name()));
+        return this.role != null ? this.role.authorities() : List.of();
     }
 
     public String getPassword() {
@@ -61,17 +73,65 @@ public class User extends BaseEntity implements UserDetails, Serializable {
     }
 
     public void activate() {
+        if (!this.isActive) markDirty(UserField.ACTIVE);
         this.isActive = true;
+        statusChanged();
         log.info("Usuário {} ativado com sucesso.", this.getId());
     }
 
     public void deactivate() {
+        if (this.isActive) markDirty(UserField.ACTIVE);
         this.isActive = false;
+        statusChanged();
         log.info("Usuário {} desativado com sucesso.", this.getId());
     }
 
+    public void changeRole(Role newRole) {
+        validateParameters(newRole);
+        if (this.role != newRole) markDirty(UserField.ROLE);
+        this.role = newRole;
+        statusChanged();
+        log.info("Papel do usuário {} alterado para {}.", this.getId(), newRole);
+    }
+
+    // Devolve e descarta os eventos pendentes
+    public List<UserEvent> pullEvents() {
+        if (events == null || events.isEmpty()) return List.of();
+
+        final List<UserEvent> pending = List.copyOf(events);
+        events.clear();
+        return pending;
+    }
+
+    public int dirtyFields() {
+        return dirtyFields;
+    }
+
+    public boolean isDirty(UserField field) {
+        return field.in(dirtyFields);
+    }
+
+    // Chamado pelo gateway depois de gravar: registra a versão da linha e zera os campos alterados
+    public void markPersisted(long version) {
+        setVersion(version);
+        this.dirtyFields = 0;
+    }
+
+    private void markDirty(UserField field) {
+        this.dirtyFields |= field.mask();
+    }
+
+    private void statusChanged() {
+        if (events == null) events = new ArrayList<>(1);
+
+        // Só o estado mais recente interessa a quem consome o evento
+        events.removeIf(UserStatusChanged.class::isInstance);
+        events.add(new UserStatusChanged(this.getId(), this.isActive, this.role));
+    }
+
     public void updateLastLogin() {
         this.lastLogin = LocalDateTime.now();
+        markDirty(UserField.LAST_LOGIN);
         log.info("Último login do usuário {} atualizado para {}", this.getId(), this.lastLogin);
     }
 
@@ -79,9 +139,9 @@ public class User extends BaseEntity implements UserDetails, Serializable {
         super();
         this.name = name;
         this.passwordHash = passwordHash;
-        this.email = new Email(email);
-        this.cpf = new CPF(cpf);
-        this.phone = new Phone(phone);
+        this.email = ValueObjects.email(email);
+        this.cpf = ValueObjects.cpf(cpf);
+        this.phone = ValueObjects.phone(phone);
         this.birthDate = birthDate;
         this.isActive = true; // Usuário ativo por padrão
         this.role = role;
@@ -89,13 +149,39 @@ public class User extends BaseEntity implements UserDetails, Serializable {
         log.info("Usuário {} criado com sucesso.", this.getId());
     }
 
+    private User(UUID id, String name, String passwordHash, Email email, CPF cpf, Phone phone, LocalDate birthDate,
+                 boolean isActive, Role role, LocalDateTime lastLogin, String createdBy, LocalDateTime createdDate,
+                 String lastModifiedBy, LocalDateTime lastModifiedDate, long version) {
+        super(id, createdBy, createdDate, lastModifiedBy, lastModifiedDate, version);
+        this.name = name;
+        this.passwordHash = passwordHash;
+        this.email = email;
+        this.cpf = cpf;
+        this.phone = phone;
+        this.birthDate = birthDate;
+        this.isActive = isActive;
+        this.role = role;
+        this.lastLogin = lastLogin;
+    }
+
     // Factory method para criar um novo usuário
     public static User create(String name, String passwordHash, String email, String cpf, String phone, LocalDate birthDate, Role role) {
         return new User(name, passwordHash, email, cpf, phone, birthDate, role);
     }
 
+    // Reidrata um usuário já persistido, mantendo id, versão e auditoria. Não valida nem gera log: os valores vieram
+    // do banco, onde só entram validados. Nenhum campo começa marcado como alterado.
+    public static User restore(UUID id, String name, String passwordHash, Email email, CPF cpf, Phone phone,
+                               LocalDate birthDate, boolean isActive, Role role, LocalDateTime lastLogin,
+                               String createdBy, LocalDateTime createdDate, String lastModifiedBy,
+                               LocalDateTime lastModifiedDate, long version) {
+        return new User(id, name, passwordHash, email, cpf, phone, birthDate, isActive, role, lastLogin,
+                createdBy, createdDate, lastModifiedBy, lastModifiedDate, version);
+    }
+
     public User update(String name, String email, String cpf, String phone, LocalDate birthDate) {
         validateParameters(name, email, cpf, phone, birthDate);
+        if (!name.equals(this.name)) markDirty(UserField.NAME);
         this.name = name;
         changeCPF(cpf);
         changeEmail(email);
@@ -133,30 +219,38 @@ public class User extends BaseEntity implements UserDetails, Serializable {
     public void changePassword(String newPassword) {
         // A senha deve ser criptografada antes de ser definida
         validateParameters(newPassword);
+        if (!newPassword.equals(this.passwordHash)) markDirty(UserField.PASSWORD_HASH);
         this.passwordHash = newPassword;
         log.info("Senha do usuário {} alterada com sucesso.", this.getId());
     }
 
     public void changeEmail(String newEmail) {
         validateParameters(newEmail);
-        this.email = new Email(newEmail);
+        final Email email = ValueObjects.email(newEmail);
+        if (!email.equals(this.email)) markDirty(UserField.EMAIL);
+        this.email = email;
         log.info("E-mail do usuário {} alterado com sucesso.", this.getId());
     }
 
     public void changePhone(String newPhone) {
         validateParameters(newPhone);
-        this.phone = new Phone(newPhone);
+        final Phone phone = ValueObjects.phone(newPhone);
+        if (!phone.equals(this.phone)) markDirty(UserField.PHONE);
+        this.phone = phone;
         log.info("Telefone do usuário {} alterado com sucesso.", this.getId());
     }
 
     public void changeCPF(String newCPF) {
         validateParameters(newCPF);
-        this.cpf = new CPF(newCPF);
+        final CPF cpf = ValueObjects.cpf(newCPF);
+        if (!cpf.equals(this.cpf)) markDirty(UserField.CPF);
+        this.cpf = cpf;
         log.info("CPF do usuário {} alterado com sucesso.", this.getId());
     }
 
     public void changeBirthDate(LocalDate newBirthDate) {
         validateParameters(newBirthDate);
+        if (!newBirthDate.equals(this.birthDate)) markDirty(UserField.BIRTH_DATE);
         this.birthDate = newBirthDate;
         log.info("Data de nascimento do usuário {} alterada com sucesso.", this.getId());
     }
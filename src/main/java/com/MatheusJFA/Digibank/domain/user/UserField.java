@@ -0,0 +1,25 @@
+package com.MatheusJFA.Digibank.domain.user;
+
+// Campos do usuário que podem mudar depois de criado. O User marca em um bitset (bit = ordinal) os que foram
+// alterados desde a carga ou a última gravação, e o gateway atualiza apenas as colunas correspondentes.
+public enum UserField {
+    NAME,
+    PASSWORD_HASH,
+    EMAIL,
+    CPF,
+    PHONE,
+    BIRTH_DATE,
+    ACTIVE,
+    ROLE,
+    LAST_LOGIN;
+
+    private final int mask = 1 << ordinal();
+
+    public int mask() {
+        return mask;
+    }
+
+    public boolean in(int fields) {
+        return (fields & mask) != 0;
+    }
+}
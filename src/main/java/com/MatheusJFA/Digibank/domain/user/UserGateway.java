@@ -1,24 +1,39 @@
 package com.MatheusJFA.Digibank.domain.user;
 
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserGateway {
-    // Cria o usuário
+    // Cria o usuário. Um usuário já gravado é regravado por inteiro se a versão ainda for a do banco; senão,
+    // OptimisticLockingFailureException
     User save(User user);
 
-    // Busca o usuário por ID ou email
+    // Busca o usuário por ID ou email. Os usuários de findById, findByEmail, findByCpf e findAllBy* podem vir do cache,
+    // sem o hash da senha
     Optional<User> findById(UUID id);
     Optional<User> findByEmail(String email);
     Optional<User> findByCpf(String cpf);
     Optional<User> findByPhone(String phone);
 
-    // Busca todos os usuários
+    // Busca vários usuários em poucas consultas, no lugar de uma por usuário. O resultado segue a ordem da entrada;
+    // chaves repetidas ou sem usuário não geram elementos.
+    List<User> findAllByIds(Collection<UUID> ids);
+    List<User> findAllByCpfs(Collection<String> cpfs);
+    List<User> findAllByEmails(Collection<String> emails);
+
+    // Busca todos os usuários. Paginação por OFFSET com count(*): cada página é mais cara que a anterior
     Page<User> findAll(Pageable pageable);
 
+    // Lista os usuários, mais recentes primeiro, continuando do cursor da página anterior (null para a primeira).
+    // O total, aproximado, só é calculado quando pedido.
+    CursorPage<User> findPage(String cursor, int size, boolean includeTotal);
+
     // Atualiza o usuário
     User update(User user);
 
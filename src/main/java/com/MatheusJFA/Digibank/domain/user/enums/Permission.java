@@ -0,0 +1,29 @@
+package com.MatheusJFA.Digibank.domain.user.enums;
+
+// Permissões que os papéis concedem. O bit de cada uma é o ordinal, então cabem até 64 e o conjunto de um papel é um
+// long. Os bits só existem em memória (tokens e banco guardam o nome do papel): reordenar aqui não quebra nada salvo.
+public enum Permission {
+    PROFILE_READ,
+    PROFILE_UPDATE,
+    USER_READ,
+    USER_WRITE,
+    USER_DEACTIVATE,
+    USER_CHANGE_ROLE,
+    USER_IMPORT,
+    AUDIT_READ,
+    OPERATIONS_READ;
+
+    private final long mask = 1L << ordinal();
+
+    public long mask() {
+        return mask;
+    }
+
+    public static long maskOf(Permission... permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+}
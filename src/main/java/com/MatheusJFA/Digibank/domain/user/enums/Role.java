@@ -1,9 +1,54 @@
 package com.MatheusJFA.Digibank.domain.user.enums;
 
-public enum Role {
-    USER,
-    WORKER,
-    MANAGER,
-    MODERATOR,
-    ADMINISTRATOR,
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.MatheusJFA.Digibank.domain.user.enums.Permission.*;
+
+// O papel é a própria GrantedAuthority (getAuthority() devolve o nome, como antes). Permissões e lista de autoridades
+// são montadas uma vez por papel: User.getAuthorities() e a checagem de @RequiresPermission não alocam nada.
+public enum Role implements GrantedAuthority {
+    USER(PROFILE_READ, PROFILE_UPDATE),
+    WORKER(PROFILE_READ, PROFILE_UPDATE, USER_READ),
+    MANAGER(PROFILE_READ, PROFILE_UPDATE, USER_READ, USER_WRITE, USER_DEACTIVATE, USER_IMPORT),
+    MODERATOR(PROFILE_READ, PROFILE_UPDATE, USER_READ, USER_DEACTIVATE),
+    ADMINISTRATOR(Permission.values());
+
+    private static final Map<String, Role> BY_AUTHORITY = Stream.of(values())
+            .collect(Collectors.toUnmodifiableMap(Role::name, Function.identity()));
+
+    private final long permissions;
+    private final List<Role> authorities = List.of(this);
+
+    Role(Permission... permissions) {
+        this.permissions = Permission.maskOf(permissions);
+    }
+
+    @Override
+    public String getAuthority() {
+        return name();
+    }
+
+    public long permissions() {
+        return permissions;
+    }
+
+    public boolean has(Permission permission) {
+        return (permissions & permission.mask()) != 0;
+    }
+
+    public Collection<? extends GrantedAuthority> authorities() {
+        return authorities;
+    }
+
+    // Para autoridades que chegam só com o nome (SimpleGrantedAuthority); null se não for um papel
+    public static Role fromAuthority(String authority) {
+        return authority != null ? BY_AUTHORITY.get(authority) : null;
+    }
 }
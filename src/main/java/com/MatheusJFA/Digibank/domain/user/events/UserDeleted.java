@@ -0,0 +1,6 @@
+package com.MatheusJFA.Digibank.domain.user.events;
+
+import java.util.UUID;
+
+public record UserDeleted(UUID userId) implements UserEvent {
+}
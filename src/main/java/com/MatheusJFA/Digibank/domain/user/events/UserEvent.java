@@ -0,0 +1,8 @@
+package com.MatheusJFA.Digibank.domain.user.events;
+
+import java.util.UUID;
+
+// Eventos de domínio gerados pelo agregado User e publicados pelo gateway depois de persistir a alteração
+public sealed interface UserEvent permits UserStatusChanged, UserDeleted, UserPasswordChanged {
+    UUID userId();
+}
@@ -0,0 +1,8 @@
+package com.MatheusJFA.Digibank.domain.user.events;
+
+import java.util.UUID;
+
+// O hash da senha foi gravado fora do agregado (rehash com o custo atual do BCrypt no login); quem guarda cópias
+// do usuário deve descartá-las
+public record UserPasswordChanged(UUID userId) implements UserEvent {
+}
@@ -0,0 +1,9 @@
+package com.MatheusJFA.Digibank.domain.user.events;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+
+import java.util.UUID;
+
+// O usuário foi ativado, desativado ou mudou de papel; carrega o estado completo para quem mantém cópias dele
+public record UserStatusChanged(UUID userId, boolean active, Role role) implements UserEvent {
+}
@@ -0,0 +1,61 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+// Resultado compacto de uma validação em lote: um bit por item (1 = válido) e um código de motivo por item.
+// Evita criar exceções ou objetos por registro quando validamos milhões de valores.
+public final class BulkValidationResult {
+    private final long[] bitmap;
+    private final byte[] reasons;
+    private final int size;
+    private int validCount;
+
+    public BulkValidationResult(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("O tamanho do lote não pode ser negativo");
+        }
+
+        this.size = size;
+        this.bitmap = new long[(size + 63) >>> 6];
+        this.reasons = new byte[size];
+    }
+
+    void set(int index, byte reason) {
+        reasons[index] = reason;
+        if (reason == 0) {
+            bitmap[index >>> 6] |= 1L << index;
+            validCount++;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isValid(int index) {
+        checkIndex(index);
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public byte reason(int index) {
+        checkIndex(index);
+        return reasons[index];
+    }
+
+    public int validCount() {
+        return validCount;
+    }
+
+    public int invalidCount() {
+        return size - validCount;
+    }
+
+    // Retorna uma cópia do bitmap para quem precisa repassar o resultado (ex.: gravar em arquivo de retorno)
+    public long[] toBitmap() {
+        return bitmap.clone();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fora do lote de tamanho " + size);
+        }
+    }
+}
@@ -1,27 +1,18 @@
 package com.MatheusJFA.Digibank.domain.valueObject;
 
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidCPFException;
-import jakarta.persistence.Column;
-import lombok.Getter;
 
 import java.io.Serial;
 import java.io.Serializable;
 
-@Getter
 public class CPF implements Serializable {
     @Serial
-    private static final long serialVersionUID = 1L;
-
-    private final static String CPF_SAME_DIGITS_REGEX = "(\\d)\\1{10}";
-
-    private final static String CPF_UNMASK = "[^0-9]";
-
-    private final static String CPF_MASK = "(\\d{3})(\\d{3})(\\d{3})(\\d{2})";
+    private static final long serialVersionUID = 2L;
 
     private final static int CPF_LENGTH = 11;
 
-    @Column(name = "cpf", nullable = false, unique = true, length = CPF_LENGTH)
-    private String value;
+    // Os 11 dígitos cabem em um long; a versão em texto é gerada sob demanda em getValue(), mask() e redact()
+    private long value;
 
     public CPF() {
     }
@@ -30,61 +21,86 @@ public class CPF implements Serializable {
         this.value = validate(value);
     }
 
-    private String validate(String value) {
-        if (value == null || value.isEmpty()) {
-            throw new InvalidCPFException("O CPF não pode ser nulo ou vazio");
-        }
-
-        final var unmaskedValue = value.replaceAll(CPF_UNMASK, "");
-
-        if (unmaskedValue.length() != CPF_LENGTH) {
-            throw new InvalidCPFException("O CPF informado é inválido");
-        }
+    // Usado pela fábrica ValueObjects, que já validou ou reconstrói um valor persistido
+    CPF(long value) {
+        this.value = value;
+    }
 
-        if (unmaskedValue.matches(CPF_SAME_DIGITS_REGEX)) {
+    // Reconstrói o CPF a partir do valor numérico persistido (coluna bigint)
+    public static CPF of(long value) {
+        if (CPFValidator.validate(value) != CPFValidator.VALID) {
             throw new InvalidCPFException("O CPF informado é inválido");
         }
 
-        checkDigits(unmaskedValue);
-
-        return unmaskedValue;
+        return new CPF(value);
     }
 
-    public void checkDigits(String value) {
-        var sum = 0;
-
-        for (int i = 0; i < 9; i++) {
-            sum += Character.getNumericValue(value.charAt(i)) * (10 - i);
+    private long validate(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new InvalidCPFException("O CPF não pode ser nulo ou vazio");
         }
 
-        var firstDigit = (sum * 10) % 11;
+        final long digits = CPFValidator.parse(value);
 
-        if (firstDigit == 10) {
-            firstDigit = 0;
+        if (digits == CPFValidator.INVALID) {
+            throw new InvalidCPFException("O CPF informado é inválido");
         }
 
-        if (Character.getNumericValue(value.charAt(9)) != firstDigit) {
+        return digits;
+    }
+
+    public void checkDigits(String value) {
+        if (CPFValidator.validate(value) != CPFValidator.VALID) {
             throw new InvalidCPFException("O CPF informado é inválido");
         }
+    }
+
+    public long toLong() {
+        return value;
+    }
 
-        sum = 0;
+    public String getValue() {
+        return new String(digits());
+    }
 
-        for (int i = 0; i < 10; i++) {
-            sum += Character.getNumericValue(value.charAt(i)) * (11 - i);
+    public String mask() {
+        final char[] digits = digits();
+        final char[] masked = new char[CPF_LENGTH + 3];
+        int position = 0;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            if (i == 3 || i == 6) masked[position++] = '.';
+            if (i == 9) masked[position++] = '-';
+            masked[position++] = digits[i];
         }
+        return new String(masked);
+    }
 
-        var secondDigit = (sum * 10) % 11;
+    // Formato para logs e auditoria: só os dígitos do meio, como nas publicações oficiais ("***.456.789-**")
+    public String redact() {
+        final char[] masked = mask().toCharArray();
+        for (int i : new int[]{0, 1, 2, 12, 13}) masked[i] = '*';
+        return new String(masked);
+    }
 
-        if (secondDigit == 10) {
-            secondDigit = 0;
+    private char[] digits() {
+        final char[] digits = new char[CPF_LENGTH];
+        long remaining = value;
+        for (int i = CPF_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
         }
+        return digits;
+    }
 
-        if (Character.getNumericValue(value.charAt(10)) != secondDigit) {
-            throw new InvalidCPFException("O CPF informado é inválido");
-        }
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof CPF cpf)) return false;
+        return value == cpf.value;
     }
 
-    public String mask() {
-        return value.replaceAll(CPF_MASK, "$1.$2.$3-$4");
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
     }
 }
@@ -0,0 +1,149 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import java.util.List;
+
+// Motor de validação de CPF em uma única passada, sem regex e sem alocação.
+// Caracteres que não são dígitos são ignorados (mesmo comportamento do CPF com máscara),
+// os dígitos são acumulados em um long e a verificação é feita sobre esse número.
+public final class CPFValidator {
+    public static final byte VALID = 0;
+    public static final byte NULL_OR_EMPTY = 1;
+    public static final byte INVALID_LENGTH = 2;
+    public static final byte REPEATED_DIGITS = 3;
+    public static final byte INVALID_CHECK_DIGITS = 4;
+
+    public static final long INVALID = -1L;
+
+    private static final int CPF_LENGTH = 11;
+
+    // Um CPF com todos os dígitos iguais é sempre múltiplo de 11111111111
+    private static final long REPEATED_DIGITS_DIVISOR = 11_111_111_111L;
+
+    private static final long MAX_VALUE = 99_999_999_999L;
+
+    private CPFValidator() {
+    }
+
+    public static byte validate(CharSequence value) {
+        if (value == null || value.isEmpty()) return NULL_OR_EMPTY;
+
+        long digits = 0;
+        int count = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit >= 0 && digit <= 9 && ++count <= CPF_LENGTH) {
+                digits = digits * 10 + digit;
+            }
+        }
+
+        return classify(digits, count);
+    }
+
+    public static byte validate(char[] value, int offset, int length) {
+        if (value == null || length == 0) return NULL_OR_EMPTY;
+
+        long digits = 0;
+        int count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int digit = value[i] - '0';
+            if (digit >= 0 && digit <= 9 && ++count <= CPF_LENGTH) {
+                digits = digits * 10 + digit;
+            }
+        }
+
+        return classify(digits, count);
+    }
+
+    // Versão para registros ASCII lidos diretamente de arquivos (ex.: arquivos de parceiros)
+    public static byte validate(byte[] value, int offset, int length) {
+        if (value == null || length == 0) return NULL_OR_EMPTY;
+
+        long digits = 0;
+        int count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int digit = value[i] - '0';
+            if (digit >= 0 && digit <= 9 && ++count <= CPF_LENGTH) {
+                digits = digits * 10 + digit;
+            }
+        }
+
+        return classify(digits, count);
+    }
+
+    // Valida um CPF já armazenado como número (ex.: lido da coluna bigint)
+    public static byte validate(long value) {
+        if (value < 0 || value > MAX_VALUE) return INVALID_LENGTH;
+        return classify(value, CPF_LENGTH);
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return validate(value) == VALID;
+    }
+
+    // Retorna os 11 dígitos do CPF como long, ou INVALID se o CPF não for válido
+    public static long parse(CharSequence value) {
+        if (value == null || value.isEmpty()) return INVALID;
+
+        long digits = 0;
+        int count = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit >= 0 && digit <= 9 && ++count <= CPF_LENGTH) {
+                digits = digits * 10 + digit;
+            }
+        }
+
+        return classify(digits, count) == VALID ? digits : INVALID;
+    }
+
+    public static BulkValidationResult validateAll(List<? extends CharSequence> values) {
+        final var result = new BulkValidationResult(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            result.set(i, validate(values.get(i)));
+        }
+        return result;
+    }
+
+    // Valida registros de tamanho fixo concatenados em um único buffer (layout comum nos arquivos de parceiros)
+    public static BulkValidationResult validateAll(byte[] records, int recordLength) {
+        if (recordLength <= 0 || records.length % recordLength != 0) {
+            throw new IllegalArgumentException("O buffer deve conter registros completos de " + recordLength + " bytes");
+        }
+
+        final int size = records.length / recordLength;
+        final var result = new BulkValidationResult(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, validate(records, i * recordLength, recordLength));
+        }
+        return result;
+    }
+
+    static byte classify(long digits, int count) {
+        if (count != CPF_LENGTH) return INVALID_LENGTH;
+        if (digits % REPEATED_DIGITS_DIVISOR == 0) return REPEATED_DIGITS;
+
+        final int secondCheckDigit = (int) (digits % 10);
+        final int firstCheckDigit = (int) (digits / 10 % 10);
+
+        // Percorre os 9 primeiros dígitos do menos significativo para o mais significativo
+        long remaining = digits / 100;
+        int firstSum = 0;
+        int secondSum = firstCheckDigit * 2;
+        for (int weight = 2; weight <= 10; weight++) {
+            final int digit = (int) (remaining % 10);
+            remaining /= 10;
+            firstSum += digit * weight;
+            secondSum += digit * (weight + 1);
+        }
+
+        if (checkDigit(firstSum) != firstCheckDigit) return INVALID_CHECK_DIGITS;
+        if (checkDigit(secondSum) != secondCheckDigit) return INVALID_CHECK_DIGITS;
+
+        return VALID;
+    }
+
+    private static int checkDigit(int sum) {
+        final int digit = (sum * 10) % 11;
+        return digit == 10 ? 0 : digit;
+    }
+}
@@ -1,6 +1,7 @@
 package com.MatheusJFA.Digibank.domain.valueObject;
 
 
+import com.MatheusJFA.Digibank.domain.dictionaries.CardBins;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidCreditCardException;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -80,19 +81,7 @@ public class CreditCard implements Serializable {
     }
 
     private void LuhnAlgorithm(String cardNumber) {
-        int sum = 0;
-        boolean alternate = false;
-        for (int index = cardNumber.length() - 1; index >= 0; index--) {
-            int number = Integer.parseInt(cardNumber.substring(index, index + 1));
-            if (alternate) {
-                number *= 2;
-                if (number > 9) number -= 9;
-            }
-            sum += number;
-            alternate = !alternate;
-        }
-
-        if (sum % 10 != 0) {
+        if (!Luhn.isValid(cardNumber)) {
             throw new InvalidCreditCardException("O número do cartão é inválido");
         }
     }
@@ -209,21 +198,18 @@ public class CreditCard implements Serializable {
     }
 
     public String getCardType() {
-        String number = cardNumber.replaceAll("\\s", "");
-        if (number.matches("^3[47][0-9]{13}$")) return "American Express";
-        if (number.matches("^3(?:0[0-5]|[68][0-9])[0-9]{11}$")) return "Diners";
-        if (number.matches("^6011[0-9]{12}$") || number.matches("^65[0-9]{14}$") || number.matches("^64[4-9][0-9]{13}$")) return "Discover";
-        if (number.matches("^35(2[89]|[3-8][0-9])[0-9]{12}$")) return "JCB";
-        if (number.matches("^(5[1-5][0-9]{14}|2(2[2-9][0-9]{12}|[3-6][0-9]{13}|7[01][0-9]{12}|720[0-9]{12}))$")) return "Mastercard";
-        if (number.matches("^4[0-9]{12}(?:[0-9]{3})?(?:[0-9]{3})?$")) return "Visa";
-        if (number.matches("^62[0-9]{14,17}$")) return "China UnionPay";
-        if (number.matches("^4360[0-9]{12}$")) return "Cartes Bancaires";
-        if (number.matches("^4035[0-9]{12}$")) return "Cartes Bancaires / Visa Debit";
-        if (number.matches("^4871[0-9]{12}$")) return "Bancontact / Visa";
-        if (number.matches("^6703[0-9]{12}$")) return "Bancontact / Maestro";
-        if (number.matches("^4166[0-9]{12}$")) return "Visa Classic";
-        if (number.matches("^5454[0-9]{12}$")) return "Mastercard";
-        if (number.matches("^2222[0-9]{12}$")) return "Mastercard Credit";
-        return "Desconhecido";
+        return CardBins.classify(cardNumber);
+    }
+
+    // Formato para logs e auditoria: apenas os 4 últimos dígitos
+    public String redact() {
+        final char[] masked = cardNumber.toCharArray();
+        int visible = 0;
+        for (int i = masked.length - 1; i >= 0; i--) {
+            if (!Character.isDigit(masked[i])) continue;
+            if (visible < 4) visible++;
+            else masked[i] = '*';
+        }
+        return new String(masked);
     }
 }
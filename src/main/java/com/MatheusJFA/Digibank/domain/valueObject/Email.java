@@ -1,42 +1,84 @@
 package com.MatheusJFA.Digibank.domain.valueObject;
 
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidEmailException;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.Objects;
 
 @Getter
 public class Email implements Serializable {
     @Serial
-    private static final long serialVersionUID = 1L;
-
-    private final String EMAIL_REGEX = "^(?=.{1,64}@)[\\p{L}0-9_-]+(\\.[\\p{L}0-9_-]+)*@"
-            + "[^-][\\p{L}0-9-]+(\\.[\\p{L}0-9-]+)*(\\.[\\p{L}]{2,})$";
+    private static final long serialVersionUID = 2L;
 
     private String value;
 
+    // Posição do '@', registrada na validação para que domínio e parte local não precisem de nova varredura
+    @Getter(AccessLevel.NONE)
+    private int atIndex;
+
     public Email() {
     }
 
     public Email(String value) {
-        this.value = validate(value);
+        this.atIndex = validate(value);
+        this.value = value;
     }
 
-    private String validate(String value) {
+    // Usado pela fábrica ValueObjects na reconstrução de valores persistidos, que já passaram pela validação
+    Email(String value, int atIndex) {
+        this.value = value;
+        this.atIndex = atIndex;
+    }
+
+    private int validate(String value) {
         if (value == null || value.isEmpty()) {
             throw new InvalidEmailException("O Email não pode ser nulo ou vazio");
         }
 
-        if (!value.matches(EMAIL_REGEX)) {
+        final int at = EmailParser.parse(value);
+
+        if (at == EmailParser.INVALID) {
             throw new InvalidEmailException("O Email informado é inválido");
         }
 
-        return value;
+        return at;
     }
 
     public String getDomain() {
-        return value.split("@")[1];
+        return value.substring(atIndex + 1);
+    }
+
+    public String getLocalPart() {
+        return value.substring(0, atIndex);
+    }
+
+    // Visões sem cópia dos caracteres, para comparações e hashing em caminhos quentes
+    public CharSequence domainView() {
+        return CharBuffer.wrap(value, atIndex + 1, value.length());
+    }
+
+    public CharSequence localPartView() {
+        return CharBuffer.wrap(value, 0, atIndex);
+    }
+
+    // Formato para logs e auditoria: primeiro caractere da parte local e o domínio ("j***@email.com")
+    public String redact() {
+        return value.charAt(0) + "***" + value.substring(atIndex);
     }
-}
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Email email)) return false;
+        return Objects.equals(value, email.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+}
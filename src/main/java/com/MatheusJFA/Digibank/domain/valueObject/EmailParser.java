@@ -0,0 +1,93 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+// Parser de e-mail escrito à mão, em uma única passada e tempo linear (sem backtracking).
+// Aceita a mesma gramática da antiga EMAIL_REGEX:
+//   parte local: 1 a 64 caracteres, blocos de [letra, dígito, '_' ou '-'] separados por um único '.'
+//   domínio: rótulos de [letra, dígito ou '-'] separados por '.', o primeiro com pelo menos 2 caracteres
+//            e sem começar com '-', e o último (TLD) com pelo menos 2 letras
+// Diferente da regex, o primeiro caractere do domínio também precisa ser letra ou dígito (a regex aceitava
+// qualquer caractere diferente de '-', inclusive '.' e '@').
+public final class EmailParser {
+    public static final int INVALID = -1;
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    private EmailParser() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return parse(value) != INVALID;
+    }
+
+    // Retorna a posição do '@' quando o e-mail é válido, ou INVALID
+    public static int parse(CharSequence value) {
+        if (value == null) return INVALID;
+
+        final int length = value.length();
+        int index = 0;
+
+        // Parte local
+        boolean previousWasDot = true; // Não pode começar com '.'
+        while (index < length) {
+            final char c = value.charAt(index);
+            if (c == '@') break;
+
+            if (c == '.') {
+                if (previousWasDot) return INVALID;
+                previousWasDot = true;
+            } else if (isLocalChar(value, index)) {
+                previousWasDot = false;
+            } else {
+                return INVALID;
+            }
+
+            index += Character.charCount(Character.codePointAt(value, index));
+            if (index > MAX_LOCAL_PART_LENGTH) return INVALID;
+        }
+
+        if (index == 0 || index == length || previousWasDot) return INVALID;
+
+        final int at = index++;
+
+        // Domínio
+        int labels = 0;
+        int labelLength = 0;
+        boolean labelHasOnlyLetters = true;
+
+        while (index < length) {
+            final char c = value.charAt(index);
+
+            if (c == '.') {
+                if (labelLength == 0 || (labels == 0 && labelLength < 2)) return INVALID;
+                labels++;
+                labelLength = 0;
+                labelHasOnlyLetters = true;
+                index++;
+                continue;
+            }
+
+            final int codePoint = Character.codePointAt(value, index);
+            final boolean letter = Character.isLetter(codePoint);
+            if (!letter && !isAsciiDigit(codePoint) && codePoint != '-') return INVALID;
+            if (codePoint == '-' && labels == 0 && labelLength == 0) return INVALID;
+
+            labelHasOnlyLetters &= letter;
+            labelLength++;
+            index += Character.charCount(codePoint);
+        }
+
+        // O último rótulo é o TLD: pelo menos duas letras e pelo menos um rótulo antes dele
+        if (labels == 0 || labelLength < 2 || !labelHasOnlyLetters) return INVALID;
+
+        return at;
+    }
+
+    private static boolean isLocalChar(CharSequence value, int index) {
+        final int codePoint = Character.codePointAt(value, index);
+        return Character.isLetter(codePoint) || isAsciiDigit(codePoint) || codePoint == '_' || codePoint == '-';
+    }
+
+    private static boolean isAsciiDigit(int codePoint) {
+        return codePoint >= '0' && codePoint <= '9';
+    }
+}
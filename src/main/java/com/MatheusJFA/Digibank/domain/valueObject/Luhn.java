@@ -0,0 +1,213 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// Algoritmo de Luhn sem alocação, para um PAN ou para lotes grandes (arquivos de embossing e chargeback).
+// Lotes em formato colunar usam a Vector API (jdk.incubator.vector) quando o módulo está disponível
+// na JVM (--add-modules jdk.incubator.vector) e caem para a implementação escalar caso contrário.
+public final class Luhn {
+    public static final byte VALID = 0;
+    public static final byte EMPTY = 1;
+    public static final byte INVALID_LENGTH = 2;
+    public static final byte NON_DIGIT = 3;
+    public static final byte INVALID_CHECKSUM = 4;
+
+    public static final int MIN_PAN_LENGTH = 12;
+    public static final int MAX_PAN_LENGTH = 19;
+
+    // Valor do dígito depois de dobrado e reduzido (2 * d, menos 9 quando passa de 9)
+    private static final int[] DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    private static final boolean VECTOR_SUPPORTED = detectVectorSupport();
+
+    private Luhn() {
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR_SUPPORTED;
+    }
+
+    public static boolean isValid(CharSequence number) {
+        if (number == null || number.isEmpty()) return false;
+
+        int sum = 0;
+        boolean alternate = false;
+        for (int index = number.length() - 1; index >= 0; index--) {
+            final int digit = number.charAt(index) - '0';
+            if (digit < 0 || digit > 9) return false;
+
+            sum += alternate ? DOUBLED[digit] : digit;
+            alternate = !alternate;
+        }
+
+        return sum % 10 == 0;
+    }
+
+    // Calcula o dígito verificador que deve ser anexado ao payload (número sem o último dígito)
+    public static int checkDigit(CharSequence payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new IllegalArgumentException("O número não pode ser nulo ou vazio");
+        }
+
+        int sum = 0;
+        boolean alternate = true;
+        for (int index = payload.length() - 1; index >= 0; index--) {
+            final int digit = payload.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("O número deve conter apenas dígitos");
+            }
+
+            sum += alternate ? DOUBLED[digit] : digit;
+            alternate = !alternate;
+        }
+
+        return (10 - sum % 10) % 10;
+    }
+
+    // Valida um PAN em ASCII dentro de um buffer, sem copiar os bytes
+    public static byte validate(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) return EMPTY;
+        if (length < MIN_PAN_LENGTH || length > MAX_PAN_LENGTH) return INVALID_LENGTH;
+
+        int sum = 0;
+        boolean alternate = false;
+        for (int index = offset + length - 1; index >= offset; index--) {
+            final int digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9) return NON_DIGIT;
+
+            sum += alternate ? DOUBLED[digit] : digit;
+            alternate = !alternate;
+        }
+
+        return sum % 10 == 0 ? VALID : INVALID_CHECKSUM;
+    }
+
+    // Valida um lote colunar: count PANs do mesmo tamanho, com o dígito da posição p do PAN i em columns[p * count + i].
+    // Os dígitos já devem estar decodificados (0 a 9). Nesse layout cada posição é um vetor contíguo de dígitos.
+    public static BulkValidationResult validateColumns(byte[] columns, int count, int length) {
+        if (length < MIN_PAN_LENGTH || length > MAX_PAN_LENGTH) {
+            throw new IllegalArgumentException("O tamanho do PAN deve estar entre " + MIN_PAN_LENGTH + " e " + MAX_PAN_LENGTH);
+        }
+        if (columns.length < count * length) {
+            throw new IllegalArgumentException("O lote colunar deve ter " + count * length + " dígitos");
+        }
+
+        final byte[] sums = new byte[count];
+        final int vectorized = VECTOR_SUPPORTED ? LuhnVectorKernel.sums(columns, count, length, sums) : 0;
+        scalarSums(columns, count, length, sums, vectorized);
+
+        final var result = new BulkValidationResult(count);
+        for (int i = 0; i < count; i++) {
+            result.set(i, sums[i] == 0 ? VALID : INVALID_CHECKSUM);
+        }
+        return result;
+    }
+
+    // Transpõe PANs em ASCII do mesmo tamanho para o layout colunar usado por validateColumns
+    public static byte[] toColumns(CharSequence[] numbers, int length) {
+        final int count = numbers.length;
+        final byte[] columns = new byte[count * length];
+        for (int i = 0; i < count; i++) {
+            final CharSequence number = numbers[i];
+            if (number.length() != length) {
+                throw new IllegalArgumentException("Todos os PANs do lote colunar devem ter " + length + " dígitos");
+            }
+            for (int position = 0; position < length; position++) {
+                final int digit = number.charAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new IllegalArgumentException("O PAN na posição " + i + " contém caracteres não numéricos");
+                }
+                columns[position * count + i] = (byte) digit;
+            }
+        }
+        return columns;
+    }
+
+    // Soma de Luhn módulo 10 de cada PAN a partir de start, mantida em bytes para casar com o kernel vetorial
+    static void scalarSums(byte[] columns, int count, int length, byte[] sums, int start) {
+        for (int position = length - 1; position >= 0; position--) {
+            final boolean doubled = ((length - 1 - position) & 1) == 1;
+            final int base = position * count;
+            for (int i = start; i < count; i++) {
+                final int digit = columns[base + i];
+                int sum = sums[i] + (doubled ? DOUBLED[digit] : digit);
+                if (sum >= 10) sum -= 10;
+                sums[i] = (byte) sum;
+            }
+        }
+    }
+
+    // Lê PANs separados por quebra de linha e entrega um resultado por lote de batchSize registros.
+    // Só o lote corrente fica em memória; os bytes do arquivo são lidos direto do buffer mapeado.
+    public static long validate(ByteBuffer input, int batchSize, Consumer<BulkValidationResult> consumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo");
+        }
+
+        final int limit = input.limit();
+        long total = 0;
+        byte[] reasons = new byte[batchSize];
+        int pending = 0;
+        int start = input.position();
+
+        for (int index = start; index <= limit; index++) {
+            if (index < limit && input.get(index) != '\n') continue;
+
+            int end = index;
+            if (end > start && input.get(end - 1) == '\r') end--;
+
+            // Ignora a linha vazia no final do arquivo
+            if (!(index == limit && end == start)) {
+                reasons[pending++] = validate(input, start, end - start);
+                if (pending == batchSize) {
+                    consumer.accept(toResult(reasons, pending));
+                    total += pending;
+                    pending = 0;
+                }
+            }
+            start = index + 1;
+        }
+
+        if (pending > 0) {
+            consumer.accept(toResult(reasons, pending));
+            total += pending;
+        }
+        return total;
+    }
+
+    public static long validate(Path file, int batchSize, Consumer<BulkValidationResult> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Arquivos maiores que 2GB devem ser divididos antes da validação: " + file);
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return validate(buffer, batchSize, consumer);
+        }
+    }
+
+    private static BulkValidationResult toResult(byte[] reasons, int size) {
+        final var result = new BulkValidationResult(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, reasons[i]);
+        }
+        return result;
+    }
+
+    private static boolean detectVectorSupport() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+
+        try {
+            return LuhnVectorKernel.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Kernel vetorial do Luhn sobre o layout colunar. Só é carregado por Luhn quando o módulo
+// jdk.incubator.vector está presente; sem ele a classe nunca é referenciada em tempo de execução.
+final class LuhnVectorKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private LuhnVectorKernel() {
+    }
+
+    static boolean isSupported() {
+        // Com apenas uma lane não há ganho em relação ao código escalar
+        return SPECIES.length() > 1;
+    }
+
+    // Calcula a soma módulo 10 dos PANs que cabem em vetores completos e devolve quantos foram processados.
+    // O restante do lote fica para Luhn.scalarSums.
+    static int sums(byte[] columns, int count, int length, byte[] sums) {
+        final int upperBound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < upperBound; i += SPECIES.length()) {
+            ByteVector accumulator = ByteVector.zero(SPECIES);
+
+            for (int position = length - 1; position >= 0; position--) {
+                ByteVector digits = ByteVector.fromArray(SPECIES, columns, position * count + i);
+
+                if (((length - 1 - position) & 1) == 1) {
+                    digits = digits.add(digits);
+                    final VectorMask<Byte> overNine = digits.compare(VectorOperators.GT, (byte) 9);
+                    digits = digits.sub((byte) 9, overNine);
+                }
+
+                accumulator = accumulator.add(digits);
+                final VectorMask<Byte> overTen = accumulator.compare(VectorOperators.GE, (byte) 10);
+                accumulator = accumulator.sub((byte) 10, overTen);
+            }
+
+            accumulator.intoArray(sums, i);
+        }
+
+        return upperBound;
+    }
+}
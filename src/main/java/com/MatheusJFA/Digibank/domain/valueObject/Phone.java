@@ -2,71 +2,132 @@ package com.MatheusJFA.Digibank.domain.valueObject;
 
 import com.MatheusJFA.Digibank.domain.dictionaries.CountryCodes;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidPhoneException;
-import jakarta.persistence.Column;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Objects;
 
 @Getter
 public class Phone implements Serializable {
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private final String PHONE_REGEX = "^\\+\\d{2,3}\\s\\(\\d{2}\\)\\s\\d{4,5}-\\d{4}$";
-    private final int MIN_LENGTH = 12;
-    private final int MAX_LENGTH = 13;
+    private static final int DDD_LENGTH = 2;
 
-    @Column(name = "phone", nullable = false, unique = true, length = 13)
     private String value;
 
+    // Quantidade de dígitos do DDI e seu valor numérico, calculados uma única vez na validação
+    @Getter(AccessLevel.NONE)
+    private byte ddiLength;
+
+    @Getter(AccessLevel.NONE)
+    private short ddi;
+
     public Phone() {
     }
 
     public Phone(String value) {
-        this.value = validate(value);
-    }
-
-    private String validate(String value) {
         if (value == null || value.isBlank()) {
             throw new InvalidPhoneException("O telefone não pode ser nulo ou vazio.");
         }
 
-        if (!value.matches(PHONE_REGEX)) {
+        final char[] digits = new char[PhoneParser.MAX_DIGITS];
+        final int result = PhoneParser.parse(value, digits);
+
+        if (result == PhoneParser.INVALID) {
             throw new InvalidPhoneException("O telefone deve estar no formato +DDI (DDD) 9999-9999 ou +DDI (DDD) 99999-9999.");
         }
 
-        final var unmaskedValue  = value.replaceAll("[^\\d]", "");
+        init(digits, result);
+    }
+
+    // Usado pela fábrica ValueObjects, que já fez o parse
+    Phone(char[] digits, int parseResult) {
+        init(digits, parseResult);
+    }
 
-        if (unmaskedValue.length() < MIN_LENGTH || unmaskedValue.length()  > MAX_LENGTH) {
-            throw new InvalidPhoneException("O telefone deve ter entre " +MIN_LENGTH+ " e "+MAX_LENGTH+" dígitos, sem formatação.");
-        }
+    // Usado pela fábrica ValueObjects na reconstrução de valores persistidos (somente dígitos, já validados)
+    Phone(String digits, int ddiLength) {
+        this.value = digits;
+        this.ddiLength = (byte) ddiLength;
+
+        int ddi = 0;
+        for (int i = 0; i < ddiLength; i++) ddi = ddi * 10 + (digits.charAt(i) - '0');
+        this.ddi = (short) ddi;
+    }
+
+    private void init(char[] digits, int parseResult) {
+        this.ddiLength = (byte) PhoneParser.ddiLength(parseResult);
+        this.value = new String(digits, 0, PhoneParser.digitCount(parseResult));
 
-        return unmaskedValue;
+        int ddi = 0;
+        for (int i = 0; i < ddiLength; i++) ddi = ddi * 10 + (digits[i] - '0');
+        this.ddi = (short) ddi;
+    }
+
+    boolean hasDigits(char[] digits, int count) {
+        if (value.length() != count) return false;
+        for (int i = 0; i < count; i++) {
+            if (value.charAt(i) != digits[i]) return false;
+        }
+        return true;
     }
 
     public String mask() {
-        return value.replaceAll("(\\d{2})(\\d{2})(\\d{4,5})(\\d{4})", "+$1 ($2) $3-$4");
+        final int subscriberStart = ddiLength + DDD_LENGTH;
+        final int suffixStart = value.length() - 4;
+
+        final var masked = new StringBuilder(value.length() + 6);
+        masked.append('+').append(value, 0, ddiLength)
+                .append(" (").append(value, ddiLength, subscriberStart).append(") ")
+                .append(value, subscriberStart, suffixStart)
+                .append('-').append(value, suffixStart, value.length());
+        return masked.toString();
+    }
+
+    // Formato para logs e auditoria: DDI, DDD e os 4 últimos dígitos ("+55 (11) *****-4321")
+    public String redact() {
+        final String masked = mask();
+        final int subscriberStart = masked.indexOf(") ") + 2;
+        final int suffixStart = masked.length() - 5;
+        return masked.substring(0, subscriberStart) + "*".repeat(suffixStart - subscriberStart) + masked.substring(suffixStart);
     }
 
     public String unmask() {
-        return value.replaceAll("[^\\d]", "");
+        return value;
     }
 
     public String getDDI() {
-        return value.substring(0, 2);
+        return value.substring(0, ddiLength);
     }
 
     public String getDDD() {
-        return value.substring(2, 4);
+        return value.substring(ddiLength, ddiLength + DDD_LENGTH);
     }
 
     public String getNumber() {
-        return value.substring(4);
+        return value.substring(ddiLength + DDD_LENGTH);
+    }
+
+    public int getDDICode() {
+        return ddi;
     }
 
     public String getCountry() {
-        final var ddi = Integer.parseInt(getDDI());
         return CountryCodes.getCountryByAreaCode(ddi);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Phone phone)) return false;
+        return Objects.equals(value, phone.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
 }
@@ -0,0 +1,120 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import com.MatheusJFA.Digibank.domain.dictionaries.CountryCodes;
+
+// Parser de telefone em uma única passada, sem regex. Aceita dois formatos:
+//   com máscara: +DDI (DDD) 9999-9999 ou +DDI (DDD) 99999-9999, com DDI de 1 a 3 dígitos conhecido em CountryCodes
+//   sem máscara (E.164): apenas dígitos, com ou sem '+', e o DDI identificado pelo maior prefixo conhecido em CountryCodes
+// Os dígitos são copiados para o buffer informado e o retorno indica o tamanho do DDI e a quantidade de dígitos.
+final class PhoneParser {
+    static final int INVALID = -1;
+
+    static final int MAX_DIGITS = 14;
+
+    private static final int DDD_LENGTH = 2;
+    private static final int MIN_SUBSCRIBER_LENGTH = 8;
+    private static final int MAX_SUBSCRIBER_LENGTH = 9;
+    private static final int LEGACY_DDI_LENGTH = 2;
+
+    private PhoneParser() {
+    }
+
+    static int ddiLength(int result) {
+        return result >>> 8;
+    }
+
+    static int digitCount(int result) {
+        return result & 0xFF;
+    }
+
+    // Retorna (tamanho do DDI << 8) | quantidade de dígitos, ou INVALID
+    static int parse(CharSequence value, char[] digits) {
+        final int length = value.length();
+        if (length == 0) return INVALID;
+
+        final int start = value.charAt(0) == '+' ? 1 : 0;
+        int index = start;
+        int count = 0;
+
+        while (index < length && isDigit(value.charAt(index)) && count < MAX_DIGITS) {
+            digits[count++] = value.charAt(index++);
+        }
+
+        if (index == length) return parseUnmasked(digits, count);
+        if (start == 0 || index == start || value.charAt(index) != ' ') return INVALID;
+
+        return parseMasked(value, index, digits, count);
+    }
+
+    private static int parseUnmasked(char[] digits, int count) {
+        final int ddiLength = CountryCodes.areaCodeLength(digits, 0, count);
+        if (ddiLength == 0) return INVALID;
+
+        final int subscriberLength = count - ddiLength - DDD_LENGTH;
+        if (subscriberLength < MIN_SUBSCRIBER_LENGTH || subscriberLength > MAX_SUBSCRIBER_LENGTH) return INVALID;
+
+        return ddiLength << 8 | count;
+    }
+
+    // Tamanho do DDI de um telefone gravado (somente dígitos): o maior prefixo conhecido, como na entrada. Linhas
+    // gravadas antes deste parser só passaram pela regex (DDI de 2 ou 3 dígitos quaisquer, 12 ou 13 dígitos no total)
+    // e podem ter DDI desconhecido, ou um DDI de 2 dígitos que começa um código maior ("+35 (12) 3456-7890" gravado
+    // como 351234567890). Quando o maior prefixo não deixa um assinante válido, vale a separação da época, com DDI de
+    // 2 dígitos (a do mask() antigo). Uma linha antiga de 13 dígitos que também forma um telefone válido com o DDI
+    // maior não se distingue de uma atual e é lida com ele.
+    static int restoredDdiLength(CharSequence digits) {
+        final int ddiLength = CountryCodes.areaCodeLength(digits, 0);
+        final int subscriberLength = digits.length() - ddiLength - DDD_LENGTH;
+        if (ddiLength == 0 || subscriberLength < MIN_SUBSCRIBER_LENGTH || subscriberLength > MAX_SUBSCRIBER_LENGTH) {
+            return LEGACY_DDI_LENGTH;
+        }
+        return ddiLength;
+    }
+
+    // Continua a leitura de "+DDI" a partir do espaço: " (DDD) NNNN[N]-NNNN"
+    private static int parseMasked(CharSequence value, int index, char[] digits, int ddiLength) {
+        if (ddiLength > 3) return INVALID;
+
+        final int length = value.length();
+        int count = ddiLength;
+
+        if (!expect(value, index++, ' ') || !expect(value, index++, '(')) return INVALID;
+
+        for (int i = 0; i < DDD_LENGTH; i++) {
+            if (index >= length || !isDigit(value.charAt(index))) return INVALID;
+            digits[count++] = value.charAt(index++);
+        }
+
+        if (!expect(value, index++, ')') || !expect(value, index++, ' ')) return INVALID;
+
+        int prefixLength = 0;
+        while (index < length && isDigit(value.charAt(index)) && prefixLength <= 5) {
+            digits[count++] = value.charAt(index++);
+            prefixLength++;
+        }
+        if (prefixLength < 4 || prefixLength > 5) return INVALID;
+
+        if (!expect(value, index++, '-')) return INVALID;
+
+        for (int i = 0; i < 4; i++) {
+            if (index >= length || !isDigit(value.charAt(index))) return INVALID;
+            digits[count++] = value.charAt(index++);
+        }
+
+        if (index != length) return INVALID;
+
+        // O telefone é gravado só com os dígitos e, ao ser lido, o DDI é separado pelo maior prefixo conhecido:
+        // um DDI que não seja esse prefixo voltaria do banco como outro número
+        if (CountryCodes.areaCodeLength(digits, 0, count) != ddiLength) return INVALID;
+
+        return ddiLength << 8 | count;
+    }
+
+    private static boolean expect(CharSequence value, int index, char expected) {
+        return index < value.length() && value.charAt(index) == expected;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,96 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+// Fábrica de CPF, Email e Phone que compartilha uma única instância por valor (flyweight).
+// Em cargas e caches com milhões de usuários, valores repetidos passam a apontar para o mesmo objeto.
+// Os objetos de valor são imutáveis, então o compartilhamento é seguro entre usuários e threads.
+public final class ValueObjects {
+    private static final int CAPACITY = Integer.getInteger("digibank.value-objects.intern-capacity", 1 << 16);
+
+    private static final WeakInterner<CPF> CPFS = new WeakInterner<>(CAPACITY);
+    private static final WeakInterner<Email> EMAILS = new WeakInterner<>(CAPACITY);
+    private static final WeakInterner<Phone> PHONES = new WeakInterner<>(CAPACITY);
+
+    // Valores reidratados do banco ficam à parte: cpf(long) e email(String) pulam a validação quando encontram o
+    // valor no cache, e um valor antigo que não passa nas regras atuais não pode ser aceito por isso.
+    // Telefones são sempre validados por phone() antes da consulta ao cache, então compartilham o mesmo.
+    private static final WeakInterner<CPF> RESTORED_CPFS = new WeakInterner<>(CAPACITY);
+    private static final WeakInterner<Email> RESTORED_EMAILS = new WeakInterner<>(CAPACITY);
+
+    private ValueObjects() {
+    }
+
+    public static CPF cpf(String value) {
+        final long digits = CPFValidator.parse(value);
+
+        // Valores inválidos seguem pelo construtor para lançar a mesma exceção e mensagem
+        if (digits == CPFValidator.INVALID) return new CPF(value);
+
+        return cpf(digits);
+    }
+
+    public static CPF cpf(long digits) {
+        final int hash = Long.hashCode(digits);
+        final CPF cached = CPFS.lookup(hash);
+        if (cached != null && cached.toLong() == digits) return cached;
+
+        return CPFS.store(hash, CPF.of(digits));
+    }
+
+    public static Email email(String value) {
+        if (value == null) return new Email(null);
+
+        final int hash = value.hashCode();
+        final Email cached = EMAILS.lookup(hash);
+        if (cached != null && cached.getValue().equals(value)) return cached;
+
+        return EMAILS.store(hash, new Email(value));
+    }
+
+    public static Phone phone(String value) {
+        if (value == null || value.isBlank()) return new Phone(value);
+
+        final char[] digits = new char[PhoneParser.MAX_DIGITS];
+        final int result = PhoneParser.parse(value, digits);
+        if (result == PhoneParser.INVALID) return new Phone(value);
+
+        final int count = PhoneParser.digitCount(result);
+        int hash = 0;
+        for (int i = 0; i < count; i++) hash = 31 * hash + digits[i];
+
+        final Phone cached = PHONES.lookup(hash);
+        if (cached != null && cached.hasDigits(digits, count)) return cached;
+
+        return PHONES.store(hash, new Phone(digits, result));
+    }
+
+    // Reconstrução de valores lidos do banco: foram validados antes de gravados, então só passam pelo cache.
+    // Nada que venha de fora da aplicação deve usar estes métodos.
+    public static CPF restoredCpf(long digits) {
+        final int hash = Long.hashCode(digits);
+        final CPF cached = RESTORED_CPFS.lookup(hash);
+        if (cached != null && cached.toLong() == digits) return cached;
+
+        return RESTORED_CPFS.store(hash, new CPF(digits));
+    }
+
+    public static Email restoredEmail(String value) {
+        final int hash = value.hashCode();
+        final Email cached = RESTORED_EMAILS.lookup(hash);
+        if (cached != null && cached.getValue().equals(value)) return cached;
+
+        return RESTORED_EMAILS.store(hash, new Email(value, value.indexOf('@')));
+    }
+
+    // O telefone é gravado sem máscara; o hash é o mesmo de phone(), calculado sobre os dígitos.
+    // O DDI é separado de novo pelo maior prefixo conhecido, a mesma regra que o PhoneParser impõe na entrada
+    // (com ou sem máscara), então o telefone volta com o DDI e o DDD com que foi validado. Linhas anteriores ao
+    // parser que não se separam assim voltam com o DDI de 2 dígitos da época (PhoneParser.restoredDdiLength);
+    // phone() recusa esses dígitos, então as duas separações nunca disputam a mesma entrada do cache.
+    public static Phone restoredPhone(String digits) {
+        final int hash = digits.hashCode();
+        final Phone cached = PHONES.lookup(hash);
+        if (cached != null && cached.getValue().equals(digits)) return cached;
+
+        return PHONES.store(hash, new Phone(digits, PhoneParser.restoredDdiLength(digits)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Cache de internamento limitado e de mapeamento direto: cada hash cai em um único slot, que guarda uma
+// referência fraca para a última instância armazenada ali. Colisões simplesmente substituem o slot,
+// então o tamanho nunca passa da capacidade e instâncias sem uso continuam elegíveis para o GC.
+// A comparação da chave fica com quem chama, para que um acerto não aloque nada.
+final class WeakInterner<V> {
+    private final AtomicReferenceArray<WeakReference<V>> slots;
+    private final int mask;
+
+    WeakInterner(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva");
+        }
+
+        final int size = Integer.highestOneBit(capacity - 1 | 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    // Retorna a instância candidata para o hash, que ainda precisa ter a chave comparada
+    V lookup(int hash) {
+        final WeakReference<V> reference = slots.get(index(hash));
+        return reference == null ? null : reference.get();
+    }
+
+    V store(int hash, V value) {
+        slots.set(index(hash), new WeakReference<>(value));
+        return value;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    private int index(int hash) {
+        // Espalha os bits altos para que hashes sequenciais (ex.: CPFs próximos) não colidam no mesmo slot
+        final int spread = hash * 0x9E3779B9;
+        return (spread ^ spread >>> 16) & mask;
+    }
+}
@@ -0,0 +1,182 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Formato dos blocos de um segmento de auditoria. Os eventos de um bloco são serializados em sequência e comprimidos
+// juntos com Deflate: eventos vizinhos repetem usuário, método e tipo, e é dessa repetição que vem a compressão.
+//
+// Evento: timestamp em epoch millis (8 bytes), tipo (1 byte, ordinal de AuditEvent.Type: tipos novos só no fim do
+// enum), usuário, método, quantidade de argumentos (varint), argumentos e erro. Textos vão em UTF-8 precedidos de
+// varint(tamanho + 1); 0 representa null.
+final class AuditBlockCodec {
+    private static final AuditEvent.Type[] TYPES = AuditEvent.Type.values();
+
+    // Usados apenas pela thread que grava os segmentos
+    private final Deflater deflater = new Deflater();
+    private byte[] raw = new byte[64 * 1024];
+    private int rawLength;
+    private byte[] compressed = new byte[16 * 1024];
+    private int compressedLength;
+
+    void encode(List<AuditRecord> records) {
+        rawLength = 0;
+        for (AuditRecord record : records) {
+            ensureCapacity(9);
+            writeLong(record.timestamp().toEpochMilli());
+            raw[rawLength++] = (byte) record.type().ordinal();
+            writeString(record.principal());
+            writeString(record.method());
+            writeVarint(record.arguments().size());
+            for (String argument : record.arguments()) {
+                writeString(argument);
+            }
+            writeString(record.error());
+        }
+
+        deflater.reset();
+        deflater.setInput(raw, 0, rawLength);
+        deflater.finish();
+        compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressed.length) compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+    }
+
+    ByteBuffer compressed() {
+        return ByteBuffer.wrap(compressed, 0, compressedLength);
+    }
+
+    int rawLength() {
+        return rawLength;
+    }
+
+    // Descomprime o bloco e entrega os eventos com timestamp em [from, to) e, se needle não for null, com esses bytes
+    // em algum dos textos. Os demais são pulados sem criar strings: numa consulta por usuário quase todo evento de um
+    // bloco candidato é descartado aqui.
+    static void decode(ByteBuffer block, int rawLength, Inflater inflater, long from, long to, byte[] needle,
+                       Consumer<AuditRecord> consumer) throws DataFormatException {
+        final byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(block);
+        int inflated = 0;
+        while (inflated < rawLength) {
+            final int count = inflater.inflate(raw, inflated, rawLength - inflated);
+            if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                throw new DataFormatException("Bloco de auditoria truncado");
+            }
+            inflated += count;
+        }
+
+        final ByteBuffer in = ByteBuffer.wrap(raw);
+        while (in.hasRemaining()) {
+            final long timestamp = in.getLong();
+            final AuditEvent.Type type = TYPES[in.get()];
+
+            final int texts = in.position();
+            skipString(in);
+            skipString(in);
+            final int argumentCount = readVarint(in);
+            for (int i = 0; i < argumentCount; i++) {
+                skipString(in);
+            }
+            skipString(in);
+
+            if (timestamp < from || timestamp >= to) continue;
+            if (needle != null && !contains(raw, texts, in.position(), needle)) continue;
+
+            final int end = in.position();
+            in.position(texts);
+            final String principal = readString(in);
+            final String method = readString(in);
+            readVarint(in);
+            final List<String> arguments = new ArrayList<>(argumentCount);
+            for (int i = 0; i < argumentCount; i++) {
+                arguments.add(readString(in));
+            }
+            final String error = readString(in);
+            in.position(end);
+
+            consumer.accept(new AuditRecord(Instant.ofEpochMilli(timestamp), type, principal, method, arguments, error));
+        }
+    }
+
+    private void writeLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            raw[rawLength++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            raw[rawLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        raw[rawLength++] = (byte) value;
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, raw, rawLength, bytes.length);
+        rawLength += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (rawLength + additional > raw.length) {
+            raw = Arrays.copyOf(raw, Math.max(raw.length * 2, rawLength + additional));
+        }
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = readVarint(in) - 1;
+        if (length < 0) return null;
+
+        final int position = in.position();
+        in.position(position + length);
+        return new String(in.array(), position, length, StandardCharsets.UTF_8);
+    }
+
+    private static void skipString(ByteBuffer in) {
+        final int length = readVarint(in) - 1;
+        if (length > 0) in.position(in.position() + length);
+    }
+
+    private static boolean contains(byte[] bytes, int from, int to, byte[] needle) {
+        final int last = to - needle.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            if (bytes[i] != needle[0]) continue;
+            for (int k = 1; k < needle.length; k++) {
+                if (bytes[i + k] != needle[k]) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+}
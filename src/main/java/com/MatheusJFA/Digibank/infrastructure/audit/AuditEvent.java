@@ -0,0 +1,19 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+// Evento capturado na thread da requisição. Guarda apenas referências: argumentos e exceção são convertidos em texto
+// (e mascarados) depois, na thread de drenagem do AuditPipeline.
+public record AuditEvent(
+        long timestamp,
+        Type type,
+        String principal,
+        Class<?> declaringType,
+        String method,
+        Object[] args,
+        Throwable error
+) {
+    public enum Type {
+        SECURITY_CHECK,
+        SECURITY_SUCCESS,
+        SECURITY_FAILURE,
+    }
+}
@@ -0,0 +1,207 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.CreditCard;
+import com.MatheusJFA.Digibank.domain.valueObject.Email;
+import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+
+import java.lang.reflect.RecordComponent;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+// Converte os argumentos capturados em texto seguro para a auditoria; roda na thread de drenagem.
+//
+// Objetos de valor usam o próprio redact(). Em textos soltos, números longos e e-mails são mascarados. Records são
+// percorridos campo a campo, e campos com nome de segredo (senha, token, cvv) nunca aparecem. Qualquer outro objeto vira apenas o nome da classe: o toString() dele pode expor qualquer coisa.
+final class AuditMasker {
+    static final String HIDDEN = "***";
+
+    private static final int MAX_DEPTH = 2;
+    private static final int MAX_TEXT_LENGTH = 128;
+    private static final int MIN_MASKED_DIGITS = 6;
+    static final int UUID_LENGTH = 36;
+    private static final List<String> SECRET_NAMES = List.of("password", "senha", "secret", "token", "cvv");
+
+    AuditRecord mask(AuditEvent event) {
+        final List<String> arguments;
+        if (event.args() == null) {
+            arguments = List.of();
+        } else {
+            arguments = new ArrayList<>(event.args().length);
+            for (Object arg : event.args()) {
+                arguments.add(maskSafely(arg));
+            }
+        }
+
+        return new AuditRecord(
+                Instant.ofEpochMilli(event.timestamp()),
+                event.type(),
+                event.principal(),
+                event.declaringType().getSimpleName() + "." + event.method(),
+                arguments,
+                event.error() == null ? null : error(event.error()));
+    }
+
+    private static String error(Throwable error) {
+        return error.getMessage() == null
+                ? error.getClass().getSimpleName()
+                : error.getClass().getSimpleName() + ": " + maskText(error.getMessage());
+    }
+
+    private String maskSafely(Object value) {
+        try {
+            return mask(value, 0);
+        } catch (RuntimeException e) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+    }
+
+    String mask(Object value, int depth) {
+        return switch (value) {
+            case null -> "null";
+            case CPF cpf -> cpf.redact();
+            case CreditCard card -> card.redact();
+            case Email email -> email.redact();
+            case Phone phone -> phone.redact();
+            case CharSequence text -> maskText(text.toString());
+            case Number number -> number.toString();
+            case Boolean bool -> bool.toString();
+            case Character character -> character.toString();
+            case Enum<?> constant -> constant.name();
+            case UUID id -> id.toString();
+            case TemporalAccessor time -> time.toString();
+            case Collection<?> collection -> value.getClass().getSimpleName() + "(" + collection.size() + ")";
+            case Map<?, ?> map -> value.getClass().getSimpleName() + "(" + map.size() + ")";
+            case Record record when depth < MAX_DEPTH -> maskRecord(record, depth);
+            default -> "<" + value.getClass().getSimpleName() + ">";
+        };
+    }
+
+    private String maskRecord(Record record, int depth) {
+        final var text = new StringBuilder(record.getClass().getSimpleName()).append('[');
+        final RecordComponent[] components = record.getClass().getRecordComponents();
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) text.append(", ");
+
+            final String name = components[i].getName();
+            text.append(name).append('=');
+            if (isSecret(name)) {
+                text.append(HIDDEN);
+                continue;
+            }
+
+            try {
+                final var accessor = components[i].getAccessor();
+                accessor.setAccessible(true);
+                text.append(mask(accessor.invoke(record), depth + 1));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                text.append('<').append(components[i].getType().getSimpleName()).append('>');
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    // Também cobre variações como newPassword e refreshToken
+    private static boolean isSecret(String name) {
+        final String lowerCase = name.toLowerCase(Locale.ROOT);
+        for (String secret : SECRET_NAMES) {
+            if (lowerCase.contains(secret)) return true;
+        }
+        return false;
+    }
+
+    // Em números longos (CPF, cartão, telefone, conta) só os 2 últimos dígitos ficam visíveis; em e-mails, só o
+    // primeiro caractere e o domínio. Vale também para textos livres, como mensagens de exceção.
+    static String maskText(String text) {
+        final char[] chars = (text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) + "..." : text).toCharArray();
+
+        final CharSequence sequence = CharBuffer.wrap(chars);
+        int i = 0;
+        while (i < chars.length) {
+            // UUIDs são identificadores, não dados pessoais: ficam intactos para a consulta por usuário
+            if (isUuidAt(sequence, i)) {
+                i += UUID_LENGTH;
+                continue;
+            }
+            if (!isDigit(chars[i])) {
+                i++;
+                continue;
+            }
+
+            int end = i;
+            int digits = 0;
+            while (end < chars.length && (isDigit(chars[end]) || isSeparator(chars, end))) {
+                if (isDigit(chars[end])) digits++;
+                end++;
+            }
+
+            if (digits >= MIN_MASKED_DIGITS) {
+                int hidden = digits - 2;
+                for (int k = i; k < end && hidden > 0; k++) {
+                    if (isDigit(chars[k])) {
+                        chars[k] = '*';
+                        hidden--;
+                    }
+                }
+            }
+            i = end;
+        }
+
+        final var masked = new StringBuilder(chars.length + 8);
+        int from = 0;
+        for (int at = indexOf(chars, '@', 0); at >= 0; at = indexOf(chars, '@', from)) {
+            int start = at;
+            while (start > from && !Character.isWhitespace(chars[start - 1])) start--;
+
+            if (start < at) {
+                masked.append(chars, from, start + 1 - from).append(HIDDEN);
+            } else {
+                masked.append(chars, from, at - from);
+            }
+            masked.append('@');
+            from = at + 1;
+        }
+        return masked.append(chars, from, chars.length - from).toString();
+    }
+
+    // UUID no formato canônico (8-4-4-4-12) começando em index e sem letras ou dígitos colados antes ou depois
+    static boolean isUuidAt(CharSequence text, int index) {
+        if (index + UUID_LENGTH > text.length()) return false;
+        if (index > 0 && Character.isLetterOrDigit(text.charAt(index - 1))) return false;
+        if (index + UUID_LENGTH < text.length() && Character.isLetterOrDigit(text.charAt(index + UUID_LENGTH))) return false;
+
+        for (int k = 0; k < UUID_LENGTH; k++) {
+            final char c = text.charAt(index + k);
+            if (k == 8 || k == 13 || k == 18 || k == 23) {
+                if (c != '-') return false;
+            } else if (!isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Pontos, hífens e espaços entre dígitos fazem parte do número ("123.456.789-09", "4111 1111 1111 1111")
+    private static boolean isSeparator(char[] chars, int index) {
+        final char c = chars[index];
+        return (c == '.' || c == '-' || c == ' ') && index + 1 < chars.length && isDigit(chars[index + 1]);
+    }
+
+    private static int indexOf(char[] chars, char target, int from) {
+        for (int i = from; i < chars.length; i++) {
+            if (chars[i] == target) return i;
+        }
+        return -1;
+    }
+}
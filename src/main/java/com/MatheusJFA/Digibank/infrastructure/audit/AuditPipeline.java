@@ -0,0 +1,142 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Auditoria assíncrona: publish() apenas coloca o evento no AuditRingBuffer, sem formatação nem I/O na thread da
+// requisição. Uma thread própria drena a fila em lotes, mascara os dados sensíveis e entrega cada lote aos sinks.
+//
+// Com a fila cheia (sinks lentos ou fora do ar) os eventos novos são descartados e contados em
+// digibank.audit.events{result=dropped}: a auditoria nunca atrasa nem derruba uma requisição.
+@Component
+@Slf4j
+public class AuditPipeline {
+    private final AuditRingBuffer buffer;
+    private final AuditMasker masker = new AuditMasker();
+    private final List<AuditSink> sinks;
+    private final int batchSize;
+    private final long idleNanos;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AuditPipeline(
+            ObjectProvider<AuditSink> sinks,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.buffer-size:65536}") int bufferSize,
+            @Value("${app.audit.batch-size:512}") int batchSize,
+            @Value("${app.audit.flush-interval-ms:50}") long flushIntervalMs
+    ) {
+        if (batchSize <= 0 || flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("O lote e o intervalo da auditoria devem ser positivos");
+        }
+
+        this.buffer = new AuditRingBuffer(bufferSize);
+        this.sinks = sinks.orderedStream().toList();
+        this.batchSize = batchSize;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+        Gauge.builder("digibank.audit.queue.size", buffer, AuditRingBuffer::size)
+                .description("Eventos de auditoria aguardando a thread de drenagem")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("digibank.audit.events")
+                .description("Eventos de auditoria por destino final")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        running = true;
+        drainer = Thread.ofPlatform().name("audit-drainer").daemon().start(this::drainLoop);
+        log.info("Auditoria assíncrona iniciada: fila de {} eventos, sinks {}", buffer.capacity(),
+                sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    public void publish(AuditEvent event) {
+        if (!buffer.offer(event)) dropped.increment();
+    }
+
+    private void drainLoop() {
+        final List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            // Sem sinal dos produtores, para não pôr custo algum na requisição: a latência máxima é o flush-interval
+            if (drainBatch(batch) == 0) {
+                idle();
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+
+        // Entrega o que restou na fila antes de encerrar
+        int drained;
+        do {
+            drained = drainBatch(batch);
+        } while (drained > 0);
+        idle();
+    }
+
+    private int drainBatch(List<AuditRecord> batch) {
+        final int count = buffer.drain(event -> batch.add(masker.mask(event)), batchSize);
+        if (count > 0) {
+            deliver(batch);
+            batch.clear();
+        }
+        return count;
+    }
+
+    private void deliver(List<AuditRecord> batch) {
+        for (AuditSink sink : sinks) {
+            try {
+                sink.write(batch);
+                written.increment(batch.size());
+            } catch (Exception e) {
+                failed.increment(batch.size());
+                log.error("Não foi possível gravar {} evento(s) de auditoria em {}: {}",
+                        batch.size(), sink.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void idle() {
+        for (AuditSink sink : sinks) {
+            try {
+                sink.idle();
+            } catch (Exception e) {
+                log.error("Falha ao descarregar os eventos de auditoria pendentes em {}: {}",
+                        sink.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    // Para a thread de drenagem depois de entregar os eventos já enfileirados
+    @PreDestroy
+    void close() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            LockSupport.unpark(drainer);
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.time.Instant;
+import java.util.Locale;
+
+// Filtro de uma consulta à trilha de auditoria: eventos em [from, to), opcionalmente de um usuário (como autor ou
+// como alvo, quando o id aparece nos argumentos) e de um tipo. Os limit mais recentes vêm primeiro.
+public record AuditQuery(
+        Instant from,
+        Instant to,
+        String userId,
+        AuditEvent.Type type,
+        int limit
+) {
+    public static final int MAX_LIMIT = 1000;
+
+    public AuditQuery {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("O início do período da auditoria deve ser anterior ao fim");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("O limite da consulta de auditoria deve ser entre 1 e " + MAX_LIMIT);
+        }
+
+        if (userId != null) {
+            userId = userId.strip();
+            if (userId.isEmpty()) {
+                userId = null;
+            } else if (AuditMasker.isUuidAt(userId, 0) && userId.length() == AuditMasker.UUID_LENGTH) {
+                // Ids aparecem nos eventos como UUID.toString(), sempre em minúsculas
+                userId = userId.toLowerCase(Locale.ROOT);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.util.List;
+
+// Resultado de uma consulta: truncated indica que há mais eventos além do limite. Os contadores mostram quanto do
+// índice esparso evitou ler: blocos descartados pelo intervalo de tempo ou pelo filtro de Bloom nem são descomprimidos.
+public record AuditQueryResult(
+        List<AuditRecord> events,
+        boolean truncated,
+        int segmentsScanned,
+        int blocksRead,
+        int blocksSkipped
+) {
+}
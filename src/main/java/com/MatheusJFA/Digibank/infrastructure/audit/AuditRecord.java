@@ -0,0 +1,15 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.time.Instant;
+import java.util.List;
+
+// Evento já mascarado, no formato entregue aos sinks
+public record AuditRecord(
+        Instant timestamp,
+        AuditEvent.Type type,
+        String principal,
+        String method,
+        List<String> arguments,
+        String error
+) {
+}
@@ -0,0 +1,82 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// Fila circular limitada sem locks, com vários produtores (threads das requisições) e um único consumidor.
+// Cada posição tem um número de sequência: igual à posição de escrita quando está livre e posição + 1 quando já foi
+// publicada. Os produtores disputam apenas um CAS no tail; o consumidor não usa CAS algum.
+//
+// Com a fila cheia offer() devolve false na hora: a requisição nunca espera pela auditoria.
+final class AuditRingBuffer {
+    private final AtomicReferenceArray<AuditEvent> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Escrito só pelo consumidor; volatile apenas para size()
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade da fila de auditoria deve ser positiva");
+        }
+
+        final int size = Math.max(Integer.highestOneBit(capacity - 1) << 1, 2);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(AuditEvent event) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, event);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // A posição ainda não foi consumida desde a volta anterior
+                return false;
+            }
+            position = tail.get();
+        }
+    }
+
+    // Entrega ao consumidor até limit eventos, na ordem em que foram publicados
+    int drain(Consumer<AuditEvent> consumer, int limit) {
+        long position = head;
+        int count = 0;
+        while (count < limit) {
+            final int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) break;
+
+            final AuditEvent event = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.lazySet(index, position + slots.length());
+            position++;
+            count++;
+            consumer.accept(event);
+        }
+        head = position;
+        return count;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
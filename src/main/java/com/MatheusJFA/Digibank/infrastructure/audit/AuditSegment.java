@@ -0,0 +1,266 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+// Segmento de um dia (UTC) da auditoria: <dia>.seg com os blocos comprimidos do AuditBlockCodec, um após o outro, e
+// <dia>.idx com uma entrada de tamanho fixo por bloco. Esse é o índice esparso: cada entrada guarda o intervalo de
+// tempo do bloco, onde ele está no .seg e um filtro de Bloom com os usuários citados, e a consulta só descomprime os
+// blocos que podem ter resultado. Segmentos de dias passados não mudam mais e são lidos por memória mapeada.
+//
+// O bloco é gravado no .seg antes da entrada no .idx: uma queda no meio deixa no máximo bytes sem entrada no fim do
+// .seg, descartados ao reabrir.
+final class AuditSegment implements Closeable {
+    static final String DATA_EXTENSION = ".seg";
+    static final String INDEX_EXTENSION = ".idx";
+
+    private static final int DATA_MAGIC = 0x44474153;  // "DGAS"
+    private static final int INDEX_MAGIC = 0x44474158; // "DGAX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    // 4096 bits e 4 hashes: ~0,2% de falso positivo com 256 usuários distintos no bloco (autor e alvo de 128 eventos)
+    static final int BLOOM_WORDS = 64;
+    private static final int BLOOM_BITS = BLOOM_WORDS * Long.SIZE;
+    private static final int BLOOM_HASHES = 4;
+
+    // Entrada do índice: menor e maior timestamp, posição no .seg, tamanho comprimido e original, eventos e o Bloom
+    private static final int MIN_TIMESTAMP = 0;
+    private static final int MAX_TIMESTAMP = 8;
+    private static final int OFFSET = 16;
+    private static final int COMPRESSED_LENGTH = 24;
+    private static final int RAW_LENGTH = 28;
+    private static final int COUNT = 32;
+    private static final int BLOOM = 40;
+    static final int ENTRY_SIZE = BLOOM + BLOOM_WORDS * Long.BYTES;
+
+    final LocalDate day;
+    private final FileChannel data;
+    private final FileChannel index;
+    private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+    private long dataEnd;
+    private int entries;
+
+    private AuditSegment(LocalDate day, FileChannel data, FileChannel index) {
+        this.day = day;
+        this.data = data;
+        this.index = index;
+    }
+
+    static Path dataFile(Path directory, LocalDate day) {
+        return directory.resolve(day + DATA_EXTENSION);
+    }
+
+    static Path indexFile(Path directory, LocalDate day) {
+        return directory.resolve(day + INDEX_EXTENSION);
+    }
+
+    // Abre (ou cria) o segmento do dia para gravação, descartando o que ficou pela metade numa queda
+    static AuditSegment open(Path directory, LocalDate day) throws IOException {
+        final FileChannel data = FileChannel.open(dataFile(directory, day),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final FileChannel index = FileChannel.open(indexFile(directory, day),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final var segment = new AuditSegment(day, data, index);
+            try {
+                segment.recover();
+                return segment;
+            } catch (IOException | RuntimeException e) {
+                segment.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    private void recover() throws IOException {
+        if (index.size() < HEADER_SIZE) {
+            // Segmento novo: o cabeçalho do .seg vai antes, então um .idx com cabeçalho implica um .seg com cabeçalho
+            data.truncate(0);
+            writeFully(data, header(DATA_MAGIC), 0);
+            index.truncate(0);
+            writeFully(index, header(INDEX_MAGIC), 0);
+            dataEnd = HEADER_SIZE;
+            entries = 0;
+            return;
+        }
+
+        checkHeader(readFully(data, 0, HEADER_SIZE), DATA_MAGIC);
+        checkHeader(readFully(index, 0, HEADER_SIZE), INDEX_MAGIC);
+
+        entries = (int) ((index.size() - HEADER_SIZE) / ENTRY_SIZE);
+        dataEnd = HEADER_SIZE;
+        while (entries > 0) {
+            final ByteBuffer last = readFully(index, entryPosition(entries - 1), ENTRY_SIZE);
+            final long end = last.getLong(OFFSET) + last.getInt(COMPRESSED_LENGTH);
+            if (end <= data.size()) {
+                dataEnd = end;
+                break;
+            }
+            entries--;
+        }
+        index.truncate(entryPosition(entries));
+        data.truncate(dataEnd);
+    }
+
+    void append(ByteBuffer block, int rawLength, int count, long minTimestamp, long maxTimestamp, long[] bloom) throws IOException {
+        final int length = block.remaining();
+        if (dataEnd + length > Integer.MAX_VALUE) {
+            // A leitura mapeia o .seg inteiro em um único MappedByteBuffer
+            throw new IOException("O segmento de auditoria de " + day + " atingiu o limite de 2 GB");
+        }
+
+        writeFully(data, block, dataEnd);
+
+        entry.clear();
+        entry.putLong(minTimestamp).putLong(maxTimestamp).putLong(dataEnd)
+                .putInt(length).putInt(rawLength).putInt(count).putInt(0);
+        for (long word : bloom) {
+            entry.putLong(word);
+        }
+        entry.flip();
+        writeFully(index, entry, entryPosition(entries));
+
+        dataEnd += length;
+        entries++;
+    }
+
+    int entries() {
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            data.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    // Mapeia as primeiras maxEntries entradas do segmento para leitura; null se o segmento não existe mais
+    static View map(Path directory, LocalDate day, int maxEntries) throws IOException {
+        try (FileChannel index = FileChannel.open(indexFile(directory, day), StandardOpenOption.READ);
+             FileChannel data = FileChannel.open(dataFile(directory, day), StandardOpenOption.READ)) {
+            if (index.size() < HEADER_SIZE) return null;
+
+            final int entries = (int) Math.min(maxEntries, (index.size() - HEADER_SIZE) / ENTRY_SIZE);
+            final MappedByteBuffer indexMap = index.map(FileChannel.MapMode.READ_ONLY, 0, entryPosition(entries));
+            checkHeader(indexMap, INDEX_MAGIC);
+            if (entries == 0) return new View(day, indexMap, null, 0);
+
+            final long base = entryPosition(entries - 1);
+            final long dataSize = indexMap.getLong((int) base + OFFSET) + indexMap.getInt((int) base + COMPRESSED_LENGTH);
+            if (dataSize > data.size()) {
+                throw new IOException("Segmento de auditoria de " + day + " incompleto");
+            }
+            return new View(day, indexMap, data.map(FileChannel.MapMode.READ_ONLY, 0, dataSize), entries);
+        } catch (NoSuchFileException e) {
+            // Removido pela retenção entre a listagem e a abertura
+            return null;
+        }
+    }
+
+    // Leitura de um segmento mapeado; vale mesmo depois de os arquivos serem fechados
+    record View(LocalDate day, MappedByteBuffer index, MappedByteBuffer data, int entries) {
+        long minTimestamp(int entry) {
+            return index.getLong(base(entry) + MIN_TIMESTAMP);
+        }
+
+        long maxTimestamp(int entry) {
+            return index.getLong(base(entry) + MAX_TIMESTAMP);
+        }
+
+        int rawLength(int entry) {
+            return index.getInt(base(entry) + RAW_LENGTH);
+        }
+
+        ByteBuffer block(int entry) {
+            final int base = base(entry);
+            return data.slice((int) index.getLong(base + OFFSET), index.getInt(base + COMPRESSED_LENGTH));
+        }
+
+        boolean mightContain(int entry, String key) {
+            final int bloom = base(entry) + BLOOM;
+            final long h1 = hash(key);
+            final long h2 = mix(h1);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                final int bit = (int) Math.floorMod(h1 + i * h2, (long) BLOOM_BITS);
+                if ((index.getLong(bloom + (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        private static int base(int entry) {
+            return (int) entryPosition(entry);
+        }
+    }
+
+    static void addToBloom(long[] bloom, String key) {
+        final long h1 = hash(key);
+        final long h2 = mix(h1);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            final int bit = (int) Math.floorMod(h1 + i * h2, (long) BLOOM_BITS);
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    // Gravado em disco: FNV-1a de 64 bits sobre os bytes UTF-8 com o finalizador do SplitMix64, estável entre versões
+    // da JVM (ao contrário de String.hashCode, que não é especificado para esse uso)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1; // ímpar, para que h2 nunca seja zero
+    }
+
+    private static long entryPosition(int entry) {
+        return HEADER_SIZE + (long) entry * ENTRY_SIZE;
+    }
+
+    private static ByteBuffer header(int magic) {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(magic).putInt(VERSION).flip();
+    }
+
+    private static void checkHeader(ByteBuffer header, int magic) throws IOException {
+        if (header.getInt(0) != magic || header.getInt(4) != VERSION) {
+            throw new IOException("Arquivo de auditoria com formato desconhecido");
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Arquivo de auditoria truncado");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+}
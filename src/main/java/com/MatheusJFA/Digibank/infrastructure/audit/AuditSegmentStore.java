@@ -0,0 +1,343 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// Trilha de auditoria consultável em disco, sem cluster de busca: recebe os lotes do AuditPipeline como mais um sink
+// e grava segmentos diários comprimidos e indexados (ver AuditSegment) em app.audit.store.directory.
+//
+// Os eventos se acumulam em memória até formar um bloco de app.audit.store.block-records, ou até o bloco ficar
+// app.audit.store.max-block-age-ms sem completar; blocos maiores comprimem melhor e deixam o índice menor. As
+// consultas também enxergam o bloco ainda em memória.
+@Component
+@ConditionalOnProperty(name = "app.audit.store.enabled", havingValue = "true")
+@Slf4j
+public class AuditSegmentStore implements AuditSink {
+    private static final Comparator<AuditRecord> BY_TIMESTAMP = Comparator.comparing(AuditRecord::timestamp);
+
+    private final Path directory;
+    private final int blockRecords;
+    private final long maxBlockAgeMs;
+    private final int retentionDays;
+
+    // Protege o bloco em memória e o segmento aberto: gravação pela thread do pipeline, leitura pelas consultas
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AuditBlockCodec codec = new AuditBlockCodec();
+    private final List<AuditRecord> pending;
+    private final long[] pendingBloom = new long[AuditSegment.BLOOM_WORDS];
+    private long pendingSince;
+    private AuditSegment segment;
+    private boolean closed;
+
+    public AuditSegmentStore(
+            @Value("${app.audit.store.directory:data/audit}") String directory,
+            @Value("${app.audit.store.block-records:128}") int blockRecords,
+            @Value("${app.audit.store.max-block-age-ms:1000}") long maxBlockAgeMs,
+            @Value("${app.audit.store.retention-days:0}") int retentionDays
+    ) {
+        if (blockRecords <= 0 || maxBlockAgeMs < 0 || retentionDays < 0) {
+            throw new IllegalArgumentException("Configuração inválida para o armazenamento da auditoria");
+        }
+
+        this.directory = Path.of(directory).toAbsolutePath();
+        this.blockRecords = blockRecords;
+        this.maxBlockAgeMs = maxBlockAgeMs;
+        this.retentionDays = retentionDays;
+        this.pending = new ArrayList<>(blockRecords);
+    }
+
+    @Override
+    public void write(List<AuditRecord> batch) throws IOException {
+        lock.lock();
+        try {
+            for (AuditRecord record : batch) {
+                final LocalDate day = dayOf(record.timestamp().toEpochMilli());
+                if (segment == null || !segment.day.equals(day)) {
+                    // O bloco em memória é sempre do segmento aberto (evento atrasado da virada do dia troca o segmento)
+                    flushBlock();
+                    openSegment(day);
+                }
+                if (pending.isEmpty()) pendingSince = System.currentTimeMillis();
+
+                pending.add(record);
+                forEachUserId(record, id -> AuditSegment.addToBloom(pendingBloom, id));
+                if (pending.size() >= blockRecords) flushBlock();
+            }
+
+            // Depois do encerramento não há mais chamadas a idle(): cada lote vira um bloco
+            if (closed) flushBlock();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void idle() throws IOException {
+        lock.lock();
+        try {
+            if (!pending.isEmpty() && System.currentTimeMillis() - pendingSince >= maxBlockAgeMs) flushBlock();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (pending.isEmpty()) return;
+
+        try {
+            long minTimestamp = Long.MAX_VALUE;
+            long maxTimestamp = Long.MIN_VALUE;
+            for (AuditRecord record : pending) {
+                final long timestamp = record.timestamp().toEpochMilli();
+                minTimestamp = Math.min(minTimestamp, timestamp);
+                maxTimestamp = Math.max(maxTimestamp, timestamp);
+            }
+
+            codec.encode(pending);
+            segment.append(codec.compressed(), codec.rawLength(), pending.size(), minTimestamp, maxTimestamp, pendingBloom);
+        } catch (IOException e) {
+            log.error("Bloco com {} evento(s) de auditoria descartado: {}", pending.size(), e.getMessage());
+            closeSegment();
+            throw e;
+        } finally {
+            pending.clear();
+            Arrays.fill(pendingBloom, 0);
+        }
+    }
+
+    private void openSegment(LocalDate day) throws IOException {
+        closeSegment();
+        Files.createDirectories(directory);
+        segment = AuditSegment.open(directory, day);
+        deleteExpiredSegments();
+    }
+
+    private void closeSegment() {
+        if (segment == null) return;
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Falha ao fechar o segmento de auditoria de {}: {}", segment.day, e.getMessage());
+        }
+        segment = null;
+    }
+
+    // Roda a cada troca de segmento, ou seja, uma vez por dia
+    private void deleteExpiredSegments() throws IOException {
+        if (retentionDays == 0) return;
+
+        final LocalDate oldest = LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays);
+        for (LocalDate day : days(LocalDate.MIN, oldest.minusDays(1))) {
+            Files.deleteIfExists(AuditSegment.indexFile(directory, day));
+            Files.deleteIfExists(AuditSegment.dataFile(directory, day));
+            log.info("Segmento de auditoria de {} removido pela retenção de {} dias", day, retentionDays);
+        }
+    }
+
+    // Mais recentes primeiro. Dias inteiros fora do período nem são abertos; nos demais, blocos fora do período ou sem
+    // o usuário no filtro de Bloom são pulados pelo índice, e só os restantes são descomprimidos.
+    public AuditQueryResult query(AuditQuery query) throws IOException {
+        final long from = query.from().toEpochMilli();
+        final long to = query.to().toEpochMilli();
+
+        // Bloco em memória e quantas entradas o segmento aberto tinha naquele momento: um bloco gravado depois disso
+        // já está na cópia e não pode ser lido de novo do disco
+        final List<AuditRecord> recent;
+        final LocalDate openDay;
+        final int openEntries;
+        lock.lock();
+        try {
+            recent = List.copyOf(pending);
+            openDay = segment == null ? null : segment.day;
+            openEntries = segment == null ? 0 : segment.entries();
+        } finally {
+            lock.unlock();
+        }
+
+        final var search = new Search(query);
+        for (AuditRecord record : recent) {
+            final long timestamp = record.timestamp().toEpochMilli();
+            if (timestamp >= from && timestamp < to) search.offer(record);
+        }
+
+        int segmentsScanned = 0;
+        int blocksRead = 0;
+        int blocksSkipped = 0;
+        final byte[] needle = query.userId() == null ? null : query.userId().getBytes(StandardCharsets.UTF_8);
+        final Inflater inflater = new Inflater();
+        try {
+            for (LocalDate day : days(dayOf(from), dayOf(to - 1))) {
+                if (search.isFull() && startOf(day.plusDays(1)) <= search.cutoff()) {
+                    // Todo evento desse dia (e dos anteriores) é mais antigo que os já selecionados
+                    search.truncated = true;
+                    break;
+                }
+
+                final AuditSegment.View view = AuditSegment.map(directory, day,
+                        day.equals(openDay) ? openEntries : Integer.MAX_VALUE);
+                if (view == null) continue;
+                segmentsScanned++;
+
+                for (int entry = view.entries() - 1; entry >= 0; entry--) {
+                    final long maxTimestamp = view.maxTimestamp(entry);
+                    if (maxTimestamp < from || view.minTimestamp(entry) >= to
+                            || (query.userId() != null && !view.mightContain(entry, query.userId()))) {
+                        blocksSkipped++;
+                        continue;
+                    }
+                    if (search.isFull() && maxTimestamp <= search.cutoff()) {
+                        search.truncated = true;
+                        blocksSkipped++;
+                        continue;
+                    }
+
+                    AuditBlockCodec.decode(view.block(entry), view.rawLength(entry), inflater, from, to, needle, search::offer);
+                    blocksRead++;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Segmento de auditoria corrompido: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+
+        return new AuditQueryResult(search.events(), search.truncated, segmentsScanned, blocksRead, blocksSkipped);
+    }
+
+    // Os limit eventos mais recentes que passam pelo filtro, num heap com o mais antigo no topo
+    private static final class Search {
+        private final AuditQuery query;
+        private final PriorityQueue<AuditRecord> heap;
+        boolean truncated;
+
+        Search(AuditQuery query) {
+            this.query = query;
+            this.heap = new PriorityQueue<>(Math.min(query.limit(), 64) + 1, BY_TIMESTAMP);
+        }
+
+        void offer(AuditRecord record) {
+            if (query.type() != null && record.type() != query.type()) return;
+            if (query.userId() != null && !mentions(record, query.userId())) return;
+
+            if (!isFull()) {
+                heap.add(record);
+            } else {
+                truncated = true;
+                if (record.timestamp().toEpochMilli() > cutoff()) {
+                    heap.poll();
+                    heap.add(record);
+                }
+            }
+        }
+
+        boolean isFull() {
+            return heap.size() >= query.limit();
+        }
+
+        // Timestamp do mais antigo entre os selecionados: com a lista cheia, só entra evento mais recente que ele
+        long cutoff() {
+            return heap.element().timestamp().toEpochMilli();
+        }
+
+        List<AuditRecord> events() {
+            final List<AuditRecord> events = new ArrayList<>(heap);
+            events.sort(BY_TIMESTAMP.reversed());
+            return events;
+        }
+    }
+
+    // Usuários citados pelo evento: o autor e os UUIDs nos argumentos (ex.: o id do usuário cujos dados foram lidos)
+    static void forEachUserId(AuditRecord record, Consumer<String> consumer) {
+        if (record.principal() != null) consumer.accept(record.principal());
+        for (String argument : record.arguments()) {
+            if (argument == null) continue;
+            for (int i = 0; i + AuditMasker.UUID_LENGTH <= argument.length(); i++) {
+                if (AuditMasker.isUuidAt(argument, i)) {
+                    consumer.accept(argument.substring(i, i + AuditMasker.UUID_LENGTH).toLowerCase(Locale.ROOT));
+                    i += AuditMasker.UUID_LENGTH - 1;
+                }
+            }
+        }
+    }
+
+    // Mesmo critério de forEachUserId, para que o filtro de Bloom nunca recuse um bloco com resultado
+    static boolean mentions(AuditRecord record, String userId) {
+        if (userId.equals(record.principal())) return true;
+        if (userId.length() != AuditMasker.UUID_LENGTH) return false;
+
+        for (String argument : record.arguments()) {
+            if (argument == null) continue;
+            for (int at = argument.indexOf(userId); at >= 0; at = argument.indexOf(userId, at + 1)) {
+                if (AuditMasker.isUuidAt(argument, at)) return true;
+            }
+        }
+        return false;
+    }
+
+    // Dias com segmento em [first, last], do mais recente para o mais antigo
+    private List<LocalDate> days(LocalDate first, LocalDate last) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(AuditSegment.INDEX_EXTENSION))
+                    .map(name -> parseDay(name.substring(0, name.length() - AuditSegment.INDEX_EXTENSION.length())))
+                    .filter(day -> day != null && !day.isBefore(first) && !day.isAfter(last))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+    }
+
+    private static LocalDate parseDay(String name) {
+        try {
+            return LocalDate.parse(name);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate dayOf(long epochMilli) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    private static long startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    // Grava o bloco incompleto; eventos que o AuditPipeline ainda entregar depois disso são gravados lote a lote
+    @PreDestroy
+    void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            flushBlock();
+        } finally {
+            closeSegment();
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import java.util.List;
+
+// Destino dos eventos de auditoria, escolhido por app.audit.sink. Chamado sempre pela mesma thread, com lotes de até
+// app.audit.batch-size eventos; uma exceção descarta o lote e é contada em digibank.audit.events{result=failed}.
+public interface AuditSink {
+    void write(List<AuditRecord> batch) throws Exception;
+
+    // Chamado pela mesma thread quando a fila fica vazia e no encerramento: sinks que acumulam eventos entre lotes
+    // (como o AuditSegmentStore) decidem aqui se gravam o que têm
+    default void idle() throws Exception {
+    }
+}
@@ -0,0 +1,65 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Um evento JSON por linha em app.audit.file, com um único flush por lote
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "file", matchIfMissing = true)
+class FileAuditSink implements AuditSink {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    FileAuditSink(@Value("${app.audit.file:logs/audit.log}") String file) {
+        this.file = Path.of(file).toAbsolutePath();
+    }
+
+    @Override
+    public void write(List<AuditRecord> batch) throws IOException {
+        if (writer == null) {
+            Files.createDirectories(file.getParent());
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        try {
+            for (AuditRecord record : batch) {
+                writer.write(MAPPER.writeValueAsString(record));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // Reabre o arquivo no próximo lote (ex.: disco cheio ou arquivo removido pela rotação de logs)
+            close();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (writer != null) {
+            final BufferedWriter current = writer;
+            writer = null;
+            current.close();
+        }
+    }
+}
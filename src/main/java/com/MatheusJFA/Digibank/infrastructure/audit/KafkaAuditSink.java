@@ -0,0 +1,50 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Publica cada evento como JSON no tópico app.audit.topic, com o usuário como chave: os eventos de um mesmo usuário
+// ficam na mesma partição, em ordem. O lote é enviado de uma vez e o produtor do Kafka agrupa as mensagens;
+// a espera é só pela confirmação do lote inteiro.
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "kafka")
+class KafkaAuditSink implements AuditSink {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final long sendTimeoutMs;
+
+    KafkaAuditSink(
+            KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${app.audit.topic:digibank.security-audit}") String topic,
+            @Value("${app.audit.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @Override
+    public void write(List<AuditRecord> batch) throws Exception {
+        final CompletableFuture<?>[] sends = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < sends.length; i++) {
+            final AuditRecord record = batch.get(i);
+            sends[i] = kafkaTemplate.send(topic, record.principal(), MAPPER.writeValueAsString(record));
+        }
+        CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+}
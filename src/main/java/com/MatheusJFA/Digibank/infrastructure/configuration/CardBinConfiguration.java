@@ -0,0 +1,76 @@
+package com.MatheusJFA.Digibank.infrastructure.configuration;
+
+import com.MatheusJFA.Digibank.domain.dictionaries.CardBins;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Configuration
+@Slf4j
+public class CardBinConfiguration {
+    // Ex.: file:/etc/digibank/card-bins-v2.csv. Vazio mantém a tabela embarcada na aplicação.
+    @Value("${app.cards.bin-table:}")
+    private String binTableLocation;
+
+    private final ResourceLoader resourceLoader;
+
+    // Data de modificação da última versão lida do arquivo (carregada ou recusada); -1 antes da primeira leitura
+    private volatile long loadedModified = -1;
+
+    public CardBinConfiguration(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadConfiguredTable() {
+        if (!configured()) {
+            log.info("Usando a tabela BIN padrão, versão {}", CardBins.version());
+            return;
+        }
+
+        reload();
+    }
+
+    // Novas faixas entram em produção trocando o arquivo: a data de modificação é conferida periodicamente e a
+    // tabela é recarregada quando muda. Um arquivo recusado só é relido depois de alterado de novo.
+    @Scheduled(initialDelayString = "${app.cards.bin-table-poll-ms:30000}", fixedDelayString = "${app.cards.bin-table-poll-ms:30000}")
+    public void reloadIfChanged() {
+        if (!configured()) return;
+
+        try {
+            if (resourceLoader.getResource(binTableLocation).lastModified() != loadedModified) reload();
+        } catch (IOException e) {
+            log.warn("Não foi possível verificar a tabela BIN {}: {}", binTableLocation, e.getMessage());
+        }
+    }
+
+    // Recarrega a tabela configurada sem reiniciar a aplicação; em caso de erro a tabela atual é mantida
+    public void reload() {
+        final Resource resource = resourceLoader.getResource(binTableLocation);
+        try {
+            // Lida antes do conteúdo: uma troca durante a leitura é vista na próxima verificação
+            loadedModified = resource.lastModified();
+        } catch (IOException e) {
+            loadedModified = -1;
+        }
+
+        try (InputStream input = resource.getInputStream()) {
+            final var table = CardBins.reload(input);
+            log.info("Tabela BIN {} carregada, versão {}", binTableLocation, table.version());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Não foi possível carregar a tabela BIN {}: {}", binTableLocation, e.getMessage());
+        }
+    }
+
+    private boolean configured() {
+        return binTableLocation != null && !binTableLocation.isBlank();
+    }
+}
@@ -0,0 +1,465 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserGateway;
+import com.MatheusJFA.Digibank.domain.user.events.UserPasswordChanged;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.persistence.UserJPAGateway;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Cache de leitura em dois níveis na frente do UserJPAGateway para findById, findByEmail e findByCpf:
+//   L1: Caffeine em cada nó (admissão W-TinyLFU, que favorece os usuários mais consultados), com índices
+//       e-mail -> id e CPF -> id apontando para a mesma entrada;
+//   L2: Redis, compartilhado pelo cluster (UserCacheStore).
+// Toda escrita feita pelo gateway remove o usuário do Redis e avisa os nós por pub/sub; de novo depois do commit,
+// para descartar o que tenha sido lido do banco antes dele. O TTL do L1 limita o efeito de uma mensagem perdida.
+// A gravação no Redis depois de uma ida ao banco é condicionada à época lida antes da consulta (UserCacheStore):
+// uma invalidação de outro nó que ainda não chegou aqui por pub/sub não deixa a leitura antiga no L2.
+//
+// O User é mutável: o cache guarda uma cópia própria e cada chamada recebe outra. Falhas do Redis não chegam a quem
+// chama: a consulta segue para o banco.
+//
+// O hash da senha fica fora dos dois níveis, e os usuários devolvidos por findById, findByEmail, findByCpf e
+// findAllBy* vêm sem ele, tenham saído do cache ou do banco. Credenciais são lidas pelo LoginService direto do
+// banco; um usuário sem hash pode ser atualizado (update grava só os campos alterados), mas não gravado por inteiro.
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.user-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserGateway implements UserGateway {
+    private final UserGateway delegate;
+    private final UserCacheStore store;
+
+    private final Cache<UUID, User> users;
+    private final Cache<String, UUID> idsByEmail;
+    private final Cache<Long, UUID> idsByCpf;
+
+    // Incrementado a cada invalidação; uma carga iniciada antes dela não é guardada, pois pode ter lido o estado
+    // anterior à escrita (mesmo critério do UserStatusCache)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter storeErrors;
+    private final Timer redisLoads;
+    private final Timer databaseLoads;
+
+    @Autowired
+    public CachingUserGateway(
+            UserJPAGateway delegate,
+            UserCacheStore store,
+            MeterRegistry meterRegistry,
+            @Value("${app.user-cache.l1-size:10000}") long l1Size,
+            @Value("${app.user-cache.l1-ttl-ms:60000}") long l1TtlMs
+    ) {
+        this((UserGateway) delegate, store, meterRegistry, l1Size, l1TtlMs);
+    }
+
+    CachingUserGateway(UserGateway delegate, UserCacheStore store, MeterRegistry meterRegistry, long l1Size, long l1TtlMs) {
+        if (l1Size <= 0 || l1TtlMs <= 0) {
+            throw new IllegalArgumentException("O tamanho e o TTL do cache de usuários devem ser positivos");
+        }
+
+        this.delegate = delegate;
+        this.store = store;
+
+        final Duration ttl = Duration.ofMillis(l1TtlMs);
+        this.users = Caffeine.newBuilder().maximumSize(l1Size).expireAfterWrite(ttl).build();
+        this.idsByEmail = Caffeine.newBuilder().maximumSize(l1Size).expireAfterWrite(ttl).build();
+        this.idsByCpf = Caffeine.newBuilder().maximumSize(l1Size).expireAfterWrite(ttl).build();
+
+        this.l1Hits = lookups(meterRegistry, "l1", "hit");
+        this.l1Misses = lookups(meterRegistry, "l1", "miss");
+        this.l2Hits = lookups(meterRegistry, "l2", "hit");
+        this.l2Misses = lookups(meterRegistry, "l2", "miss");
+        this.storeErrors = Counter.builder("digibank.users.cache.store.errors")
+                .description("Falhas do Redis no cache de usuários; a consulta seguiu para o banco")
+                .register(meterRegistry);
+        this.redisLoads = loads(meterRegistry, "redis");
+        this.databaseLoads = loads(meterRegistry, "database");
+        Gauge.builder("digibank.users.cache.size", users, Cache::estimatedSize)
+                .description("Usuários no cache em memória deste nó")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("digibank.users.cache.lookups")
+                .description("Consultas ao cache de usuários por nível; hit / (hit + miss) é a taxa de acerto")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer loads(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("digibank.users.cache.load")
+                .description("Tempo para carregar um usuário que não estava no cache em memória")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            store.subscribe(this::evictLocal);
+        } catch (RuntimeException exception) {
+            log.error("Não foi possível assinar as invalidações do cache de usuários: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(lookup(id, () -> delegate.findById(id))).map(CachingUserGateway::copyOf);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        final String key = ValueObjects.email(email).getValue();
+
+        UUID id = idsByEmail.getIfPresent(key);
+        if (id == null) id = fromStore(() -> store.idByEmail(key));
+
+        if (id != null) {
+            final User user = lookup(id, null);
+            if (user != null && user.getEmail().getValue().equals(key)) return Optional.of(copyOf(user));
+        }
+
+        // Índice ausente ou defasado (o e-mail mudou): o banco decide
+        return Optional.ofNullable(load(null, () -> delegate.findByEmail(key))).map(CachingUserGateway::copyOf);
+    }
+
+    @Override
+    public Optional<User> findByCpf(String cpf) {
+        final long key = ValueObjects.cpf(cpf).toLong();
+
+        UUID id = idsByCpf.getIfPresent(key);
+        if (id == null) id = fromStore(() -> store.idByCpf(key));
+
+        if (id != null) {
+            final User user = lookup(id, null);
+            if (user != null && user.getCpf().toLong() == key) return Optional.of(copyOf(user));
+        }
+
+        return Optional.ofNullable(load(null, () -> delegate.findByCpf(cpf))).map(CachingUserGateway::copyOf);
+    }
+
+    // Em lote: os acertos do L1 saem da memória, os demais do Redis em um único MGET e o resto do banco em uma
+    // consulta por bloco de chaves
+    @Override
+    public List<User> findAllByIds(Collection<UUID> ids) {
+        final Set<UUID> keys = new LinkedHashSet<>(ids);
+        final Map<UUID, User> found = new HashMap<>(keys.size() * 4 / 3 + 1);
+        final List<UUID> missing = new ArrayList<>();
+        for (UUID id : keys) {
+            final User cached = users.getIfPresent(id);
+            if (cached != null) {
+                l1Hits.increment();
+                found.put(id, cached);
+            } else {
+                l1Misses.increment();
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) return ordered(keys, found);
+
+        final long observed = generation.get();
+        final long start = System.nanoTime();
+        final List<User> stored = fromStore(() -> store.getAll(missing));
+        final List<UUID> remaining = new ArrayList<>();
+        for (int i = 0; i < missing.size(); i++) {
+            final User user = stored != null ? stored.get(i) : null;
+            if (user != null) {
+                l2Hits.increment();
+                found.put(user.getId(), user);
+                if (generation.get() == observed) remember(user);
+            } else {
+                l2Misses.increment();
+                remaining.add(missing.get(i));
+            }
+        }
+        if (remaining.size() < missing.size()) redisLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!remaining.isEmpty()) {
+            for (User user : loadAll(remaining, () -> delegate.findAllByIds(remaining))) found.put(user.getId(), user);
+        }
+        return ordered(keys, found);
+    }
+
+    // CPFs e e-mails fora do L1 vão direto ao banco: consultar o índice do Redis seria mais uma ida por chave
+    @Override
+    public List<User> findAllByCpfs(Collection<String> cpfs) {
+        final Map<Long, String> keys = new LinkedHashMap<>();
+        for (String cpf : cpfs) keys.putIfAbsent(ValueObjects.cpf(cpf).toLong(), cpf);
+
+        final Map<Long, User> found = new HashMap<>(keys.size() * 4 / 3 + 1);
+        final List<String> missing = new ArrayList<>();
+        for (Map.Entry<Long, String> key : keys.entrySet()) {
+            final UUID id = idsByCpf.getIfPresent(key.getKey());
+            final User cached = id != null ? users.getIfPresent(id) : null;
+            if (cached != null && cached.getCpf().toLong() == key.getKey()) {
+                l1Hits.increment();
+                found.put(key.getKey(), cached);
+            } else {
+                l1Misses.increment();
+                missing.add(key.getValue());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (User user : loadAll(null, () -> delegate.findAllByCpfs(missing))) found.put(user.getCpf().toLong(), user);
+        }
+        return ordered(keys.keySet(), found);
+    }
+
+    @Override
+    public List<User> findAllByEmails(Collection<String> emails) {
+        final Set<String> keys = new LinkedHashSet<>();
+        for (String email : emails) keys.add(ValueObjects.email(email).getValue());
+
+        final Map<String, User> found = new HashMap<>(keys.size() * 4 / 3 + 1);
+        final List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            final UUID id = idsByEmail.getIfPresent(key);
+            final User cached = id != null ? users.getIfPresent(id) : null;
+            if (cached != null && cached.getEmail().getValue().equals(key)) {
+                l1Hits.increment();
+                found.put(key, cached);
+            } else {
+                l1Misses.increment();
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (User user : loadAll(null, () -> delegate.findAllByEmails(missing))) found.put(user.getEmail().getValue(), user);
+        }
+        return ordered(keys, found);
+    }
+
+    @Override
+    public Optional<User> findByPhone(String phone) {
+        return delegate.findByPhone(phone);
+    }
+
+    @Override
+    public Page<User> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public CursorPage<User> findPage(String cursor, int size, boolean includeTotal) {
+        return delegate.findPage(cursor, size, includeTotal);
+    }
+
+    @Override
+    public User save(User user) {
+        final User saved = delegate.save(user);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public User update(User user) {
+        final User updated = delegate.update(user);
+        invalidate(updated.getId());
+        return updated;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        invalidate(id);
+    }
+
+    // L1, depois L2, depois o banco (se database não for null). Devolve a cópia do cache, que não deve escapar.
+    private User lookup(UUID id, Supplier<Optional<User>> database) {
+        final User cached = users.getIfPresent(id);
+        if (cached != null) {
+            l1Hits.increment();
+            return cached;
+        }
+        l1Misses.increment();
+
+        final long observed = generation.get();
+        final long start = System.nanoTime();
+        final User stored = fromStore(() -> store.get(id));
+        if (stored != null) {
+            redisLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            l2Hits.increment();
+            if (generation.get() == observed) remember(stored);
+            return stored;
+        }
+        l2Misses.increment();
+
+        return database != null ? load(id, database) : null;
+    }
+
+    // id null quando a consulta é por e-mail ou CPF: vale a época de todo o cache. Sem época (Redis indisponível),
+    // o usuário fica só no L1.
+    private User load(UUID id, Supplier<Optional<User>> database) {
+        final long observed = generation.get();
+        final Long epoch = fromStore(() -> id != null ? store.epoch(id) : store.epoch());
+        final long start = System.nanoTime();
+        final User loaded = database.get().orElse(null);
+        databaseLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (loaded == null) return null;
+
+        final User copy = withoutPassword(loaded);
+        if (generation.get() == observed) {
+            remember(copy);
+            if (epoch != null) {
+                fromStore(() -> {
+                    store.put(copy, epoch);
+                    return null;
+                });
+            }
+        }
+        return copy;
+    }
+
+    // Como load(), para um lote (ids null nas consultas por e-mail ou CPF); devolve as cópias guardadas no cache
+    private List<User> loadAll(List<UUID> ids, Supplier<List<User>> database) {
+        final long observed = generation.get();
+        final Map<UUID, Long> epochs = ids != null ? fromStore(() -> epochsOf(ids)) : null;
+        final Long epoch = ids == null ? fromStore(store::epoch) : null;
+        final long start = System.nanoTime();
+        final List<User> loaded = database.get();
+        databaseLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        final List<User> copies = new ArrayList<>(loaded.size());
+        for (User user : loaded) copies.add(withoutPassword(user));
+        if (!copies.isEmpty() && generation.get() == observed) {
+            copies.forEach(this::remember);
+            if (epochs != null || epoch != null) {
+                fromStore(() -> {
+                    if (epochs != null) store.putAll(copies, epochs);
+                    else store.putAll(copies, epoch);
+                    return null;
+                });
+            }
+        }
+        return copies;
+    }
+
+    private Map<UUID, Long> epochsOf(List<UUID> ids) {
+        final List<Long> values = store.epochs(ids);
+        final Map<UUID, Long> epochs = new HashMap<>(ids.size() * 4 / 3 + 1);
+        for (int i = 0; i < ids.size(); i++) epochs.put(ids.get(i), values.get(i));
+        return epochs;
+    }
+
+    private static <K> List<User> ordered(Collection<K> keys, Map<K, User> found) {
+        final List<User> result = new ArrayList<>(found.size());
+        for (K key : keys) {
+            final User user = found.get(key);
+            if (user != null) result.add(copyOf(user));
+        }
+        return result;
+    }
+
+    private void remember(User user) {
+        users.put(user.getId(), user);
+        idsByEmail.put(user.getEmail().getValue(), user.getId());
+        idsByCpf.put(user.getCpf().toLong(), user.getId());
+    }
+
+    // Rehash da senha no login, gravado direto no banco
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPasswordChanged(UserPasswordChanged event) {
+        evictLocal(event.userId());
+        publish(event.userId());
+    }
+
+    private void invalidate(UUID id) {
+        evictLocal(id);
+        publish(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(id);
+                    publish(id);
+                }
+            });
+        }
+    }
+
+    private void publish(UUID id) {
+        try {
+            store.invalidate(id);
+        } catch (RuntimeException exception) {
+            storeErrors.increment();
+            log.error("Não foi possível invalidar o usuário {} no cache do cluster: {}", id, exception.getMessage());
+        }
+    }
+
+    // Também chamado pelas mensagens de invalidação, deste e dos outros nós
+    void evictLocal(UUID id) {
+        generation.incrementAndGet();
+        final User cached = users.getIfPresent(id);
+        users.invalidate(id);
+        if (cached != null) {
+            idsByEmail.asMap().remove(cached.getEmail().getValue(), id);
+            idsByCpf.asMap().remove(cached.getCpf().toLong(), id);
+        }
+    }
+
+    private <T> T fromStore(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException exception) {
+            storeErrors.increment();
+            log.warn("Cache de usuários no Redis indisponível: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    static User withoutPassword(User user) {
+        return User.restore(user.getId(), user.getName(), null, user.getEmail(), user.getCpf(), user.getPhone(),
+                user.getBirthDate(), user.isActive(), user.getRole(), user.getLastLogin(), user.getCreatedBy(),
+                user.getCreatedDate(), user.getLastModifiedBy(), user.getLastModifiedDate(),
+                user.getVersion() != null ? user.getVersion() : 0);
+    }
+
+    static User copyOf(User user) {
+        return User.restore(user.getId(), user.getName(), user.getPasswordHash(), user.getEmail(), user.getCpf(),
+                user.getPhone(), user.getBirthDate(), user.isActive(), user.getRole(), user.getLastLogin(),
+                user.getCreatedBy(), user.getCreatedDate(), user.getLastModifiedBy(), user.getLastModifiedDate(),
+                user.getVersion() != null ? user.getVersion() : 0);
+    }
+}
@@ -0,0 +1,210 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// <prefixo>users:id:<id> com o usuário e <prefixo>users:email:<e-mail> / users:cpf:<CPF> com o id, todos com o TTL de
+// spring.cache.redis.time-to-live. <prefixo>users:epoch:<id> (com o mesmo TTL) e <prefixo>users:epoch contam as
+// invalidações. O canal <prefixo>users:invalidations transmite o id de cada usuário alterado.
+@Component
+class RedisUserCacheStore implements UserCacheStore {
+    // Remoção, épocas e publicação no mesmo script: quem recebe a mensagem não encontra mais a versão antiga no Redis,
+    // e uma gravação com a época anterior é recusada
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            redis.call('INCR', KEYS[3])
+            return redis.call('PUBLISH', ARGV[1], ARGV[2])
+            """, Long.class);
+
+    // Quatro chaves por usuário (usuário, época, e-mail, CPF) e três argumentos (época lida, usuário, id) depois do TTL;
+    // grava só os usuários cuja época não mudou desde a leitura e devolve quantos gravou
+    private static final RedisScript<Long> PUT = RedisScript.of("""
+            local stored = 0
+            for i = 0, #KEYS / 4 - 1 do
+              local epoch = redis.call('GET', KEYS[i * 4 + 2]) or '0'
+              if epoch == ARGV[i * 3 + 2] then
+                redis.call('SET', KEYS[i * 4 + 1], ARGV[i * 3 + 3], 'PX', ARGV[1])
+                redis.call('SET', KEYS[i * 4 + 3], ARGV[i * 3 + 4], 'PX', ARGV[1])
+                redis.call('SET', KEYS[i * 4 + 4], ARGV[i * 3 + 4], 'PX', ARGV[1])
+                stored = stored + 1
+              end
+            end
+            return stored
+            """, Long.class);
+
+    private final UserBinaryCodec codec = new UserBinaryCodec();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, User> userTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String prefix;
+    private final String channel;
+    private final String epoch;
+    private final Duration ttl;
+
+    RedisUserCacheStore(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${spring.cache.redis.key-prefix:digibank:cache:}") String keyPrefix,
+            @Value("${spring.cache.redis.time-to-live:600000}") long ttlMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.prefix = keyPrefix + "users:";
+        this.channel = prefix + "invalidations";
+        this.epoch = prefix + "epoch";
+        this.ttl = Duration.ofMillis(ttlMs);
+
+        this.userTemplate = new RedisTemplate<>();
+        userTemplate.setConnectionFactory(connectionFactory);
+        userTemplate.setKeySerializer(RedisSerializer.string());
+        userTemplate.setValueSerializer(codec);
+        userTemplate.afterPropertiesSet();
+    }
+
+    @Override
+    public User get(UUID id) {
+        return userTemplate.opsForValue().get(idKey(id));
+    }
+
+    @Override
+    public UUID idByEmail(String email) {
+        return parse(redisTemplate.opsForValue().get(prefix + "email:" + email));
+    }
+
+    @Override
+    public UUID idByCpf(long cpf) {
+        return parse(redisTemplate.opsForValue().get(prefix + "cpf:" + cpf));
+    }
+
+    @Override
+    public List<User> getAll(List<UUID> ids) {
+        final List<String> keys = new ArrayList<>(ids.size());
+        for (UUID id : ids) keys.add(idKey(id));
+        return userTemplate.opsForValue().multiGet(keys);
+    }
+
+    @Override
+    public long epoch(UUID id) {
+        return parseEpoch(redisTemplate.opsForValue().get(epochKey(id)));
+    }
+
+    @Override
+    public List<Long> epochs(List<UUID> ids) {
+        final List<String> keys = new ArrayList<>(ids.size());
+        for (UUID id : ids) keys.add(epochKey(id));
+        final List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        final List<Long> epochs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) epochs.add(values != null ? parseEpoch(values.get(i)) : 0L);
+        return epochs;
+    }
+
+    @Override
+    public long epoch() {
+        return parseEpoch(redisTemplate.opsForValue().get(epoch));
+    }
+
+    @Override
+    public void put(User user, long epoch) {
+        putAll(List.of(user), Map.of(user.getId(), epoch));
+    }
+
+    @Override
+    public void putAll(Collection<User> users, Map<UUID, Long> epochs) {
+        final List<User> known = new ArrayList<>(users.size());
+        final List<Long> expected = new ArrayList<>(users.size());
+        final List<String> epochKeys = new ArrayList<>(users.size());
+        for (User user : users) {
+            final Long userEpoch = epochs.get(user.getId());
+            if (userEpoch == null) continue;
+            known.add(user);
+            expected.add(userEpoch);
+            epochKeys.add(epochKey(user.getId()));
+        }
+        put(known, expected, epochKeys);
+    }
+
+    @Override
+    public void putAll(Collection<User> users, long epoch) {
+        final List<Long> expected = new ArrayList<>(users.size());
+        final List<String> epochKeys = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            expected.add(epoch);
+            epochKeys.add(this.epoch);
+        }
+        put(users, expected, epochKeys);
+    }
+
+    // Usuários e índices de todos em um único script
+    private void put(Collection<User> users, List<Long> expected, List<String> epochKeys) {
+        if (users.isEmpty()) return;
+
+        final List<String> keys = new ArrayList<>(users.size() * 4);
+        final List<byte[]> args = new ArrayList<>(users.size() * 3 + 1);
+        args.add(bytes(Long.toString(ttl.toMillis())));
+        int i = 0;
+        for (User user : users) {
+            keys.add(idKey(user.getId()));
+            keys.add(epochKeys.get(i));
+            keys.add(prefix + "email:" + user.getEmail().getValue());
+            keys.add(prefix + "cpf:" + user.getCpf().toLong());
+            args.add(bytes(Long.toString(expected.get(i))));
+            args.add(codec.serialize(user));
+            args.add(bytes(user.getId().toString()));
+            i++;
+        }
+        redisTemplate.execute(PUT, RedisSerializer.byteArray(), null, keys, args.toArray());
+    }
+
+    @Override
+    public void invalidate(UUID id) {
+        redisTemplate.execute(INVALIDATE, List.of(idKey(id), epochKey(id), epoch), channel, id.toString(),
+                Long.toString(ttl.toMillis()));
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8))),
+                ChannelTopic.of(channel));
+    }
+
+    private String idKey(UUID id) {
+        return prefix + "id:" + id;
+    }
+
+    private String epochKey(UUID id) {
+        return prefix + "epoch:" + id;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static UUID parse(String id) {
+        return id != null ? UUID.fromString(id) : null;
+    }
+
+    private static long parseEpoch(String epoch) {
+        return epoch != null ? Long.parseLong(epoch) : 0L;
+    }
+}
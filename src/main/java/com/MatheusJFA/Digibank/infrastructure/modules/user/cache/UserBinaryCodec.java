@@ -0,0 +1,200 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+// Formato binário do User no cache do Redis. A serialização Java não serve (BaseEntity não é Serializable: o usuário
+// voltaria com id novo e sem versão) e, mesmo que servisse, grava a descrição das classes em cada entrada.
+//
+// O hash da senha não entra no cache: a entrada fica no Redis compartilhado pelo cluster e nenhuma leitura pelo cache
+// precisa dele (o login lê as credenciais direto do banco). O usuário decodificado vem com o hash null.
+//
+// Versão 2, campos em sequência (a versão 1 incluía o hash da senha):
+//   versão do formato (1 byte), id (16 bytes), flags (1 byte: ativo e presença das datas opcionais),
+//   papel (1 byte, ordinal de Role: papéis novos só no fim do enum), CPF (varlong),
+//   telefone (quantidade de dígitos + 2 dígitos por byte), data de nascimento (dias desde 1970, zigzag),
+//   último login, criação e última alteração (segundos desde 1970 em zigzag + nanos, tratando o LocalDateTime
+//   como UTC apenas para codificar), versão da entidade (varlong) e os textos: nome, e-mail, criado por e
+//   alterado por, em UTF-8 precedidos de varint(tamanho + 1), 0 representa null.
+//
+// Uma entrada de outra versão (gravada por um nó mais novo ou mais antigo durante um deploy) é lida como ausente: o nó
+// busca no banco e regrava no formato que conhece. Mudanças no formato exigem uma nova versão.
+public class UserBinaryCodec implements RedisSerializer<User> {
+    static final byte VERSION = 2;
+
+    private static final Role[] ROLES = Role.values();
+
+    private static final int ACTIVE = 1;
+    private static final int HAS_BIRTH_DATE = 1 << 1;
+    private static final int HAS_LAST_LOGIN = 1 << 2;
+    private static final int HAS_CREATED_DATE = 1 << 3;
+    private static final int HAS_LAST_MODIFIED_DATE = 1 << 4;
+
+    // Versão, id, flags, papel, CPF, telefone, data de nascimento, três datas e versão da entidade no pior caso
+    private static final int FIXED_MAX_SIZE = 1 + 16 + 1 + 1 + 10 + 1 + 8 + 5 + 3 * (10 + 5) + 10;
+
+    @Override
+    public byte[] serialize(User user) {
+        if (user == null) return null;
+
+        final byte[] name = utf8(user.getName());
+        final byte[] email = utf8(user.getEmail().getValue());
+        final byte[] createdBy = utf8(user.getCreatedBy());
+        final byte[] lastModifiedBy = utf8(user.getLastModifiedBy());
+
+        final ByteBuffer out = ByteBuffer.allocate(FIXED_MAX_SIZE + textSize(name) + textSize(email)
+                + textSize(createdBy) + textSize(lastModifiedBy));
+
+        int flags = user.isActive() ? ACTIVE : 0;
+        if (user.getBirthDate() != null) flags |= HAS_BIRTH_DATE;
+        if (user.getLastLogin() != null) flags |= HAS_LAST_LOGIN;
+        if (user.getCreatedDate() != null) flags |= HAS_CREATED_DATE;
+        if (user.getLastModifiedDate() != null) flags |= HAS_LAST_MODIFIED_DATE;
+
+        out.put(VERSION);
+        out.putLong(user.getId().getMostSignificantBits());
+        out.putLong(user.getId().getLeastSignificantBits());
+        out.put((byte) flags);
+        out.put((byte) user.getRole().ordinal());
+        writeVarlong(out, user.getCpf().toLong());
+        writeDigits(out, user.getPhone().getValue());
+        if (user.getBirthDate() != null) writeVarlong(out, zigzag(user.getBirthDate().toEpochDay()));
+        writeDateTime(out, user.getLastLogin());
+        writeDateTime(out, user.getCreatedDate());
+        writeDateTime(out, user.getLastModifiedDate());
+        writeVarlong(out, user.getVersion() != null ? user.getVersion() : 0);
+        writeText(out, name);
+        writeText(out, email);
+        writeText(out, createdBy);
+        writeText(out, lastModifiedBy);
+
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    @Override
+    public User deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] != VERSION) return null;
+
+        try {
+            final ByteBuffer in = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            final UUID id = new UUID(in.getLong(), in.getLong());
+            final int flags = in.get();
+            final Role role = ROLES[in.get()];
+            final long cpf = readVarlong(in);
+            final String phone = readDigits(in);
+            final LocalDate birthDate = (flags & HAS_BIRTH_DATE) != 0 ? LocalDate.ofEpochDay(unzigzag(readVarlong(in))) : null;
+            final LocalDateTime lastLogin = (flags & HAS_LAST_LOGIN) != 0 ? readDateTime(in) : null;
+            final LocalDateTime createdDate = (flags & HAS_CREATED_DATE) != 0 ? readDateTime(in) : null;
+            final LocalDateTime lastModifiedDate = (flags & HAS_LAST_MODIFIED_DATE) != 0 ? readDateTime(in) : null;
+            final long version = readVarlong(in);
+            final String name = readText(in);
+            final String email = readText(in);
+            final String createdBy = readText(in);
+            final String lastModifiedBy = readText(in);
+
+            return User.restore(id, name, null, ValueObjects.restoredEmail(email), ValueObjects.restoredCpf(cpf),
+                    ValueObjects.restoredPhone(phone), birthDate, (flags & ACTIVE) != 0, role, lastLogin, createdBy,
+                    createdDate, lastModifiedBy, lastModifiedDate, version);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new SerializationException("Entrada de usuário inválida no cache", exception);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int textSize(byte[] text) {
+        return 5 + (text != null ? text.length : 0);
+    }
+
+    private static void writeText(ByteBuffer out, byte[] text) {
+        if (text == null) {
+            writeVarlong(out, 0);
+            return;
+        }
+        writeVarlong(out, text.length + 1);
+        out.put(text);
+    }
+
+    private static String readText(ByteBuffer in) {
+        final int length = (int) readVarlong(in) - 1;
+        if (length < 0) return null;
+
+        final int position = in.position();
+        in.position(position + length);
+        return new String(in.array(), position, length, StandardCharsets.UTF_8);
+    }
+
+    // Telefone sem máscara (até 15 dígitos): a quantidade e dois dígitos por byte, o primeiro no nibble alto
+    private static void writeDigits(ByteBuffer out, String digits) {
+        final int length = digits.length();
+        out.put((byte) length);
+        for (int i = 0; i < length; i += 2) {
+            final int high = digits.charAt(i) - '0';
+            final int low = i + 1 < length ? digits.charAt(i + 1) - '0' : 0;
+            out.put((byte) (high << 4 | low));
+        }
+    }
+
+    private static String readDigits(ByteBuffer in) {
+        final char[] digits = new char[in.get()];
+        for (int i = 0; i < digits.length; i += 2) {
+            final int packed = in.get();
+            digits[i] = (char) ('0' + (packed >> 4 & 0xF));
+            if (i + 1 < digits.length) digits[i + 1] = (char) ('0' + (packed & 0xF));
+        }
+        return new String(digits);
+    }
+
+    private static void writeDateTime(ByteBuffer out, LocalDateTime value) {
+        if (value == null) return;
+        writeVarlong(out, zigzag(value.toEpochSecond(ZoneOffset.UTC)));
+        writeVarlong(out, value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        final long seconds = unzigzag(readVarlong(in));
+        return LocalDateTime.ofEpochSecond(seconds, (int) readVarlong(in), ZoneOffset.UTC);
+    }
+
+    private static void writeVarlong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarlong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint maior que 64 bits");
+    }
+
+    // Datas anteriores a 1970 viram números pequenos em vez de varints de 10 bytes
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
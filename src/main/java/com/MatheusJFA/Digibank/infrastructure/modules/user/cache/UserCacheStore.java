@@ -0,0 +1,48 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Segundo nível do cache de usuários, compartilhado pelo cluster, e o canal que avisa os nós de cada escrita.
+// Cada usuário fica sob o id; e-mail e CPF apontam para o id e podem ficar defasados (quem lê confere o valor).
+interface UserCacheStore {
+    // null quando não está no cache
+    User get(UUID id);
+
+    // Uma ida ao Redis para todos os ids; a lista segue a ordem de ids, com null para os ausentes
+    List<User> getAll(List<UUID> ids);
+
+    UUID idByEmail(String email);
+
+    UUID idByCpf(long cpf);
+
+    // Épocas, incrementadas por invalidate: a do usuário e a de todo o cache. Quem vai ao banco lê a época antes
+    // da consulta e a passa para a gravação, que só acontece se ela não mudou; assim uma leitura anterior a uma
+    // escrita de outro nó não volta ao Redis, mesmo que o aviso desse nó ainda não tenha chegado por pub/sub.
+    long epoch(UUID id);
+
+    // Na ordem de ids
+    List<Long> epochs(List<UUID> ids);
+
+    // Para cargas em que o id só é conhecido depois da consulta (por e-mail ou CPF)
+    long epoch();
+
+    // Grava o usuário e os índices por e-mail e CPF se epoch(id) ainda for a época informada
+    void put(User user, long epoch);
+
+    // Como put, com a época de cada usuário lida de epochs
+    void putAll(Collection<User> users, Map<UUID, Long> epochs);
+
+    // Como put, para todos os usuários, se epoch() ainda for a época informada
+    void putAll(Collection<User> users, long epoch);
+
+    // Remove o usuário, incrementa as épocas e publica o id para todos os nós, inclusive este
+    void invalidate(UUID id);
+
+    void subscribe(Consumer<UUID> listener);
+}
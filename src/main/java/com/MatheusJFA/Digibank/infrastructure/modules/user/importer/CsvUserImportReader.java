@@ -0,0 +1,127 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV com cabeçalho (RFC 4180: campos entre aspas, "" como aspas escapadas). As colunas são localizadas pelo nome:
+//   obrigatórias: name, email, cpf, phone, birth_date
+//   opcionais:    role, password_hash
+class CsvUserImportReader implements UserImportReader {
+    private final BufferedReader reader;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+
+    private final int name;
+    private final int email;
+    private final int cpf;
+    private final int phone;
+    private final int birthDate;
+    private final int role;
+    private final int passwordHash;
+    private final int columns;
+
+    private long line = 1;
+
+    CsvUserImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        final String header = reader.readLine();
+        if (header == null) {
+            throw new IOException("O arquivo CSV de importação está vazio");
+        }
+
+        final List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        this.columns = names.size();
+        this.name = required(names, "name");
+        this.email = required(names, "email");
+        this.cpf = required(names, "cpf");
+        this.phone = required(names, "phone");
+        this.birthDate = required(names, "birth_date");
+        this.role = names.indexOf("role");
+        this.passwordHash = names.indexOf("password_hash");
+    }
+
+    private static int required(List<String> names, String column) throws IOException {
+        final int index = names.indexOf(column);
+        if (index < 0) {
+            throw new IOException("A coluna obrigatória '" + column + "' não existe no cabeçalho do CSV");
+        }
+        return index;
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) return null;
+            line++;
+        } while (text.isBlank());
+
+        final List<String> values;
+        try {
+            values = split(text);
+        } catch (IllegalArgumentException e) {
+            return UserImportRow.malformed(line, e.getMessage());
+        }
+
+        if (values.size() != columns) {
+            return UserImportRow.malformed(line, "Esperadas " + columns + " colunas, encontradas " + values.size());
+        }
+
+        return new UserImportRow(
+                line,
+                values.get(name),
+                values.get(email),
+                values.get(cpf),
+                values.get(phone),
+                values.get(birthDate),
+                role < 0 ? null : values.get(role),
+                passwordHash < 0 ? null : values.get(passwordHash),
+                null
+        );
+    }
+
+    // Separa uma linha em campos; aspas não podem atravessar linhas
+    private List<String> split(String text) {
+        fields.clear();
+        field.setLength(0);
+
+        boolean quoted = false;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            final char c = text.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < length && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Aspas não fechadas na linha " + line);
+        }
+
+        fields.add(field.toString().trim());
+        return new ArrayList<>(fields);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
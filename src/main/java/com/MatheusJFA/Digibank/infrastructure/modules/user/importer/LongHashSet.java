@@ -0,0 +1,70 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+// Conjunto de longs com endereçamento aberto, sem boxing: cerca de 16 bytes por elemento contra ~60 de um HashSet<Long>.
+// Usa 0 como marcador de posição vazia, então o valor 0 é guardado à parte.
+final class LongHashSet {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.table = new long[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long value) {
+        if (value == 0) return containsZero;
+
+        final int mask = table.length - 1;
+        for (int index = mix(value) & mask; ; index = (index + 1) & mask) {
+            final long current = table[index];
+            if (current == value) return true;
+            if (current == 0) return false;
+        }
+    }
+
+    // Retorna false quando o valor já estava no conjunto
+    boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        final int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != 0) {
+            if (table[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+
+        table[index] = value;
+        if (++size > table.length * LOAD_FACTOR) grow();
+        return true;
+    }
+
+    private void grow() {
+        final long[] previous = table;
+        table = new long[previous.length << 1];
+        final int mask = table.length - 1;
+
+        for (long value : previous) {
+            if (value == 0) continue;
+            int index = mix(value) & mask;
+            while (table[index] != 0) index = (index + 1) & mask;
+            table[index] = value;
+        }
+    }
+
+    private static int mix(long value) {
+        final long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,63 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// Um objeto JSON por linha, com os mesmos campos do CSV (birth_date também é aceito como birthDate)
+class NdjsonUserImportReader implements UserImportReader {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private long line;
+
+    NdjsonUserImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) return null;
+            line++;
+        } while (text.isBlank());
+
+        final JsonNode node;
+        try {
+            node = MAPPER.readTree(text);
+        } catch (JsonProcessingException e) {
+            return UserImportRow.malformed(line, "JSON inválido: " + e.getOriginalMessage());
+        }
+
+        if (!node.isObject()) {
+            return UserImportRow.malformed(line, "Cada linha deve conter um objeto JSON");
+        }
+
+        return new UserImportRow(
+                line,
+                text(node, "name"),
+                text(node, "email"),
+                text(node, "cpf"),
+                text(node, "phone"),
+                node.has("birth_date") ? text(node, "birth_date") : text(node, "birthDate"),
+                text(node, "role"),
+                node.has("password_hash") ? text(node, "password_hash") : text(node, "passwordHash"),
+                null
+        );
+    }
+
+    private static String text(JsonNode node, String field) {
+        final JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Grava as linhas rejeitadas em um CSV (linha,motivo,mensagem) à medida que a importação avança
+public class RejectsFileListener implements UserImportListener, Closeable {
+    private final BufferedWriter writer;
+
+    public RejectsFileListener(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        this.writer.write("line,reason,message");
+        this.writer.newLine();
+    }
+
+    @Override
+    public void onReject(UserImportReject reject) {
+        try {
+            writer.write(Long.toString(reject.line()));
+            writer.write(',');
+            writer.write(reject.reason().name());
+            writer.write(',');
+            writer.write(quote(reject.message()));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,224 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+
+// Importação em massa de usuários a partir de CSV ou NDJSON.
+//
+// O arquivo é lido em lotes de chunkSize linhas na thread chamadora. Cada lote é validado em paralelo por um pool
+// de parallelism threads e gravado, na ordem do arquivo, também pela thread chamadora: deduplicação contra o próprio
+// arquivo, consulta dos CPFs e e-mails já cadastrados e inserção JDBC em lotes de batchSize.
+// No máximo 2 * parallelism lotes ficam em memória ao mesmo tempo, independente do tamanho do arquivo.
+@Component
+@Slf4j
+public class UserBulkImporter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int batchSize;
+    private final ToLongFunction<String> fingerprint;
+
+    @Autowired
+    public UserBulkImporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.users.import.chunk-size:5000}") int chunkSize,
+            @Value("${app.users.import.parallelism:0}") int parallelism,
+            @Value("${app.users.import.batch-size:1000}") int batchSize
+    ) {
+        this(jdbcTemplate, transactionManager, chunkSize, parallelism, batchSize, UserBulkImporter::fingerprint);
+    }
+
+    UserBulkImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, int chunkSize,
+                     int parallelism, int batchSize, ToLongFunction<String> fingerprint) {
+        if (chunkSize <= 0 || batchSize <= 0 || parallelism < 0) {
+            throw new IllegalArgumentException("Os tamanhos de lote devem ser positivos e o paralelismo não pode ser negativo");
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.batchSize = batchSize;
+        this.fingerprint = fingerprint;
+    }
+
+    public UserImportReport importFile(Path file, UserImportListener listener) throws IOException {
+        return importFile(file, UserImportFormat.fromFileName(file), listener);
+    }
+
+    public UserImportReport importFile(Path file, UserImportFormat format, UserImportListener listener) throws IOException {
+        log.info("Iniciando importação de usuários de {} ({}), {} threads de validação", file, format, parallelism);
+
+        final var run = new Run(listener, new UserImportWriter(jdbcTemplate, transactionTemplate, batchSize), fingerprint);
+        final ExecutorService validators = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("user-import-", 0).daemon().factory());
+
+        try (UserImportReader reader = UserImportReader.open(file, format)) {
+            final Deque<Future<UserImportValidator.Chunk>> pending = new ArrayDeque<>();
+            final int maxPending = parallelism * 2;
+
+            List<UserImportRow> rows = new ArrayList<>(chunkSize);
+            UserImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+                if (rows.size() < chunkSize) continue;
+
+                final List<UserImportRow> chunk = rows;
+                pending.add(validators.submit(() -> UserImportValidator.validate(chunk)));
+                rows = new ArrayList<>(chunkSize);
+
+                if (pending.size() >= maxPending) run.write(await(pending.poll()));
+            }
+
+            if (!rows.isEmpty()) {
+                final List<UserImportRow> chunk = rows;
+                pending.add(validators.submit(() -> UserImportValidator.validate(chunk)));
+            }
+
+            while (!pending.isEmpty()) {
+                run.write(await(pending.poll()));
+            }
+        } finally {
+            validators.shutdownNow();
+        }
+
+        final UserImportReport report = run.report();
+        log.info("Importação de {} concluída: {} linhas, {} importadas, {} rejeitadas em {} ms ({} linhas/s)",
+                file, report.read(), report.imported(), report.rejected(), report.elapsed().toMillis(),
+                Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    private static UserImportValidator.Chunk await(Future<UserImportValidator.Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Falha ao validar um lote da importação", e.getCause());
+        }
+    }
+
+    // FNV-1a de 64 bits sobre os caracteres do e-mail
+    private static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Estado de uma importação; acessado apenas pela thread chamadora
+    private static final class Run {
+        private final UserImportListener listener;
+        private final UserImportWriter writer;
+        private final ToLongFunction<String> fingerprint;
+        private final long start = System.nanoTime();
+
+        // CPFs cabem em um long; para os e-mails guardamos uma impressão digital de 64 bits em vez da String,
+        // o que mantém milhões de linhas em poucas dezenas de MB. Uma impressão já vista não basta para recusar a
+        // linha, pois pode ser colisão: a repetição é confirmada pela String, ver isRepeatedEmail.
+        private final LongHashSet seenCpfs = new LongHashSet(1 << 16);
+        private final LongHashSet seenEmails = new LongHashSet(1 << 16);
+
+        // E-mails de linhas recusadas como já cadastradas que não chegaram ao banco (o conflito era só o CPF).
+        // Costuma ser pequeno, e é o que falta para confirmar uma repetição de lote anterior consultando o banco.
+        private final Set<String> rejectedEmails = new HashSet<>();
+
+        private long read;
+        private long imported;
+        private long rejected;
+
+        private Run(UserImportListener listener, UserImportWriter writer, ToLongFunction<String> fingerprint) {
+            this.listener = listener;
+            this.writer = writer;
+            this.fingerprint = fingerprint;
+        }
+
+        private void write(UserImportValidator.Chunk chunk) {
+            read += chunk.users().size() + chunk.rejects().size();
+            chunk.rejects().forEach(this::reject);
+
+            final List<ValidatedUser> unique = new ArrayList<>(chunk.users().size());
+            final Set<String> chunkEmails = new HashSet<>();
+            for (ValidatedUser user : chunk.users()) {
+                final long cpf = user.cpf().toLong();
+                final String emailValue = user.email().getValue();
+                final long email = fingerprint.applyAsLong(emailValue);
+
+                if (seenCpfs.contains(cpf)) {
+                    reject(user, UserImportReject.Reason.DUPLICATE_IN_FILE, "CPF repetido no arquivo");
+                } else if (seenEmails.contains(email) && isRepeatedEmail(emailValue, chunkEmails)) {
+                    reject(user, UserImportReject.Reason.DUPLICATE_IN_FILE, "E-mail repetido no arquivo");
+                } else {
+                    seenCpfs.add(cpf);
+                    seenEmails.add(email);
+                    chunkEmails.add(emailValue);
+                    unique.add(user);
+                }
+            }
+
+            final UserImportWriter.Existing existing = writer.findExisting(unique);
+            final List<ValidatedUser> toInsert = new ArrayList<>(unique.size());
+            for (ValidatedUser user : unique) {
+                if (existing.contains(user)) {
+                    if (!existing.emails().contains(user.email().getValue())) rejectedEmails.add(user.email().getValue());
+                    reject(user, UserImportReject.Reason.ALREADY_EXISTS, "CPF ou e-mail já cadastrado");
+                } else {
+                    toInsert.add(user);
+                }
+            }
+
+            imported += writer.insert(toInsert, user -> {
+                rejectedEmails.add(user.email().getValue());
+                reject(user, UserImportReject.Reason.ALREADY_EXISTS, "CPF ou e-mail cadastrado durante a importação");
+            });
+
+            listener.onProgress(report());
+        }
+
+        // Confirma pela String uma impressão digital já vista. A primeira ocorrência está no lote atual, foi gravada
+        // por um lote anterior ou recusada por ele como já cadastrada; se não está em nenhum dos três, foi colisão.
+        // Só repetições reais e colisões chegam aqui, então a consulta ao banco é rara.
+        private boolean isRepeatedEmail(String email, Set<String> chunkEmails) {
+            return chunkEmails.contains(email) || rejectedEmails.contains(email) || writer.emailExists(email);
+        }
+
+        private void reject(ValidatedUser user, UserImportReject.Reason reason, String message) {
+            reject(new UserImportReject(user.line(), reason, message));
+        }
+
+        private void reject(UserImportReject reject) {
+            rejected++;
+            listener.onReject(reject);
+        }
+
+        private UserImportReport report() {
+            return new UserImportReport(read, imported, rejected, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// Executa a importação na subida da aplicação quando app.users.import.file é informado, ex.:
+//   java -jar app.jar --app.users.import.file=/data/clientes.csv
+// As linhas rejeitadas vão para app.users.import.rejects-file (padrão: <arquivo>.rejects.csv).
+@Component
+@ConditionalOnProperty("app.users.import.file")
+@Slf4j
+public class UserImportCommand implements ApplicationRunner {
+    private final UserBulkImporter importer;
+
+    @Value("${app.users.import.file}")
+    private String file;
+
+    @Value("${app.users.import.rejects-file:}")
+    private String rejectsFile;
+
+    public UserImportCommand(UserBulkImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        final Path input = Path.of(file);
+        final Path rejects = rejectsFile.isBlank() ? Path.of(file + ".rejects.csv") : Path.of(rejectsFile);
+
+        try (var rejectsListener = new RejectsFileListener(rejects)) {
+            importer.importFile(input, new UserImportListener() {
+                @Override
+                public void onProgress(UserImportReport report) {
+                    log.info("Importação em andamento: {} linhas, {} importadas, {} rejeitadas ({} linhas/s)",
+                            report.read(), report.imported(), report.rejected(), Math.round(report.rowsPerSecond()));
+                }
+
+                @Override
+                public void onReject(UserImportReject reject) {
+                    rejectsListener.onReject(reject);
+                }
+            });
+        }
+
+        log.info("Linhas rejeitadas gravadas em {}", rejects);
+    }
+}
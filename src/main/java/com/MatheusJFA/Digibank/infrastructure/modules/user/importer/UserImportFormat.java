@@ -0,0 +1,19 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum UserImportFormat {
+    CSV,
+    NDJSON;
+
+    // Deduz o formato pela extensão do arquivo (.csv, .ndjson ou .jsonl)
+    public static UserImportFormat fromFileName(Path file) {
+        final String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return NDJSON;
+
+        throw new IllegalArgumentException("Formato de importação não reconhecido para o arquivo " + file);
+    }
+}
@@ -0,0 +1,14 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+// Recebe o progresso e as linhas rejeitadas da importação. As chamadas vêm sempre da thread que grava os lotes,
+// um lote por vez e na ordem do arquivo, então implementações não precisam ser thread-safe.
+public interface UserImportListener {
+    UserImportListener NONE = new UserImportListener() {
+    };
+
+    default void onProgress(UserImportReport report) {
+    }
+
+    default void onReject(UserImportReject reject) {
+    }
+}
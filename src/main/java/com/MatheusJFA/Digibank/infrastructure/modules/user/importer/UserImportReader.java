@@ -0,0 +1,27 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Lê o arquivo de importação uma linha por vez; apenas a linha corrente fica em memória
+public interface UserImportReader extends Closeable {
+    // Próxima linha do arquivo, ou null ao final
+    UserImportRow next() throws IOException;
+
+    static UserImportReader open(Path file, UserImportFormat format) throws IOException {
+        final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return switch (format) {
+                case CSV -> new CsvUserImportReader(reader);
+                case NDJSON -> new NdjsonUserImportReader(reader);
+            };
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+public record UserImportReject(long line, Reason reason, String message) {
+    public enum Reason {
+        MALFORMED,
+        INVALID_FIELD,
+        DUPLICATE_IN_FILE,
+        ALREADY_EXISTS
+    }
+}
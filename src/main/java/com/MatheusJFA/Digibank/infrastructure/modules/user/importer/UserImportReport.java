@@ -0,0 +1,11 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import java.time.Duration;
+
+// Situação da importação: enviada aos listeners a cada lote gravado e devolvida ao final
+public record UserImportReport(long read, long imported, long rejected, Duration elapsed) {
+    public double rowsPerSecond() {
+        final long millis = elapsed.toMillis();
+        return millis == 0 ? read : read * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,23 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+// Linha do arquivo de importação ainda sem validação. Quando a linha não pôde ser lida (CSV com colunas
+// faltando, JSON inválido), error descreve o problema e os demais campos podem estar nulos.
+public record UserImportRow(
+        long line,
+        String name,
+        String email,
+        String cpf,
+        String phone,
+        String birthDate,
+        String role,
+        String passwordHash,
+        String error
+) {
+    static UserImportRow malformed(long line, String error) {
+        return new UserImportRow(line, null, null, null, null, null, null, null, error);
+    }
+
+    boolean isMalformed() {
+        return error != null;
+    }
+}
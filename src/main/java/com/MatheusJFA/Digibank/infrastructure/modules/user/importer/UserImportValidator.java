@@ -0,0 +1,104 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidCPFException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidEmailException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidPhoneException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// Valida um lote de linhas com as mesmas regras dos objetos de valor do domínio.
+// Não tem estado, então vários lotes podem ser validados em paralelo.
+final class UserImportValidator {
+    // Nunca corresponde a um hash BCrypt: usuários importados sem senha precisam redefini-la antes do primeiro login
+    static final String UNSET_PASSWORD_HASH = "!";
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private UserImportValidator() {
+    }
+
+    record Chunk(List<ValidatedUser> users, List<UserImportReject> rejects) {
+    }
+
+    static Chunk validate(List<UserImportRow> rows) {
+        final List<ValidatedUser> users = new ArrayList<>(rows.size());
+        final List<UserImportReject> rejects = new ArrayList<>();
+
+        for (UserImportRow row : rows) {
+            if (row.isMalformed()) {
+                rejects.add(new UserImportReject(row.line(), UserImportReject.Reason.MALFORMED, row.error()));
+                continue;
+            }
+
+            try {
+                users.add(validate(row));
+            } catch (InvalidCPFException | InvalidEmailException | InvalidPhoneException | IllegalArgumentException e) {
+                rejects.add(new UserImportReject(row.line(), UserImportReject.Reason.INVALID_FIELD, e.getMessage()));
+            }
+        }
+
+        return new Chunk(users, rejects);
+    }
+
+    private static ValidatedUser validate(UserImportRow row) {
+        final String name = row.name() == null ? "" : row.name().trim();
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("O nome deve ter entre 1 e " + MAX_NAME_LENGTH + " caracteres");
+        }
+
+        final String passwordHash = row.passwordHash() == null || row.passwordHash().isBlank()
+                ? UNSET_PASSWORD_HASH
+                : row.passwordHash();
+
+        return new ValidatedUser(
+                row.line(),
+                UUID.randomUUID(),
+                name,
+                passwordHash,
+                ValueObjects.email(row.email()),
+                ValueObjects.cpf(row.cpf()),
+                ValueObjects.phone(row.phone()),
+                parseBirthDate(row.birthDate()),
+                parseRole(row.role())
+        );
+    }
+
+    // Aceita ISO (1990-01-31) e o formato brasileiro (31/01/1990)
+    private static LocalDate parseBirthDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("A data de nascimento não pode ser nula ou vazia");
+        }
+
+        try {
+            final LocalDate date = value.indexOf('/') >= 0
+                    ? LocalDate.parse(value.trim(), BRAZILIAN_DATE)
+                    : LocalDate.parse(value.trim());
+
+            if (date.isAfter(LocalDate.now())) {
+                throw new IllegalArgumentException("A data de nascimento não pode estar no futuro");
+            }
+            return date;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida: " + value);
+        }
+    }
+
+    private static Role parseRole(String value) {
+        if (value == null || value.isBlank()) return Role.USER;
+
+        try {
+            return Role.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Papel desconhecido: " + value);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Acesso JDBC da importação: consulta de CPFs e e-mails já cadastrados e inserção em lotes.
+// No PostgreSQL, reWriteBatchedInserts=true na URL faz o driver enviar cada lote como um único INSERT multi-valores.
+class UserImportWriter {
+    static final String CREATED_BY = "user-import";
+
+    // Consultas separadas para que cada uma use o índice único da sua coluna
+    private static final String EXISTING_CPFS_SQL = "SELECT cpf FROM users WHERE cpf = ANY(?)";
+    private static final String EXISTING_EMAILS_SQL = "SELECT email FROM users WHERE email = ANY(?)";
+    private static final String EMAIL_EXISTS_SQL = "SELECT COUNT(*) FROM users WHERE email = ?";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, name, password_hash, email, cpf, phone, birth_date, is_active, role,
+                               created_by, created_date, last_modified_by, last_modified_date, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    UserImportWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    record Existing(LongHashSet cpfs, Set<String> emails) {
+        boolean contains(ValidatedUser user) {
+            return cpfs.contains(user.cpf().toLong()) || emails.contains(user.email().getValue());
+        }
+    }
+
+    // Duas consultas por lote, com os CPFs e e-mails enviados como arrays
+    Existing findExisting(List<ValidatedUser> users) {
+        final var cpfs = new LongHashSet(16);
+        final Set<String> emails = new HashSet<>();
+        if (users.isEmpty()) return new Existing(cpfs, emails);
+
+        final Long[] cpfValues = new Long[users.size()];
+        final String[] emailValues = new String[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            cpfValues[i] = users.get(i).cpf().toLong();
+            emailValues[i] = users.get(i).email().getValue();
+        }
+
+        jdbcTemplate.query(EXISTING_CPFS_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", cpfValues)),
+                resultSet -> {
+                    cpfs.add(resultSet.getLong(1));
+                });
+        jdbcTemplate.query(EXISTING_EMAILS_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("varchar", emailValues)),
+                resultSet -> {
+                    emails.add(resultSet.getString(1));
+                });
+
+        return new Existing(cpfs, emails);
+    }
+
+    boolean emailExists(String email) {
+        final Long count = jdbcTemplate.queryForObject(EMAIL_EXISTS_SQL, Long.class, email);
+        return count != null && count > 0;
+    }
+
+    // Insere o lote em uma transação. Se outro processo cadastrou algum dos usuários entre a consulta e a inserção,
+    // o lote é refeito linha a linha e os conflitos são entregues a onConflict.
+    int insert(List<ValidatedUser> users, Consumer<ValidatedUser> onConflict) {
+        if (users.isEmpty()) return 0;
+
+        final var now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, (statement, user) -> bind(statement, user, now)));
+            return users.size();
+        } catch (DuplicateKeyException e) {
+            int inserted = 0;
+            for (ValidatedUser user : users) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, user, now)));
+                    inserted++;
+                } catch (DuplicateKeyException conflict) {
+                    onConflict.accept(user);
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ValidatedUser user, Timestamp now) throws SQLException {
+        statement.setObject(1, user.id());
+        statement.setString(2, user.name());
+        statement.setString(3, user.passwordHash());
+        statement.setString(4, user.email().getValue());
+        statement.setLong(5, user.cpf().toLong());
+        statement.setString(6, user.phone().getValue());
+        statement.setDate(7, Date.valueOf(user.birthDate()));
+        statement.setString(8, user.role().name());
+        statement.setString(9, CREATED_BY);
+        statement.setTimestamp(10, now);
+        statement.setString(11, CREATED_BY);
+        statement.setTimestamp(12, now);
+    }
+}
@@ -0,0 +1,22 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.Email;
+import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+record ValidatedUser(
+        long line,
+        UUID id,
+        String name,
+        String passwordHash,
+        Email email,
+        CPF cpf,
+        Phone phone,
+        LocalDate birthDate,
+        Role role
+) {
+}
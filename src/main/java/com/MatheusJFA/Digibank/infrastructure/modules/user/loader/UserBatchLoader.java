@@ -0,0 +1,85 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.loader;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserGateway;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+// Carregador de usuários por requisição, no estilo DataLoader. load() não consulta nada: registra o id e devolve um
+// CompletableFuture. dispatch() resolve todos os ids pendentes, de qualquer thread da requisição, com uma única
+// chamada a findAllByIds. Quem monta um extrato ou uma lista de transferências pede cada usuário onde precisa dele
+// e faz uma consulta no lugar de uma por linha.
+//
+// Cada id é buscado uma vez por requisição e todos os pedidos recebem o mesmo User: uma alteração feita por um
+// trecho é vista pelos outros, como aconteceria com a sessão do JPA. Falhas não são memorizadas.
+@Component
+@RequestScope
+public class UserBatchLoader {
+    private final UserGateway userGateway;
+
+    private final Map<UUID, CompletableFuture<Optional<User>>> futures = new HashMap<>();
+    private List<UUID> pending = new ArrayList<>();
+
+    public UserBatchLoader(UserGateway userGateway) {
+        this.userGateway = userGateway;
+    }
+
+    public synchronized CompletableFuture<Optional<User>> load(UUID id) {
+        CompletableFuture<Optional<User>> future = futures.get(id);
+        if (future == null) {
+            future = new CompletableFuture<>();
+            futures.put(id, future);
+            pending.add(id);
+        }
+        return future;
+    }
+
+    public synchronized List<CompletableFuture<Optional<User>>> loadMany(Collection<UUID> ids) {
+        final List<CompletableFuture<Optional<User>>> loaded = new ArrayList<>(ids.size());
+        for (UUID id : ids) loaded.add(load(id));
+        return loaded;
+    }
+
+    // Atalho para quem precisa do usuário agora: resolve também tudo o que estava pendente
+    public Optional<User> get(UUID id) {
+        final CompletableFuture<Optional<User>> future = load(id);
+        dispatch();
+        return future.join();
+    }
+
+    public void dispatch() {
+        final List<UUID> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+
+        final Map<UUID, User> found = new HashMap<>(batch.size() * 4 / 3 + 1);
+        try {
+            for (User user : userGateway.findAllByIds(batch)) found.put(user.getId(), user);
+        } catch (RuntimeException exception) {
+            synchronized (this) {
+                for (UUID id : batch) futures.remove(id).completeExceptionally(exception);
+            }
+            throw exception;
+        }
+
+        final List<CompletableFuture<Optional<User>>> completed = new ArrayList<>(batch.size());
+        synchronized (this) {
+            for (UUID id : batch) completed.add(futures.get(id));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            completed.get(i).complete(Optional.ofNullable(found.get(batch.get(i))));
+        }
+    }
+}
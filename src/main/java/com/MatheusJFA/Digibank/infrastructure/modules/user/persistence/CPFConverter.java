@@ -0,0 +1,21 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Persiste o CPF como bigint: 8 bytes por linha e por entrada do índice único, contra os 12 bytes do varchar(11).
+// Na leitura o valor não é validado de novo: só entra no banco depois de validado.
+@Converter
+public class CPFConverter implements AttributeConverter<CPF, Long> {
+    @Override
+    public Long convertToDatabaseColumn(CPF cpf) {
+        return cpf == null ? null : cpf.toLong();
+    }
+
+    @Override
+    public CPF convertToEntityAttribute(Long value) {
+        return value == null ? null : ValueObjects.restoredCpf(value);
+    }
+}
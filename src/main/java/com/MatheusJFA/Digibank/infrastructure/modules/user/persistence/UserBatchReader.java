@@ -0,0 +1,71 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Busca de vários usuários por id, CPF ou e-mail em uma consulta por bloco de chaves, no lugar de uma consulta por
+// usuário. As chaves vão como um único array (= ANY(?)): o texto da consulta é o mesmo para qualquer quantidade,
+// e o Postgres reaproveita o plano e usa o índice único da coluna.
+@Component
+public class UserBatchReader {
+    // Chaves por consulta: limita o tamanho do array e do resultado mantido em memória de cada ida ao banco
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final String BY_IDS_SQL = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE id = ANY(?)";
+    private static final String BY_CPFS_SQL = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE cpf = ANY(?)";
+    private static final String BY_EMAILS_SQL = "SELECT " + UserRowMapper.COLUMNS + " FROM users WHERE email = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserBatchReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Todos os métodos devolvem os usuários encontrados na ordem em que a chave aparece pela primeira vez na entrada;
+    // chaves repetidas ou sem usuário não geram elementos
+    public List<User> readByIds(Collection<UUID> ids) {
+        return read(BY_IDS_SQL, "uuid", ids, User::getId);
+    }
+
+    public List<User> readByCpfs(Collection<Long> cpfs) {
+        return read(BY_CPFS_SQL, "bigint", cpfs, user -> user.getCpf().toLong());
+    }
+
+    // E-mails já normalizados, como gravados
+    public List<User> readByEmails(Collection<String> emails) {
+        return read(BY_EMAILS_SQL, "varchar", emails, user -> user.getEmail().getValue());
+    }
+
+    private <K> List<User> read(String sql, String arrayType, Collection<K> keys, Function<User, K> keyOf) {
+        if (keys.isEmpty()) return List.of();
+
+        final List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        final Map<K, User> found = new HashMap<>(distinct.size() * 4 / 3 + 1);
+        for (int start = 0; start < distinct.size(); start += CHUNK_SIZE) {
+            final Object[] chunk = distinct.subList(start, Math.min(start + CHUNK_SIZE, distinct.size())).toArray();
+            jdbcTemplate.query(sql,
+                    statement -> statement.setArray(1, statement.getConnection().createArrayOf(arrayType, chunk)),
+                    resultSet -> {
+                        final User user = UserRowMapper.INSTANCE.mapRow(resultSet, 0);
+                        found.put(keyOf.apply(user), user);
+                    });
+        }
+
+        final List<User> users = new ArrayList<>(found.size());
+        for (K key : distinct) {
+            final User user = found.get(key);
+            if (user != null) users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,54 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posição na listagem de usuários: (created_date, id) do último usuário entregue. Vai ao cliente como Base64 URL
+// de versão (1 byte), segundos e nanos de created_date e os 16 bytes do id; o formato pode mudar com a versão.
+record UserCursor(LocalDateTime createdDate, UUID id) {
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    String encode() {
+        final ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putLong(createdDate.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdDate.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static UserCursor decode(String cursor) {
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException("Cursor de paginação inválido");
+        }
+        if (bytes.length != LENGTH || bytes[0] != VERSION) {
+            throw new InvalidCursorException("Cursor de paginação inválido");
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+        final long seconds = buffer.getLong();
+        final int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException("Cursor de paginação inválido");
+        }
+        // Segundos fora da faixa de LocalDateTime só aparecem em cursor adulterado
+        final LocalDateTime createdDate;
+        try {
+            createdDate = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        } catch (DateTimeException exception) {
+            throw new InvalidCursorException("Cursor de paginação inválido");
+        }
+        return new UserCursor(createdDate, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -2,26 +2,30 @@ package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
 
 import com.MatheusJFA.Digibank.domain.user.User;
 import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
 import java.util.UUID;
 
 @Entity(name = "users")
 @Table(name = "users")
 @Getter
 @Setter
-public class UserJPA {
+public class UserJPA implements Persistable<UUID> {
     // Essa classe deve conter os campos e métodos necessários para mapear a entidade User
     // para o banco de dados, utilizando JPA (Java Persistence API).
 
@@ -38,8 +42,9 @@ public class UserJPA {
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
+    @Convert(converter = CPFConverter.class)
     @Column(name = "cpf", nullable = false, unique = true)
-    private String cpf;
+    private CPF cpf;
 
     @Column(name = "phone", nullable = false)
     private String phone;
@@ -71,6 +76,12 @@ public class UserJPA {
     @Column(name = "version")
     private Long version;
 
+    // Usuário ainda não gravado (versão nula no domínio): o save faz persist direto, sem o SELECT do merge
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
     public UserJPA() {
         // Construtor padrão necessário para JPA
     }
@@ -81,7 +92,7 @@ public class UserJPA {
         userJPA.name = user.getName();
         userJPA.passwordHash = user.getPasswordHash();
         userJPA.email = user.getEmail().getValue();
-        userJPA.cpf = user.getCpf().getValue();
+        userJPA.cpf = user.getCpf();
         userJPA.phone = user.getPhone().getValue();
         userJPA.birthDate = user.getBirthDate();
         userJPA.isActive = user.isActive();
@@ -92,24 +103,40 @@ public class UserJPA {
         userJPA.createdDate = user.getCreatedDate();
         userJPA.lastModifiedBy = user.getLastModifiedBy();
         userJPA.lastModifiedDate = user.getLastModifiedDate();
-        userJPA.version = user.getVersion();
+        userJPA.version = user.getVersion() != null ? user.getVersion() : 0L;
+        userJPA.newEntity = user.getVersion() == null;
 
         return userJPA;
     }
 
+    // Mantém id, versão e auditoria da linha; os valores já foram validados quando gravados. Linhas anteriores ao
+    // controle de versão (coluna nula) começam na versão 0.
     public User toDomain() {
-        return User.with(
+        return User.restore(
+            this.id,
             this.name,
             this.passwordHash,
-            this.email,
+            ValueObjects.restoredEmail(this.email),
             this.cpf,
-            this.phone,
+            ValueObjects.restoredPhone(this.phone),
             this.birthDate,
-            Role.valueOf(this.role)
+            this.isActive,
+            Role.valueOf(this.role),
+            this.lastLogin,
+            this.createdBy,
+            this.createdDate,
+            this.lastModifiedBy,
+            this.lastModifiedDate,
+            this.version != null ? this.version : 0L
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(this.role));
+        return Role.valueOf(this.role).authorities();
     }
 }
@@ -0,0 +1,136 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserGateway;
+import com.MatheusJFA.Digibank.domain.user.events.UserDeleted;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Implementação do UserGateway sobre o Spring Data JPA. Os eventos de domínio acumulados pelo User são publicados
+// na mesma transação da escrita; ouvintes transacionais os recebem apenas depois do commit.
+// Leituras reidratam o User com id e versão da linha (as de vários usuários por JDBC, UserBatchReader);
+// atualizações gravam só os campos alterados (UserPartialUpdater). O save de um usuário já gravado também passa
+// pelo UserPartialUpdater, com todas as colunas: o merge do JPA reescreveria a linha sem conferir nem avançar a versão.
+@Component
+public class UserJPAGateway implements UserGateway {
+    private final UserRepository userRepository;
+    private final UserPartialUpdater partialUpdater;
+    private final UserPageReader pageReader;
+    private final UserBatchReader batchReader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserJPAGateway(UserRepository userRepository, UserPartialUpdater partialUpdater, UserPageReader pageReader,
+                          UserBatchReader batchReader, ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.partialUpdater = partialUpdater;
+        this.pageReader = pageReader;
+        this.batchReader = batchReader;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public User save(User user) {
+        // Usuários lidos pelo cache vêm sem o hash da senha: gravá-los por inteiro apagaria a senha
+        if (user.getPasswordHash() == null) {
+            throw new IllegalStateException("O usuário " + user.getId() + " não tem hash de senha e não pode ser gravado por inteiro");
+        }
+
+        if (user.getVersion() != null) {
+            partialUpdater.replace(user);
+        } else {
+            final UserJPA entity = userRepository.save(UserJPA.from(user));
+            user.markPersisted(entity.getVersion());
+        }
+        user.pullEvents().forEach(eventPublisher::publishEvent);
+        return user;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findById(UUID id) {
+        return userRepository.findById(id).map(UserJPA::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(ValueObjects.email(email).getValue()).map(UserJPA::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByCpf(String cpf) {
+        return userRepository.findByCpf(ValueObjects.cpf(cpf)).map(UserJPA::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByPhone(String phone) {
+        // O telefone é gravado sem máscara
+        return userRepository.findByPhone(ValueObjects.phone(phone).getValue()).map(UserJPA::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByIds(Collection<UUID> ids) {
+        return batchReader.readByIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByCpfs(Collection<String> cpfs) {
+        final List<Long> values = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) values.add(ValueObjects.cpf(cpf).toLong());
+        return batchReader.readByCpfs(values);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByEmails(Collection<String> emails) {
+        final List<String> values = new ArrayList<>(emails.size());
+        for (String email : emails) values.add(ValueObjects.email(email).getValue());
+        return batchReader.readByEmails(values);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<User> findAll(Pageable pageable) {
+        return userRepository.findAll(pageable).map(UserJPA::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> findPage(String cursor, int size, boolean includeTotal) {
+        return pageReader.read(cursor, size, includeTotal);
+    }
+
+    @Override
+    @Transactional
+    public User update(User user) {
+        // Nunca gravado: não há linha para atualizar
+        if (user.getVersion() == null) return save(user);
+
+        partialUpdater.update(user);
+        user.pullEvents().forEach(eventPublisher::publishEvent);
+        return user;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(UUID id) {
+        userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeleted(id));
+    }
+}
@@ -0,0 +1,86 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Listagem de usuários por keyset: mais recentes primeiro, ordenados por (created_date, id) e continuando do
+// último entregue com uma comparação de linha que o índice idx_users_created_date_id resolve direto. Cada página
+// custa o mesmo, seja a primeira ou a milésima: não há OFFSET para pular linhas nem count(*) a cada chamada.
+@Slf4j
+@Component
+public class UserPageReader {
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String FIRST_PAGE_SQL = "SELECT " + UserRowMapper.COLUMNS
+            + " FROM users ORDER BY created_date DESC, id DESC LIMIT ?";
+
+    private static final String NEXT_PAGE_SQL = "SELECT " + UserRowMapper.COLUMNS
+            + " FROM users WHERE (created_date, id) < (?, ?) ORDER BY created_date DESC, id DESC LIMIT ?";
+
+    // Estimativa do planejador do Postgres: densidade de linhas por página do último ANALYZE vezes o tamanho atual
+    // da tabela. NULL se a tabela nunca foi analisada.
+    private static final String ESTIMATE_SQL = """
+            SELECT CASE WHEN c.reltuples < 0 OR c.relpages = 0 THEN NULL
+                        ELSE CAST(c.reltuples / c.relpages
+                                  * (pg_relation_size(c.oid) / current_setting('block_size')::int) AS BIGINT)
+                   END
+            FROM pg_class c
+            WHERE c.oid = to_regclass('users')
+            """;
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM users";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Fora do Postgres (H2 em desenvolvimento e testes) não há estatísticas e o total é contado
+    private volatile boolean statisticsAvailable = true;
+
+    public UserPageReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // cursor null começa do início; um cursor que não foi gerado aqui lança InvalidCursorException
+    public CursorPage<User> read(String cursor, int size, boolean includeTotal) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        // Uma linha a mais indica se há próxima página sem precisar contar
+        final List<User> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = jdbcTemplate.query(FIRST_PAGE_SQL, UserRowMapper.INSTANCE, size + 1);
+        } else {
+            final UserCursor position = UserCursor.decode(cursor);
+            rows = jdbcTemplate.query(NEXT_PAGE_SQL, UserRowMapper.INSTANCE, position.createdDate(), position.id(), size + 1);
+        }
+
+        final boolean hasNext = rows.size() > size;
+        final List<User> users = hasNext ? rows.subList(0, size) : rows;
+        final String nextCursor = hasNext
+                ? new UserCursor(users.getLast().getCreatedDate(), users.getLast().getId()).encode()
+                : null;
+
+        return new CursorPage<>(users, nextCursor, includeTotal ? estimateCount() : null);
+    }
+
+    public long estimateCount() {
+        if (statisticsAvailable) {
+            try {
+                final Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+                if (estimate != null) return estimate;
+            } catch (DataAccessException exception) {
+                log.info("Estatísticas do banco indisponíveis para estimar o total de usuários; usando count(*)");
+                statisticsAvailable = false;
+            }
+        }
+
+        final Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+}
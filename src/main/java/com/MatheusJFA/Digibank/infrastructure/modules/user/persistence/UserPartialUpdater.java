@@ -0,0 +1,109 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserField;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Grava no banco apenas as colunas que o User marcou como alteradas, em um único UPDATE condicionado à versão
+// carregada. Sem o merge do JPA não há SELECT antes da escrita, nem reescrita das colunas que não mudaram, nem o
+// risco de um merge sobre linha inexistente virar INSERT.
+@Component
+public class UserPartialUpdater {
+    private static final UserField[] FIELDS = UserField.values();
+    private static final int ALL_FIELDS = (1 << FIELDS.length) - 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Um UPDATE por combinação de campos, montado na primeira vez que aparece. Corridas só remontam a mesma string.
+    private final String[] statements = new String[1 << FIELDS.length];
+
+    public UserPartialUpdater(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Devolve false quando não havia nada para gravar. Se a linha mudou desde a carga (ou não existe mais), lança
+    // OptimisticLockingFailureException e o usuário continua com os campos marcados.
+    public boolean update(User user) {
+        final int dirty = user.dirtyFields();
+        if (dirty == 0) return false;
+
+        write(user, dirty);
+        return true;
+    }
+
+    // Grava todas as colunas do usuário (o save de um usuário já gravado), com a mesma condição de versão do update
+    public void replace(User user) {
+        write(user, ALL_FIELDS);
+    }
+
+    private void write(User user, int dirty) {
+        final long version = user.getVersion();
+        final LocalDateTime now = LocalDateTime.now();
+
+        final List<Object> arguments = new ArrayList<>(Integer.bitCount(dirty) + 4);
+        for (UserField field : FIELDS) {
+            if (field.in(dirty)) arguments.add(value(user, field));
+        }
+        arguments.add(now);
+        arguments.add(user.getId());
+        arguments.add(version);
+
+        if (jdbcTemplate.update(statement(dirty), arguments.toArray()) != 1) {
+            throw new OptimisticLockingFailureException(
+                    "O usuário " + user.getId() + " foi alterado por outra transação ou não existe mais (versão " + version + ")");
+        }
+
+        user.setLastModifiedDate(now);
+        user.markPersisted(version + 1);
+    }
+
+    private String statement(int dirty) {
+        String statement = statements[dirty];
+        if (statement == null) {
+            final var sql = new StringBuilder("UPDATE users SET ");
+            for (UserField field : FIELDS) {
+                if (field.in(dirty)) sql.append(column(field)).append(" = ?, ");
+            }
+            // Linhas anteriores ao controle de versão têm a coluna nula e contam como versão 0
+            sql.append("last_modified_date = ?, version = COALESCE(version, 0) + 1 WHERE id = ? AND COALESCE(version, 0) = ?");
+            statement = sql.toString();
+            statements[dirty] = statement;
+        }
+        return statement;
+    }
+
+    static String column(UserField field) {
+        return switch (field) {
+            case NAME -> "name";
+            case PASSWORD_HASH -> "password_hash";
+            case EMAIL -> "email";
+            case CPF -> "cpf";
+            case PHONE -> "phone";
+            case BIRTH_DATE -> "birth_date";
+            case ACTIVE -> "is_active";
+            case ROLE -> "role";
+            case LAST_LOGIN -> "last_login";
+        };
+    }
+
+    // Mesmos formatos do UserJPA: e-mail e telefone normalizados, CPF como número e o papel pelo nome
+    private static Object value(User user, UserField field) {
+        return switch (field) {
+            case NAME -> user.getName();
+            case PASSWORD_HASH -> user.getPasswordHash();
+            case EMAIL -> user.getEmail().getValue();
+            case CPF -> user.getCpf().toLong();
+            case PHONE -> user.getPhone().getValue();
+            case BIRTH_DATE -> user.getBirthDate();
+            case ACTIVE -> user.isActive();
+            case ROLE -> user.getRole().name();
+            case LAST_LOGIN -> user.getLastLogin();
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
 
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -7,5 +8,6 @@ import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserJPA, UUID> {
     Optional<UserJPA> findByEmail(String email);
-    Optional<UserJPA> findByCpf(String cpf);
+    Optional<UserJPA> findByCpf(CPF cpf);
+    Optional<UserJPA> findByPhone(String phone);
 }
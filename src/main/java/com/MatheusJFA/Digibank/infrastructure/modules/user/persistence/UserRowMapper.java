@@ -0,0 +1,46 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Leitura de users por JDBC com o mesmo resultado de UserJPA.toDomain(): usuário reidratado, sem revalidar
+// os valores e com id, versão e auditoria da linha. As consultas devem selecionar COLUMNS.
+final class UserRowMapper implements RowMapper<User> {
+    static final UserRowMapper INSTANCE = new UserRowMapper();
+
+    static final String COLUMNS = """
+            id, name, password_hash, email, cpf, phone, birth_date, is_active, role, last_login,
+            created_by, created_date, last_modified_by, last_modified_date, version""";
+
+    private UserRowMapper() {
+    }
+
+    @Override
+    public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return User.restore(
+                rs.getObject(1, UUID.class),
+                rs.getString(2),
+                rs.getString(3),
+                ValueObjects.restoredEmail(rs.getString(4)),
+                ValueObjects.restoredCpf(rs.getLong(5)),
+                ValueObjects.restoredPhone(rs.getString(6)),
+                rs.getObject(7, LocalDate.class),
+                rs.getBoolean(8),
+                Role.valueOf(rs.getString(9)),
+                rs.getObject(10, LocalDateTime.class),
+                rs.getString(11),
+                rs.getObject(12, LocalDateTime.class),
+                rs.getString(13),
+                rs.getObject(14, LocalDateTime.class),
+                rs.getLong(15) // NULL vira 0, como em UserJPA
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import java.util.Locale;
+
+// Como o JwtRequestFilter monta o usuário autenticado a partir de um token válido
+public enum AuthenticationMode {
+    // Carrega o usuário do banco a cada requisição
+    DATABASE,
+    // Usa as claims do token e confere ativo/papel no UserStatusCache, sem ida ao banco na maioria das requisições
+    CLAIMS;
+
+    public static AuthenticationMode from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de autenticação inválido: " + value + " (use database ou claims)", e);
+        }
+    }
+}
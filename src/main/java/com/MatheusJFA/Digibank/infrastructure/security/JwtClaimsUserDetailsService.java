@@ -0,0 +1,78 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Monta o usuário autenticado a partir das claims já verificadas, sem carregar a entidade do banco.
+// O token só é aceito se o usuário continua ativo e com o mesmo papel que tinha quando o token foi emitido;
+// assim desativações e mudanças de papel valem na hora, e não apenas quando o token expira.
+@Component
+@Slf4j
+public class JwtClaimsUserDetailsService {
+    static final String ROLE_CLAIM = "role";
+
+    private final UserStatusCache userStatusCache;
+
+    public JwtClaimsUserDetailsService(UserStatusCache userStatusCache) {
+        this.userStatusCache = userStatusCache;
+    }
+
+    public Optional<UserDetails> loadUserByClaims(Claims claims) {
+        final String subject = claims.getSubject();
+
+        final UUID id;
+        try {
+            id = UUID.fromString(subject);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("O JWT Token tem um assunto inválido: {}", subject);
+            return Optional.empty();
+        }
+
+        final var status = userStatusCache.get(id).orElse(null);
+        if (status == null) {
+            log.warn("Usuário do JWT Token não encontrado: {}", id);
+            return Optional.empty();
+        }
+
+        if (!status.active()) {
+            log.warn("Usuário {} está desativado", id);
+            return Optional.empty();
+        }
+
+        if (!Set.of(status.role().name()).equals(rolesOf(claims))) {
+            log.warn("O papel do usuário {} mudou desde a emissão do token", id);
+            return Optional.empty();
+        }
+
+        return Optional.of(new User(subject, "", status.role().authorities()));
+    }
+
+    // A claim é uma lista de nomes ("USER"); tokens antigos trazem a lista de GrantedAuthority serializada ({"authority": "USER"})
+    static Set<String> rolesOf(Claims claims) {
+        final Object claim = claims.get(ROLE_CLAIM);
+        final Set<String> roles = new HashSet<>();
+
+        if (claim instanceof String value) {
+            roles.add(value);
+        } else if (claim instanceof Collection<?> values) {
+            for (Object value : values) {
+                if (value instanceof String name) {
+                    roles.add(name);
+                } else if (value instanceof Map<?, ?> map && map.get("authority") instanceof String name) {
+                    roles.add(name);
+                }
+            }
+        }
+        return roles;
+    }
+}
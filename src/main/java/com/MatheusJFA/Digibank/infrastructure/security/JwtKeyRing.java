@@ -0,0 +1,226 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.Key;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Chaves HMAC usadas para assinar e verificar os JWTs, decodificadas uma única vez.
+// Os tokens são assinados com a chave ativa e levam o seu identificador no cabeçalho "kid"; na verificação a chave
+// é escolhida pelo kid, então tokens emitidos com chaves anteriores continuam válidos enquanto elas estiverem no anel.
+//
+// Sem app.jwt.keys-file, o anel contém apenas app.jwt.secret com o kid "default". Com o arquivo, cada linha é
+// "<kid>=<segredo em Base64>" e "active=<kid>" escolhe a chave de assinatura (padrão: a última listada).
+// O arquivo é observado e recarregado sem reinício. Rotação sem derrubar sessões:
+//   1. adicione a nova chave e marque-a como ativa, mantendo a anterior;
+//   2. remova a chave anterior depois que os tokens assinados com ela expirarem.
+@Component
+@Slf4j
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+    static final String DEFAULT_KID = "default";
+
+    private static final String ACTIVE_ENTRY = "active";
+    private static final int MIN_KEY_BYTES = 64; // HS512
+    private static final long DEBOUNCE_MS = 200;
+
+    public record SigningKey(String kid, Key key) {
+    }
+
+    private record Snapshot(SigningKey active, Map<String, Key> keys) {
+    }
+
+    private final String secret;
+    private final Path keysFile;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot snapshot;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public JwtKeyRing(
+            @Value("${app.jwt.secret:}") String secret,
+            @Value("${app.jwt.keys-file:}") String keysFile
+    ) {
+        this.secret = secret;
+        this.keysFile = keysFile == null || keysFile.isBlank() ? null : Path.of(keysFile).toAbsolutePath();
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        this.snapshot = keysFile == null ? fromSecret(secret) : load(keysFile);
+        log.info("Anel de chaves JWT carregado com {} chave(s), kid ativo '{}'", snapshot.keys.size(), snapshot.active.kid());
+
+        if (keysFile != null) startWatching();
+    }
+
+    public SigningKey active() {
+        return snapshot.active;
+    }
+
+    public boolean contains(String kid) {
+        return snapshot.keys.containsKey(kid);
+    }
+
+    // Chamado após cada recarga, ex.: para descartar claims verificadas com chaves que saíram do anel
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        final Snapshot current = snapshot;
+
+        // Tokens emitidos antes do kid são verificados com a chave padrão, se ela ainda estiver no anel
+        final String kid = header.getKeyId() == null ? DEFAULT_KID : header.getKeyId();
+        final Key key = current.keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Chave de assinatura desconhecida: " + kid);
+        }
+        return key;
+    }
+
+    // Relê o arquivo de chaves; em caso de erro o anel atual é mantido
+    public boolean reload() {
+        if (keysFile == null) return false;
+
+        try {
+            final Snapshot loaded = load(keysFile);
+            this.snapshot = loaded;
+            log.info("Anel de chaves JWT recarregado de {}: {} chave(s), kid ativo '{}'",
+                    keysFile, loaded.keys.size(), loaded.active.kid());
+            listeners.forEach(Runnable::run);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Não foi possível recarregar as chaves JWT de {}: {}", keysFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Snapshot fromSecret(String secret) {
+        final Key key = decode(DEFAULT_KID, secret);
+        return new Snapshot(new SigningKey(DEFAULT_KID, key), Map.of(DEFAULT_KID, key));
+    }
+
+    private static Snapshot load(Path file) throws IOException {
+        final Map<String, Key> keys = new LinkedHashMap<>();
+        String activeKid = null;
+        String lastKid = null;
+
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            final int separator = line.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Linha " + lineNumber + " do arquivo de chaves deve ser <kid>=<segredo>");
+            }
+
+            final String name = line.substring(0, separator).trim();
+            final String value = line.substring(separator + 1).trim();
+
+            if (name.equals(ACTIVE_ENTRY)) {
+                activeKid = value;
+            } else {
+                if (keys.put(name, decode(name, value)) != null) {
+                    throw new IllegalArgumentException("O kid '" + name + "' está repetido no arquivo de chaves");
+                }
+                lastKid = name;
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("O arquivo de chaves " + file + " não contém nenhuma chave");
+        }
+
+        final String kid = activeKid == null ? lastKid : activeKid;
+        final Key active = keys.get(kid);
+        if (active == null) {
+            throw new IllegalArgumentException("A chave ativa '" + kid + "' não existe no arquivo de chaves");
+        }
+
+        return new Snapshot(new SigningKey(kid, active), Map.copyOf(keys));
+    }
+
+    private static Key decode(String kid, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("O segredo da chave '" + kid + "' não pode ser vazio");
+        }
+
+        final byte[] bytes = Decoders.BASE64.decode(secret);
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("A chave '" + kid + "' deve ter pelo menos " + MIN_KEY_BYTES * 8 + " bits");
+        }
+        return Keys.hmacShaKeyFor(bytes);
+    }
+
+    // Observa o diretório do arquivo, pois editores e ferramentas de deploy costumam substituí-lo em vez de alterá-lo
+    private void startWatching() throws IOException {
+        final Path directory = keysFile.getParent();
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcher = Thread.ofPlatform().name("jwt-key-ring-watcher").daemon().start(this::watch);
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // Escritas que não são atômicas geram vários eventos (truncar, gravar); aguarda o arquivo estabilizar
+                boolean changed = drain(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+
+                if (changed) reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path changedFile && keysFile.getFileName().equals(changedFile)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (watcher != null) watcher.interrupt();
+        if (watchService != null) watchService.close();
+    }
+}
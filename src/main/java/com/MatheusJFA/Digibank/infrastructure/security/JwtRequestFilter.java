@@ -1,11 +1,14 @@
 package com.MatheusJFA.Digibank.infrastructure.security;
 
+import com.MatheusJFA.Digibank.infrastructure.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,50 +22,73 @@ import java.io.IOException;
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
     private final JwtUserDetailsService jwtUserDetailsService;
+    private final JwtClaimsUserDetailsService jwtClaimsUserDetailsService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthenticationMode authenticationMode;
 
-    public JwtRequestFilter(JwtUserDetailsService jwtUserDetailsService, JwtTokenUtil jwtTokenUtil) {
+    public JwtRequestFilter(
+            JwtUserDetailsService jwtUserDetailsService,
+            JwtClaimsUserDetailsService jwtClaimsUserDetailsService,
+            JwtTokenUtil jwtTokenUtil,
+            TokenRevocationService tokenRevocationService,
+            @Value("${app.security.authentication-mode:database}") String authenticationMode
+    ) {
         this.jwtUserDetailsService = jwtUserDetailsService;
+        this.jwtClaimsUserDetailsService = jwtClaimsUserDetailsService;
         this.jwtTokenUtil = jwtTokenUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authenticationMode = AuthenticationMode.from(authenticationMode);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String id = null;
-        String jwtToken = null;
+        Claims claims = null;
 
         // JWT Token é uma forma de autenticação que é passada no cabeçalho da requisição
         if (isAuthenticated(requestTokenHeader)) {
-            jwtToken = getToken(requestTokenHeader);
+            // Parse e verificação da assinatura acontecem uma única vez por requisição
             try {
-                id = jwtTokenUtil.getUsernameFromToken(jwtToken);
+                claims = jwtTokenUtil.parseAndVerify(getToken(requestTokenHeader));
             } catch (IllegalArgumentException e) {
                 log.error("Não foi possível obter o JWT Token: {}", e.getMessage());
                 response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Não foi possível obter o JWT Token");
+                return;
             } catch (ExpiredJwtException e) {
                 log.warn("O JWT Token expirou: {}", e.getMessage());
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "O JWT Token expirou");
+                return;
             } catch (Exception e) {
                 log.error("Erro na validação do JWT Token: {}", e.getMessage());
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "JWT Token inválido");
+                return;
+            }
+
+            // Verificação em memória pelo filtro de Bloom; o Redis só é consultado quando o jti pode estar revogado
+            if (tokenRevocationService.isRevoked(claims)) {
+                log.warn("JWT Token revogado usado pelo usuário {}", claims.getSubject());
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "JWT Token revogado");
+                return;
             }
         } else {
             log.warn("O JWT Token não começa com Bearer ou está ausente");
         }
 
-        authenticate(request, id, jwtToken);
+        authenticate(request, claims);
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticate(HttpServletRequest request, String id, String jwtToken) {
+    private void authenticate(HttpServletRequest request, Claims claims) {
+        final String id = claims == null ? null : claims.getSubject();
+
         if (id != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.jwtUserDetailsService.loadUserByUsername(id);
+            UserDetails userDetails = loadUser(id, claims);
 
             // Se o token é válido, cria um UsernamePasswordAuthenticationToken
-            if (jwtTokenUtil.validateToken(jwtToken, userDetails)) {
+            if (userDetails != null && userDetails.isEnabled() && jwtTokenUtil.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -81,6 +107,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
     }
 
+    private UserDetails loadUser(String id, Claims claims) {
+        return switch (authenticationMode) {
+            case CLAIMS -> jwtClaimsUserDetailsService.loadUserByClaims(claims).orElse(null);
+            case DATABASE -> jwtUserDetailsService.loadUserByUsername(id);
+        };
+    }
+
     private static boolean isAuthenticated(String requestTokenHeader) {
         return requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ");
     }
@@ -1,32 +1,75 @@
 package com.MatheusJFA.Digibank.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtHandler;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenUtil {
-    @Value("${app.jwt.secret}")
-    private String secret;
+    private final JwtKeyRing keyRing;
 
     @Value("${app.jwt.expiration-ms}")
     private long expirationMs;
 
+    // Quantidade de tokens verificados mantidos em memória (0 desativa o cache)
+    @Value("${app.jwt.claims-cache-size:4096}")
+    private int claimsCacheSize;
+
+    // O parser é imutável e thread-safe; a chave de cada token é escolhida pelo anel a partir do kid
+    private JwtParser parser;
+    private VerifiedClaimsCache claimsCache;
+
+    public JwtTokenUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @PostConstruct
+    void init() {
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        this.claimsCache = claimsCacheSize > 0 ? new VerifiedClaimsCache(claimsCacheSize) : null;
+
+        // Uma chave removida do anel não pode continuar validando tokens através do cache
+        if (claimsCache != null) keyRing.addListener(claimsCache::clear);
+    }
+
+    // Faz o parse e a verificação da assinatura uma única vez; tokens repetidos e ainda válidos vêm do cache.
+    // As claims devolvidas podem ser compartilhadas entre requisições e não devem ser modificadas.
+    public Claims parseAndVerify(String token) {
+        if (claimsCache == null) return parser.parseClaimsJws(token).getBody();
+
+        final ByteBuffer digest = VerifiedClaimsCache.digest(token);
+        final long now = System.currentTimeMillis();
+
+        final Claims cached = claimsCache.get(digest, now);
+        if (cached != null) return cached;
+
+        // Lança ExpiredJwtException, SignatureException etc. como antes; apenas tokens válidos entram no cache
+        final Claims claims = parser.parseClaimsJws(token).getBody();
+        final Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            claimsCache.put(digest, claims, expiration.getTime());
+        }
+        return claims;
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
@@ -36,58 +79,55 @@ public class JwtTokenUtil {
     }
 
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parseAndVerify(token);
         return claimsResolver.apply(claims);
     }
 
     public Claims getAllClaimsFromToken(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseAndVerify(token);
     }
 
     // Gera um token JWT para o usuário autenticado
     public String generateToken(UserDetails details) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", details.getAuthorities());
+        claims.put(JwtClaimsUserDetailsService.ROLE_CLAIM, details.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
         return tokenGenerator(claims, details);
     }
 
     // Ao criar o token:
-    // 1. Defina as claims do token, como Emissor, Expiração, Assunto e o ID.
-    // 2. Assine o JWT usando o algoritmo HS512 e a chave secreta.
+    // 1. Defina as claims do token, como Emissor, Expiração, Assunto e o ID (jti, usado na revogação).
+    // 2. Assine o JWT usando o algoritmo HS512 e a chave ativa do anel, informando o seu kid no cabeçalho.
     // 3. De acordo com a JWS Compact Serialization (https://tools.ietf.org/html/draft-ietf-jose-json-web-signature-41#section-3.1)
     //    compacte o JWT para uma string segura para URL
     private String tokenGenerator(Map<String, Object> claims, UserDetails userDetails) {
-        final var expiration = LocalDateTime.now().plusSeconds(expirationMs / 1000).toInstant(ZoneOffset.of("-03:00"));
+        final long now = System.currentTimeMillis();
+        final JwtKeyRing.SigningKey signingKey = keyRing.active();
 
         // Define as claims do token, como Emissor, Expiração, Assunto e o ID.
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(expirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationMs))
+                .signWith(signingKey.key(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
-
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    private static boolean isTokenExpired(Claims claims) {
+        final Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    // Valida claims já verificadas por parseAndVerify, sem novo parse do token
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isTokenExpired(claims);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(this.secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public Boolean validateToken(String token, UserDetails userDetails) {
+        return validateClaims(parseAndVerify(token), userDetails);
     }
-
 }
@@ -29,9 +29,14 @@ public class JwtUserDetailsService implements UserDetailsService {
                     return new UsernameNotFoundException("Usuário não encontrado com o ID: " + id);
                 });
 
+        // A senha não é usada na autenticação por token, mas o User do Spring não aceita null
         return new User(
                 user.getId().toString(),
-                null,
+                "",
+                user.isActive(),
+                true,
+                true,
+                true,
                 user.getAuthorities()
         );
     }
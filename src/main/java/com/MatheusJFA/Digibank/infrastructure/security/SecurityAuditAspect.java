@@ -1,36 +1,43 @@
 package com.MatheusJFA.Digibank.infrastructure.security;
 
-import lombok.extern.slf4j.Slf4j;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditEvent;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditPipeline;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
+// Captura os acessos a métodos protegidos e entrega ao AuditPipeline. Na thread da requisição só é montado o evento,
+// com referências aos argumentos; formatação, mascaramento de CPF, cartão e e-mail e a gravação acontecem depois.
 @Aspect
 @Component
-@Slf4j
 public class SecurityAuditAspect {
+    private final AuditPipeline auditPipeline;
 
-    @Before("@annotation(org.springframework.security.access.prepost.PreAuthorize)")
-    public void logSecurityCheck(JoinPoint joinPoint) {
-        String username = getCurrentUsername();
-        String methodName = joinPoint.getSignature().getName();
-        String args = Arrays.toString(joinPoint.getArgs());
+    public SecurityAuditAspect(AuditPipeline auditPipeline) {
+        this.auditPipeline = auditPipeline;
+    }
 
-        log.info("SECURITY_CHECK - Usuário: {} está tentando acessar o método: {} com os argumentos: {}", username, methodName, args);
+    // Métodos com @PreAuthorize ou @RequiresPermission (no método ou na classe)
+    @Pointcut("@annotation(org.springframework.security.access.prepost.PreAuthorize)"
+            + " || @annotation(com.MatheusJFA.Digibank.infrastructure.security.authorization.RequiresPermission)"
+            + " || @within(com.MatheusJFA.Digibank.infrastructure.security.authorization.RequiresPermission)")
+    void protectedMethod() {
     }
 
-    @AfterReturning("@annotation(org.springframework.security.access.prepost.PreAuthorize)")
-    public void logSecuritySuccess(JoinPoint joinPoint) {
-        String username = getCurrentUsername();
-        String methodName = joinPoint.getSignature().getName();
+    @Before("protectedMethod()")
+    public void logSecurityCheck(JoinPoint joinPoint) {
+        auditPipeline.publish(event(AuditEvent.Type.SECURITY_CHECK, joinPoint, joinPoint.getArgs(), null));
+    }
 
-        log.info("SECURITY_SUCCESS - Usuário: {} acessou com sucesso o método: {}", username, methodName);
+    @AfterReturning("protectedMethod()")
+    public void logSecuritySuccess(JoinPoint joinPoint) {
+        auditPipeline.publish(event(AuditEvent.Type.SECURITY_SUCCESS, joinPoint, null, null));
     }
 
     @AfterThrowing(
@@ -38,14 +45,16 @@ public class SecurityAuditAspect {
             throwing = "exception"
     )
     public void logSecurityFailure(JoinPoint joinPoint, Throwable exception) {
-        String username = getCurrentUsername();
-        String methodName = joinPoint.getSignature().getName();
-        String args = Arrays.toString(joinPoint.getArgs());
+        auditPipeline.publish(event(AuditEvent.Type.SECURITY_FAILURE, joinPoint, joinPoint.getArgs(), exception));
+    }
 
-        log.error("SECURITY_FAILURE - Usuário: {} tentou acessar o método: {} com os argumentos: {} e falhou com a exceção: {}", username, methodName, args, exception.getMessage());
+    private static AuditEvent event(AuditEvent.Type type, JoinPoint joinPoint, Object[] args, Throwable exception) {
+        final Signature signature = joinPoint.getSignature();
+        return new AuditEvent(System.currentTimeMillis(), type, getCurrentUsername(),
+                signature.getDeclaringType(), signature.getName(), args, exception);
     }
 
-    private String getCurrentUsername() {
+    private static String getCurrentUsername() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication != null ? authentication.getName() : "ANONYMOUS";
     }
@@ -0,0 +1,110 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserDeleted;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Cache em memória do estado (ativo e papel) dos usuários autenticados, consultado a cada requisição no modo de
+// autenticação por claims. Mesma estrutura do VerifiedClaimsCache: tabela de tamanho fixo com mapeamento direto.
+//
+// As alterações feitas por este nó chegam pelos eventos de domínio depois do commit e substituem a entrada na hora.
+// O TTL limita por quanto tempo uma alteração feita por outro nó, ou direto no banco, pode passar despercebida.
+@Component
+@Slf4j
+public class UserStatusCache {
+    private static final String SELECT_STATUS = "SELECT is_active, role FROM users WHERE id = ?";
+
+    public record UserStatus(UUID id, boolean active, Role role) {
+    }
+
+    private record Entry(UserStatus status, long expiresAtNanos) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final long ttlNanos;
+
+    // Incrementado a cada evento; uma leitura do banco iniciada antes de um evento não é guardada,
+    // pois pode ter lido o estado anterior ao commit
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserStatusCache(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.security.user-status-cache.size:8192}") int size,
+            @Value("${app.security.user-status-cache.ttl-ms:30000}") long ttlMs
+    ) {
+        if (size <= 0 || ttlMs <= 0) {
+            throw new IllegalArgumentException("O tamanho e o TTL do cache de usuários devem ser positivos");
+        }
+
+        final int capacity = Integer.highestOneBit(size - 1) << 1;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entries = new AtomicReferenceArray<>(Math.max(capacity, 1));
+        this.mask = entries.length() - 1;
+        this.ttlNanos = ttlMs * 1_000_000;
+    }
+
+    // Estado atual do usuário; vazio se ele não existe
+    public Optional<UserStatus> get(UUID id) {
+        final int index = slot(id);
+        final long now = System.nanoTime();
+
+        final Entry entry = entries.get(index);
+        if (entry != null && entry.status.id().equals(id) && entry.expiresAtNanos - now > 0) {
+            return Optional.of(entry.status);
+        }
+
+        final long observed = generation.get();
+        final Optional<UserStatus> loaded = load(id);
+        if (loaded.isPresent() && generation.get() == observed) {
+            entries.set(index, new Entry(loaded.get(), now + ttlNanos));
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(UserStatusChanged event) {
+        generation.incrementAndGet();
+        entries.set(slot(event.userId()), new Entry(
+                new UserStatus(event.userId(), event.active(), event.role()), System.nanoTime() + ttlNanos));
+        log.debug("Estado do usuário {} atualizado no cache: ativo={}, papel={}", event.userId(), event.active(), event.role());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeleted event) {
+        generation.incrementAndGet();
+        final int index = slot(event.userId());
+        final Entry entry = entries.get(index);
+        if (entry != null && entry.status.id().equals(event.userId())) {
+            entries.compareAndSet(index, entry, null);
+        }
+    }
+
+    int capacity() {
+        return entries.length();
+    }
+
+    private Optional<UserStatus> load(UUID id) {
+        final List<UserStatus> rows = jdbcTemplate.query(SELECT_STATUS,
+                (rs, rowNum) -> new UserStatus(id, rs.getBoolean(1), Role.valueOf(rs.getString(2))),
+                id);
+        return rows.stream().findFirst();
+    }
+
+    private int slot(UUID id) {
+        final long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        return (int) (bits ^ (bits >>> 32)) & mask;
+    }
+}
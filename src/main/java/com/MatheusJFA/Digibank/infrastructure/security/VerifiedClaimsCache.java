@@ -0,0 +1,71 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Cache de claims já verificadas, indexado pelo SHA-256 do token. Um hit evita o decode Base64, o parse do JSON
+// e a verificação HMAC. A tabela tem tamanho fixo e mapeamento direto: cada digest ocupa uma única posição e um
+// token novo simplesmente substitui o anterior. Entradas expiradas nunca são devolvidas.
+final class VerifiedClaimsCache {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    private record Entry(long d0, long d1, long d2, long d3, Claims claims, long expiresAtMillis) {
+        boolean matches(ByteBuffer digest) {
+            return d0 == digest.getLong(0) && d1 == digest.getLong(8) && d2 == digest.getLong(16) && d3 == digest.getLong(24);
+        }
+    }
+
+    VerifiedClaimsCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade do cache de tokens deve ser positiva");
+        }
+
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = entries.length() - 1;
+    }
+
+    int capacity() {
+        return entries.length();
+    }
+
+    // Digest do token; o mesmo buffer é usado em get e put para não calcular o hash duas vezes
+    static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não está disponível na JVM", e);
+        }
+    }
+
+    Claims get(ByteBuffer digest, long nowMillis) {
+        final int index = slot(digest);
+        final Entry entry = entries.get(index);
+        if (entry == null || !entry.matches(digest)) return null;
+
+        if (entry.expiresAtMillis <= nowMillis) {
+            entries.compareAndSet(index, entry, null);
+            return null;
+        }
+        return entry.claims;
+    }
+
+    void put(ByteBuffer digest, Claims claims, long expiresAtMillis) {
+        entries.set(slot(digest), new Entry(
+                digest.getLong(0), digest.getLong(8), digest.getLong(16), digest.getLong(24), claims, expiresAtMillis));
+    }
+
+    void clear() {
+        for (int i = 0; i < entries.length(); i++) entries.set(i, null);
+    }
+
+    private int slot(ByteBuffer digest) {
+        return digest.getInt(0) & mask;
+    }
+}
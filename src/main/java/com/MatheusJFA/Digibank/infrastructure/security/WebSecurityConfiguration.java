@@ -1,7 +1,17 @@
 package com.MatheusJFA.Digibank.infrastructure.security;
 
+import com.MatheusJFA.Digibank.infrastructure.security.authorization.PermissionAuthorizationManager;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitFilter;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.KeySource;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimiter;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -20,13 +30,22 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true,  prePostEnabled = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebSecurityConfiguration {
-    private final static int SALTS = 10;
-
     private final JwtRequestFilter jwtRequestFilter;
+    private final RateLimiter rateLimiter;
+
+    // Custo do BCrypt (log2 das rodadas); hashes com custo menor são refeitos no próximo login
+    private final int bcryptStrength;
 
-    public WebSecurityConfiguration(JwtRequestFilter jwtRequestFilter) {
+    public WebSecurityConfiguration(
+            JwtRequestFilter jwtRequestFilter,
+            RateLimiter rateLimiter,
+            @Value("${app.auth.bcrypt-strength:10}") int bcryptStrength
+    ) {
         this.jwtRequestFilter = jwtRequestFilter;
+        this.rateLimiter = rateLimiter;
+        this.bcryptStrength = bcryptStrength;
     }
 
     @Bean
@@ -42,12 +61,15 @@ public class WebSecurityConfiguration {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
+                // Limite por IP antes do parse do token; limite por usuário depois da autenticação
+                .addFilterBefore(new RateLimitFilter(rateLimiter, KeySource.IP), JwtRequestFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, KeySource.USER), JwtRequestFilter.class)
                 .build();
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(SALTS);
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -55,6 +77,13 @@ public class WebSecurityConfiguration {
         return new GrantedAuthorityDefaults(""); // Remove o prefixo "ROLE_"
     }
 
+    // @RequiresPermission: checagem por bitset de permissões, ao lado do @PreAuthorize
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAuthorization() {
+        return PermissionAuthorizationManager.interceptor();
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
@@ -0,0 +1,84 @@
+package com.MatheusJFA.Digibank.infrastructure.security.authorization;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Permission;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Avalia @RequiresPermission. A máscara exigida por método é resolvida na primeira chamada e fica em cache; a partir
+// daí cada checagem é uma busca no mapa, uma volta pelas autoridades (normalmente uma só, o próprio Role) e um AND.
+// Não há SpEL, contexto de avaliação nem decisão nova por chamada.
+public final class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Long> required = new ConcurrentHashMap<>();
+
+    // Interceptor registrado junto dos do @EnableMethodSecurity, logo depois do @PreAuthorize
+    public static AuthorizationManagerBeforeMethodInterceptor interceptor() {
+        final Pointcut pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forMethodAnnotation(RequiresPermission.class))
+                .union(new AnnotationMatchingPointcut(RequiresPermission.class, true));
+        final var interceptor = new AuthorizationManagerBeforeMethodInterceptor(pointcut, new PermissionAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        final Method method = invocation.getMethod();
+        Long mask = required.get(method);
+        if (mask == null) {
+            mask = requiredPermissions(method, invocation.getThis());
+            required.putIfAbsent(method, mask);
+        }
+        return (permissionsOf(authentication.get()) & mask) == mask ? GRANTED : DENIED;
+    }
+
+    // Anônimo ou não autenticado não tem permissão nenhuma, nem para @RequiresPermission({})
+    public static long permissionsOf(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return 0;
+        }
+
+        long granted = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (authority instanceof Role role) {
+                granted |= role.permissions();
+            } else {
+                final Role role = Role.fromAuthority(authority.getAuthority());
+                if (role != null) granted |= role.permissions();
+            }
+        }
+        return granted;
+    }
+
+    // A anotação do método (na implementação, em interface ou superclasse) tem precedência sobre a da classe
+    private static long requiredPermissions(Method method, Object target) {
+        final Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        final Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(specific, RequiresPermission.class);
+        if (annotation == null) annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequiresPermission.class);
+        if (annotation == null) {
+            throw new IllegalStateException("Método sem @RequiresPermission interceptado: " + method);
+        }
+        return Permission.maskOf(annotation.value());
+    }
+}
@@ -0,0 +1,21 @@
+package com.MatheusJFA.Digibank.infrastructure.security.authorization;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Permission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Exige que o papel do usuário autenticado tenha todas as permissões listadas. Alternativa ao
+// @PreAuthorize("hasRole(...)") sem SpEL: a checagem é um AND entre o bitset do papel e o do método.
+// Na classe vale para todos os métodos públicos; no método, substitui a da classe.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface RequiresPermission {
+    Permission[] value();
+}
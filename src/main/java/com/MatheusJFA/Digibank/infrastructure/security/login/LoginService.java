@@ -0,0 +1,232 @@
+package com.MatheusJFA.Digibank.infrastructure.security.login;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserPasswordChanged;
+import com.MatheusJFA.Digibank.shared.exceptions.LoginUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Autenticação por e-mail e senha fora das threads do Tomcat.
+//
+// O BCrypt consome dezenas de milissegundos de CPU por tentativa, então as verificações rodam em um pool próprio com
+// fila limitada: com a fila cheia, ou se a tarefa esperou mais que max-queue-wait-ms (o cliente provavelmente já
+// desistiu), o login é recusado na hora com LoginUnavailableException (503), sem calcular hash algum.
+// Quando app.auth.bcrypt-strength aumenta, o hash é refeito com o novo custo no próximo login bem-sucedido.
+@Component
+@Slf4j
+public class LoginService {
+    private static final String SELECT_CREDENTIALS = "SELECT id, password_hash, is_active, role FROM users WHERE email = ?";
+    // Incrementa a versão como o UserPartialUpdater: um User lido antes do rehash não pode ser gravado por cima dele
+    private static final String UPDATE_PASSWORD_HASH = """
+            UPDATE users SET password_hash = ?, last_modified_date = ?, version = COALESCE(version, 0) + 1
+            WHERE id = ? AND password_hash = ?""";
+
+    private record Credentials(UUID id, String passwordHash, boolean active, Role role) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+
+    // Hash de uma senha aleatória, verificado quando o e-mail não existe para que a resposta leve o mesmo tempo
+    private final String dummyHash;
+
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter succeeded;
+    private final Counter badCredentials;
+    private final Counter disabled;
+    private final Counter rejected;
+
+    public LoginService(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.login.threads:0}") int threads,
+            @Value("${app.auth.login.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.login.max-queue-wait-ms:1000}") long maxQueueWaitMs
+    ) {
+        if (threads < 0 || queueCapacity <= 0 || maxQueueWaitMs <= 0) {
+            throw new IllegalArgumentException("O pool de login precisa de fila e espera máxima positivas");
+        }
+
+        final int poolSize = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("login-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        this.verifyTimer = passwordTimer(meterRegistry, "verify");
+        this.encodeTimer = passwordTimer(meterRegistry, "encode");
+        this.queueWaitTimer = Timer.builder("digibank.auth.login.queue.wait")
+                .description("Tempo de espera na fila do pool de login")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.succeeded = loginCounter(meterRegistry, "success");
+        this.badCredentials = loginCounter(meterRegistry, "bad_credentials");
+        this.disabled = loginCounter(meterRegistry, "disabled");
+        this.rejected = loginCounter(meterRegistry, "rejected");
+        Gauge.builder("digibank.auth.login.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Tentativas de login aguardando o pool")
+                .register(meterRegistry);
+
+        log.info("Pool de login com {} threads e fila de {}", poolSize, queueCapacity);
+    }
+
+    // Completa com o usuário autenticado, ou com BadCredentialsException, DisabledException ou LoginUnavailableException
+    public CompletableFuture<UserDetails> authenticate(String email, String password) {
+        final var result = new CompletableFuture<UserDetails>();
+        final long submittedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(verify(email, password, submittedAt));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            result.completeExceptionally(new LoginUnavailableException("Muitas tentativas de login simultâneas; tente novamente em instantes"));
+        }
+        return result;
+    }
+
+    private UserDetails verify(String email, String password, long submittedAt) {
+        final long waited = System.nanoTime() - submittedAt;
+        queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+        if (waited > maxQueueWaitNanos) {
+            rejected.increment();
+            throw new LoginUnavailableException("O login demorou demais na fila; tente novamente em instantes");
+        }
+
+        final Credentials credentials = find(email);
+        if (credentials == null || !isBCrypt(credentials.passwordHash)) {
+            // Usuários inexistentes, ou importados sem senha, custam o mesmo que uma senha errada
+            matches(password, dummyHash);
+            badCredentials.increment();
+            throw new BadCredentialsException("E-mail ou senha inválidos");
+        }
+
+        if (!matches(password, credentials.passwordHash)) {
+            badCredentials.increment();
+            throw new BadCredentialsException("E-mail ou senha inválidos");
+        }
+
+        if (!credentials.active) {
+            disabled.increment();
+            throw new DisabledException("Usuário desativado");
+        }
+
+        if (passwordEncoder.upgradeEncoding(credentials.passwordHash)) {
+            rehash(credentials, password);
+        }
+
+        succeeded.increment();
+        return new User(credentials.id.toString(), "", List.of(new SimpleGrantedAuthority(credentials.role.name())));
+    }
+
+    private Credentials find(String email) {
+        if (email == null || email.isBlank()) return null;
+
+        final List<Credentials> rows = jdbcTemplate.query(SELECT_CREDENTIALS,
+                (rs, rowNum) -> new Credentials(
+                        rs.getObject(1, UUID.class),
+                        rs.getString(2),
+                        rs.getBoolean(3),
+                        Role.valueOf(rs.getString(4))),
+                email.trim());
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    private boolean matches(String password, String hash) {
+        final long start = System.nanoTime();
+        try {
+            return passwordEncoder.matches(password, hash);
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Falha no rehash não impede o login; o hash antigo continua válido e a troca é tentada no próximo login
+    private void rehash(Credentials credentials, String password) {
+        final long start = System.nanoTime();
+        final String upgraded = passwordEncoder.encode(password);
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        try {
+            // A condição no hash antigo evita sobrescrever uma troca de senha feita em paralelo
+            if (jdbcTemplate.update(UPDATE_PASSWORD_HASH, upgraded, Timestamp.valueOf(LocalDateTime.now()), credentials.id,
+                    credentials.passwordHash) == 1) {
+                log.info("Hash da senha do usuário {} refeito com o custo atual", credentials.id);
+                // A escrita não passa pelo UserGateway: os caches de usuário são avisados pelo evento
+                eventPublisher.publishEvent(new UserPasswordChanged(credentials.id));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível refazer o hash da senha do usuário {}: {}", credentials.id, e.getMessage());
+        }
+    }
+
+    private static boolean isBCrypt(String hash) {
+        return hash != null && hash.startsWith("$2");
+    }
+
+    private static Timer passwordTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("digibank.auth.password")
+                .description("Tempo de cálculo do BCrypt")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("digibank.auth.login")
+                .description("Tentativas de login por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Baldes em memória divididos em faixas, cada uma com o próprio lock: requisições de clientes diferentes raramente
+// disputam o mesmo lock, e cada operação é só uma busca no mapa e algumas contas.
+//
+// Cada faixa guarda no máximo maxBuckets / stripes baldes, em ordem de acesso. Ao passar do limite sai o balde usado
+// há mais tempo, que quase sempre já voltou a ficar cheio; descartá-lo equivale a mantê-lo. Assim um ataque vindo
+// de muitos IPs não faz a memória crescer sem limite.
+final class LocalRateLimitStore implements RateLimitStore {
+    private static final class Bucket {
+        double tokens;
+        long updatedAtNanos;
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Bucket> buckets;
+
+        Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongSupplier nanoClock;
+
+    LocalRateLimitStore(int stripes, int maxBuckets) {
+        this(stripes, maxBuckets, System::nanoTime);
+    }
+
+    LocalRateLimitStore(int stripes, int maxBuckets, LongSupplier nanoClock) {
+        if (stripes <= 0 || maxBuckets <= 0) {
+            throw new IllegalArgumentException("O número de faixas e de baldes do rate limit deve ser positivo");
+        }
+
+        final int count = Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[Math.max(count, 1)];
+        this.mask = this.stripes.length - 1;
+        this.nanoClock = nanoClock;
+
+        final int perStripe = Math.max(maxBuckets / this.stripes.length, 1);
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long capacity, double tokensPerSecond) {
+        final Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        final double tokensPerNano = tokensPerSecond / 1e9;
+
+        stripe.lock.lock();
+        try {
+            final long now = nanoClock.getAsLong();
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket();
+                bucket.tokens = capacity;
+                bucket.updatedAtNanos = now;
+                stripe.buckets.put(key, bucket);
+            }
+
+            final double tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAtNanos) * tokensPerNano);
+            bucket.updatedAtNanos = now;
+
+            if (tokens >= 1) {
+                bucket.tokens = tokens - 1;
+                return new Decision(true, (long) bucket.tokens, 0);
+            }
+
+            bucket.tokens = tokens;
+            return new Decision(false, 0, (long) Math.ceil((1 - tokens) / tokensPerNano / 1_000_000));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,72 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.KeySource;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitStore.Decision;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Uma instância por origem da chave: a de IP roda antes do JwtRequestFilter, para que clientes abusivos sejam
+// recusados antes de qualquer parse de token ou consulta ao banco; a de usuário roda depois, com o usuário já
+// autenticado. O IP é o de request.getRemoteAddr(); atrás de proxy, configure server.forward-headers-strategy.
+//
+// Não é um @Component para não ser registrada também como filtro do servlet fora da cadeia do Spring Security.
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final KeySource keySource;
+
+    public RateLimitFilter(RateLimiter rateLimiter, KeySource keySource) {
+        this.rateLimiter = rateLimiter;
+        this.keySource = keySource;
+
+        // O OncePerRequestFilter marca a requisição pelo nome do filtro; sem isso a segunda instância seria ignorada
+        setBeanName(RateLimitFilter.class.getSimpleName() + "." + keySource.name().toLowerCase());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        final String client = rateLimiter.hasRules(keySource) ? client(request) : null;
+        if (client == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        final Decision decision = rateLimiter.check(keySource, request.getMethod(), path, client);
+
+        if (decision.remaining() >= 0) {
+            response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        }
+
+        if (!decision.allowed()) {
+            log.warn("Rate limit excedido por {} em {} {}", client, request.getMethod(), path);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (decision.retryAfterMs() + 999) / 1000)));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Limite de requisições excedido");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String client(HttpServletRequest request) {
+        return switch (keySource) {
+            case IP -> request.getRemoteAddr();
+            case USER -> {
+                final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                yield authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// Regras em app.rate-limit.rules; cada regra é um token bucket por rota (padrão de caminho e métodos) e por cliente,
+// identificado pelo IP ou pelo usuário autenticado. Todas as regras que casam com a requisição são aplicadas.
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("local") Mode mode,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("100000") int maxBuckets,
+        @DefaultValue List<Rule> rules
+) {
+    public enum Mode {
+        // Baldes na memória de cada nó: o limite efetivo do cluster é o limite multiplicado pelo número de nós
+        LOCAL,
+        // Baldes no Redis, compartilhados por todos os nós
+        REDIS,
+    }
+
+    public enum KeySource {
+        // Aplicada antes do JwtRequestFilter, inclusive a requisições anônimas
+        IP,
+        // Aplicada depois da autenticação; requisições anônimas não são contadas
+        USER,
+    }
+
+    public record Rule(
+            String name,
+            String pattern,
+            @DefaultValue List<String> methods,
+            @DefaultValue("ip") KeySource key,
+            long capacity,
+            double refillPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+// Armazenamento dos token buckets. Cada chave é um balde que começa cheio, recebe tokensPerSecond tokens por segundo
+// até a capacidade e perde um token por requisição aceita.
+interface RateLimitStore {
+    record Decision(boolean allowed, long remaining, long retryAfterMs) {
+        // Nenhuma regra se aplica à requisição
+        static final Decision UNLIMITED = new Decision(true, -1, 0);
+    }
+
+    Decision tryAcquire(String key, long capacity, double tokensPerSecond);
+}
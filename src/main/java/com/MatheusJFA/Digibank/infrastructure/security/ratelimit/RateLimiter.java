@@ -0,0 +1,136 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.KeySource;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.Mode;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitStore.Decision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Avalia as regras de app.rate-limit para uma requisição. As regras são compiladas uma vez na subida; por requisição
+// o custo é casar o caminho com os padrões e uma operação no balde de cada regra que casou.
+//
+// No modo redis, se o Redis falhar a decisão passa a ser tomada pelos baldes locais, mantendo ao menos o limite por
+// nó em vez de liberar ou derrubar todas as requisições.
+@Component
+@Slf4j
+public class RateLimiter {
+    private record Rule(String name, PathPattern pattern, Set<String> methods, long capacity, double tokensPerSecond,
+                        Counter rejected) {
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<KeySource, List<Rule>> rules = new EnumMap<>(KeySource.class);
+    private final RateLimitStore store;
+    private final LocalRateLimitStore fallback;
+    private final Counter storeErrors;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this(properties,
+                properties.mode() == Mode.REDIS ? new RedisRateLimitStore(redisTemplate) : null,
+                new LocalRateLimitStore(properties.stripes(), properties.maxBuckets()),
+                meterRegistry);
+    }
+
+    RateLimiter(RateLimitProperties properties, RateLimitStore distributed, LocalRateLimitStore local, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.store = distributed == null ? local : distributed;
+        this.fallback = local;
+        this.storeErrors = Counter.builder("digibank.ratelimit.store.errors")
+                .description("Falhas do Redis ao consultar um balde; a decisão foi tomada pelos baldes locais")
+                .register(meterRegistry);
+        Gauge.builder("digibank.ratelimit.buckets", local, LocalRateLimitStore::size)
+                .description("Baldes mantidos em memória neste nó")
+                .register(meterRegistry);
+
+        final Set<String> names = new HashSet<>();
+        for (KeySource source : KeySource.values()) rules.put(source, new ArrayList<>());
+        for (RateLimitProperties.Rule rule : properties.rules()) {
+            validate(rule, names);
+            rules.get(rule.key()).add(new Rule(
+                    rule.name(),
+                    PathPatternParser.defaultInstance.parse(rule.pattern()),
+                    rule.methods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                    rule.capacity(),
+                    rule.refillPerSecond(),
+                    Counter.builder("digibank.ratelimit.rejected")
+                            .description("Requisições recusadas pelo rate limit")
+                            .tag("rule", rule.name())
+                            .tag("key", rule.key().name().toLowerCase(Locale.ROOT))
+                            .register(meterRegistry)));
+        }
+        rules.replaceAll((source, list) -> List.copyOf(list));
+
+        log.info("Rate limit {} no modo {} com {} regra(s)", enabled ? "ativo" : "desativado", properties.mode(), names.size());
+    }
+
+    boolean hasRules(KeySource source) {
+        return enabled && !rules.get(source).isEmpty();
+    }
+
+    // Consome um token de cada regra que casa com a requisição e devolve a decisão mais restritiva.
+    // Os tokens já gastos nas regras anteriores a uma recusa não são devolvidos.
+    Decision check(KeySource source, String method, String path, String client) {
+        if (!enabled) return Decision.UNLIMITED;
+
+        final PathContainer container = PathContainer.parsePath(path);
+        Decision result = Decision.UNLIMITED;
+        for (Rule rule : rules.get(source)) {
+            if (!rule.matches(method, container)) continue;
+
+            final Decision decision = acquire(rule.name() + ":" + client, rule);
+            if (!decision.allowed()) {
+                rule.rejected().increment();
+                return decision;
+            }
+            if (result.remaining() < 0 || decision.remaining() < result.remaining()) {
+                result = decision;
+            }
+        }
+        return result;
+    }
+
+    private Decision acquire(String key, Rule rule) {
+        try {
+            return store.tryAcquire(key, rule.capacity(), rule.tokensPerSecond());
+        } catch (RuntimeException e) {
+            if (store == fallback) throw e;
+
+            storeErrors.increment();
+            log.warn("Não foi possível consultar o balde {} no Redis, usando o limite local: {}", key, e.getMessage());
+            return fallback.tryAcquire(key, rule.capacity(), rule.tokensPerSecond());
+        }
+    }
+
+    private static void validate(RateLimitProperties.Rule rule, Set<String> names) {
+        if (rule.name() == null || rule.name().isBlank() || rule.pattern() == null || rule.pattern().isBlank()) {
+            throw new IllegalArgumentException("Toda regra de rate limit precisa de name e pattern");
+        }
+        if (!names.add(rule.name())) {
+            throw new IllegalArgumentException("A regra de rate limit '" + rule.name() + "' está repetida");
+        }
+        if (rule.capacity() <= 0 || rule.refillPerSecond() <= 0) {
+            throw new IllegalArgumentException("A regra de rate limit '" + rule.name() + "' precisa de capacity e refill-per-second positivos");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+// digibank:ratelimit:{<regra>:<cliente>} é uma hash com tokens e ts (ms). Leitura, reposição e consumo acontecem no
+// mesmo script, então dois nós nunca gastam o mesmo token. O relógio é o do Redis (TIME), igual para todos os nós,
+// e a chave expira quando o balde estaria cheio de novo, pois a partir daí ela não guarda informação alguma.
+final class RedisRateLimitStore implements RateLimitStore {
+    private static final String PREFIX = "digibank:ratelimit:";
+
+    // ARGV: capacidade e tokens por milissegundo. Retorna {permitido, tokens restantes, espera em ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local allowed = 0
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                wait = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+            return {allowed, math.floor(tokens), wait}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    RedisRateLimitStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long capacity, double tokensPerSecond) {
+        final List<?> result = redisTemplate.execute(ACQUIRE, List.of(PREFIX + "{" + key + "}"),
+                Long.toString(capacity), Double.toString(tokensPerSecond / 1000));
+        if (result == null || result.size() != 3) {
+            throw new IllegalStateException("Resposta inesperada do Redis para o balde " + key);
+        }
+
+        return new Decision(((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue());
+    }
+}
@@ -0,0 +1,108 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// Famílias de refresh tokens no Redis:
+//   digibank:auth:refresh:{<usuário>}:family:<família>  hash com current, previous e rotated_at
+//   digibank:auth:refresh:{<usuário>}:families          conjunto com as famílias do usuário
+// A hash tag {<usuário>} mantém as chaves de um usuário no mesmo slot, então os scripts Lua funcionam também em cluster.
+// Toda família recebe o TTL completo ao ser criada ou renovada, e o conjunto é renovado junto, nunca expirando antes delas.
+@Component
+class RedisRefreshTokenStore implements RefreshTokenStore {
+    private static final String PREFIX = "digibank:auth:refresh:";
+
+    private static final RedisScript<Long> CREATE = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'current', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: hash apresentado, novo hash, ttl, agora, tolerância (ms) e id da família
+    private static final RedisScript<String> ROTATE = RedisScript.of("""
+            local family = redis.call('HMGET', KEYS[1], 'current', 'previous', 'rotated_at')
+            if not family[1] then
+                return 'NOT_FOUND'
+            end
+            if family[1] == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotated_at', ARGV[4])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                redis.call('PEXPIRE', KEYS[2], ARGV[3])
+                return 'ROTATED'
+            end
+            if family[2] == ARGV[1] and tonumber(ARGV[4]) - tonumber(family[3]) <= tonumber(ARGV[5]) then
+                return 'CONCURRENT'
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[6])
+            return 'REUSED'
+            """, String.class);
+
+    private static final RedisScript<Long> REVOKE_FAMILY = RedisScript.of("""
+            local family = redis.call('HMGET', KEYS[1], 'current', 'previous')
+            if family[1] == ARGV[1] or family[2] == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // ARGV[1]: prefixo das chaves de família do usuário
+    private static final RedisScript<Long> REVOKE_USER = RedisScript.of("""
+            local families = redis.call('SMEMBERS', KEYS[1])
+            for _, id in ipairs(families) do
+                redis.call('DEL', ARGV[1] .. id)
+            end
+            redis.call('DEL', KEYS[1])
+            return #families
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void create(UUID userId, String familyId, String tokenHash, Duration ttl) {
+        redisTemplate.execute(CREATE, List.of(familyKey(userId, familyId), familiesKey(userId)),
+                tokenHash, Long.toString(ttl.toMillis()), familyId);
+    }
+
+    @Override
+    public Rotation rotate(UUID userId, String familyId, String presentedHash, String newHash, Duration ttl, Duration grace) {
+        final String result = redisTemplate.execute(ROTATE, List.of(familyKey(userId, familyId), familiesKey(userId)),
+                presentedHash, newHash, Long.toString(ttl.toMillis()), Long.toString(System.currentTimeMillis()),
+                Long.toString(grace.toMillis()), familyId);
+        return Rotation.valueOf(result);
+    }
+
+    @Override
+    public boolean revokeFamily(UUID userId, String familyId, String presentedHash) {
+        final Long revoked = redisTemplate.execute(REVOKE_FAMILY, List.of(familyKey(userId, familyId), familiesKey(userId)),
+                presentedHash, familyId);
+        return revoked != null && revoked == 1;
+    }
+
+    @Override
+    public int revokeUser(UUID userId) {
+        final Long revoked = redisTemplate.execute(REVOKE_USER, List.of(familiesKey(userId)), familyKey(userId, ""));
+        return revoked == null ? 0 : revoked.intValue();
+    }
+
+    private static String familyKey(UUID userId, String familyId) {
+        return PREFIX + "{" + userId + "}:family:" + familyId;
+    }
+
+    private static String familiesKey(UUID userId) {
+        return PREFIX + "{" + userId + "}:families";
+    }
+}
@@ -0,0 +1,60 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+// Refresh token opaco no formato <id do usuário>.<id da família>.<segredo>.
+// O id do usuário e o da família apenas localizam as chaves no Redis; quem autentica é o segredo, do qual o
+// servidor guarda somente o SHA-256.
+record RefreshToken(UUID userId, String familyId, String value) {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    static RefreshToken newFamily(UUID userId) {
+        return rotate(userId, random(16));
+    }
+
+    static RefreshToken rotate(UUID userId, String familyId) {
+        return new RefreshToken(userId, familyId, userId + "." + familyId + "." + random(32));
+    }
+
+    static RefreshToken parse(String value) {
+        final int first = value == null ? -1 : value.indexOf('.');
+        final int second = first < 0 ? -1 : value.indexOf('.', first + 1);
+        if (second < 0 || second == first + 1 || second == value.length() - 1) {
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.INVALID, "Refresh token malformado");
+        }
+
+        try {
+            return new RefreshToken(UUID.fromString(value.substring(0, first)), value.substring(first + 1, second), value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.INVALID, "Refresh token malformado");
+        }
+    }
+
+    String hash() {
+        try {
+            return ENCODER.encodeToString(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não está disponível na JVM", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        // Evita que o segredo vá parar nos logs
+        return "RefreshToken[userId=" + userId + ", familyId=" + familyId + "]";
+    }
+
+    private static String random(int bytes) {
+        final byte[] buffer = new byte[bytes];
+        RANDOM.nextBytes(buffer);
+        return ENCODER.encodeToString(buffer);
+    }
+}
@@ -0,0 +1,171 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import com.MatheusJFA.Digibank.domain.user.events.UserDeleted;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtTokenUtil;
+import com.MatheusJFA.Digibank.infrastructure.security.UserStatusCache;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException.Reason;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Emissão e renovação de refresh tokens com rotação por família.
+//
+// Cada login cria uma família; cada renovação troca o token atual por um novo e devolve também um novo access token.
+// Apresentar de novo um token já trocado indica vazamento e revoga a família inteira, exceto dentro de uma curta
+// janela de tolerância, que cobre abas simultâneas e novas tentativas após falha de rede.
+//
+// O L1 local guarda, por essa mesma janela, o resultado das renovações feitas neste nó (a repetição recebe o mesmo
+// par sem ir ao Redis) e, por mais tempo, os tokens já recusados (repetições de tokens revogados não chegam ao Redis).
+@Component
+@Slf4j
+public class RefreshTokenService {
+    private final RefreshTokenStore store;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserStatusCache userStatusCache;
+    private final Duration ttl;
+    private final Duration grace;
+
+    private final AtomicReferenceArray<Recent> recent;
+    private final int mask;
+
+    // pair nulo indica um token recusado
+    private record Recent(String hash, TokenPair pair, long expiresAtNanos) {
+    }
+
+    public RefreshTokenService(
+            RefreshTokenStore store,
+            JwtTokenUtil jwtTokenUtil,
+            UserStatusCache userStatusCache,
+            @Value("${app.jwt.refresh-expiration-ms}") long refreshExpirationMs,
+            @Value("${app.jwt.refresh-reuse-grace-ms:10000}") long graceMs,
+            @Value("${app.jwt.refresh-cache-size:4096}") int cacheSize
+    ) {
+        if (refreshExpirationMs <= 0 || graceMs < 0 || cacheSize <= 0) {
+            throw new IllegalArgumentException("A validade, a tolerância e o cache de refresh tokens devem ser positivos");
+        }
+
+        this.store = store;
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userStatusCache = userStatusCache;
+        this.ttl = Duration.ofMillis(refreshExpirationMs);
+        this.grace = Duration.ofMillis(graceMs);
+
+        final int capacity = Integer.highestOneBit(cacheSize - 1) << 1;
+        this.recent = new AtomicReferenceArray<>(Math.max(capacity, 1));
+        this.mask = recent.length() - 1;
+    }
+
+    // Inicia uma nova família para um usuário que acabou de se autenticar
+    public TokenPair issue(UserDetails user) {
+        final UUID userId = UUID.fromString(user.getUsername());
+        final RefreshToken refreshToken = RefreshToken.newFamily(userId);
+
+        store.create(userId, refreshToken.familyId(), refreshToken.hash(), ttl);
+        return pair(user, refreshToken);
+    }
+
+    public TokenPair refresh(String value) {
+        final RefreshToken presented = RefreshToken.parse(value);
+        final String hash = presented.hash();
+        final long now = System.nanoTime();
+
+        final Recent cached = recent(hash, now);
+        if (cached != null) {
+            if (cached.pair == null) throw new InvalidRefreshTokenException(Reason.INVALID, "Refresh token inválido ou revogado");
+            return cached.pair;
+        }
+
+        // O papel do novo access token vem do estado atual, e usuários desativados perdem todas as sessões
+        final var status = userStatusCache.get(presented.userId()).orElse(null);
+        if (status == null || !status.active()) {
+            store.revokeUser(presented.userId());
+            reject(hash, now);
+            throw new InvalidRefreshTokenException(Reason.USER_DISABLED, "Usuário desativado ou inexistente");
+        }
+
+        final RefreshToken next = RefreshToken.rotate(presented.userId(), presented.familyId());
+        final var rotation = store.rotate(presented.userId(), presented.familyId(), hash, next.hash(), ttl, grace);
+
+        switch (rotation) {
+            case ROTATED -> {
+                final var user = new User(presented.userId().toString(), "", List.of(new SimpleGrantedAuthority(status.role().name())));
+                final TokenPair pair = pair(user, next);
+                recent.set(slot(hash), new Recent(hash, pair, now + grace.toNanos()));
+                return pair;
+            }
+            case CONCURRENT -> throw new InvalidRefreshTokenException(Reason.CONCURRENT, "O refresh token acabou de ser renovado");
+            case REUSED -> {
+                log.warn("Reuso de refresh token detectado para o usuário {}; família {} revogada", presented.userId(), presented.familyId());
+                reject(hash, now);
+                throw new InvalidRefreshTokenException(Reason.REUSED, "Refresh token reutilizado; faça login novamente");
+            }
+            default -> {
+                reject(hash, now);
+                throw new InvalidRefreshTokenException(Reason.INVALID, "Refresh token inválido ou revogado");
+            }
+        }
+    }
+
+    // Logout: revoga a família do token informado
+    public void revoke(String value) {
+        final RefreshToken presented = RefreshToken.parse(value);
+        final String hash = presented.hash();
+
+        if (store.revokeFamily(presented.userId(), presented.familyId(), hash)) {
+            reject(hash, System.nanoTime());
+            log.info("Família de refresh tokens {} do usuário {} revogada", presented.familyId(), presented.userId());
+        }
+    }
+
+    public int revokeAll(UUID userId) {
+        final int revoked = store.revokeUser(userId);
+        log.info("{} família(s) de refresh tokens do usuário {} revogada(s)", revoked, userId);
+        return revoked;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(UserStatusChanged event) {
+        if (!event.active()) revokeAll(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeleted event) {
+        revokeAll(event.userId());
+    }
+
+    private TokenPair pair(UserDetails user, RefreshToken refreshToken) {
+        return new TokenPair(jwtTokenUtil.generateToken(user), refreshToken.value(), jwtTokenUtil.getExpirationMs() / 1000);
+    }
+
+    private Recent recent(String hash, long now) {
+        final int index = slot(hash);
+        final Recent entry = recent.get(index);
+        if (entry == null || !entry.hash.equals(hash)) return null;
+
+        if (entry.expiresAtNanos - now <= 0) {
+            recent.compareAndSet(index, entry, null);
+            return null;
+        }
+        return entry;
+    }
+
+    // Tokens recusados nunca voltam a valer, então podem ficar no L1 até a validade máxima de um refresh token
+    private void reject(String hash, long now) {
+        recent.set(slot(hash), new Recent(hash, null, now + ttl.toNanos()));
+    }
+
+    private int slot(String hash) {
+        return hash.hashCode() & mask;
+    }
+}
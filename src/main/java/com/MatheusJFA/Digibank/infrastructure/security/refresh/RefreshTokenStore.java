@@ -0,0 +1,29 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Armazenamento das famílias de refresh tokens. Cada família guarda apenas o hash do token atual e do anterior;
+// todas as operações de uma família precisam ser atômicas entre os nós.
+interface RefreshTokenStore {
+    enum Rotation {
+        // O token apresentado era o atual e foi substituído
+        ROTATED,
+        // Família inexistente, expirada ou revogada
+        NOT_FOUND,
+        // O token anterior foi apresentado dentro da janela de tolerância (requisições simultâneas ou repetidas)
+        CONCURRENT,
+        // Um token antigo ou desconhecido foi apresentado; a família foi revogada
+        REUSED,
+    }
+
+    void create(UUID userId, String familyId, String tokenHash, Duration ttl);
+
+    Rotation rotate(UUID userId, String familyId, String presentedHash, String newHash, Duration ttl, Duration grace);
+
+    // Revoga a família se o hash for o do token atual ou do anterior
+    boolean revokeFamily(UUID userId, String familyId, String presentedHash);
+
+    // Revoga todas as famílias do usuário e devolve quantas existiam
+    int revokeUser(UUID userId);
+}
@@ -0,0 +1,9 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+// Par emitido no login e em cada renovação; expiresIn é a validade do access token em segundos
+public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+    @Override
+    public String toString() {
+        return "TokenPair[expiresIn=" + expiresIn + "]";
+    }
+}
@@ -0,0 +1,61 @@
+package com.MatheusJFA.Digibank.infrastructure.security.revocation;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+// digibank:auth:revoked:<jti> com TTL igual ao tempo restante do token; o canal digibank:auth:revocations
+// transmite o jti de cada nova revogação
+@Component
+class RedisRevokedTokenStore implements RevokedTokenStore {
+    private static final String PREFIX = "digibank:auth:revoked:";
+    private static final String CHANNEL = "digibank:auth:revocations";
+
+    // Gravação e publicação no mesmo script, para que nenhum nó receba a mensagem antes de a chave existir
+    private static final RedisScript<Long> REVOKE = RedisScript.of("""
+            redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+            return redis.call('PUBLISH', ARGV[2], ARGV[3])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    RedisRevokedTokenStore(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void revoke(String jti, Duration ttl) {
+        redisTemplate.execute(REVOKE, List.of(PREFIX + jti), Long.toString(Math.max(ttl.toMillis(), 1)), CHANNEL, jti);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + jti));
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> action) {
+        final var options = ScanOptions.scanOptions().match(PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> action.accept(key.substring(PREFIX.length())));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                ChannelTopic.of(CHANNEL));
+    }
+}
@@ -0,0 +1,19 @@
+package com.MatheusJFA.Digibank.infrastructure.security.revocation;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+// Lista compartilhada de jti revogados. Cada entrada expira junto com o token, e toda revogação é anunciada aos
+// outros nós para que atualizem o filtro local.
+interface RevokedTokenStore {
+    // Grava o jti com o TTL informado e publica a revogação
+    void revoke(String jti, Duration ttl);
+
+    boolean isRevoked(String jti);
+
+    // Percorre todos os jti ainda revogados
+    void forEachRevoked(Consumer<String> action);
+
+    // Recebe as revogações publicadas por qualquer nó, inclusive este
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,133 @@
+package com.MatheusJFA.Digibank.infrastructure.security.revocation;
+
+import com.MatheusJFA.Digibank.infrastructure.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+// Revogação de access tokens pelo jti.
+//
+// Os jti revogados ficam no Redis até o token expirar. Cada nó mantém um filtro de Bloom com esses jti, atualizado
+// pelo pub/sub, então a verificação de cada requisição é feita em memória; o Redis só é consultado quando o filtro
+// indica que o token pode estar revogado. Como não é possível remover itens de um filtro de Bloom, ele é
+// reconstruído periodicamente a partir das chaves que ainda existem no Redis, o que também recupera mensagens
+// de pub/sub perdidas.
+@Component
+@Slf4j
+public class TokenRevocationService {
+    private final RevokedTokenStore store;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // Filtro em construção; as revogações recebidas durante a reconstrução entram nele também
+    private volatile BloomFilter rebuilding;
+    private volatile boolean ready;
+
+    public TokenRevocationService(
+            RevokedTokenStore store,
+            JwtTokenUtil jwtTokenUtil,
+            @Value("${app.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.store = store;
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void init() {
+        store.subscribe(this::onRevoked);
+    }
+
+    // Revoga o token até a sua expiração; devolve false se ele não tem jti ou já expirou
+    public boolean revoke(Claims claims) {
+        final String jti = claims.getId();
+        final Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null) {
+            log.warn("Token do usuário {} sem jti ou expiração não pode ser revogado", claims.getSubject());
+            return false;
+        }
+
+        final long remaining = expiration.getTime() - System.currentTimeMillis();
+        if (remaining <= 0) return false;
+
+        store.revoke(jti, Duration.ofMillis(remaining));
+        onRevoked(jti);
+        log.info("Token {} do usuário {} revogado", jti, claims.getSubject());
+        return true;
+    }
+
+    // Revoga um token ainda não verificado, ex.: o do cabeçalho Authorization no logout
+    public boolean revokeToken(String token) {
+        try {
+            return revoke(jwtTokenUtil.parseAndVerify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            // Tokens inválidos ou expirados já não são aceitos
+            return false;
+        }
+    }
+
+    public boolean isRevoked(Claims claims) {
+        final String jti = claims.getId();
+        if (jti == null) return false;
+
+        if (ready && !filter.mightContain(jti)) return false;
+
+        try {
+            return store.isRevoked(jti);
+        } catch (RuntimeException e) {
+            // Com o filtro carregado, um hit quase sempre é uma revogação real, então na falha o token é recusado.
+            // Antes da primeira carga não há informação alguma e recusar derrubaria todas as requisições.
+            log.error("Não foi possível consultar a revogação do token {}: {}", jti, e.getMessage());
+            return ready;
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        final var next = new BloomFilter(expectedRevocations, falsePositiveRate);
+        rebuilding = next;
+
+        try {
+            final long[] count = {0};
+            store.forEachRevoked(jti -> {
+                next.add(jti);
+                count[0]++;
+            });
+
+            filter = next;
+            ready = true;
+            log.info("Filtro de tokens revogados reconstruído com {} jti", count[0]);
+            if (count[0] > expectedRevocations) {
+                log.warn("Há {} tokens revogados, acima dos {} esperados; a taxa de falso positivo do filtro vai aumentar",
+                        count[0], expectedRevocations);
+            }
+        } catch (RuntimeException e) {
+            log.error("Não foi possível reconstruir o filtro de tokens revogados: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // Lê o filtro em construção antes do atual: se a reconstrução terminar entre as duas leituras, o atual já é o novo
+    void onRevoked(String jti) {
+        final BloomFilter next = rebuilding;
+        if (next != null) next.add(jti);
+        filter.add(jti);
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+}
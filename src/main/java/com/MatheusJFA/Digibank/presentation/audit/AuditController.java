@@ -0,0 +1,58 @@
+package com.MatheusJFA.Digibank.presentation.audit;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Permission;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditEvent;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditQuery;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditQueryResult;
+import com.MatheusJFA.Digibank.infrastructure.audit.AuditSegmentStore;
+import com.MatheusJFA.Digibank.infrastructure.security.authorization.RequiresPermission;
+import com.MatheusJFA.Digibank.presentation.exceptions.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@ConditionalOnProperty(name = "app.audit.store.enabled", havingValue = "true")
+public class AuditController {
+    private static final Duration DEFAULT_PERIOD = Duration.ofDays(30);
+
+    private final AuditSegmentStore auditSegmentStore;
+
+    public AuditController(AuditSegmentStore auditSegmentStore) {
+        this.auditSegmentStore = auditSegmentStore;
+    }
+
+    // Ex.: quem acessou os dados de um usuário no último mês: GET /api/admin/audit?user=<id>&from=2026-09-01T00:00:00Z
+    // Sem from/to, os últimos 30 dias. A própria consulta passa pelo SecurityAuditAspect e fica na trilha.
+    @GetMapping
+    @RequiresPermission(Permission.AUDIT_READ)
+    public AuditQueryResult search(
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String user,
+            @RequestParam(required = false) AuditEvent.Type type,
+            @RequestParam(defaultValue = "100") int limit
+    ) throws IOException {
+        final Instant end = to != null ? to : Instant.now();
+        final Instant start = from != null ? from : end.minus(DEFAULT_PERIOD);
+        return auditSegmentStore.query(new AuditQuery(start, end, user, type, limit));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQuery(IllegalArgumentException exception, HttpServletRequest request) {
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_AUDIT_QUERY", exception.getMessage(), HttpStatus.BAD_REQUEST.value(),
+                        Instant.now(), request.getHeader("X-Correlation-Id")));
+    }
+}
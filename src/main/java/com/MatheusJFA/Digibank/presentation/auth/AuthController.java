@@ -0,0 +1,99 @@
+package com.MatheusJFA.Digibank.presentation.auth;
+
+import com.MatheusJFA.Digibank.infrastructure.security.login.LoginService;
+import com.MatheusJFA.Digibank.infrastructure.security.refresh.RefreshTokenService;
+import com.MatheusJFA.Digibank.infrastructure.security.refresh.TokenPair;
+import com.MatheusJFA.Digibank.infrastructure.security.revocation.TokenRevocationService;
+import com.MatheusJFA.Digibank.presentation.exceptions.ErrorResponse;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException;
+import com.MatheusJFA.Digibank.shared.exceptions.LoginUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+    private static final String BEARER = "Bearer ";
+    private static final String LOGIN_RETRY_AFTER_SECONDS = "1";
+
+    private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+
+    public AuthController(LoginService loginService, RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService) {
+        this.loginService = loginService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    // O BCrypt roda no pool do LoginService; a thread do Tomcat é liberada enquanto isso
+    @PostMapping("/login")
+    public CompletableFuture<TokenPair> login(@Valid @RequestBody LoginRequest request) {
+        return loginService.authenticate(request.email(), request.password())
+                .thenApply(refreshTokenService::issue);
+    }
+
+    // Troca um refresh token válido por um novo par de tokens
+    @PostMapping("/refresh")
+    public TokenPair refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return refreshTokenService.refresh(request.refreshToken());
+    }
+
+    // Encerra a sessão revogando o access token do cabeçalho Authorization e a família do refresh token informado
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @Valid @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        if (authorization != null && authorization.startsWith(BEARER)) {
+            tokenRevocationService.revokeToken(authorization.substring(BEARER.length()));
+        }
+        if (request != null) {
+            refreshTokenService.revoke(request.refreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler({BadCredentialsException.class, DisabledException.class})
+    public ResponseEntity<ErrorResponse> handleLoginFailure(AuthenticationException exception, HttpServletRequest request) {
+        // A mesma resposta para senha errada e usuário desativado não revela o estado da conta
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(error("INVALID_CREDENTIALS", "E-mail ou senha inválidos", HttpStatus.UNAUTHORIZED, request));
+    }
+
+    @ExceptionHandler(LoginUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleLoginUnavailable(LoginUnavailableException exception, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, LOGIN_RETRY_AFTER_SECONDS)
+                .body(error("LOGIN_UNAVAILABLE", exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request));
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException exception, HttpServletRequest request) {
+        final HttpStatus status = exception.getReason() == InvalidRefreshTokenException.Reason.CONCURRENT
+                ? HttpStatus.CONFLICT
+                : HttpStatus.UNAUTHORIZED;
+
+        return ResponseEntity.status(status)
+                .body(error("REFRESH_TOKEN_" + exception.getReason().name(), exception.getMessage(), status, request));
+    }
+
+    private static ErrorResponse error(String code, String message, HttpStatus status, HttpServletRequest request) {
+        return new ErrorResponse(code, message, status.value(), Instant.now(), request.getHeader("X-Correlation-Id"));
+    }
+}
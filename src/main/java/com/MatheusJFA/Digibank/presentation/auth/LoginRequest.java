@@ -0,0 +1,10 @@
+package com.MatheusJFA.Digibank.presentation.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(@NotBlank String email, @NotBlank String password) {
+    @Override
+    public String toString() {
+        return "LoginRequest[email=" + email + "]";
+    }
+}
@@ -0,0 +1,10 @@
+package com.MatheusJFA.Digibank.presentation.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(@NotBlank String refreshToken) {
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest[]";
+    }
+}
@@ -47,4 +47,15 @@ public abstract class BaseEntity {
         this.lastModifiedDate = LocalDateTime.now();
     }
 
+    // Reconstrução de uma entidade já persistida, com a identidade e os metadados gravados
+    protected BaseEntity(UUID id, String createdBy, LocalDateTime createdDate, String lastModifiedBy,
+                         LocalDateTime lastModifiedDate, Long version) {
+        this.id = id;
+        this.createdBy = createdBy;
+        this.createdDate = createdDate;
+        this.lastModifiedBy = lastModifiedBy;
+        this.lastModifiedDate = lastModifiedDate;
+        this.version = version;
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.MatheusJFA.Digibank.shared.exceptions;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+public class InvalidCursorException extends RuntimeException implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
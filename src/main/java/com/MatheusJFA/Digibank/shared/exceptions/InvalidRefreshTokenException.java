@@ -0,0 +1,31 @@
+package com.MatheusJFA.Digibank.shared.exceptions;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+public class InvalidRefreshTokenException extends RuntimeException implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        // Token malformado, expirado ou revogado
+        INVALID,
+        // Um token já substituído foi apresentado de novo; a família inteira foi revogada
+        REUSED,
+        // O token acabou de ser renovado por outra requisição; o cliente deve usar o par que recebeu
+        CONCURRENT,
+        // O usuário foi desativado ou removido
+        USER_DISABLED,
+    }
+
+    private final Reason reason;
+
+    public InvalidRefreshTokenException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,14 @@
+package com.MatheusJFA.Digibank.shared.exceptions;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+// O serviço de login está saturado; a requisição foi recusada sem calcular o hash da senha
+public class LoginUnavailableException extends RuntimeException implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public LoginUnavailableException(String message) {
+        super(message);
+    }
+}
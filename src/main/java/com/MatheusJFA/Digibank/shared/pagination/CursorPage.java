@@ -0,0 +1,20 @@
+package com.MatheusJFA.Digibank.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Página de uma listagem por cursor. nextCursor é opaco: o cliente só o devolve para pedir a página seguinte
+// (null na última). O total é opcional e aproximado, vindo das estatísticas do banco; null quando não foi pedido.
+public record CursorPage<T>(List<T> items, String nextCursor, Long estimatedTotal) {
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor, estimatedTotal);
+    }
+}
@@ -0,0 +1,18 @@
+-- Estrutura inicial da tabela de usuários (equivalente ao mapeamento original de UserJPA)
+CREATE TABLE IF NOT EXISTS users (
+    id                 UUID         NOT NULL PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    password_hash      VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL UNIQUE,
+    cpf                VARCHAR(11)  NOT NULL UNIQUE,
+    phone              VARCHAR(255) NOT NULL,
+    birth_date         DATE         NOT NULL,
+    is_active          BOOLEAN      NOT NULL,
+    role               VARCHAR(255) NOT NULL,
+    last_login         TIMESTAMP,
+    created_by         VARCHAR(255),
+    created_date       TIMESTAMP,
+    last_modified_by   VARCHAR(255),
+    last_modified_date TIMESTAMP,
+    version            BIGINT
+);
@@ -0,0 +1,4 @@
+-- O CPF passa a ser armazenado como número (11 dígitos cabem em um bigint).
+-- A conversão reconstrói o índice único com chaves de 8 bytes no lugar de varchar(11).
+ALTER TABLE users
+    ALTER COLUMN cpf TYPE BIGINT USING cpf::BIGINT;
@@ -0,0 +1,8 @@
+-- Índice da listagem por keyset (UserPageReader): ORDER BY created_date DESC, id DESC e continuação por
+-- (created_date, id) < (?, ?). Linhas sem data de criação (anteriores à auditoria) vão para o fim da lista.
+UPDATE users SET created_date = TIMESTAMP '1970-01-01 00:00:00' WHERE created_date IS NULL;
+
+ALTER TABLE users
+    ALTER COLUMN created_date SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_created_date_id ON users (created_date DESC, id DESC);
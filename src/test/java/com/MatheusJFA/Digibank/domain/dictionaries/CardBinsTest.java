@@ -0,0 +1,94 @@
+package com.MatheusJFA.Digibank.domain.dictionaries;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardBinsTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um PAN de uma bandeira conhecida, quando classificado, então deve retornar a bandeira correta.
+     * 2. Dado um PAN com espaços, quando classificado, então os espaços devem ser ignorados.
+     * 3. Dado um PAN com tamanho incompatível ou caracteres inválidos, quando classificado, então deve retornar "Desconhecido".
+     * 4. Dado uma nova tabela BIN, quando carregada em tempo de execução, então deve passar a classificar as novas faixas.
+     */
+
+    @AfterEach
+    public void tearDown() {
+        CardBins.resetToDefault();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "378282246310005, American Express",
+            "30569309025904, Diners",
+            "6011111111111117, Discover",
+            "6445111111111111, Discover",
+            "3530111333300000, JCB",
+            "5555555555554444, Mastercard",
+            "2223003122003222, Mastercard",
+            "4111111111111111, Visa",
+            "4222222222222, Visa",
+            "6212345678901265, China UnionPay",
+            "6703123412341234, Bancontact / Maestro"
+    })
+    public void givenAKnownPan_whenClassified_thenReturnBrand(String pan, String expectedBrand) {
+        assertEquals(expectedBrand, CardBins.classify(pan));
+    }
+
+    @Test
+    public void givenAPanWithSpaces_whenClassified_thenIgnoreSpaces() {
+        assertEquals("Visa", CardBins.classify("4111 1111 1111 1111"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "411111111111111",
+            "41111111111111112222",
+            "4111-1111-1111-1111",
+            "9111111111111111",
+            "''"
+    })
+    public void givenAnInvalidPan_whenClassified_thenReturnUnknown(String pan) {
+        assertEquals(CardBinTable.UNKNOWN, CardBins.classify(pan));
+        assertEquals(CardBinTable.UNKNOWN, CardBins.classify(null));
+    }
+
+    @Test
+    public void givenANewBinTable_whenReloaded_thenClassifyNewRanges() throws Exception {
+        // Arrange
+        final var table = """
+                # version: 2
+                636368,16,Elo
+                606282,16,Hipercard
+                4,13|16|19,Visa
+                """;
+
+        assertEquals(CardBinTable.UNKNOWN, CardBins.classify("6363681111111111"));
+
+        // Act
+        CardBins.reload(new ByteArrayInputStream(table.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals("2", CardBins.version());
+        assertEquals("Elo", CardBins.classify("6363681111111111"));
+        assertEquals("Hipercard", CardBins.classify("6062821111111111"));
+        assertEquals("Visa", CardBins.classify("4111111111111111"));
+        assertEquals(CardBinTable.UNKNOWN, CardBins.classify("5555555555554444"));
+    }
+
+    @Test
+    public void givenAMalformedBinTable_whenLoaded_thenThrowException() {
+        final var table = "34;15;American Express";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CardBinTable.load(new ByteArrayInputStream(table.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -1,6 +1,8 @@
 package com.MatheusJFA.Digibank.domain.dictionaries;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,4 +53,38 @@ class CountryCodesTest {
         assertEquals(expectedMessage, exception.getMessage());
     }
 
+    @Test
+    public void givenAValidCountryCode_whenGetIsoCode_thenReturnCorrectIsoCode() {
+        assertEquals("BR", CountryCodes.getIsoCodeByAreaCode(55));
+        assertEquals("US", CountryCodes.getIsoCodeByAreaCode(1));
+        assertEquals("AO", CountryCodes.getIsoCodeByAreaCode(244));
+        assertNull(CountryCodes.getIsoCodeByAreaCode(999));
+        assertNull(CountryCodes.getIsoCodeByAreaCode(-1));
+    }
+
+    @Test
+    public void givenAnIsoCode_whenGetCountryAreaCode_thenReturnCorrectAreaCode() {
+        assertEquals(55, CountryCodes.getAreaCodeByIsoCode("br"));
+        assertThrows(IllegalArgumentException.class, () -> CountryCodes.getAreaCodeByIsoCode("ZZ"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "5531987654321, 55",
+            "12125551234, 1",
+            "24492345678901, 244",
+            "74951234567, 7",
+            "+5531, 0",
+            "99912345, 0"
+    })
+    public void givenARawNumber_whenResolveAreaCode_thenReturnLongestKnownPrefix(String number, int expectedAreaCode) {
+        assertEquals(expectedAreaCode, CountryCodes.resolveAreaCode(number, 0));
+    }
+
+    @Test
+    public void givenTheAreaCodeMap_whenModified_thenThrowException() {
+        assertThrows(UnsupportedOperationException.class, () -> CountryCodes.AREA_CODE_TO_COUNTRY.put(999, "Teste"));
+        assertEquals(205, CountryCodes.AREA_CODE_TO_COUNTRY.size());
+    }
+
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.MatheusJFA.Digibank.domain.user;
 
 import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidCPFException;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidEmailException;
 import com.MatheusJFA.Digibank.shared.exceptions.InvalidFieldException;
@@ -10,6 +12,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +30,10 @@ public class UserTest {
      * 7. Verificar se o usuário pode ser ativado/desativado.
      * 8. Atualizar dados do usuário e verificar se a atualização foi bem-sucedida.
      * 9. Atualizar os dados do usuário com dados inválidos e verificar se a exceção é lançada.
+     * 10. Desativar e mudar o papel do usuário e verificar se um único evento com o estado final é gerado.
+     * 11. Criar ou atualizar os dados do usuário e verificar que nenhum evento de estado é gerado.
+     * 12. Reidratar um usuário persistido e verificar que id, versão e auditoria são mantidos e nenhum campo fica marcado.
+     * 13. Alterar dados do usuário e verificar que só os campos com valor diferente ficam marcados até a gravação.
      */
 
     @Test
@@ -259,4 +267,83 @@ public class UserTest {
         String expectedMessage = "Não pode fazer a atualização com valores nulos ou vazios";
         assertEquals(expectedMessage, exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenUser_whenDeactivateAndChangeRole_thenSingleStatusEventIsRecorded() {
+        // Arrange
+        User user = User.create("John Doe", "password123", "john.doe@email.com", "12345678909", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1), Role.USER);
+
+        // Act
+        user.deactivate();
+        user.changeRole(Role.MANAGER);
+        final var events = user.pullEvents();
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals(new UserStatusChanged(user.getId(), false, Role.MANAGER), events.getFirst());
+        assertTrue(user.pullEvents().isEmpty());
+    }
+
+    @Test
+    public void givenNewUser_whenUpdateUser_thenNoStatusEventIsRecorded() {
+        // Arrange
+        User user = User.create("John Doe", "password123", "john.doe@email.com", "12345678909", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1), Role.USER);
+
+        // Act
+        user.update("John Doe", "john@email.com", "12345678909", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1));
+
+        // Assert
+        assertTrue(user.pullEvents().isEmpty());
+        assertThrows(InvalidFieldException.class, () -> user.changeRole(null));
+    }
+
+    @Test
+    public void givenPersistedUser_whenRestored_thenIdVersionAndAuditAreKept() {
+        // Arrange
+        final var id = UUID.randomUUID();
+        final var createdDate = LocalDateTime.of(2026, 1, 1, 10, 0);
+        final var lastModifiedDate = LocalDateTime.of(2026, 2, 1, 10, 0);
+
+        // Act
+        User user = User.restore(id, "John Doe", "hash", ValueObjects.restoredEmail("john.doe@email.com"),
+                ValueObjects.restoredCpf(12345678909L), ValueObjects.restoredPhone("5531123456789"),
+                LocalDate.of(1990, 1, 1), false, Role.MANAGER, null, "admin", createdDate, "admin", lastModifiedDate, 7);
+
+        // Assert
+        assertEquals(id, user.getId());
+        assertEquals(id.toString(), user.getUsername());
+        assertEquals(7L, user.getVersion());
+        assertEquals(createdDate, user.getCreatedDate());
+        assertEquals(lastModifiedDate, user.getLastModifiedDate());
+        assertFalse(user.isActive());
+        assertEquals("email.com", user.getEmail().getDomain());
+        assertEquals("31", user.getPhone().getDDD());
+        assertEquals(55, user.getPhone().getDDICode());
+        assertEquals("12345678909", user.getCpf().getValue());
+        assertEquals(0, user.dirtyFields());
+        assertTrue(user.pullEvents().isEmpty());
+    }
+
+    @Test
+    public void givenUserChanges_whenValuesDiffer_thenOnlyThoseFieldsAreDirtyUntilPersisted() {
+        // Arrange
+        User user = User.restore(UUID.randomUUID(), "John Doe", "hash", ValueObjects.restoredEmail("john.doe@email.com"),
+                ValueObjects.restoredCpf(12345678909L), ValueObjects.restoredPhone("5531123456789"),
+                LocalDate.of(1990, 1, 1), true, Role.USER, null, null, null, null, null, 3);
+
+        // Act
+        user.update("John Doe", "john@email.com", "123.456.789-09", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1));
+        user.activate();
+        user.changeRole(Role.WORKER);
+
+        // Assert
+        assertEquals(UserField.EMAIL.mask() | UserField.ROLE.mask(), user.dirtyFields());
+        assertTrue(user.isDirty(UserField.EMAIL));
+        assertFalse(user.isDirty(UserField.CPF));
+        assertFalse(user.isDirty(UserField.ACTIVE));
+
+        user.markPersisted(4);
+        assertEquals(0, user.dirtyFields());
+        assertEquals(4L, user.getVersion());
+    }
+}
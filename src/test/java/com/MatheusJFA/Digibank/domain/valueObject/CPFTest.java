@@ -25,6 +25,9 @@ public class CPFTest {
      * 7. Dado um CPF com dígitos verificadores inválidos, quando criado, então deve lançar uma exceção InvalidCPFException.
      * 8. Dado um CPF com caracteres especiais, porém inválido, quando criado, então deve lançar uma exceção InvalidCPFException.
      * 9. Dado um CPF válido ao chamar o método `mask()`, então deve retornar o CPF formatado.
+     * 10. Dado um CPF válido, quando convertido para long e reconstruído, então deve manter o valor (inclusive zeros à esquerda).
+     * 11. Dado um número que não é um CPF válido, quando reconstruído, então deve lançar uma exceção InvalidCPFException.
+     * 12. Dado um CPF válido ao chamar o método `redact()`, então deve ocultar os três primeiros e os dois últimos dígitos.
      * * Exemplos de CPF válidos:
      *  - "12345678909"
      *  - "123.456.789-09"
@@ -215,4 +218,42 @@ public class CPFTest {
         assertEquals(expectedMaskedCPF, maskedCPF); // Verifica se o CPF foi formatado corretamente
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenAValidCPF_whenConvertedToLongAndBack_thenShouldKeepTheValue() {
+        // Arrange
+        CPF cpf = new CPF("026.503.960-67");
+
+        // Act
+        long numericValue = cpf.toLong();
+        CPF restored = CPF.of(numericValue);
+
+        // Assert
+        assertEquals(2650396067L, numericValue);
+        assertEquals("02650396067", restored.getValue());
+        assertEquals("026.503.960-67", restored.mask());
+    }
+
+    @Test
+    public void givenAnInvalidNumericCPF_whenRestored_thenShouldThrowInvalidCPFException() {
+        // Act
+        InvalidCPFException exception = assertThrows(InvalidCPFException.class, () -> CPF.of(12345678900L));
+
+        // Assert
+        String expectedMessage = "O CPF informado é inválido";
+        assertEquals(expectedMessage, exception.getMessage());
+        assertThrows(InvalidCPFException.class, () -> CPF.of(-1L));
+    }
+
+
+    @Test
+    public void givenAValidCPF_whenRedacted_thenShouldHideFirstAndLastDigits() {
+        // Arrange
+        CPF cpf = new CPF("12345678909");
+
+        // Act
+        String redactedCPF = cpf.redact();
+
+        // Assert
+        assertEquals("***.456.789-**", redactedCPF);
+    }
+}
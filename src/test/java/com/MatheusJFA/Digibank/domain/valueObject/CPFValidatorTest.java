@@ -0,0 +1,135 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CPFValidatorTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um CPF válido (com ou sem máscara), quando validado, então deve retornar VALID.
+     * 2. Dado um CPF nulo ou vazio, quando validado, então deve retornar NULL_OR_EMPTY.
+     * 3. Dado um CPF com quantidade de dígitos diferente de 11, quando validado, então deve retornar INVALID_LENGTH.
+     * 4. Dado um CPF com dígitos repetidos, quando validado, então deve retornar REPEATED_DIGITS.
+     * 5. Dado um CPF com dígitos verificadores inválidos, quando validado, então deve retornar INVALID_CHECK_DIGITS.
+     * 6. Dado um CPF em char[] ou byte[], quando validado, então deve ter o mesmo resultado da versão CharSequence.
+     * 7. Dado um CPF válido, quando convertido, então deve retornar os dígitos como long.
+     * 8. Dado um lote de CPFs, quando validado, então deve retornar o bitmap e os motivos de cada item.
+     */
+
+    @ParameterizedTest
+    @CsvSource({
+            "12345678909",
+            "123.456.789-09",
+            "02650396067",
+            "'123 456 789 09'",
+            "123*456$789@09",
+            "32203478004"
+    })
+    public void givenAValidCPF_whenValidated_thenShouldReturnValid(String cpf) {
+        assertEquals(CPFValidator.VALID, CPFValidator.validate(cpf));
+        assertTrue(CPFValidator.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    public void givenANullOrEmptyCPF_whenValidated_thenShouldReturnNullOrEmpty(String cpf) {
+        assertEquals(CPFValidator.NULL_OR_EMPTY, CPFValidator.validate(cpf));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "123456789",
+            "123.456.789-0A",
+            "123456789091",
+            "abc"
+    })
+    public void givenACPFWithInvalidLength_whenValidated_thenShouldReturnInvalidLength(String cpf) {
+        assertEquals(CPFValidator.INVALID_LENGTH, CPFValidator.validate(cpf));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "00000000000",
+            "11111111111",
+            "999.999.999-99"
+    })
+    public void givenACPFWithRepeatedDigits_whenValidated_thenShouldReturnRepeatedDigits(String cpf) {
+        assertEquals(CPFValidator.REPEATED_DIGITS, CPFValidator.validate(cpf));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "12345678900",
+            "12345678901",
+            "123@456$789-00",
+            "12345678919"
+    })
+    public void givenACPFWithInvalidCheckDigits_whenValidated_thenShouldReturnInvalidCheckDigits(String cpf) {
+        assertEquals(CPFValidator.INVALID_CHECK_DIGITS, CPFValidator.validate(cpf));
+    }
+
+    @Test
+    public void givenACPFAsArrays_whenValidated_thenShouldMatchCharSequenceResult() {
+        // Arrange
+        final var buffer = "xx123.456.789-09yy";
+
+        // Act
+        final var fromChars = CPFValidator.validate(buffer.toCharArray(), 2, 14);
+        final var fromBytes = CPFValidator.validate(buffer.getBytes(StandardCharsets.US_ASCII), 2, 14);
+
+        // Assert
+        assertEquals(CPFValidator.VALID, fromChars);
+        assertEquals(CPFValidator.VALID, fromBytes);
+    }
+
+    @Test
+    public void givenAValidCPF_whenParsed_thenShouldReturnDigitsAsLong() {
+        assertEquals(2650396067L, CPFValidator.parse("026.503.960-67"));
+        assertEquals(CPFValidator.INVALID, CPFValidator.parse("12345678900"));
+        assertEquals(CPFValidator.INVALID, CPFValidator.parse(null));
+    }
+
+    @Test
+    public void givenABatchOfCPFs_whenValidatedInBulk_thenShouldReturnBitmapAndReasons() {
+        // Arrange
+        final List<String> batch = List.of("12345678909", "11111111111", "123", "12345678900", "02650396067");
+
+        // Act
+        final var result = CPFValidator.validateAll(batch);
+
+        // Assert
+        assertEquals(5, result.size());
+        assertEquals(2, result.validCount());
+        assertEquals(3, result.invalidCount());
+        assertTrue(result.isValid(0));
+        assertFalse(result.isValid(1));
+        assertEquals(CPFValidator.REPEATED_DIGITS, result.reason(1));
+        assertEquals(CPFValidator.INVALID_LENGTH, result.reason(2));
+        assertEquals(CPFValidator.INVALID_CHECK_DIGITS, result.reason(3));
+        assertTrue(result.isValid(4));
+        assertEquals(0b10001L, result.toBitmap()[0]);
+    }
+
+    @Test
+    public void givenFixedWidthRecords_whenValidatedInBulk_thenShouldValidateEachRecord() {
+        // Arrange
+        final var records = "1234567890911111111111".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        final var result = CPFValidator.validateAll(records, 11);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.isValid(0));
+        assertEquals(CPFValidator.REPEATED_DIGITS, result.reason(1));
+        assertThrows(IllegalArgumentException.class, () -> CPFValidator.validateAll(records, 10));
+    }
+}
@@ -18,6 +18,7 @@ public class CreditCardTest {
      * 6 Cenário: Criar um cartão de crédito com dados nulos ou vazios.
      * 7 Cenário: Criar um cartão de crédito com número que não passa no algoritmo de Luhn.
      * 8 Cenário: Criar um cartão de crédito com nome do titular contendo mais de 50 caracteres.
+     * 9 Cenário: Ocultar o número do cartão, mantendo apenas os 4 últimos dígitos.
      */
 
     @Test
@@ -157,4 +158,11 @@ public class CreditCardTest {
         assertTrue(creditCard.isValid());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenValidCard_whenRedacted_thenOnlyLastFourDigitsAreVisible() {
+        final String nextYearDigits = LocalDate.now().plusYears(1).toString().substring(2, 4);
+        CreditCard creditCard = new CreditCard("4111111111111111", "João da Silva", "12/" + nextYearDigits, "123");
+
+        assertEquals("************1111", creditCard.redact());
+    }
+}
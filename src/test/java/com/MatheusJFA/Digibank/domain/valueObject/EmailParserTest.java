@@ -0,0 +1,116 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmailParserTest {
+
+    /**
+     * Cenários de teste:
+     * 1. Dado um email válido, o parser deve retornar a posição do '@'.
+     * 2. Dado um email inválido, o parser deve retornar INVALID.
+     * 3. Dado entradas aleatórias, o parser deve concordar com a antiga EMAIL_REGEX (pré-compilada aqui como referência).
+     * 4. Dado entradas adversariais, o parser deve responder em tempo linear.
+     * 5. Dado um email válido, a parte local e o domínio devem ser acessíveis sem nova varredura.
+     */
+
+    // Regex original de Email, usada apenas como oráculo para o teste diferencial
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile("^(?=.{1,64}@)[\\p{L}0-9_-]+(\\.[\\p{L}0-9_-]+)*@"
+            + "[^-][\\p{L}0-9-]+(\\.[\\p{L}0-9-]+)*(\\.[\\p{L}]{2,})$");
+
+    @ParameterizedTest
+    @CsvSource({
+            "test@domain.com, 4",
+            "john.doe@email.com, 8",
+            "joão_silva-2@correio.com.br, 12",
+            "a@bc.de, 1",
+            "x@sub-domain.example.org, 1"
+    })
+    public void givenValidEmail_whenParsing_thenShouldReturnAtPosition(String email, int expectedAt) {
+        assertEquals(expectedAt, EmailParser.parse(email));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "invalid-email",
+            "@invalid.com",
+            "invalid@.com",
+            "invalid@domain",
+            "invalid@domain.",
+            "invalid@domain..com",
+            "invalid@-domain.com",
+            "invalid@a.com",
+            "invalid@domain.c",
+            "invalid@domain.c0m",
+            ".invalid@domain.com",
+            "invalid.@domain.com",
+            "in..valid@domain.com",
+            "invalid@@domain.com",
+            "invalid@domain.com@other.com",
+            "'in valid@domain.com'"
+    })
+    public void givenInvalidEmail_whenParsing_thenShouldReturnInvalid(String email) {
+        assertEquals(EmailParser.INVALID, EmailParser.parse(email));
+    }
+
+    @Test
+    public void givenLocalPartLongerThan64Characters_whenParsing_thenShouldReturnInvalid() {
+        assertEquals(64, EmailParser.parse("a".repeat(64) + "@domain.com"));
+        assertEquals(EmailParser.INVALID, EmailParser.parse("a".repeat(65) + "@domain.com"));
+    }
+
+    @Test
+    public void givenRandomInputs_whenParsing_thenShouldAgreeWithLegacyRegex() {
+        final var random = new Random(7);
+        final char[] alphabet = {'a', 'b', 'é', '1', '.', '.', '-', '_', '@', '@', '!'};
+
+        for (int round = 0; round < 200_000; round++) {
+            final var input = new StringBuilder();
+            final int length = 1 + random.nextInt(14);
+            for (int i = 0; i < length; i++) input.append(alphabet[random.nextInt(alphabet.length)]);
+
+            final var email = input.toString();
+            final boolean legacy = LEGACY_EMAIL_PATTERN.matcher(email).matches();
+
+            // Divergência documentada: a regex aceitava qualquer caractere diferente de '-' logo após o '@'
+            final int at = email.indexOf('@');
+            if (legacy && at >= 0 && at + 1 < email.length() && !Character.isLetterOrDigit(email.charAt(at + 1))) continue;
+
+            assertEquals(legacy, EmailParser.isValid(email), "Entrada: " + email);
+        }
+    }
+
+    @Test
+    public void givenAdversarialInputs_whenParsing_thenShouldRunInLinearTime() {
+        final String[] adversarial = {
+                "a".repeat(64) + "@" + "a-".repeat(500_000) + "!",
+                "a@" + "aa.".repeat(300_000) + "a1",
+                "a@" + "a".repeat(1_000_000) + ".",
+                "a.".repeat(500_000) + "@domain.com",
+                "a@b" + ".a-a".repeat(250_000) + ".1"
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (String email : adversarial) {
+                assertFalse(EmailParser.isValid(email));
+            }
+        });
+    }
+
+    @Test
+    public void givenValidEmail_whenReadingParts_thenShouldReturnLocalPartAndDomain() {
+        final var email = new Email("john.doe@email.com");
+
+        assertEquals("john.doe", email.getLocalPart());
+        assertEquals("email.com", email.getDomain());
+        assertEquals("email.com", email.domainView().toString());
+        assertEquals("john.doe", email.localPartView().toString());
+    }
+}
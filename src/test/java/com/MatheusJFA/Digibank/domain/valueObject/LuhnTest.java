@@ -0,0 +1,114 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LuhnTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um PAN válido ou inválido, quando validado, então deve respeitar o algoritmo de Luhn.
+     * 2. Dado um payload, quando calculado o dígito verificador, então o PAN resultante deve ser válido.
+     * 3. Dado um lote colunar, quando validado, então deve ter o mesmo resultado da validação individual (vetorial ou escalar).
+     * 4. Dado um arquivo com um PAN por linha, quando validado em streaming, então deve entregar um bitmap por lote.
+     */
+
+    @ParameterizedTest
+    @CsvSource({
+            "4111111111111111, true",
+            "4111111111111112, false",
+            "378282246310005, true",
+            "5555555555554444, true",
+            "1234567890123456, false",
+            "4111-1111-1111-1111, false"
+    })
+    public void givenAPan_whenValidated_thenShouldFollowLuhnAlgorithm(String pan, boolean expected) {
+        assertEquals(expected, Luhn.isValid(pan));
+    }
+
+    @Test
+    public void givenAPayload_whenCheckDigitCalculated_thenResultingPanShouldBeValid() {
+        // Arrange
+        final var payload = "411111111111111";
+
+        // Act
+        final int checkDigit = Luhn.checkDigit(payload);
+
+        // Assert
+        assertEquals(1, checkDigit);
+        assertTrue(Luhn.isValid(payload + checkDigit));
+        assertThrows(IllegalArgumentException.class, () -> Luhn.checkDigit("41a1"));
+    }
+
+    @Test
+    public void givenAColumnarBatch_whenValidated_thenShouldMatchSingleValidation() {
+        // Arrange
+        final var random = new Random(42);
+        final int count = 1_003; // Não múltiplo do tamanho do vetor, para exercitar a cauda escalar
+        final var pans = new String[count];
+        for (int i = 0; i < count; i++) {
+            final var payload = new StringBuilder();
+            for (int digit = 0; digit < 15; digit++) payload.append(random.nextInt(10));
+            final int checkDigit = Luhn.checkDigit(payload);
+            pans[i] = payload.toString() + (i % 3 == 0 ? (checkDigit + 1) % 10 : checkDigit);
+        }
+
+        // Act
+        final var result = Luhn.validateColumns(Luhn.toColumns(pans, 16), count, 16);
+
+        final byte[] scalarSums = new byte[count];
+        Luhn.scalarSums(Luhn.toColumns(pans, 16), count, 16, scalarSums, 0);
+
+        // Assert
+        for (int i = 0; i < count; i++) {
+            assertEquals(Luhn.isValid(pans[i]), result.isValid(i), "PAN " + pans[i]);
+            assertEquals(Luhn.isValid(pans[i]), scalarSums[i] == 0, "PAN " + pans[i]);
+        }
+        assertEquals(count - (count + 2) / 3, result.validCount());
+    }
+
+    @Test
+    public void givenAFileWithPans_whenValidatedAsStream_thenShouldReturnABitmapPerBatch(@TempDir Path directory) throws Exception {
+        // Arrange
+        final var file = directory.resolve("pans.txt");
+        Files.writeString(file, "4111111111111111\n4111111111111112\r\n123\n41111111111111a1\n5555555555554444\n");
+
+        final List<BulkValidationResult> batches = new ArrayList<>();
+
+        // Act
+        final long total = Luhn.validate(file, 2, batches::add);
+
+        // Assert
+        assertEquals(5, total);
+        assertEquals(3, batches.size());
+        assertTrue(batches.get(0).isValid(0));
+        assertEquals(Luhn.INVALID_CHECKSUM, batches.get(0).reason(1));
+        assertEquals(Luhn.INVALID_LENGTH, batches.get(1).reason(0));
+        assertEquals(Luhn.NON_DIGIT, batches.get(1).reason(1));
+        assertEquals(1, batches.get(2).size());
+        assertTrue(batches.get(2).isValid(0));
+    }
+
+    @Test
+    public void givenABufferWithoutTrailingNewLine_whenValidatedAsStream_thenShouldValidateLastRecord() {
+        final var buffer = ByteBuffer.wrap("4111111111111111\n5555555555554444".getBytes(StandardCharsets.US_ASCII));
+        final List<BulkValidationResult> batches = new ArrayList<>();
+
+        final long total = Luhn.validate(buffer, 10, batches::add);
+
+        assertEquals(2, total);
+        assertEquals(2, batches.get(0).validCount());
+    }
+}
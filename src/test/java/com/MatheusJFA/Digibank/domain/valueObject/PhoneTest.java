@@ -20,6 +20,10 @@ public class PhoneTest {
      * 6. Dado um telefone válido, quando chamado o método mask, então deve retornar o telefone com a formatação correta (ex: "+55 (11) 91234-5678").
      * 7. Dado um telefone válido, quando chamado o método unmask, então deve retornar o telefone sem formatação (ex: "5511912345678").
      * 8. Dado um telefone válido, quando chamado o método getDDI e getDDD, então deve retornar os valores corretos (ex: DDI = "55", DDD = "11") e falar que o país é Brasil.
+     * 9. Dado um telefone sem máscara ou em E.164, quando criado, então o DDI deve ser identificado pelo maior prefixo conhecido.
+     * 10. Dado um telefone com DDI de 1 ou 3 dígitos, quando consultado o país, então deve retornar o país correto.
+     * 11. Dado um telefone inválido ou com máscara cujo DDI não é o maior prefixo conhecido, quando criado, então deve lançar InvalidPhoneException.
+     * 12. Dado um telefone com máscara, quando gravado só com os dígitos e reconstruído, então DDI, DDD e máscara devem ser os mesmos.
      */
 
     @ParameterizedTest
@@ -122,4 +126,76 @@ public class PhoneTest {
         assertEquals(expectedCountry, country);
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @CsvSource({
+            "5531987654321, 5531987654321, 55, 31, 987654321",
+            "+5531987654321, 5531987654321, 55, 31, 987654321",
+            "12125551234, 12125551234, 1, 21, 25551234",
+            "+1 (21) 2555-1234, 12125551234, 1, 21, 25551234",
+            "24492345678901, 24492345678901, 244, 92, 345678901",
+            "+244 (92) 34567-8901, 24492345678901, 244, 92, 345678901"
+    })
+    public void givenAPhoneWithVariableLengthDDI_whenCreated_thenShouldSplitDDIAndDDD(String input, String expectedValue, String expectedDDI, String expectedDDD, String expectedNumber) {
+        // Arrange & Act
+        Phone phone = new Phone(input);
+
+        // Assert
+        assertEquals(expectedValue, phone.getValue());
+        assertEquals(expectedDDI, phone.getDDI());
+        assertEquals(expectedDDD, phone.getDDD());
+        assertEquals(expectedNumber, phone.getNumber());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "+1 (21) 2555-1234, Estados Unidos/Canadá, '+1 (21) 2555-1234'",
+            "24492345678901, Angola, '+244 (92) 34567-8901'",
+            "35121123456789, Portugal, '+351 (21) 12345-6789'"
+    })
+    public void givenAPhoneWithVariableLengthDDI_whenGetCountry_thenShouldReturnCorrectCountry(String input, String expectedCountry, String expectedMask) {
+        // Arrange
+        Phone phone = new Phone(input);
+
+        // Act & Assert
+        assertEquals(expectedCountry, phone.getCountry());
+        assertEquals(expectedMask, phone.mask());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "99931987654321", // DDI desconhecido
+            "553198765", // Poucos dígitos
+            "+55 (31) 98765 4321", // Máscara incompleta
+            "+5531 (31) 98765-4321", // DDI com mais de 3 dígitos
+            "55 (31) 98765-4321", // Máscara sem '+'
+            "+2 (12) 3456-7890", // DDI desconhecido com máscara (voltaria do banco como +212)
+            "+35 (11) 99999-9999", // Prefixo de um DDI mais longo (voltaria do banco como +351)
+            "+99 (31) 98765-4321" // DDI desconhecido com máscara
+    })
+    public void givenAnInvalidPhone_whenParsed_thenShouldThrowInvalidPhoneException(String input) {
+        InvalidPhoneException exception = assertThrows(InvalidPhoneException.class, () -> new Phone(input));
+
+        assertEquals("O telefone deve estar no formato +DDI (DDD) 9999-9999 ou +DDI (DDD) 99999-9999.", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "+55 (31) 98765-4321, 55, 31",
+            "+1 (21) 2555-1234, 1, 21",
+            "+244 (92) 34567-8901, 244, 92",
+            "+351 (21) 12345-6789, 351, 21"
+    })
+    public void givenAMaskedPhone_whenStoredAsDigitsAndRestored_thenShouldKeepDDIDDDAndMask(String input, String expectedDDI, String expectedDDD) {
+        // Arrange
+        final Phone phone = new Phone(input);
+
+        // Act
+        final Phone restored = ValueObjects.restoredPhone(phone.getValue());
+
+        // Assert
+        assertEquals(expectedDDI, restored.getDDI());
+        assertEquals(expectedDDD, restored.getDDD());
+        assertEquals(input, restored.mask());
+        assertEquals(phone.getDDICode(), restored.getDDICode());
+    }
+}
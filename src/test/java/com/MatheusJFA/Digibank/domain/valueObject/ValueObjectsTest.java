@@ -0,0 +1,111 @@
+package com.MatheusJFA.Digibank.domain.valueObject;
+
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidCPFException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidEmailException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidPhoneException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueObjectsTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado o mesmo CPF com ou sem máscara, quando criado pela fábrica, então deve retornar a mesma instância.
+     * 2. Dado o mesmo email, quando criado pela fábrica, então deve retornar a mesma instância.
+     * 3. Dado o mesmo telefone com ou sem máscara, quando criado pela fábrica, então deve retornar a mesma instância.
+     * 4. Dado valores inválidos, quando criados pela fábrica, então devem lançar as mesmas exceções dos construtores.
+     * 5. Dado valores iguais criados fora da fábrica, quando comparados, então devem ser iguais (igualdade por valor).
+     * 6. Dado uma capacidade qualquer, quando criado o cache, então a quantidade de slots deve ser limitada à potência de 2 seguinte.
+     * 7. Dado valores inválidos já reidratados do banco, quando criados pela fábrica que valida, então devem lançar as exceções de validação.
+     * 8. Dado telefones gravados antes do parser, com DDI desconhecido ou que começa um código maior, quando reidratados, então devem voltar com o DDI de 2 dígitos da época.
+     */
+
+    @Test
+    public void givenTheSameCPF_whenCreatedByFactory_thenShouldReturnTheSameInstance() {
+        final var first = ValueObjects.cpf("123.456.789-09");
+        final var second = ValueObjects.cpf("12345678909");
+
+        assertSame(first, second);
+        assertEquals("12345678909", first.getValue());
+    }
+
+    @Test
+    public void givenTheSameEmail_whenCreatedByFactory_thenShouldReturnTheSameInstance() {
+        final var first = ValueObjects.email("john.doe@email.com");
+        final var second = ValueObjects.email(new String("john.doe@email.com"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void givenTheSamePhone_whenCreatedByFactory_thenShouldReturnTheSameInstance() {
+        final var first = ValueObjects.phone("+55 (31) 98765-4321");
+        final var second = ValueObjects.phone("5531987654321");
+
+        assertSame(first, second);
+        assertEquals("Brasil", second.getCountry());
+    }
+
+    @Test
+    public void givenInvalidValues_whenCreatedByFactory_thenShouldThrowTheSameExceptions() {
+        assertEquals("O CPF informado é inválido",
+                assertThrows(InvalidCPFException.class, () -> ValueObjects.cpf("12345678900")).getMessage());
+        assertEquals("O CPF não pode ser nulo ou vazio",
+                assertThrows(InvalidCPFException.class, () -> ValueObjects.cpf((String) null)).getMessage());
+        assertEquals("O Email informado é inválido",
+                assertThrows(InvalidEmailException.class, () -> ValueObjects.email("invalid-email")).getMessage());
+        assertEquals("O telefone não pode ser nulo ou vazio.",
+                assertThrows(InvalidPhoneException.class, () -> ValueObjects.phone("")).getMessage());
+    }
+
+    @Test
+    public void givenEqualValuesCreatedWithoutFactory_whenCompared_thenShouldBeEqual() {
+        assertEquals(new CPF("12345678909"), new CPF("123.456.789-09"));
+        assertEquals(new CPF("12345678909").hashCode(), new CPF("123.456.789-09").hashCode());
+        assertEquals(new Email("a@bc.de"), new Email("a@bc.de"));
+        assertEquals(new Phone("+55 (31) 98765-4321"), new Phone("5531987654321"));
+        assertNotEquals(new CPF("12345678909"), new CPF("32203478004"));
+    }
+
+    @Test
+    public void givenACapacity_whenInternerCreated_thenShouldRoundUpToPowerOfTwo() {
+        assertEquals(1024, new WeakInterner<CPF>(1000).capacity());
+        assertEquals(1024, new WeakInterner<CPF>(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new WeakInterner<CPF>(0));
+    }
+
+    @Test
+    public void givenInvalidValuesAlreadyRestored_whenCreatedByValidatingFactory_thenShouldStillThrow() {
+        // Arrange: linhas antigas que não passam nas regras atuais
+        final var restoredEmail = ValueObjects.restoredEmail("legacy@-email.com");
+        final var restoredCpf = ValueObjects.restoredCpf(12345678900L);
+
+        // Act & Assert
+        assertSame(restoredEmail, ValueObjects.restoredEmail("legacy@-email.com"));
+        assertSame(restoredCpf, ValueObjects.restoredCpf(12345678900L));
+        assertThrows(InvalidEmailException.class, () -> ValueObjects.email("legacy@-email.com"));
+        assertThrows(InvalidCPFException.class, () -> ValueObjects.cpf(12345678900L));
+        assertThrows(InvalidCPFException.class, () -> ValueObjects.cpf("123.456.789-00"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "281191234567, 28, 11, +28 (11) 9123-4567",
+            "351234567890, 35, 12, +35 (12) 3456-7890",
+            "993112345678, 99, 31, +99 (31) 1234-5678",
+            "5531987654321, 55, 31, +55 (31) 98765-4321"
+    })
+    public void givenPhonesStoredBeforeParser_whenRestored_thenShouldKeepTheirTwoDigitDdi(String digits, String ddi, String ddd, String masked) {
+        // Act
+        final Phone phone = ValueObjects.restoredPhone(digits);
+
+        // Assert
+        assertEquals(ddi, phone.getDDI());
+        assertEquals(ddd, phone.getDDD());
+        assertEquals(masked, phone.mask());
+        assertEquals(digits, phone.getValue());
+    }
+}
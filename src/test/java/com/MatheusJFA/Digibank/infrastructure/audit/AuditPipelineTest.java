@@ -0,0 +1,270 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import com.MatheusJFA.Digibank.domain.valueObject.CPF;
+import com.MatheusJFA.Digibank.domain.valueObject.CreditCard;
+import com.MatheusJFA.Digibank.domain.valueObject.Email;
+import com.MatheusJFA.Digibank.domain.valueObject.Phone;
+import com.MatheusJFA.Digibank.infrastructure.security.SecurityAuditAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditPipelineTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado uma fila cheia, quando um evento é publicado, então deve ser recusado; depois de drenada, a fila deve ser reutilizada em ordem.
+     * 2. Dado vários produtores simultâneos, quando publicam, então cada evento aceito deve ser entregue exatamente uma vez.
+     * 3. Dado objetos de valor, textos e records com segredos, quando mascarados, então nenhum dado sensível deve aparecer e UUIDs devem ficar intactos.
+     * 4. Dado eventos publicados, quando o pipeline é encerrado, então todos devem ser entregues ao sink e contados.
+     * 5. Dado um sink com falha ou a fila cheia, quando eventos são publicados, então devem ser contados como falha ou descarte.
+     * 6. Dado um método com @PreAuthorize, quando chamado através do aspecto, então o arquivo de auditoria deve ter os argumentos mascarados.
+     */
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private AuditPipeline pipeline;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (pipeline != null) ReflectionTestUtils.invokeMethod(pipeline, "close");
+    }
+
+    private static class RecordingSink implements AuditSink {
+        final List<List<AuditRecord>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(List<AuditRecord> batch) {
+            batches.add(List.copyOf(batch));
+        }
+
+        List<AuditRecord> records() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    private AuditPipeline pipeline(int bufferSize, AuditSink... sinks) {
+        final var beanFactory = new StaticListableBeanFactory();
+        for (int i = 0; i < sinks.length; i++) beanFactory.addBean("sink" + i, sinks[i]);
+
+        pipeline = new AuditPipeline(beanFactory.getBeanProvider(AuditSink.class), registry, bufferSize, 4, 5);
+        return pipeline;
+    }
+
+    private static AuditEvent event(String principal, Object... args) {
+        return new AuditEvent(0, AuditEvent.Type.SECURITY_CHECK, principal, AuditPipelineTest.class, "transferir", args, null);
+    }
+
+    private double events(String result) {
+        return registry.get("digibank.audit.events").tag("result", result).counter().count();
+    }
+
+    @Test
+    public void givenFullBuffer_whenPublished_thenShouldRejectAndReuseSlotsInOrder() {
+        // Arrange
+        final var buffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) assertTrue(buffer.offer(event("user-" + i)));
+
+        // Act
+        final boolean rejected = buffer.offer(event("user-4"));
+        final List<String> first = new ArrayList<>();
+        buffer.drain(event -> first.add(event.principal()), 3);
+        for (int i = 5; i < 8; i++) assertTrue(buffer.offer(event("user-" + i)));
+        final List<String> second = new ArrayList<>();
+        buffer.drain(event -> second.add(event.principal()), 10);
+
+        // Assert
+        assertFalse(rejected);
+        assertEquals(List.of("user-0", "user-1", "user-2"), first);
+        assertEquals(List.of("user-3", "user-5", "user-6", "user-7"), second);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void givenConcurrentProducers_whenPublishing_thenEachAcceptedEventShouldBeDeliveredOnce() throws Exception {
+        // Arrange
+        final var buffer = new AuditRingBuffer(1024);
+        final var accepted = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final Set<String> received = new HashSet<>();
+        final var duplicates = new AtomicInteger();
+
+        // Act
+        try (var producers = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                final int producer = t;
+                producers.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 20_000; i++) {
+                        if (buffer.offer(event(producer + ":" + i))) accepted.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+            producers.shutdown();
+
+            // Consome enquanto os produtores publicam, para que a fila dê várias voltas
+            while (!producers.isTerminated()) {
+                buffer.drain(event -> {
+                    if (!received.add(event.principal())) duplicates.incrementAndGet();
+                }, 256);
+            }
+        }
+        buffer.drain(event -> {
+            if (!received.add(event.principal())) duplicates.incrementAndGet();
+        }, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(0, duplicates.get());
+        assertEquals(accepted.get(), received.size());
+        assertTrue(accepted.get() > 0);
+    }
+
+    record TransferRequest(String cpf, String email, String password, long amount, Map<String, String> metadata) {
+    }
+
+    @Test
+    public void givenSensitiveArguments_whenMasked_thenNoSensitiveDataShouldAppear() {
+        // Arrange
+        final var masker = new AuditMasker();
+        final String nextYear = LocalDate.now().plusYears(1).toString().substring(2, 4);
+        final var error = new IllegalStateException("CPF 123.456.789-09 já cadastrado para joao.silva@email.com");
+
+        // Act
+        final AuditRecord record = masker.mask(new AuditEvent(0, AuditEvent.Type.SECURITY_FAILURE, "user-1",
+                AuditPipelineTest.class, "transferir", new Object[]{
+                new CPF("12345678909"),
+                new CreditCard("4111111111111111", "João da Silva", "12/" + nextYear, "123"),
+                new Email("joao.silva@email.com"),
+                new Phone("+55 (31) 98765-4321"),
+                new TransferRequest("12345678909", "maria@email.com", "senha-forte", 150, new HashMap<>(Map.of("a", "b"))),
+                new StringBuilder("conteúdo qualquer"),
+                "usuário 550e8400-e29b-41d4-a716-446655440000 e conta 1234567890",
+                new Object(),
+                null
+        }, error));
+
+        // Assert
+        assertEquals(List.of(
+                "***.456.789-**",
+                "************1111",
+                "j***@email.com",
+                "+55 (31) *****-4321",
+                "TransferRequest[cpf=*********09, email=m***@email.com, password=***, amount=150, metadata=HashMap(1)]",
+                "conteúdo qualquer",
+                "usuário 550e8400-e29b-41d4-a716-446655440000 e conta ********90",
+                "<Object>",
+                "null"
+        ), record.arguments());
+        assertEquals("IllegalStateException: CPF ***.***.***-09 já cadastrado para j***@email.com", record.error());
+        assertEquals("AuditPipelineTest.transferir", record.method());
+    }
+
+    @Test
+    public void givenPublishedEvents_whenPipelineClosed_thenAllShouldBeDeliveredAndCounted() {
+        // Arrange
+        final var sink = new RecordingSink();
+        final var auditPipeline = pipeline(64, sink);
+        ReflectionTestUtils.invokeMethod(auditPipeline, "init");
+
+        // Act
+        for (int i = 0; i < 10; i++) auditPipeline.publish(event("user-" + i, "12345678909"));
+        ReflectionTestUtils.invokeMethod(auditPipeline, "close");
+
+        // Assert
+        final List<AuditRecord> records = sink.records();
+        assertEquals(10, records.size());
+        assertEquals("user-0", records.getFirst().principal());
+        assertEquals(List.of("*********09"), records.getFirst().arguments());
+        assertTrue(sink.batches.stream().allMatch(batch -> batch.size() <= 4));
+        assertEquals(10, events("written"));
+    }
+
+    @Test
+    public void givenFailingSinkOrFullBuffer_whenPublished_thenShouldCountFailuresAndDrops() {
+        // Arrange
+        final AuditSink failing = batch -> {
+            throw new IllegalStateException("Kafka indisponível");
+        };
+        final var auditPipeline = pipeline(4, failing);
+
+        // Act: sem a thread de drenagem, a fila enche
+        for (int i = 0; i < 6; i++) auditPipeline.publish(event("user-" + i));
+        ReflectionTestUtils.invokeMethod(auditPipeline, "init");
+        ReflectionTestUtils.invokeMethod(auditPipeline, "close");
+
+        // Assert
+        assertEquals(2, events("dropped"));
+        assertEquals(4, events("failed"));
+        assertEquals(0, events("written"));
+    }
+
+    static class TransferService {
+        @PreAuthorize("hasRole('USER')")
+        public String transfer(CPF cpf, String email, long amount) {
+            return "ok";
+        }
+    }
+
+    @Test
+    public void givenPreAuthorizeMethod_whenCalledThroughAspect_thenAuditFileShouldHaveMaskedArguments() throws Exception {
+        // Arrange
+        final Path file = directory.resolve("audit.log");
+        final var sink = new FileAuditSink(file.toString());
+        final var auditPipeline = pipeline(64, sink);
+        ReflectionTestUtils.invokeMethod(auditPipeline, "init");
+
+        final var factory = new AspectJProxyFactory(new TransferService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SecurityAuditAspect(auditPipeline));
+        final TransferService proxy = factory.getProxy();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user-1", null, List.of()));
+
+        // Act
+        proxy.transfer(new CPF("12345678909"), "joao@email.com", 100);
+        ReflectionTestUtils.invokeMethod(auditPipeline, "close");
+        ReflectionTestUtils.invokeMethod(sink, "close");
+
+        // Assert
+        final List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"type\":\"SECURITY_CHECK\""));
+        assertTrue(lines.get(0).contains("\"principal\":\"user-1\""));
+        assertTrue(lines.get(0).contains("\"arguments\":[\"***.456.789-**\",\"j***@email.com\",\"100\"]"));
+        assertTrue(lines.get(1).contains("\"type\":\"SECURITY_SUCCESS\""));
+        assertFalse(String.join("\n", lines).contains("12345678909"));
+        assertFalse(String.join("\n", lines).contains("joao@"));
+    }
+}
@@ -0,0 +1,210 @@
+package com.MatheusJFA.Digibank.infrastructure.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditSegmentStoreTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado eventos de vários dias, quando consultados por usuário, então devem vir os eventos em que ele é autor ou alvo, mais recentes primeiro, pulando os blocos sem ele.
+     * 2. Dado um período e um tipo, quando consultados, então só os eventos dentro de [from, to) e do tipo devem voltar.
+     * 3. Dado um bloco ainda em memória, quando consultado antes e depois de gravado, então deve aparecer uma única vez.
+     * 4. Dado mais eventos que o limite, quando consultados, então devem vir os mais recentes e os dias mais antigos não devem ser abertos.
+     * 5. Dado um segmento com um bloco gravado pela metade, quando reaberto, então o resto deve ser descartado e a gravação deve continuar.
+     * 6. Dado segmentos mais antigos que a retenção, quando um novo segmento é aberto, então devem ser apagados.
+     */
+
+    private static final Instant DAY_1 = Instant.parse("2026-09-01T10:00:00Z");
+    private static final Instant DAY_2 = Instant.parse("2026-09-02T10:00:00Z");
+    private static final Instant DAY_3 = Instant.parse("2026-09-03T10:00:00Z");
+    private static final Instant END = Instant.parse("2026-10-01T00:00:00Z");
+
+    private final String admin = UUID.randomUUID().toString();
+    private final String target = UUID.randomUUID().toString();
+
+    @TempDir
+    Path directory;
+
+    private AuditSegmentStore store;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (store != null) store.close();
+    }
+
+    private AuditSegmentStore store(int blockRecords) {
+        store = new AuditSegmentStore(directory.toString(), blockRecords, 0, 0);
+        return store;
+    }
+
+    private static AuditRecord record(Instant timestamp, AuditEvent.Type type, String principal, String... arguments) {
+        return new AuditRecord(timestamp, type, principal, "UserService.findById", List.of(arguments), null);
+    }
+
+    // Outros usuários acessando os próprios dados, para encher os blocos
+    private static List<AuditRecord> noise(Instant start, int count) {
+        final List<AuditRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String user = UUID.randomUUID().toString();
+            records.add(record(start.plusSeconds(i), AuditEvent.Type.SECURITY_CHECK, user, user));
+        }
+        return records;
+    }
+
+    @Test
+    public void givenEventsOverSeveralDays_whenQueriedByUser_thenShouldReturnEventsAsActorOrTargetNewestFirst() throws IOException {
+        // Arrange
+        final var auditStore = store(16);
+        auditStore.write(noise(DAY_1, 64));
+        auditStore.write(List.of(record(DAY_1.plusSeconds(100), AuditEvent.Type.SECURITY_CHECK, admin, "UserRequest[id=" + target + ", email=j***@email.com]")));
+        auditStore.write(noise(DAY_2, 64));
+        auditStore.write(List.of(record(DAY_3, AuditEvent.Type.SECURITY_CHECK, target, target)));
+        auditStore.write(noise(DAY_3.plusSeconds(1), 64));
+        auditStore.idle();
+
+        // Act
+        final AuditQueryResult result = auditStore.query(new AuditQuery(DAY_1.minus(Duration.ofDays(1)), END, target.toUpperCase(), null, 10));
+        final AuditQueryResult byAdmin = auditStore.query(new AuditQuery(DAY_1.minus(Duration.ofDays(1)), END, admin, null, 10));
+
+        // Assert
+        assertEquals(List.of(DAY_3, DAY_1.plusSeconds(100)), result.events().stream().map(AuditRecord::timestamp).toList());
+        assertEquals(target, result.events().getFirst().principal());
+        assertEquals(admin, result.events().get(1).principal());
+        assertFalse(result.truncated());
+        assertEquals(3, result.segmentsScanned());
+        assertTrue(result.blocksSkipped() > result.blocksRead(), "O filtro de Bloom deve evitar a maioria dos blocos");
+
+        assertEquals(1, byAdmin.events().size());
+    }
+
+    @Test
+    public void givenPeriodAndType_whenQueried_thenOnlyMatchingEventsShouldBeReturned() throws IOException {
+        // Arrange
+        final var auditStore = store(4);
+        final List<AuditRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final AuditEvent.Type type = i % 2 == 0 ? AuditEvent.Type.SECURITY_CHECK : AuditEvent.Type.SECURITY_FAILURE;
+            records.add(record(DAY_1.plusSeconds(i), type, admin, target));
+        }
+        auditStore.write(records);
+        auditStore.idle();
+
+        // Act
+        final AuditQueryResult result = auditStore.query(
+                new AuditQuery(DAY_1.plusSeconds(3), DAY_1.plusSeconds(8), null, AuditEvent.Type.SECURITY_FAILURE, 100));
+
+        // Assert
+        assertEquals(List.of(DAY_1.plusSeconds(7), DAY_1.plusSeconds(5), DAY_1.plusSeconds(3)),
+                result.events().stream().map(AuditRecord::timestamp).toList());
+        assertEquals(List.of(target), result.events().getFirst().arguments());
+    }
+
+    @Test
+    public void givenBlockStillInMemory_whenQueriedBeforeAndAfterFlush_thenShouldAppearOnce() throws IOException {
+        // Arrange
+        final var auditStore = new AuditSegmentStore(directory.toString(), 256, Long.MAX_VALUE, 0);
+        store = auditStore;
+        auditStore.write(List.of(record(DAY_1, AuditEvent.Type.SECURITY_CHECK, admin, target)));
+        final var query = new AuditQuery(DAY_1, END, target, null, 10);
+
+        // Act
+        final AuditQueryResult inMemory = auditStore.query(query);
+        auditStore.close();
+        final AuditQueryResult onDisk = auditStore.query(query);
+
+        // Assert
+        assertEquals(1, inMemory.events().size());
+        assertEquals(0, inMemory.blocksRead());
+        assertEquals(1, onDisk.events().size());
+        assertEquals(1, onDisk.blocksRead());
+        assertTrue(Files.exists(directory.resolve("2026-09-01.seg")));
+    }
+
+    @Test
+    public void givenMoreEventsThanLimit_whenQueried_thenShouldReturnNewestAndSkipOlderDays() throws IOException {
+        // Arrange
+        final var auditStore = store(8);
+        auditStore.write(noise(DAY_1, 32));
+        auditStore.write(noise(DAY_2, 32));
+        auditStore.write(noise(DAY_3, 32));
+        auditStore.idle();
+
+        // Act
+        final AuditQueryResult result = auditStore.query(new AuditQuery(DAY_1, END, null, null, 5));
+
+        // Assert
+        assertEquals(List.of(DAY_3.plusSeconds(31), DAY_3.plusSeconds(30), DAY_3.plusSeconds(29),
+                        DAY_3.plusSeconds(28), DAY_3.plusSeconds(27)),
+                result.events().stream().map(AuditRecord::timestamp).toList());
+        assertTrue(result.truncated());
+        assertEquals(1, result.segmentsScanned());
+        assertEquals(1, result.blocksRead());
+    }
+
+    @Test
+    public void givenHalfWrittenBlock_whenSegmentReopened_thenShouldDiscardItAndKeepWriting() throws IOException {
+        // Arrange
+        final var auditStore = store(4);
+        auditStore.write(noise(DAY_1, 8));
+        auditStore.close();
+
+        // Simula a queda entre a gravação do bloco no .seg e a da entrada no .idx
+        final Path data = directory.resolve("2026-09-01.seg");
+        final long size = Files.size(data);
+        Files.write(data, new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        // Act
+        final var reopened = store(4);
+        reopened.write(noise(DAY_1.plusSeconds(60), 4));
+        reopened.idle();
+        final AuditQueryResult result = reopened.query(new AuditQuery(DAY_1, END, null, null, 100));
+
+        // Assert
+        assertEquals(12, result.events().size());
+        assertEquals(3, result.blocksRead());
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+            assertTrue(channel.size() > size);
+        }
+    }
+
+    @Test
+    public void givenSegmentsOlderThanRetention_whenNewSegmentOpened_thenShouldBeDeleted() throws IOException {
+        // Arrange
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final Instant old = today.minusDays(40).atStartOfDay(ZoneOffset.UTC).toInstant();
+        final Instant recent = today.minusDays(10).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        final var first = store(4);
+        first.write(noise(old, 4));
+        first.write(noise(recent, 4));
+        first.close();
+
+        // Act
+        store = new AuditSegmentStore(directory.toString(), 4, 0, 30);
+        store.write(noise(Instant.now(), 1));
+        store.idle();
+
+        // Assert
+        assertFalse(Files.exists(directory.resolve(today.minusDays(40) + ".seg")));
+        assertFalse(Files.exists(directory.resolve(today.minusDays(40) + ".idx")));
+        assertTrue(Files.exists(directory.resolve(today.minusDays(10) + ".idx")));
+        assertEquals(5, store.query(new AuditQuery(old, Instant.now().plusSeconds(1), null, null, 100)).events().size());
+    }
+}
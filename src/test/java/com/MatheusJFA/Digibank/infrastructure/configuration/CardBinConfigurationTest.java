@@ -0,0 +1,115 @@
+package com.MatheusJFA.Digibank.infrastructure.configuration;
+
+import com.MatheusJFA.Digibank.domain.dictionaries.CardBinTable;
+import com.MatheusJFA.Digibank.domain.dictionaries.CardBins;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardBinConfigurationTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado a tabela configurada já carregada, quando o arquivo é trocado por outro com novas faixas, então a verificação periódica deve passar a classificar as novas faixas.
+     * 2. Dado o arquivo sem alterações, quando verificado, então a tabela não deve ser recarregada.
+     * 3. Dado o arquivo trocado por um malformado, quando verificado, então a tabela atual deve ser mantida até a próxima troca válida.
+     */
+
+    private static final String VERSION_1 = """
+            # version: 1
+            4,13|16|19,Visa
+            """;
+
+    private static final String VERSION_2 = """
+            # version: 2
+            636368,16,Elo
+            4,13|16|19,Visa
+            """;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private CardBinConfiguration configuration;
+    private Instant modified = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = directory.resolve("card-bins.csv");
+        write(VERSION_1);
+        configuration = new CardBinConfiguration(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(configuration, "binTableLocation", file.toUri().toString());
+        configuration.loadConfiguredTable();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CardBins.resetToDefault();
+    }
+
+    // Cada gravação avança a data de modificação, sem depender da resolução do sistema de arquivos
+    private void write(String table) throws IOException {
+        Files.writeString(file, table, StandardCharsets.UTF_8);
+        modified = modified.plusSeconds(1);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+
+    @Test
+    public void givenLoadedTable_whenFileIsReplacedWithNewRanges_thenPollShouldClassifyThem() throws IOException {
+        // Arrange
+        assertEquals("1", CardBins.version());
+        assertEquals(CardBinTable.UNKNOWN, CardBins.classify("6363681111111111"));
+        write(VERSION_2);
+
+        // Act
+        configuration.reloadIfChanged();
+
+        // Assert
+        assertEquals("2", CardBins.version());
+        assertEquals("Elo", CardBins.classify("6363681111111111"));
+        assertEquals("Visa", CardBins.classify("4111111111111111"));
+    }
+
+    @Test
+    public void givenUnchangedFile_whenPolled_thenTableShouldNotBeReloaded() {
+        // Arrange
+        final CardBinTable loaded = CardBins.current();
+
+        // Act
+        configuration.reloadIfChanged();
+
+        // Assert
+        assertSame(loaded, CardBins.current());
+    }
+
+    @Test
+    public void givenMalformedReplacement_whenPolled_thenCurrentTableShouldBeKeptUntilNextValidChange() throws IOException {
+        // Arrange
+        write("636368;16;Elo");
+
+        // Act
+        configuration.reloadIfChanged();
+        final CardBinTable afterMalformed = CardBins.current();
+        configuration.reloadIfChanged();
+
+        // Assert
+        assertEquals("1", afterMalformed.version());
+        assertSame(afterMalformed, CardBins.current(), "Um arquivo recusado não deve ser relido a cada verificação");
+
+        write(VERSION_2);
+        configuration.reloadIfChanged();
+        assertEquals("2", CardBins.version());
+    }
+}
@@ -0,0 +1,498 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserGateway;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserPasswordChanged;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingUserGatewayTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um usuário já consultado, quando consultado de novo, então deve vir do cache em memória como uma cópia nova.
+     * 2. Dado um usuário consultado por id, quando consultado por e-mail e por CPF, então o banco não deve ser consultado de novo.
+     * 3. Dado um usuário carregado em um nó, quando consultado em outro nó, então deve vir do Redis.
+     * 4. Dado um usuário em cache nos dois nós, quando o e-mail é alterado em um deles, então o outro deve ver a alteração e o e-mail antigo não deve ser encontrado.
+     * 5. Dado o Redis indisponível, quando um usuário é consultado, então deve vir do banco.
+     * 6. Dado um usuário em cache, quando removido, então não deve ser encontrado em nenhum nó.
+     * 7. Dado consultas com e sem acerto, quando concluídas, então as métricas por nível devem ser contadas.
+     * 8. Dado usuários no cache em memória, no Redis e só no banco, quando buscados em lote, então devem vir na ordem pedida com uma única consulta ao banco.
+     * 9. Dado usuários buscados em lote por CPF, quando buscados de novo por e-mail, então devem vir do cache em memória.
+     * 10. Dado um usuário em cache nos dois nós, quando a senha é refeita direto no banco pelo login, então os dois nós devem reler o usuário.
+     * 11. Dado um usuário com hash de senha, quando lido pelo cache (banco, memória, Redis ou lote), então o hash não deve ser guardado nem devolvido.
+     * 12. Dado uma escrita de outro nó entre a leitura do banco e a gravação no Redis, com o aviso por pub/sub ainda a caminho, quando a carga termina, então a leitura antiga não deve ficar no Redis.
+     */
+
+    // Redis compartilhado entre "nós" que entrega as invalidações a todos os assinantes, como o pub/sub
+    private static final class InMemoryUserCacheStore implements UserCacheStore {
+        private final Map<UUID, User> users = new ConcurrentHashMap<>();
+        private final Map<String, UUID> idsByEmail = new ConcurrentHashMap<>();
+        private final Map<Long, UUID> idsByCpf = new ConcurrentHashMap<>();
+        private final Map<UUID, Long> epochs = new ConcurrentHashMap<>();
+        private long epoch;
+        private final List<Consumer<UUID>> listeners = new ArrayList<>();
+        private final List<UUID> pending = new ArrayList<>();
+        private boolean failing;
+        private boolean delayed;
+
+        @Override
+        public User get(UUID id) {
+            check();
+            final User user = users.get(id);
+            return user != null ? CachingUserGateway.copyOf(user) : null;
+        }
+
+        @Override
+        public List<User> getAll(List<UUID> ids) {
+            check();
+            return ids.stream().map(this::get).toList();
+        }
+
+        @Override
+        public UUID idByEmail(String email) {
+            check();
+            return idsByEmail.get(email);
+        }
+
+        @Override
+        public UUID idByCpf(long cpf) {
+            check();
+            return idsByCpf.get(cpf);
+        }
+
+        @Override
+        public long epoch(UUID id) {
+            check();
+            return epochs.getOrDefault(id, 0L);
+        }
+
+        @Override
+        public List<Long> epochs(List<UUID> ids) {
+            return ids.stream().map(this::epoch).toList();
+        }
+
+        @Override
+        public long epoch() {
+            check();
+            return epoch;
+        }
+
+        @Override
+        public void put(User user, long epoch) {
+            check();
+            if (epoch(user.getId()) == epoch) store(user);
+        }
+
+        @Override
+        public void putAll(Collection<User> users, Map<UUID, Long> epochs) {
+            users.forEach(user -> put(user, epochs.get(user.getId())));
+        }
+
+        @Override
+        public void putAll(Collection<User> users, long epoch) {
+            check();
+            if (this.epoch == epoch) users.forEach(this::store);
+        }
+
+        private void store(User user) {
+            users.put(user.getId(), CachingUserGateway.copyOf(user));
+            idsByEmail.put(user.getEmail().getValue(), user.getId());
+            idsByCpf.put(user.getCpf().toLong(), user.getId());
+        }
+
+        @Override
+        public void invalidate(UUID id) {
+            check();
+            users.remove(id);
+            epochs.merge(id, 1L, Long::sum);
+            epoch++;
+            if (delayed) pending.add(id);
+            else listeners.forEach(listener -> listener.accept(id));
+        }
+
+        // Entrega os avisos retidos enquanto delayed
+        void deliver() {
+            pending.forEach(id -> listeners.forEach(listener -> listener.accept(id)));
+            pending.clear();
+        }
+
+        @Override
+        public void subscribe(Consumer<UUID> listener) {
+            listeners.add(listener);
+        }
+
+        private void check() {
+            if (failing) throw new IllegalStateException("Redis indisponível");
+        }
+    }
+
+    // Banco compartilhado pelos nós, contando as consultas
+    private static final class InMemoryUserGateway implements UserGateway {
+        private final Map<UUID, User> users = new ConcurrentHashMap<>();
+        private int lookups;
+        private final List<Collection<?>> batches = new ArrayList<>();
+        // Executado uma vez logo depois da próxima leitura, como uma escrita concorrente de outro nó
+        private Runnable afterRead;
+
+        private <T> T read(T result) {
+            final Runnable action = afterRead;
+            afterRead = null;
+            if (action != null) action.run();
+            return result;
+        }
+
+        @Override
+        public User save(User user) {
+            users.put(user.getId(), CachingUserGateway.copyOf(user));
+            return user;
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            lookups++;
+            return read(Optional.ofNullable(users.get(id)).map(CachingUserGateway::copyOf));
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            lookups++;
+            return read(users.values().stream().filter(user -> user.getEmail().getValue().equals(email)).findFirst()
+                    .map(CachingUserGateway::copyOf));
+        }
+
+        @Override
+        public Optional<User> findByCpf(String cpf) {
+            lookups++;
+            return users.values().stream().filter(user -> user.getCpf().getValue().equals(cpf)).findFirst()
+                    .map(CachingUserGateway::copyOf);
+        }
+
+        @Override
+        public Optional<User> findByPhone(String phone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<UUID> ids) {
+            batches.add(List.copyOf(ids));
+            return read(ids.stream().map(users::get).filter(Objects::nonNull).map(CachingUserGateway::copyOf).toList());
+        }
+
+        @Override
+        public List<User> findAllByCpfs(Collection<String> cpfs) {
+            batches.add(List.copyOf(cpfs));
+            final List<String> digits = cpfs.stream().map(cpf -> ValueObjects.cpf(cpf).getValue()).toList();
+            return users.values().stream().filter(user -> digits.contains(user.getCpf().getValue()))
+                    .map(CachingUserGateway::copyOf).toList();
+        }
+
+        @Override
+        public List<User> findAllByEmails(Collection<String> emails) {
+            batches.add(List.copyOf(emails));
+            return users.values().stream().filter(user -> emails.contains(user.getEmail().getValue()))
+                    .map(CachingUserGateway::copyOf).toList();
+        }
+
+        @Override
+        public Page<User> findAll(Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CursorPage<User> findPage(String cursor, int size, boolean includeTotal) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User update(User user) {
+            return save(user);
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            users.remove(id);
+        }
+    }
+
+    private static final String EMAIL = "john.doe@email.com";
+    private static final String CPF = "12345678909";
+
+    private InMemoryUserCacheStore store;
+    private InMemoryUserGateway database;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryUserCacheStore();
+        database = new InMemoryUserGateway();
+        user = database.save(User.create("John Doe", "hash", EMAIL, CPF, "+55 (31) 12345-6789",
+                LocalDate.of(1990, 1, 1), Role.USER));
+    }
+
+    private CachingUserGateway node(MeterRegistry meterRegistry) {
+        final var gateway = new CachingUserGateway(database, store, meterRegistry, 100, 60_000);
+        ReflectionTestUtils.invokeMethod(gateway, "init");
+        return gateway;
+    }
+
+    private CachingUserGateway node() {
+        return node(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void givenUserAlreadyLoaded_whenLoadedAgain_thenShouldComeFromMemoryAsFreshCopy() {
+        // Arrange
+        final var gateway = node();
+        final User first = gateway.findById(user.getId()).orElseThrow();
+
+        // Act
+        first.changeRole(Role.ADMINISTRATOR);
+        final User second = gateway.findById(user.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(1, database.lookups);
+        assertNotSame(first, second);
+        assertEquals(Role.USER, second.getRole());
+        assertEquals(user.getId(), second.getId());
+    }
+
+    @Test
+    public void givenUserLoadedById_whenLoadedByEmailAndCpf_thenDatabaseShouldNotBeQueriedAgain() {
+        // Arrange
+        final var gateway = node();
+        gateway.findById(user.getId());
+
+        // Act
+        final Optional<User> byEmail = gateway.findByEmail(EMAIL);
+        final Optional<User> byCpf = gateway.findByCpf("123.456.789-09");
+
+        // Assert
+        assertEquals(user.getId(), byEmail.orElseThrow().getId());
+        assertEquals(user.getId(), byCpf.orElseThrow().getId());
+        assertEquals(1, database.lookups);
+    }
+
+    @Test
+    public void givenUserLoadedOnOneNode_whenLoadedOnAnother_thenShouldComeFromRedis() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.findByEmail(EMAIL);
+
+        // Act
+        final Optional<User> fromB = nodeB.findByCpf(CPF);
+
+        // Assert
+        assertEquals(user.getId(), fromB.orElseThrow().getId());
+        assertEquals(1, database.lookups);
+    }
+
+    @Test
+    public void givenUserCachedOnTwoNodes_whenEmailChangedOnOne_thenOtherShouldSeeChangeAndOldEmailShouldNotResolve() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.findById(user.getId());
+        nodeB.findById(user.getId());
+
+        // Act
+        final User changed = nodeA.findById(user.getId()).orElseThrow();
+        changed.changeEmail("new.email@email.com");
+        nodeA.update(changed);
+
+        // Assert
+        assertEquals("new.email@email.com", nodeB.findById(user.getId()).orElseThrow().getEmail().getValue());
+        assertTrue(nodeB.findByEmail(EMAIL).isEmpty());
+        assertEquals(user.getId(), nodeB.findByEmail("new.email@email.com").orElseThrow().getId());
+    }
+
+    @Test
+    public void givenRedisUnavailable_whenUserLoaded_thenShouldComeFromDatabase() {
+        // Arrange
+        store.failing = true;
+        final var registry = new SimpleMeterRegistry();
+        final var gateway = node(registry);
+
+        // Act
+        final Optional<User> found = gateway.findByEmail(EMAIL);
+        final Optional<User> again = gateway.findById(user.getId());
+
+        // Assert
+        assertEquals(user.getId(), found.orElseThrow().getId());
+        assertEquals(user.getId(), again.orElseThrow().getId());
+        assertEquals(1, database.lookups);
+        assertTrue(registry.get("digibank.users.cache.store.errors").counter().count() > 0);
+    }
+
+    @Test
+    public void givenCachedUser_whenDeleted_thenShouldNotBeFoundOnAnyNode() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.findById(user.getId());
+        nodeB.findById(user.getId());
+
+        // Act
+        nodeB.deleteById(user.getId());
+
+        // Assert
+        assertTrue(nodeA.findById(user.getId()).isEmpty());
+        assertTrue(nodeA.findByCpf(CPF).isEmpty());
+        assertTrue(nodeB.findByEmail(EMAIL).isEmpty());
+    }
+
+    @Test
+    public void givenHitsAndMisses_whenLookupsComplete_thenMetricsShouldBeCountedPerLevel() {
+        // Arrange
+        final var registry = new SimpleMeterRegistry();
+        final var gateway = node(registry);
+
+        // Act
+        gateway.findById(user.getId());
+        gateway.findById(user.getId());
+        gateway.findById(UUID.randomUUID());
+
+        // Assert
+        assertEquals(1, registry.get("digibank.users.cache.lookups").tags("level", "l1", "result", "hit").counter().count());
+        assertEquals(2, registry.get("digibank.users.cache.lookups").tags("level", "l1", "result", "miss").counter().count());
+        assertEquals(2, registry.get("digibank.users.cache.lookups").tags("level", "l2", "result", "miss").counter().count());
+        assertEquals(2, registry.get("digibank.users.cache.load").tags("source", "database").timer().count());
+        assertEquals(1.0, registry.get("digibank.users.cache.size").gauge().value());
+    }
+
+    private User another(String email, String cpf) {
+        return database.save(User.create("Jane Doe", "hash", email, cpf, "+55 (31) 98765-4321",
+                LocalDate.of(1992, 5, 10), Role.USER));
+    }
+
+    @Test
+    public void givenUsersInMemoryRedisAndDatabase_whenLoadedInBatch_thenShouldKeepOrderWithOneDatabaseQuery() {
+        // Arrange
+        final User inRedis = another("jane.doe@email.com", "52998224725");
+        final User inDatabase = another("mary.doe@email.com", "11144477735");
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.findById(inRedis.getId());
+        nodeB.findById(user.getId());
+        database.lookups = 0;
+
+        // Act
+        final List<User> found = nodeB.findAllByIds(
+                List.of(inDatabase.getId(), UUID.randomUUID(), user.getId(), inRedis.getId(), inDatabase.getId()));
+
+        // Assert
+        assertEquals(List.of(inDatabase.getId(), user.getId(), inRedis.getId()), found.stream().map(User::getId).toList());
+        assertEquals(1, database.batches.size());
+        assertEquals(2, database.batches.getFirst().size(), "Só os ids fora dos dois níveis devem ir ao banco");
+        assertEquals(0, database.lookups);
+    }
+
+    @Test
+    public void givenUsersLoadedInBatchByCpf_whenLoadedAgainByEmail_thenShouldComeFromMemory() {
+        // Arrange
+        final User jane = another("jane.doe@email.com", "52998224725");
+        final var gateway = node();
+        final List<User> byCpf = gateway.findAllByCpfs(List.of("529.982.247-25", CPF, "111.444.777-35"));
+
+        // Act
+        final List<User> byEmail = gateway.findAllByEmails(List.of(EMAIL, "jane.doe@email.com"));
+
+        // Assert
+        assertEquals(List.of(jane.getId(), user.getId()), byCpf.stream().map(User::getId).toList());
+        assertEquals(List.of(user.getId(), jane.getId()), byEmail.stream().map(User::getId).toList());
+        assertEquals(1, database.batches.size());
+    }
+
+    @Test
+    public void givenUserCachedOnTwoNodes_whenPasswordRehashedInDatabase_thenBothNodesShouldReload() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.findById(user.getId());
+        nodeB.findById(user.getId());
+        database.save(User.restore(user.getId(), user.getName(), "novo-hash", user.getEmail(), user.getCpf(),
+                user.getPhone(), user.getBirthDate(), true, user.getRole(), null, null, user.getCreatedDate(), null,
+                user.getLastModifiedDate(), 1));
+        database.lookups = 0;
+
+        // Act
+        nodeA.onPasswordChanged(new UserPasswordChanged(user.getId()));
+
+        // Assert
+        assertEquals(1L, nodeA.findById(user.getId()).orElseThrow().getVersion());
+        assertEquals(1L, nodeB.findById(user.getId()).orElseThrow().getVersion());
+        assertEquals(1, database.lookups, "O primeiro nó a reler deve repovoar o Redis para o outro");
+    }
+
+    @Test
+    public void givenUserWithPasswordHash_whenLoadedThroughCache_thenHashShouldNotBeCachedNorReturned() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+
+        // Act
+        final User fromDatabase = nodeA.findById(user.getId()).orElseThrow();
+        final User fromMemory = nodeA.findById(user.getId()).orElseThrow();
+        final User fromRedis = nodeB.findByEmail(EMAIL).orElseThrow();
+        final List<User> inBatch = nodeA.findAllByCpfs(List.of(CPF));
+
+        // Assert
+        assertNull(fromDatabase.getPasswordHash());
+        assertNull(fromMemory.getPasswordHash());
+        assertNull(fromRedis.getPasswordHash());
+        assertNull(inBatch.getFirst().getPasswordHash());
+        assertNull(store.users.get(user.getId()).getPasswordHash());
+    }
+
+    @Test
+    public void givenWriteOnAnotherNodeBetweenDatabaseReadAndRedisPut_whenLoadFinishes_thenStaleReadShouldNotReachRedis() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        store.delayed = true;
+        final Runnable writeOnB = () -> {
+            final User changed = database.users.get(user.getId());
+            changed.changeRole(changed.getRole() == Role.USER ? Role.ADMINISTRATOR : Role.USER);
+            nodeB.update(changed);
+        };
+        final List<Supplier<User>> loads = List.of(
+                () -> nodeA.findById(user.getId()).orElseThrow(),
+                () -> nodeA.findByEmail(EMAIL).orElseThrow(),
+                () -> nodeA.findAllByIds(List.of(user.getId())).getFirst());
+
+        for (Supplier<User> load : loads) {
+            // Act
+            database.afterRead = writeOnB;
+            final User loaded = load.get();
+
+            // Assert
+            assertNotEquals(database.users.get(user.getId()).getRole(), loaded.getRole(), "A leitura é anterior à escrita");
+            assertFalse(store.users.containsKey(user.getId()), "A leitura antiga não deve ir ao Redis");
+            store.deliver();
+        }
+        assertEquals(database.users.get(user.getId()).getRole(), node().findById(user.getId()).orElseThrow().getRole());
+    }
+}
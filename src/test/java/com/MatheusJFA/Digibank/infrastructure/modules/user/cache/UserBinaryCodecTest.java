@@ -0,0 +1,116 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.cache;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserBinaryCodecTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um usuário persistido com todos os campos, quando codificado e decodificado, então todos os campos, exceto o hash da senha, devem ser preservados.
+     * 2. Dado um usuário sem último login, sem autor e nascido antes de 1970, quando codificado e decodificado, então os nulos e a data devem ser preservados.
+     * 3. Dado um telefone com quantidade ímpar de dígitos e um nome com acentos, quando codificados e decodificados, então devem ser preservados.
+     * 4. Dado uma entrada de versão desconhecida, quando decodificada, então deve ser lida como ausente.
+     * 5. Dado uma entrada truncada, quando decodificada, então deve lançar SerializationException.
+     */
+
+    private final UserBinaryCodec codec = new UserBinaryCodec();
+
+    private static User user(String name, String phone, LocalDate birthDate, LocalDateTime lastLogin, String createdBy) {
+        return User.restore(UUID.randomUUID(), name, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3b1pVu2f8Q7Ol8c6vJ0G0tK",
+                ValueObjects.email("john.doe@email.com"), ValueObjects.cpf("12345678909"), ValueObjects.phone(phone),
+                birthDate, true, Role.MODERATOR, lastLogin, createdBy, LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789),
+                "admin@email.com", LocalDateTime.of(2026, 9, 30, 23, 59, 59), 7);
+    }
+
+    @Test
+    public void givenPersistedUser_whenEncodedAndDecoded_thenAllFieldsShouldBePreserved() {
+        // Arrange
+        final User user = user("John Doe", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1),
+                LocalDateTime.of(2026, 10, 1, 8, 30), "system");
+
+        // Act
+        final byte[] bytes = codec.serialize(user);
+        final User decoded = codec.deserialize(bytes);
+
+        // Assert
+        assertEquals(user.getId(), decoded.getId());
+        assertEquals(user.getName(), decoded.getName());
+        assertNull(decoded.getPasswordHash(), "O hash da senha não deve ir para o Redis");
+        assertFalse(new String(bytes, StandardCharsets.ISO_8859_1).contains(user.getPasswordHash()));
+        assertEquals(user.getEmail(), decoded.getEmail());
+        assertEquals(user.getCpf(), decoded.getCpf());
+        assertEquals(user.getPhone(), decoded.getPhone());
+        assertEquals(55, decoded.getPhone().getDDICode());
+        assertEquals(user.getBirthDate(), decoded.getBirthDate());
+        assertEquals(user.isActive(), decoded.isActive());
+        assertEquals(Role.MODERATOR, decoded.getRole());
+        assertEquals(user.getLastLogin(), decoded.getLastLogin());
+        assertEquals(user.getCreatedBy(), decoded.getCreatedBy());
+        assertEquals(user.getCreatedDate(), decoded.getCreatedDate());
+        assertEquals(user.getLastModifiedBy(), decoded.getLastModifiedBy());
+        assertEquals(user.getLastModifiedDate(), decoded.getLastModifiedDate());
+        assertEquals(7L, decoded.getVersion());
+        assertTrue(decoded.dirtyFields() == 0, "O usuário lido do cache não deve ter campos alterados");
+    }
+
+    @Test
+    public void givenUserWithoutLastLoginAndAuthorBornBefore1970_whenEncodedAndDecoded_thenNullsAndDateShouldBePreserved() {
+        // Arrange
+        final User user = user("John Doe", "+55 (31) 12345-6789", LocalDate.of(1950, 6, 15), null, null);
+
+        // Act
+        final User decoded = codec.deserialize(codec.serialize(user));
+
+        // Assert
+        assertNull(decoded.getLastLogin());
+        assertNull(decoded.getCreatedBy());
+        assertEquals(LocalDate.of(1950, 6, 15), decoded.getBirthDate());
+    }
+
+    @Test
+    public void givenOddDigitPhoneAndAccentedName_whenEncodedAndDecoded_thenShouldBePreserved() {
+        // Arrange
+        final User user = user("João Conceição", "+55 (31) 1234-5678", LocalDate.of(1990, 1, 1), null, "system");
+
+        // Act
+        final User decoded = codec.deserialize(codec.serialize(user));
+
+        // Assert
+        assertEquals("553112345678", decoded.getPhone().getValue());
+        assertEquals("João Conceição", decoded.getName());
+    }
+
+    @Test
+    public void givenUnknownVersion_whenDecoded_thenShouldBeReadAsMissing() {
+        // Arrange
+        final byte[] bytes = codec.serialize(user("John Doe", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1), null, "system"));
+        bytes[0] = UserBinaryCodec.VERSION + 1;
+
+        // Act
+        final User decoded = codec.deserialize(bytes);
+
+        // Assert
+        assertNull(decoded);
+    }
+
+    @Test
+    public void givenTruncatedEntry_whenDecoded_thenShouldThrowSerializationException() {
+        // Arrange
+        final byte[] bytes = codec.serialize(user("John Doe", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1), null, "system"));
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> codec.deserialize(Arrays.copyOf(bytes, bytes.length / 2)));
+    }
+}
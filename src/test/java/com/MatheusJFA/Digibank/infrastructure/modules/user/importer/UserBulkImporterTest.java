@@ -0,0 +1,316 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.importer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserBulkImporterTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um CSV válido, quando importado, então todos os usuários devem ser gravados com os valores normalizados.
+     * 2. Dado um NDJSON válido, quando importado, então todos os usuários devem ser gravados.
+     * 3. Dado linhas com campos inválidos ou malformadas, quando importadas, então devem ser rejeitadas com a linha e o motivo.
+     * 4. Dado CPFs ou e-mails repetidos no arquivo, quando importados, então apenas a primeira ocorrência deve ser gravada.
+     * 5. Dado CPFs ou e-mails já cadastrados, quando importados, então as linhas devem ser rejeitadas como já existentes.
+     * 6. Dado um arquivo maior que o lote, quando importado em paralelo, então o progresso deve ser reportado a cada lote.
+     * 7. Dado um arquivo de rejeitos, quando a importação termina, então ele deve conter uma linha por rejeição.
+     * 8. Dado e-mails diferentes com a mesma impressão digital, quando importados, então só as repetições reais devem ser rejeitadas.
+     */
+
+    private static final String HEADER = "name,email,cpf,phone,birth_date";
+
+    @TempDir
+    Path directory;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:import-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id                 UUID         NOT NULL PRIMARY KEY,
+                    name               VARCHAR(255) NOT NULL,
+                    password_hash      VARCHAR(255) NOT NULL,
+                    email              VARCHAR(255) NOT NULL UNIQUE,
+                    cpf                BIGINT       NOT NULL UNIQUE,
+                    phone              VARCHAR(255) NOT NULL,
+                    birth_date         DATE         NOT NULL,
+                    is_active          BOOLEAN      NOT NULL,
+                    role               VARCHAR(255) NOT NULL,
+                    last_login         TIMESTAMP,
+                    created_by         VARCHAR(255),
+                    created_date       TIMESTAMP,
+                    last_modified_by   VARCHAR(255),
+                    last_modified_date TIMESTAMP,
+                    version            BIGINT
+                )
+                """);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private UserBulkImporter importer(int chunkSize, int parallelism) {
+        return new UserBulkImporter(jdbcTemplate, new DataSourceTransactionManager(dataSource), chunkSize, parallelism, 2);
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+    }
+
+    private static final class RecordingListener implements UserImportListener {
+        private final List<UserImportReport> progress = new ArrayList<>();
+        private final List<UserImportReject> rejects = new ArrayList<>();
+
+        @Override
+        public void onProgress(UserImportReport report) {
+            progress.add(report);
+        }
+
+        @Override
+        public void onReject(UserImportReject reject) {
+            rejects.add(reject);
+        }
+    }
+
+    @Test
+    public void givenValidCsv_whenImporting_thenShouldPersistNormalizedUsers() throws IOException {
+        // Arrange
+        final Path file = write("users.csv",
+                HEADER + ",role",
+                "John Doe,john.doe@email.com,123.456.789-09,+55 (31) 12345-6789,1990-01-01,manager",
+                "\"Silva, Maria\",maria@email.com,32203478004,5511987654321,31/12/1985,");
+
+        // Act
+        final UserImportReport report = importer(10, 2).importFile(file, UserImportListener.NONE);
+
+        // Assert
+        assertEquals(2, report.read());
+        assertEquals(2, report.imported());
+        assertEquals(0, report.rejected());
+
+        final var john = jdbcTemplate.queryForMap("SELECT * FROM users WHERE email = 'john.doe@email.com'");
+        assertEquals(12345678909L, ((Number) john.get("CPF")).longValue());
+        assertEquals("5531123456789", john.get("PHONE"));
+        assertEquals("MANAGER", john.get("ROLE"));
+        assertEquals(UserImportValidator.UNSET_PASSWORD_HASH, john.get("PASSWORD_HASH"));
+        assertEquals(UserImportWriter.CREATED_BY, john.get("CREATED_BY"));
+
+        final var maria = jdbcTemplate.queryForMap("SELECT * FROM users WHERE cpf = 32203478004");
+        assertEquals("Silva, Maria", maria.get("NAME"));
+        assertEquals("USER", maria.get("ROLE"));
+        assertEquals("1985-12-31", maria.get("BIRTH_DATE").toString());
+    }
+
+    @Test
+    public void givenValidNdjson_whenImporting_thenShouldPersistUsers() throws IOException {
+        // Arrange
+        final Path file = write("users.ndjson",
+                "{\"name\":\"John Doe\",\"email\":\"john.doe@email.com\",\"cpf\":\"12345678909\",\"phone\":\"+55 (31) 12345-6789\",\"birth_date\":\"1990-01-01\",\"password_hash\":\"$2a$10$hash\"}",
+                "",
+                "{\"name\":\"Maria\",\"email\":\"maria@email.com\",\"cpf\":\"32203478004\",\"phone\":\"5511987654321\",\"birthDate\":\"1985-12-31\"}");
+
+        // Act
+        final UserImportReport report = importer(10, 1).importFile(file, UserImportListener.NONE);
+
+        // Assert
+        assertEquals(2, report.imported());
+        assertEquals("$2a$10$hash", jdbcTemplate.queryForObject(
+                "SELECT password_hash FROM users WHERE cpf = 12345678909", String.class));
+    }
+
+    @Test
+    public void givenInvalidRows_whenImporting_thenShouldRejectThemWithLineAndReason() throws IOException {
+        // Arrange
+        final Path file = write("users.csv",
+                HEADER,
+                "John Doe,john.doe@email.com,12345678900,+55 (31) 12345-6789,1990-01-01",
+                "John Doe,invalid-email,12345678909,+55 (31) 12345-6789,1990-01-01",
+                "John Doe,john.doe@email.com,12345678909,123,1990-01-01",
+                "John Doe,john.doe@email.com,12345678909,+55 (31) 12345-6789,2990-01-01",
+                ",john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01",
+                "only,three,columns",
+                "\"unterminated,john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01",
+                "John Doe,john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01");
+        final var listener = new RecordingListener();
+
+        // Act
+        final UserImportReport report = importer(3, 2).importFile(file, listener);
+
+        // Assert
+        assertEquals(8, report.read());
+        assertEquals(1, report.imported());
+        assertEquals(7, report.rejected());
+        assertEquals(1, count());
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L), listener.rejects.stream().map(UserImportReject::line).toList());
+        assertEquals("O CPF informado é inválido", listener.rejects.get(0).message());
+        assertEquals(UserImportReject.Reason.INVALID_FIELD, listener.rejects.get(0).reason());
+        assertEquals("O Email informado é inválido", listener.rejects.get(1).message());
+        assertEquals(UserImportReject.Reason.MALFORMED, listener.rejects.get(5).reason());
+        assertEquals(UserImportReject.Reason.MALFORMED, listener.rejects.get(6).reason());
+    }
+
+    @Test
+    public void givenDuplicatesInFile_whenImporting_thenShouldKeepOnlyTheFirstOccurrence() throws IOException {
+        // Arrange
+        final Path file = write("users.csv",
+                HEADER,
+                "John Doe,john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01",
+                "Other John,other@email.com,123.456.789-09,+55 (31) 12345-6789,1990-01-01",
+                "Maria,john.doe@email.com,32203478004,+55 (31) 12345-6789,1990-01-01",
+                "Maria,maria@email.com,32203478004,+55 (31) 12345-6789,1990-01-01");
+        final var listener = new RecordingListener();
+
+        // Act
+        final UserImportReport report = importer(2, 2).importFile(file, listener);
+
+        // Assert
+        assertEquals(2, report.imported());
+        assertEquals(2, count());
+        assertEquals(List.of(3L, 4L), listener.rejects.stream().map(UserImportReject::line).toList());
+        assertTrue(listener.rejects.stream().allMatch(r -> r.reason() == UserImportReject.Reason.DUPLICATE_IN_FILE));
+        assertEquals("CPF repetido no arquivo", listener.rejects.get(0).message());
+        assertEquals("E-mail repetido no arquivo", listener.rejects.get(1).message());
+    }
+
+    @Test
+    public void givenExistingUsers_whenImporting_thenShouldRejectThemAsAlreadyExisting() throws IOException {
+        // Arrange
+        importer(10, 1).importFile(write("first.csv",
+                HEADER,
+                "John Doe,john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01"), UserImportListener.NONE);
+
+        final Path file = write("second.csv",
+                HEADER,
+                "John Doe,another@email.com,12345678909,+55 (31) 12345-6789,1990-01-01",
+                "Maria,john.doe@email.com,32203478004,+55 (31) 12345-6789,1990-01-01",
+                "Maria,maria@email.com,11144477735,+55 (31) 12345-6789,1990-01-01");
+        final var listener = new RecordingListener();
+
+        // Act
+        final UserImportReport report = importer(10, 1).importFile(file, listener);
+
+        // Assert
+        assertEquals(1, report.imported());
+        assertEquals(2, count());
+        assertEquals(List.of(2L, 3L), listener.rejects.stream().map(UserImportReject::line).toList());
+        assertTrue(listener.rejects.stream().allMatch(r -> r.reason() == UserImportReject.Reason.ALREADY_EXISTS));
+    }
+
+    @Test
+    public void givenFileLargerThanChunk_whenImportingInParallel_thenShouldReportProgressPerChunk() throws IOException {
+        // Arrange
+        final String[] lines = new String[201];
+        lines[0] = HEADER;
+        for (int i = 1; i <= 200; i++) {
+            lines[i] = "User " + i + ",user" + i + "@email.com," + cpf(100_000_000 + i) + ",+55 (31) 12345-6789,1990-01-01";
+        }
+        final var listener = new RecordingListener();
+
+        // Act
+        final UserImportReport report = importer(16, 4).importFile(write("users.csv", lines), listener);
+
+        // Assert
+        assertEquals(200, report.imported());
+        assertEquals(200, count());
+        assertEquals(13, listener.progress.size());
+        assertEquals(16, listener.progress.get(0).read());
+        assertEquals(200, listener.progress.get(12).imported());
+        assertTrue(report.rowsPerSecond() > 0);
+    }
+
+    @Test
+    public void givenRejectsFile_whenImportFinishes_thenShouldContainOneLinePerReject() throws IOException {
+        // Arrange
+        final Path file = write("users.csv",
+                HEADER,
+                "John Doe,john.doe@email.com,12345678900,+55 (31) 12345-6789,1990-01-01",
+                "John Doe,john.doe@email.com,12345678909,+55 (31) 12345-6789,1990-01-01");
+        final Path rejects = directory.resolve("rejects.csv");
+
+        // Act
+        try (var listener = new RejectsFileListener(rejects)) {
+            importer(10, 1).importFile(file, listener);
+        }
+
+        // Assert
+        assertEquals(List.of("line,reason,message", "2,INVALID_FIELD,\"O CPF informado é inválido\""), Files.readAllLines(rejects));
+    }
+
+    @Test
+    public void givenDistinctEmailsWithSameFingerprint_whenImporting_thenShouldRejectOnlyRealRepetitions() throws IOException {
+        // Arrange
+        importer(10, 1).importFile(write("first.csv",
+                HEADER,
+                "Existing,existing@email.com," + cpf(100_000_005) + ",+55 (31) 12345-6789,1990-01-01"), UserImportListener.NONE);
+
+        final Path file = write("users.csv",
+                HEADER,
+                "A,a@email.com," + cpf(100_000_001) + ",+55 (31) 12345-6789,1990-01-01",
+                "B,b@email.com," + cpf(100_000_002) + ",+55 (31) 12345-6789,1990-01-01",
+                "B again,b@email.com," + cpf(100_000_003) + ",+55 (31) 12345-6789,1990-01-01",
+                "E,e@email.com," + cpf(100_000_005) + ",+55 (31) 12345-6789,1990-01-01",
+                "C,c@email.com," + cpf(100_000_006) + ",+55 (31) 12345-6789,1990-01-01",
+                "A again,a@email.com," + cpf(100_000_007) + ",+55 (31) 12345-6789,1990-01-01",
+                "E again,e@email.com," + cpf(100_000_008) + ",+55 (31) 12345-6789,1990-01-01",
+                "D,d@email.com," + cpf(100_000_009) + ",+55 (31) 12345-6789,1990-01-01");
+        final var listener = new RecordingListener();
+
+        // Todos os e-mails colidem: cada impressão já vista precisa ser confirmada pela String
+        final var importer = new UserBulkImporter(jdbcTemplate, new DataSourceTransactionManager(dataSource), 4, 2, 2, email -> 42L);
+
+        // Act
+        final UserImportReport report = importer.importFile(file, listener);
+
+        // Assert
+        assertEquals(4, report.imported());
+        assertEquals(5, count());
+        assertEquals(List.of(4L, 5L, 7L, 8L), listener.rejects.stream().map(UserImportReject::line).toList());
+        assertEquals(List.of(UserImportReject.Reason.DUPLICATE_IN_FILE, UserImportReject.Reason.ALREADY_EXISTS,
+                        UserImportReject.Reason.DUPLICATE_IN_FILE, UserImportReject.Reason.DUPLICATE_IN_FILE),
+                listener.rejects.stream().map(UserImportReject::reason).toList());
+        assertEquals("E-mail repetido no arquivo", listener.rejects.get(2).message());
+        assertEquals(List.of("a@email.com", "b@email.com", "c@email.com", "d@email.com", "existing@email.com"),
+                jdbcTemplate.queryForList("SELECT email FROM users ORDER BY email", String.class));
+    }
+
+    // Completa os 9 primeiros dígitos com os dígitos verificadores
+    private static String cpf(int base) {
+        final int[] digits = new int[11];
+        for (int i = 8, value = base; i >= 0; i--, value /= 10) digits[i] = value % 10;
+        for (int count = 9; count <= 10; count++) {
+            int sum = 0;
+            for (int i = 0; i < count; i++) sum += digits[i] * (count + 1 - i);
+            digits[count] = (sum * 10) % 11 % 10;
+        }
+
+        final var cpf = new StringBuilder();
+        for (int digit : digits) cpf.append(digit);
+        return cpf.toString();
+    }
+}
@@ -0,0 +1,205 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.loader;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.UserGateway;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserBatchLoaderTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado vários usuários pedidos antes do dispatch, quando despachados, então deve haver uma única consulta e cada pedido deve receber o seu usuário.
+     * 2. Dado um id pedido várias vezes na requisição, quando despachado de novo, então não deve ser consultado de novo.
+     * 3. Dado pedidos feitos por várias threads, quando despachados, então devem ser resolvidos em uma única consulta.
+     * 4. Dado uma falha na consulta, quando o id é pedido de novo, então deve ser consultado outra vez.
+     */
+
+    // Banco em memória que registra cada consulta em lote
+    private static final class InMemoryUserGateway implements UserGateway {
+        private final Map<UUID, User> users = new ConcurrentHashMap<>();
+        private final List<List<UUID>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public synchronized List<User> findAllByIds(Collection<UUID> ids) {
+            batches.add(List.copyOf(ids));
+            if (failing) throw new IllegalStateException("Banco indisponível");
+            return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public User save(User user) {
+            users.put(user.getId(), user);
+            return user;
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findByCpf(String cpf) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findByPhone(String phone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> findAllByCpfs(Collection<String> cpfs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> findAllByEmails(Collection<String> emails) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<User> findAll(Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CursorPage<User> findPage(String cursor, int size, boolean includeTotal) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User update(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private InMemoryUserGateway database;
+    private UserBatchLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        database = new InMemoryUserGateway();
+        loader = new UserBatchLoader(database);
+    }
+
+    private User user(String email, String cpf) {
+        return database.save(User.create("John Doe", "hash", email, cpf, "+55 (31) 12345-6789",
+                LocalDate.of(1990, 1, 1), Role.USER));
+    }
+
+    @Test
+    public void givenUsersRequestedBeforeDispatch_whenDispatched_thenShouldQueryOnceAndResolveEachRequest() {
+        // Arrange
+        final User john = user("john.doe@email.com", "12345678909");
+        final User jane = user("jane.doe@email.com", "52998224725");
+        final UUID unknown = UUID.randomUUID();
+        final CompletableFuture<Optional<User>> first = loader.load(jane.getId());
+        final CompletableFuture<Optional<User>> second = loader.load(unknown);
+        final CompletableFuture<Optional<User>> third = loader.load(john.getId());
+
+        // Act
+        assertFalse(first.isDone());
+        loader.dispatch();
+
+        // Assert
+        assertEquals(1, database.batches.size());
+        assertEquals(List.of(jane.getId(), unknown, john.getId()), database.batches.getFirst());
+        assertSame(jane, first.join().orElseThrow());
+        assertTrue(second.join().isEmpty());
+        assertSame(john, third.join().orElseThrow());
+    }
+
+    @Test
+    public void givenIdRequestedSeveralTimes_whenDispatchedAgain_thenShouldNotBeQueriedAgain() {
+        // Arrange
+        final User john = user("john.doe@email.com", "12345678909");
+        loader.loadMany(List.of(john.getId(), john.getId()));
+        loader.dispatch();
+
+        // Act
+        final Optional<User> again = loader.get(john.getId());
+
+        // Assert
+        assertSame(john, again.orElseThrow());
+        assertEquals(List.of(List.of(john.getId())), database.batches);
+    }
+
+    @Test
+    public void givenRequestsFromSeveralThreads_whenDispatched_thenShouldBeResolvedInOneQuery() throws Exception {
+        // Arrange
+        final List<User> users = List.of(user("john.doe@email.com", "12345678909"),
+                user("jane.doe@email.com", "52998224725"), user("mary.doe@email.com", "11144477735"));
+        final ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        final CountDownLatch requested = new CountDownLatch(users.size());
+        final List<CompletableFuture<Optional<User>>> results = new ArrayList<>();
+
+        // Act
+        for (User user : users) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                final CompletableFuture<Optional<User>> future = loader.load(user.getId());
+                requested.countDown();
+                return future;
+            }, executor).thenCompose(future -> future));
+        }
+        assertTrue(requested.await(5, TimeUnit.SECONDS));
+        loader.dispatch();
+
+        // Assert
+        for (int i = 0; i < users.size(); i++) {
+            assertSame(users.get(i), results.get(i).get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        assertEquals(1, database.batches.size());
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenQueryFailure_whenIdRequestedAgain_thenShouldBeQueriedAgain() {
+        // Arrange
+        final User john = user("john.doe@email.com", "12345678909");
+        final CompletableFuture<Optional<User>> failed = loader.load(john.getId());
+        database.failing = true;
+
+        // Act
+        assertThrows(IllegalStateException.class, loader::dispatch);
+        database.failing = false;
+        final Optional<User> retried = loader.get(john.getId());
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertSame(john, retried.orElseThrow());
+        assertEquals(2, database.batches.size());
+    }
+}
@@ -0,0 +1,128 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserBatchReaderTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado ids em ordem qualquer, com repetidos e inexistentes, quando buscados, então os usuários devem vir na ordem pedida, sem repetição e sem os inexistentes.
+     * 2. Dado mais chaves que o tamanho do bloco, quando buscadas, então todos os usuários devem vir na ordem pedida.
+     * 3. Dado CPFs e e-mails, quando buscados, então devem vir os usuários correspondentes na ordem pedida.
+     * 4. Dado nenhuma chave, quando buscadas, então deve voltar uma lista vazia.
+     */
+
+    private JdbcTemplate jdbcTemplate;
+    private UserBatchReader reader;
+    private long nextCpf = 10_000_000_000L;
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user-batch-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id                 UUID         NOT NULL PRIMARY KEY,
+                    name               VARCHAR(255) NOT NULL,
+                    password_hash      VARCHAR(255) NOT NULL,
+                    email              VARCHAR(255) NOT NULL UNIQUE,
+                    cpf                BIGINT       NOT NULL UNIQUE,
+                    phone              VARCHAR(255) NOT NULL,
+                    birth_date         DATE         NOT NULL,
+                    is_active          BOOLEAN      NOT NULL,
+                    role               VARCHAR(255) NOT NULL,
+                    last_login         TIMESTAMP,
+                    created_by         VARCHAR(255),
+                    created_date       TIMESTAMP    NOT NULL,
+                    last_modified_by   VARCHAR(255),
+                    last_modified_date TIMESTAMP,
+                    version            BIGINT
+                )
+                """);
+        reader = new UserBatchReader(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private UUID insert() {
+        final UUID id = UUID.randomUUID();
+        final long cpf = nextCpf++;
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, password_hash, email, cpf, phone, birth_date, is_active, role, created_date, version)
+                VALUES (?, 'John Doe', 'hash', ?, ?, '5531123456789', DATE '1990-01-01', TRUE, 'USER', CURRENT_TIMESTAMP, 0)
+                """, id, "user" + cpf + "@email.com", cpf);
+        return id;
+    }
+
+    private static List<UUID> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+
+    @Test
+    public void givenIdsWithRepeatedAndUnknown_whenRead_thenShouldReturnUsersInRequestedOrder() {
+        // Arrange
+        final UUID first = insert();
+        final UUID second = insert();
+        final UUID third = insert();
+
+        // Act
+        final List<User> users = reader.readByIds(List.of(third, UUID.randomUUID(), first, third, second));
+
+        // Assert
+        assertEquals(List.of(third, first, second), ids(users));
+        assertEquals(0L, users.getFirst().getVersion());
+        assertEquals(0, users.getFirst().dirtyFields());
+    }
+
+    @Test
+    public void givenMoreKeysThanChunkSize_whenRead_thenShouldReturnAllInRequestedOrder() {
+        // Arrange
+        final List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < UserBatchReader.CHUNK_SIZE + 250; i++) inserted.add(insert());
+        Collections.shuffle(inserted);
+
+        // Act
+        final List<User> users = reader.readByIds(inserted);
+
+        // Assert
+        assertEquals(inserted, ids(users));
+    }
+
+    @Test
+    public void givenCpfsAndEmails_whenRead_thenShouldReturnMatchingUsersInRequestedOrder() {
+        // Arrange
+        final UUID first = insert();
+        final UUID second = insert();
+
+        // Act
+        final List<User> byCpf = reader.readByCpfs(List.of(10_000_000_001L, 99_999_999_999L, 10_000_000_000L));
+        final List<User> byEmail = reader.readByEmails(List.of("user10000000001@email.com", "user10000000000@email.com"));
+
+        // Assert
+        assertEquals(List.of(second, first), ids(byCpf));
+        assertEquals(List.of(second, first), ids(byEmail));
+    }
+
+    @Test
+    public void givenNoKeys_whenRead_thenShouldReturnEmptyList() {
+        // Act & Assert
+        assertTrue(reader.readByIds(List.of()).isEmpty());
+        assertTrue(reader.readByEmails(List.of()).isEmpty());
+    }
+}
@@ -0,0 +1,182 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidCursorException;
+import com.MatheusJFA.Digibank.shared.pagination.CursorPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserPageReaderTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado usuários com datas de criação repetidas, quando percorridas todas as páginas pelo cursor, então cada um deve aparecer uma vez, mais recentes primeiro.
+     * 2. Dado uma quantidade de usuários múltipla do tamanho da página, quando lida a última página, então não deve haver cursor.
+     * 3. Dado usuários criados depois da primeira página, quando a listagem continua, então a página seguinte não deve repetir nem pular ninguém.
+     * 4. Dado o total pedido ou não, quando a página é lida, então o total deve vir apenas quando pedido.
+     * 5. Dado um cursor adulterado (inclusive com data fora da faixa) ou um tamanho fora do limite, quando a página é lida, então deve ser recusada.
+     */
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 9, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private UserPageReader reader;
+    private long nextCpf = 10_000_000_000L;
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user-page-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id                 UUID         NOT NULL PRIMARY KEY,
+                    name               VARCHAR(255) NOT NULL,
+                    password_hash      VARCHAR(255) NOT NULL,
+                    email              VARCHAR(255) NOT NULL UNIQUE,
+                    cpf                BIGINT       NOT NULL UNIQUE,
+                    phone              VARCHAR(255) NOT NULL,
+                    birth_date         DATE         NOT NULL,
+                    is_active          BOOLEAN      NOT NULL,
+                    role               VARCHAR(255) NOT NULL,
+                    last_login         TIMESTAMP,
+                    created_by         VARCHAR(255),
+                    created_date       TIMESTAMP    NOT NULL,
+                    last_modified_by   VARCHAR(255),
+                    last_modified_date TIMESTAMP,
+                    version            BIGINT
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_users_created_date_id ON users (created_date DESC, id DESC)");
+        reader = new UserPageReader(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private UUID insert(LocalDateTime createdDate) {
+        final UUID id = UUID.randomUUID();
+        final long cpf = nextCpf++;
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, password_hash, email, cpf, phone, birth_date, is_active, role, created_date, version)
+                VALUES (?, 'John Doe', 'hash', ?, ?, '5531123456789', DATE '1990-01-01', TRUE, 'USER', ?, 0)
+                """, id, "user" + cpf + "@email.com", cpf, createdDate);
+        return id;
+    }
+
+    // Três usuários por instante, para exercitar o desempate pelo id
+    private List<UUID> insertUsers(int count) {
+        final List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) ids.add(insert(BASE.plusSeconds(i / 3)));
+        return ids;
+    }
+
+    private List<User> readAll(int size) {
+        final List<User> users = new ArrayList<>();
+        String cursor = null;
+        do {
+            final CursorPage<User> page = reader.read(cursor, size, false);
+            users.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return users;
+    }
+
+    @Test
+    public void givenUsersWithRepeatedCreationDates_whenAllPagesAreRead_thenEachUserShouldAppearOnceNewestFirst() {
+        // Arrange
+        final List<UUID> ids = insertUsers(47);
+
+        // Act
+        final List<User> users = readAll(5);
+
+        // Assert
+        assertEquals(47, users.size());
+        assertEquals(new HashSet<>(ids), new HashSet<>(users.stream().map(User::getId).toList()));
+        for (int i = 1; i < users.size(); i++) {
+            assertFalse(users.get(i).getCreatedDate().isAfter(users.get(i - 1).getCreatedDate()));
+        }
+        assertEquals(BASE.plusSeconds(15), users.getFirst().getCreatedDate());
+        assertEquals(0L, users.getFirst().getVersion());
+    }
+
+    @Test
+    public void givenCountMultipleOfPageSize_whenLastPageIsRead_thenThereShouldBeNoCursor() {
+        // Arrange
+        insertUsers(10);
+
+        // Act
+        final CursorPage<User> first = reader.read(null, 5, false);
+        final CursorPage<User> second = reader.read(first.nextCursor(), 5, false);
+
+        // Assert
+        assertTrue(first.hasNext());
+        assertEquals(5, second.items().size());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    public void givenUsersCreatedAfterFirstPage_whenListingContinues_thenNoUserShouldBeRepeatedOrSkipped() {
+        // Arrange
+        insertUsers(12);
+        final CursorPage<User> first = reader.read(null, 4, false);
+
+        // Act
+        final List<UUID> newer = List.of(insert(BASE.plusDays(1)), insert(BASE.plusDays(2)));
+        final CursorPage<User> second = reader.read(first.nextCursor(), 4, false);
+
+        // Assert
+        final List<UUID> expected = readAll(100).stream().map(User::getId).filter(id -> !newer.contains(id)).limit(8).toList();
+        final List<UUID> read = new ArrayList<>(first.items().stream().map(User::getId).toList());
+        read.addAll(second.items().stream().map(User::getId).toList());
+        assertEquals(expected, read);
+    }
+
+    @Test
+    public void givenTotalRequestedOrNot_whenPageIsRead_thenTotalShouldOnlyComeWhenRequested() {
+        // Arrange
+        insertUsers(7);
+
+        // Act
+        final CursorPage<User> withTotal = reader.read(null, 3, true);
+        final CursorPage<User> withoutTotal = reader.read(null, 3, false);
+
+        // Assert
+        assertEquals(7L, withTotal.estimatedTotal());
+        assertNull(withoutTotal.estimatedTotal());
+        assertEquals(withTotal.items().stream().map(User::getId).toList(), withoutTotal.items().stream().map(User::getId).toList());
+    }
+
+    @Test
+    public void givenTamperedCursorOrInvalidSize_whenPageIsRead_thenShouldBeRejected() {
+        // Arrange
+        insertUsers(6);
+        final String cursor = reader.read(null, 2, false).nextCursor();
+        final byte[] outOfRange = Base64.getUrlDecoder().decode(cursor);
+        ByteBuffer.wrap(outOfRange).putLong(1, Long.MAX_VALUE);
+        final String outOfRangeCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(outOfRange);
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> reader.read("não-é-um-cursor", 2, false));
+        assertThrows(InvalidCursorException.class, () -> reader.read(cursor.substring(0, cursor.length() - 4), 2, false));
+        assertThrows(InvalidCursorException.class, () -> reader.read(outOfRangeCursor, 2, false));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(null, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(null, UserPageReader.MAX_PAGE_SIZE + 1, false));
+    }
+}
@@ -0,0 +1,227 @@
+package com.MatheusJFA.Digibank.infrastructure.modules.user.persistence;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserPartialUpdaterTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado uma linha do banco, quando mapeada para o domínio, então id, versão e auditoria devem ser mantidos.
+     * 2. Dado um usuário carregado com e-mail e papel alterados, quando atualizado, então só essas colunas e a versão devem mudar.
+     * 3. Dado um usuário com versão desatualizada, quando atualizado, então deve lançar OptimisticLockingFailureException e manter os campos marcados.
+     * 4. Dado uma linha sem versão, quando atualizada, então deve ser tratada como versão 0 e passar para 1.
+     * 5. Dado um usuário sem alterações, quando atualizado, então nenhum comando deve ser enviado ao banco.
+     * 6. Dado uma cópia desatualizada de um usuário já gravado, quando gravada por inteiro pelo save, então deve perder para a versão mais nova; a cópia atual deve gravar e avançar a versão.
+     */
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private UserPartialUpdater updater;
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partial-update-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id                 UUID         NOT NULL PRIMARY KEY,
+                    name               VARCHAR(255) NOT NULL,
+                    password_hash      VARCHAR(255) NOT NULL,
+                    email              VARCHAR(255) NOT NULL UNIQUE,
+                    cpf                BIGINT       NOT NULL UNIQUE,
+                    phone              VARCHAR(255) NOT NULL,
+                    birth_date         DATE         NOT NULL,
+                    is_active          BOOLEAN      NOT NULL,
+                    role               VARCHAR(255) NOT NULL,
+                    last_login         TIMESTAMP,
+                    created_by         VARCHAR(255),
+                    created_date       TIMESTAMP,
+                    last_modified_by   VARCHAR(255),
+                    last_modified_date TIMESTAMP,
+                    version            BIGINT
+                )
+                """);
+        updater = new UserPartialUpdater(jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private UUID insert(Long version) {
+        final UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, password_hash, email, cpf, phone, birth_date, is_active, role,
+                                   created_by, created_date, version)
+                VALUES (?, 'John Doe', 'hash', 'john.doe@email.com', 12345678909, '5531123456789', DATE '1990-01-01',
+                        TRUE, 'USER', 'admin', ?, ?)
+                """, id, CREATED, version);
+        return id;
+    }
+
+    // Mesmo caminho do JPA: a linha preenche o UserJPA e toDomain() reidrata o usuário
+    private User load(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT * FROM users WHERE id = ?", (rs, rowNum) -> {
+            final var entity = new UserJPA();
+            entity.setId(rs.getObject("id", UUID.class));
+            entity.setName(rs.getString("name"));
+            entity.setPasswordHash(rs.getString("password_hash"));
+            entity.setEmail(rs.getString("email"));
+            entity.setCpf(new CPFConverter().convertToEntityAttribute(rs.getLong("cpf")));
+            entity.setPhone(rs.getString("phone"));
+            entity.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+            entity.setActive(rs.getBoolean("is_active"));
+            entity.setRole(rs.getString("role"));
+            entity.setLastLogin(rs.getObject("last_login", LocalDateTime.class));
+            entity.setCreatedBy(rs.getString("created_by"));
+            entity.setCreatedDate(rs.getObject("created_date", LocalDateTime.class));
+            entity.setVersion(rs.getObject("version", Long.class));
+            return entity.toDomain();
+        }, id);
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbcTemplate.queryForMap("SELECT * FROM users WHERE id = ?", id);
+    }
+
+    @Test
+    public void givenDatabaseRow_whenMappedToDomain_thenIdVersionAndAuditShouldBeKept() {
+        // Arrange
+        final UUID id = insert(5L);
+
+        // Act
+        final User user = load(id);
+        final UserJPA entity = UserJPA.from(user);
+
+        // Assert
+        assertEquals(id, user.getId());
+        assertEquals(5L, user.getVersion());
+        assertEquals("admin", user.getCreatedBy());
+        assertEquals(CREATED, user.getCreatedDate());
+        assertEquals("5531123456789", user.getPhone().getValue());
+        assertEquals(0, user.dirtyFields());
+        assertEquals(id, entity.getId());
+        assertFalse(entity.isNew());
+    }
+
+    @Test
+    public void givenLoadedUserWithChanges_whenUpdated_thenOnlyChangedColumnsAndVersionShouldChange() {
+        // Arrange
+        final UUID id = insert(2L);
+        final User user = load(id);
+        user.changeEmail("john@email.com");
+        user.changeRole(Role.MANAGER);
+
+        // Outra escrita que não mexe na versão (ex.: rehash da senha no login) não pode ser desfeita
+        jdbcTemplate.update("UPDATE users SET password_hash = 'rehashed' WHERE id = ?", id);
+
+        // Act
+        final boolean updated = updater.update(user);
+
+        // Assert
+        final Map<String, Object> row = row(id);
+        assertTrue(updated);
+        assertEquals("john@email.com", row.get("email"));
+        assertEquals("MANAGER", row.get("role"));
+        assertEquals("rehashed", row.get("password_hash"));
+        assertEquals("John Doe", row.get("name"));
+        assertEquals(3L, ((Number) row.get("version")).longValue());
+        assertNotNull(row.get("last_modified_date"));
+        assertEquals(3L, user.getVersion());
+        assertEquals(0, user.dirtyFields());
+    }
+
+    @Test
+    public void givenStaleVersion_whenUpdated_thenShouldThrowAndKeepDirtyFields() {
+        // Arrange
+        final UUID id = insert(1L);
+        final User user = load(id);
+        final User concurrent = load(id);
+        concurrent.changeEmail("other@email.com");
+        updater.update(concurrent);
+        user.changeEmail("john@email.com");
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> updater.update(user));
+        assertEquals("other@email.com", row(id).get("email"));
+        assertEquals(1L, user.getVersion());
+        assertNotEquals(0, user.dirtyFields());
+    }
+
+    @Test
+    public void givenRowWithoutVersion_whenUpdated_thenShouldStartFromZero() {
+        // Arrange
+        final UUID id = insert(null);
+        final User user = load(id);
+        user.deactivate();
+
+        // Act
+        updater.update(user);
+
+        // Assert
+        final Map<String, Object> row = row(id);
+        assertEquals(Boolean.FALSE, row.get("is_active"));
+        assertEquals(1L, ((Number) row.get("version")).longValue());
+        assertEquals(1L, user.getVersion());
+    }
+
+    @Test
+    public void givenUserWithoutChanges_whenUpdated_thenNothingShouldBeSent() {
+        // Arrange
+        final UUID id = insert(4L);
+        final User user = load(id);
+        user.update("John Doe", "john.doe@email.com", "12345678909", "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1));
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", id);
+
+        // Act
+        final boolean updated = updater.update(user);
+
+        // Assert
+        assertFalse(updated);
+        assertEquals(4L, user.getVersion());
+    }
+
+    @Test
+    public void givenStaleCopyOfPersistedUser_whenSaved_thenShouldLoseToNewerVersion() {
+        // Arrange
+        final UUID id = insert(3L);
+        final var gateway = new UserJPAGateway(null, updater, null, null, event -> { });
+        final User stale = load(id);
+        final User concurrent = load(id);
+        concurrent.changeEmail("other@email.com");
+        updater.update(concurrent);
+        stale.changeRole(Role.MANAGER);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> gateway.save(stale));
+        assertEquals("other@email.com", row(id).get("email"));
+        assertEquals("USER", row(id).get("role"));
+
+        final User current = load(id);
+        current.changeRole(Role.MANAGER);
+        gateway.save(current);
+        final Map<String, Object> row = row(id);
+        assertEquals("other@email.com", row.get("email"));
+        assertEquals("MANAGER", row.get("role"));
+        assertEquals(5L, ((Number) row.get("version")).longValue());
+        assertEquals(5L, current.getVersion());
+    }
+}
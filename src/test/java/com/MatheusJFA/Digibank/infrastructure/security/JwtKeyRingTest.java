@@ -0,0 +1,214 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeyRingTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado apenas app.jwt.secret, quando um token é gerado, então deve levar o kid "default" e ser verificado.
+     * 2. Dado um token sem kid, quando verificado, então deve usar a chave padrão.
+     * 3. Dado um arquivo com duas chaves, quando um token é gerado, então deve usar a chave ativa e aceitar tokens da anterior.
+     * 4. Dado um token com kid desconhecido, quando verificado, então deve lançar SignatureException.
+     * 5. Dado um arquivo recarregado sem a chave anterior, quando um token antigo em cache é verificado, então deve ser rejeitado.
+     * 6. Dado um arquivo inválido, quando recarregado, então as chaves atuais devem ser mantidas.
+     * 7. Dado um arquivo observado, quando substituído, então a nova chave ativa deve ser carregada sem chamada explícita.
+     * 8. Dado um segredo com menos de 512 bits, quando carregado, então deve lançar IllegalArgumentException.
+     */
+
+    @TempDir
+    Path directory;
+
+    private JwtKeyRing keyRing;
+
+    @AfterEach
+    public void tearDown() {
+        if (keyRing != null) ReflectionTestUtils.invokeMethod(keyRing, "close");
+    }
+
+    private static String secret(char fill) {
+        final byte[] bytes = new byte[64];
+        Arrays.fill(bytes, (byte) fill);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private JwtKeyRing keyRing(String secret, Path keysFile) {
+        keyRing = new JwtKeyRing(secret, keysFile == null ? null : keysFile.toString());
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        return keyRing;
+    }
+
+    private static JwtTokenUtil tokenUtil(JwtKeyRing keyRing) {
+        final var tokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(tokenUtil, "expirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(tokenUtil, "claimsCacheSize", 16);
+        ReflectionTestUtils.invokeMethod(tokenUtil, "init");
+        return tokenUtil;
+    }
+
+    private static UserDetails user(String id) {
+        return new User(id, "", List.of());
+    }
+
+    private static String kid(String token) {
+        final String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        final int start = header.indexOf("\"kid\":\"") + 7;
+        return header.substring(start, header.indexOf('"', start));
+    }
+
+    private Path writeKeys(String content) throws IOException {
+        final Path file = directory.resolve("jwt-keys.properties");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    public void givenOnlySecret_whenTokenGenerated_thenShouldUseDefaultKid() {
+        // Arrange
+        final var tokenUtil = tokenUtil(keyRing(secret('a'), null));
+
+        // Act
+        final String token = tokenUtil.generateToken(user("user-1"));
+
+        // Assert
+        assertEquals(JwtKeyRing.DEFAULT_KID, kid(token));
+        assertEquals("user-1", tokenUtil.parseAndVerify(token).getSubject());
+    }
+
+    @Test
+    public void givenTokenWithoutKid_whenVerified_thenShouldUseDefaultKey() {
+        // Arrange
+        final var tokenUtil = tokenUtil(keyRing(secret('a'), null));
+        final String legacy = Jwts.builder()
+                .setSubject("user-1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret('a'))), SignatureAlgorithm.HS512)
+                .compact();
+
+        // Act
+        final Claims claims = tokenUtil.parseAndVerify(legacy);
+
+        // Assert
+        assertEquals("user-1", claims.getSubject());
+    }
+
+    @Test
+    public void givenKeysFile_whenTokenGenerated_thenShouldUseActiveKeyAndAcceptPrevious() throws IOException {
+        // Arrange
+        final Path file = writeKeys("# chaves\n2025-01=" + secret('a') + "\n");
+        final var ring = keyRing(null, file);
+        final var tokenUtil = tokenUtil(ring);
+        final String oldToken = tokenUtil.generateToken(user("user-1"));
+
+        Files.writeString(file, "2025-01=" + secret('a') + "\n2025-02=" + secret('b') + "\nactive=2025-02\n");
+
+        // Act
+        assertTrue(ring.reload());
+        final String newToken = tokenUtil.generateToken(user("user-1"));
+
+        // Assert
+        assertEquals("2025-01", kid(oldToken));
+        assertEquals("2025-02", kid(newToken));
+        assertEquals("user-1", tokenUtil.parseAndVerify(oldToken).getSubject());
+        assertEquals("user-1", tokenUtil.parseAndVerify(newToken).getSubject());
+    }
+
+    @Test
+    public void givenUnknownKid_whenVerified_thenShouldThrowSignatureException() {
+        // Arrange
+        final var tokenUtil = tokenUtil(keyRing(secret('a'), null));
+        final String token = Jwts.builder()
+                .setHeaderParam("kid", "desconhecida")
+                .setSubject("user-1")
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret('a'))), SignatureAlgorithm.HS512)
+                .compact();
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> tokenUtil.parseAndVerify(token));
+    }
+
+    @Test
+    public void givenRemovedKey_whenCachedTokenVerified_thenShouldBeRejected() throws IOException {
+        // Arrange
+        final Path file = writeKeys("old=" + secret('a') + "\nnew=" + secret('b') + "\nactive=old\n");
+        final var ring = keyRing(null, file);
+        final var tokenUtil = tokenUtil(ring);
+        final String token = tokenUtil.generateToken(user("user-1"));
+        tokenUtil.parseAndVerify(token);
+
+        Files.writeString(file, "new=" + secret('b') + "\n");
+
+        // Act
+        assertTrue(ring.reload());
+
+        // Assert
+        assertFalse(ring.contains("old"));
+        assertEquals("new", ring.active().kid());
+        assertThrows(SignatureException.class, () -> tokenUtil.parseAndVerify(token));
+    }
+
+    @Test
+    public void givenInvalidFile_whenReloaded_thenShouldKeepCurrentKeys() throws IOException {
+        // Arrange
+        final Path file = writeKeys("k1=" + secret('a') + "\n");
+        final var ring = keyRing(null, file);
+
+        Files.writeString(file, "k2=" + secret('b') + "\nactive=k3\n");
+
+        // Act
+        final boolean reloaded = ring.reload();
+
+        // Assert
+        assertFalse(reloaded);
+        assertEquals("k1", ring.active().kid());
+        assertFalse(ring.contains("k2"));
+    }
+
+    @Test
+    public void givenWatchedFile_whenReplaced_thenShouldLoadNewActiveKey() throws Exception {
+        // Arrange
+        final Path file = writeKeys("k1=" + secret('a') + "\n");
+        final var ring = keyRing(null, file);
+
+        // Act: substituição atômica, como fazem as ferramentas de deploy
+        final Path staged = directory.resolve("jwt-keys.tmp");
+        Files.writeString(staged, "k1=" + secret('a') + "\nk2=" + secret('b') + "\nactive=k2\n");
+        Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // Assert
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!ring.active().kid().equals("k2") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("k2", ring.active().kid());
+        assertTrue(ring.contains("k1"));
+    }
+
+    @Test
+    public void givenShortSecret_whenLoaded_thenShouldThrowIllegalArgumentException() {
+        final String shortSecret = Base64.getEncoder().encodeToString(new byte[32]);
+
+        assertThrows(IllegalArgumentException.class, () -> keyRing(shortSecret, null));
+    }
+}
@@ -0,0 +1,126 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenUtilTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um token gerado, quando verificado, então o assunto e a expiração (agora + expiration-ms) devem estar corretos.
+     * 2. Dado o mesmo token verificado duas vezes, quando o cache está ativo, então as claims devem vir do cache.
+     * 3. Dado o cache desativado, quando o token é verificado duas vezes, então deve haver um novo parse a cada chamada.
+     * 4. Dado um token adulterado ou expirado, quando verificado, então deve lançar a exceção do jjwt.
+     * 5. Dado claims verificadas, quando validadas para outro usuário, então a validação deve falhar.
+     * 6. Dado uma entrada expirada no cache, quando consultada, então não deve ser devolvida.
+     */
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef".getBytes();
+    private static final long EXPIRATION_MS = 3_600_000;
+
+    private static JwtTokenUtil tokenUtil(int cacheSize) {
+        final var keyRing = new JwtKeyRing(Base64.getEncoder().encodeToString(KEY), null);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        final var tokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(tokenUtil, "expirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(tokenUtil, "claimsCacheSize", cacheSize);
+        tokenUtil.init();
+        return tokenUtil;
+    }
+
+    private static UserDetails user(String id) {
+        return new User(id, "", List.of());
+    }
+
+    @Test
+    public void givenGeneratedToken_whenVerified_thenShouldHaveSubjectAndExpiration() {
+        // Arrange
+        final var tokenUtil = tokenUtil(16);
+        final long before = System.currentTimeMillis();
+
+        // Act
+        final Claims claims = tokenUtil.parseAndVerify(tokenUtil.generateToken(user("user-1")));
+
+        // Assert
+        assertEquals("user-1", claims.getSubject());
+        final long expiration = claims.getExpiration().getTime();
+        assertTrue(expiration >= before / 1000 * 1000 + EXPIRATION_MS);
+        assertTrue(expiration <= System.currentTimeMillis() + EXPIRATION_MS);
+    }
+
+    @Test
+    public void givenSameToken_whenVerifiedTwiceWithCache_thenShouldReturnCachedClaims() {
+        final var tokenUtil = tokenUtil(16);
+        final String token = tokenUtil.generateToken(user("user-1"));
+
+        assertSame(tokenUtil.parseAndVerify(token), tokenUtil.parseAndVerify(token));
+        assertEquals("user-1", tokenUtil.getUsernameFromToken(token));
+    }
+
+    @Test
+    public void givenDisabledCache_whenVerifiedTwice_thenShouldParseEachTime() {
+        final var tokenUtil = tokenUtil(0);
+        final String token = tokenUtil.generateToken(user("user-1"));
+
+        assertNotSame(tokenUtil.parseAndVerify(token), tokenUtil.parseAndVerify(token));
+    }
+
+    @Test
+    public void givenTamperedOrExpiredToken_whenVerified_thenShouldThrow() {
+        final var tokenUtil = tokenUtil(16);
+        final String token = tokenUtil.generateToken(user("user-1"));
+        final String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        final String expired = Jwts.builder()
+                .setSubject("user-1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(KEY), SignatureAlgorithm.HS512)
+                .compact();
+
+        // O token válido entra no cache, mas a versão adulterada tem outro digest e precisa ser verificada
+        tokenUtil.parseAndVerify(token);
+        assertThrows(SignatureException.class, () -> tokenUtil.parseAndVerify(tampered));
+        assertThrows(ExpiredJwtException.class, () -> tokenUtil.parseAndVerify(expired));
+    }
+
+    @Test
+    public void givenVerifiedClaims_whenValidatedForAnotherUser_thenShouldFail() {
+        final var tokenUtil = tokenUtil(16);
+        final String token = tokenUtil.generateToken(user("user-1"));
+        final Claims claims = tokenUtil.parseAndVerify(token);
+
+        assertTrue(tokenUtil.validateClaims(claims, user("user-1")));
+        assertFalse(tokenUtil.validateClaims(claims, user("user-2")));
+        assertTrue(tokenUtil.validateToken(token, user("user-1")));
+    }
+
+    @Test
+    public void givenExpiredCacheEntry_whenLookedUp_thenShouldNotBeReturned() {
+        final var cache = new VerifiedClaimsCache(100);
+        final var digest = VerifiedClaimsCache.digest("token");
+        final Claims claims = Jwts.claims().setSubject("user-1");
+        final long now = System.currentTimeMillis();
+
+        cache.put(digest, claims, now + 1000);
+        assertEquals(128, cache.capacity());
+        assertSame(claims, cache.get(digest, now));
+        assertNull(cache.get(VerifiedClaimsCache.digest("other-token"), now));
+        assertNull(cache.get(digest, now + 1000));
+        assertNull(cache.get(digest, now));
+    }
+}
@@ -0,0 +1,150 @@
+package com.MatheusJFA.Digibank.infrastructure.security;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserDeleted;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserStatusCacheTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um usuário no banco, quando consultado duas vezes, então a segunda consulta não deve ir ao banco.
+     * 2. Dado um evento de desativação ou mudança de papel, quando publicado, então o cache deve refletir o novo estado na hora.
+     * 3. Dado um evento de remoção, quando publicado, então a próxima consulta deve ir ao banco.
+     * 4. Dado um usuário inexistente, quando consultado, então deve devolver vazio.
+     * 5. Dado claims de um usuário ativo com o mesmo papel, quando autenticado por claims, então deve montar o usuário.
+     * 6. Dado um usuário desativado ou com papel alterado, quando autenticado por claims, então deve ser recusado.
+     * 7. Dado um token no formato antigo da claim role, quando autenticado por claims, então o papel deve ser reconhecido.
+     */
+
+    private JdbcTemplate jdbcTemplate;
+    private UserStatusCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:status-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id UUID NOT NULL PRIMARY KEY, is_active BOOLEAN NOT NULL, role VARCHAR(255) NOT NULL)");
+        cache = new UserStatusCache(jdbcTemplate, 100, 60_000);
+    }
+
+    private UUID insertUser(boolean active, Role role) {
+        final UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, is_active, role) VALUES (?, ?, ?)", id, active, role.name());
+        return id;
+    }
+
+    private static Claims claims(UUID id, Object role) {
+        return Jwts.claims(Map.of(JwtClaimsUserDetailsService.ROLE_CLAIM, role)).setSubject(id.toString());
+    }
+
+    @Test
+    public void givenStoredUser_whenLookedUpTwice_thenSecondLookupShouldNotHitDatabase() {
+        // Arrange
+        final UUID id = insertUser(true, Role.USER);
+
+        // Act
+        final var first = cache.get(id);
+        jdbcTemplate.update("UPDATE users SET is_active = FALSE WHERE id = ?", id);
+        final var second = cache.get(id);
+
+        // Assert
+        assertEquals(128, cache.capacity());
+        assertEquals(Optional.of(new UserStatusCache.UserStatus(id, true, Role.USER)), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void givenStatusChangedEvent_whenPublished_thenCacheShouldReflectNewState() {
+        // Arrange
+        final UUID id = insertUser(true, Role.USER);
+        cache.get(id);
+
+        // Act
+        cache.onStatusChanged(new UserStatusChanged(id, false, Role.MANAGER));
+
+        // Assert
+        assertEquals(Optional.of(new UserStatusCache.UserStatus(id, false, Role.MANAGER)), cache.get(id));
+    }
+
+    @Test
+    public void givenDeletedEvent_whenPublished_thenNextLookupShouldHitDatabase() {
+        // Arrange
+        final UUID id = insertUser(true, Role.USER);
+        cache.get(id);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", id);
+
+        // Act
+        cache.onDeleted(new UserDeleted(id));
+
+        // Assert
+        assertTrue(cache.get(id).isEmpty());
+    }
+
+    @Test
+    public void givenUnknownUser_whenLookedUp_thenShouldReturnEmpty() {
+        assertTrue(cache.get(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    public void givenActiveUserWithSameRole_whenAuthenticatedByClaims_thenShouldBuildPrincipal() {
+        // Arrange
+        final UUID id = insertUser(true, Role.MANAGER);
+        final var service = new JwtClaimsUserDetailsService(cache);
+
+        // Act
+        final UserDetails details = service.loadUserByClaims(claims(id, List.of("MANAGER"))).orElseThrow();
+
+        // Assert
+        assertEquals(id.toString(), details.getUsername());
+        assertEquals(List.of("MANAGER"), details.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    public void givenDeactivatedOrPromotedUser_whenAuthenticatedByClaims_thenShouldBeRejected() {
+        // Arrange
+        final UUID deactivated = insertUser(true, Role.USER);
+        final UUID promoted = insertUser(true, Role.USER);
+        final var service = new JwtClaimsUserDetailsService(cache);
+
+        // Act
+        cache.onStatusChanged(new UserStatusChanged(deactivated, false, Role.USER));
+        cache.onStatusChanged(new UserStatusChanged(promoted, true, Role.ADMINISTRATOR));
+
+        // Assert
+        assertTrue(service.loadUserByClaims(claims(deactivated, List.of("USER"))).isEmpty());
+        assertTrue(service.loadUserByClaims(claims(promoted, List.of("USER"))).isEmpty());
+        assertTrue(service.loadUserByClaims(claims(UUID.randomUUID(), List.of("USER"))).isEmpty());
+    }
+
+    @Test
+    public void givenLegacyRoleClaim_whenAuthenticatedByClaims_thenRoleShouldBeRecognized() {
+        // Arrange
+        final UUID id = insertUser(true, Role.WORKER);
+        final var service = new JwtClaimsUserDetailsService(cache);
+        final Object legacyRole = List.of(Map.of("authority", new SimpleGrantedAuthority("WORKER").getAuthority()));
+
+        // Act
+        final var details = service.loadUserByClaims(claims(id, legacyRole));
+
+        // Assert
+        assertTrue(details.isPresent());
+    }
+}
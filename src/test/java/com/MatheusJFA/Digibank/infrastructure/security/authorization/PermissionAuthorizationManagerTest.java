@@ -0,0 +1,156 @@
+package com.MatheusJFA.Digibank.infrastructure.security.authorization;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Permission;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PermissionAuthorizationManagerTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado os papéis, quando consultadas as permissões, então cada papel deve ter o seu conjunto fixo e o administrador todas.
+     * 2. Dado um método com @RequiresPermission, quando chamado por um papel com e sem a permissão, então deve executar ou lançar AccessDeniedException.
+     * 3. Dado uma classe com @RequiresPermission e um método com a própria anotação, quando chamados, então a do método deve prevalecer.
+     * 4. Dado uma autoridade só com o nome do papel, quando o método é chamado, então as permissões do papel devem valer.
+     * 5. Dado um usuário anônimo, quando chama um método com @RequiresPermission, então deve ser negado.
+     * 6. Dado um usuário, quando as autoridades são obtidas várias vezes, então deve ser sempre a mesma lista com o próprio papel.
+     */
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    public static class AuditReader {
+        @RequiresPermission(Permission.AUDIT_READ)
+        public String read() {
+            return "ok";
+        }
+    }
+
+    @RequiresPermission(Permission.USER_READ)
+    public static class UserDirectory {
+        public String find() {
+            return "found";
+        }
+
+        @RequiresPermission({Permission.USER_WRITE, Permission.USER_DEACTIVATE})
+        public String deactivate() {
+            return "deactivated";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target) {
+        final var factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(PermissionAuthorizationManager.interceptor());
+        return (T) factory.getProxy();
+    }
+
+    private static void authenticate(Collection<? extends GrantedAuthority> authorities) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user", null, authorities));
+    }
+
+    @Test
+    public void givenRoles_whenPermissionsQueried_thenEachRoleShouldHaveItsFixedSet() {
+        // Assert
+        assertTrue(Role.USER.has(Permission.PROFILE_READ));
+        assertFalse(Role.USER.has(Permission.USER_READ));
+        assertTrue(Role.WORKER.has(Permission.USER_READ));
+        assertFalse(Role.WORKER.has(Permission.USER_WRITE));
+        assertTrue(Role.MANAGER.has(Permission.USER_IMPORT));
+        assertFalse(Role.MODERATOR.has(Permission.AUDIT_READ));
+        for (Permission permission : Permission.values()) {
+            assertTrue(Role.ADMINISTRATOR.has(permission), permission.name());
+        }
+        assertEquals(Permission.maskOf(Permission.values()), Role.ADMINISTRATOR.permissions());
+    }
+
+    @Test
+    public void givenAnnotatedMethod_whenCalledWithAndWithoutPermission_thenShouldRunOrDeny() {
+        // Arrange
+        final AuditReader reader = proxy(new AuditReader());
+
+        // Act & Assert
+        authenticate(Role.ADMINISTRATOR.authorities());
+        assertEquals("ok", reader.read());
+
+        authenticate(Role.MANAGER.authorities());
+        assertThrows(AccessDeniedException.class, reader::read);
+    }
+
+    @Test
+    public void givenAnnotatedClassAndMethod_whenCalled_thenMethodAnnotationShouldPrevail() {
+        // Arrange
+        final UserDirectory directory = proxy(new UserDirectory());
+
+        // Act & Assert
+        authenticate(Role.WORKER.authorities());
+        assertEquals("found", directory.find());
+        assertThrows(AccessDeniedException.class, directory::deactivate);
+
+        authenticate(Role.MANAGER.authorities());
+        assertEquals("deactivated", directory.deactivate());
+
+        authenticate(Role.USER.authorities());
+        assertThrows(AccessDeniedException.class, directory::find);
+    }
+
+    @Test
+    public void givenAuthorityWithRoleNameOnly_whenMethodCalled_thenRolePermissionsShouldApply() {
+        // Arrange
+        final AuditReader reader = proxy(new AuditReader());
+        final UserDirectory directory = proxy(new UserDirectory());
+
+        // Act & Assert
+        authenticate(List.of(new SimpleGrantedAuthority("ADMINISTRATOR")));
+        assertEquals("ok", reader.read());
+
+        authenticate(List.of(new SimpleGrantedAuthority("ROLE_ADMINISTRATOR")));
+        assertThrows(AccessDeniedException.class, directory::find);
+    }
+
+    @Test
+    public void givenAnonymousUser_whenCallsAnnotatedMethod_thenShouldBeDenied() {
+        // Arrange
+        final UserDirectory directory = proxy(new UserDirectory());
+        SecurityContextHolder.getContext().setAuthentication(
+                new AnonymousAuthenticationToken("key", "anonymous", List.of(Role.ADMINISTRATOR)));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, directory::find);
+    }
+
+    @Test
+    public void givenUser_whenAuthoritiesObtainedRepeatedly_thenShouldReturnSameListWithRole() {
+        // Arrange
+        final User user = User.create("John Doe", "password123", "john.doe@email.com", "12345678909",
+                "+55 (31) 12345-6789", LocalDate.of(1990, 1, 1), Role.MANAGER);
+
+        // Act
+        final var first = user.getAuthorities();
+        final var second = user.getAuthorities();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(List.of(Role.MANAGER), List.copyOf(first));
+        assertEquals("MANAGER", first.iterator().next().getAuthority());
+    }
+}
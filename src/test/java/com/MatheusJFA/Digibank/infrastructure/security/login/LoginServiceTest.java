@@ -0,0 +1,248 @@
+package com.MatheusJFA.Digibank.infrastructure.security.login;
+
+import com.MatheusJFA.Digibank.domain.user.User;
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserPasswordChanged;
+import com.MatheusJFA.Digibank.domain.valueObject.ValueObjects;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.persistence.UserJPAGateway;
+import com.MatheusJFA.Digibank.infrastructure.modules.user.persistence.UserPartialUpdater;
+import com.MatheusJFA.Digibank.shared.exceptions.LoginUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginServiceTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado e-mail e senha corretos, quando autenticado, então deve devolver o usuário com o seu papel e registrar as métricas.
+     * 2. Dado um hash com custo menor que o configurado, quando o login é bem-sucedido, então o hash deve ser refeito com o novo custo, a versão incrementada e os caches avisados.
+     * 3. Dado senha errada, e-mail inexistente ou usuário importado sem senha, quando autenticado, então deve falhar com BadCredentialsException.
+     * 4. Dado um usuário desativado com a senha correta, quando autenticado, então deve falhar com DisabledException.
+     * 5. Dado o pool e a fila cheios, quando um novo login chega, então deve ser recusado na hora com LoginUnavailableException.
+     * 6. Dado um login que esperou mais que o limite na fila, quando executado, então deve ser recusado sem calcular o hash.
+     * 7. Dado um usuário lido antes do rehash no login, quando gravado por inteiro pelo save, então deve falhar com OptimisticLockingFailureException sem devolver o hash antigo.
+     */
+
+    private static final String PASSWORD = "senha-forte-123";
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Object> events = new ArrayList<>();
+    private final List<LoginService> services = new ArrayList<>();
+
+    // Encoder que segura as verificações até o latch ser liberado, para ocupar o pool de forma determinística
+    private static final class BlockingPasswordEncoder extends BCryptPasswordEncoder {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private BlockingPasswordEncoder() {
+            super(4);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:login-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id            UUID         NOT NULL PRIMARY KEY,
+                    email         VARCHAR(255) NOT NULL UNIQUE,
+                    password_hash VARCHAR(255) NOT NULL,
+                    is_active     BOOLEAN      NOT NULL,
+                    role          VARCHAR(255) NOT NULL,
+                    name          VARCHAR(255),
+                    cpf           BIGINT,
+                    phone         VARCHAR(255),
+                    birth_date    DATE,
+                    last_login    TIMESTAMP,
+                    last_modified_date TIMESTAMP,
+                    version       BIGINT
+                )""");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        services.forEach(LoginService::close);
+    }
+
+    private LoginService service(PasswordEncoder encoder, int threads, int queueCapacity, long maxQueueWaitMs) {
+        final var service = new LoginService(jdbcTemplate, encoder, events::add, meterRegistry, threads, queueCapacity, maxQueueWaitMs);
+        services.add(service);
+        return service;
+    }
+
+    private UUID insertUser(String email, String passwordHash, boolean active, Role role) {
+        final UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email, password_hash, is_active, role, version) VALUES (?, ?, ?, ?, ?, 3)",
+                id, email, passwordHash, active, role.name());
+        return id;
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS)).getCause();
+    }
+
+    @Test
+    public void givenValidCredentials_whenAuthenticated_thenShouldReturnUserAndRecordMetrics() throws Exception {
+        // Arrange
+        final var encoder = new BCryptPasswordEncoder(4);
+        final UUID id = insertUser("john@email.com", encoder.encode(PASSWORD), true, Role.MANAGER);
+        final var service = service(encoder, 2, 4, 5_000);
+
+        // Act
+        final UserDetails user = service.authenticate("john@email.com", PASSWORD).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(id.toString(), user.getUsername());
+        assertEquals(List.of("MANAGER"), user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertEquals(1, meterRegistry.get("digibank.auth.login").tag("result", "success").counter().count());
+        assertEquals(1, meterRegistry.get("digibank.auth.password").tag("operation", "verify").timer().count());
+        assertEquals(0, meterRegistry.get("digibank.auth.password").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    public void givenLowerCostHash_whenLoginSucceeds_thenHashShouldBeUpgraded() throws Exception {
+        // Arrange
+        final UUID id = insertUser("john@email.com", new BCryptPasswordEncoder(4).encode(PASSWORD), true, Role.USER);
+        final var upgraded = new BCryptPasswordEncoder(5);
+        final var service = service(upgraded, 1, 4, 5_000);
+
+        // Act
+        service.authenticate("john@email.com", PASSWORD).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        final String hash = jdbcTemplate.queryForObject("SELECT password_hash FROM users WHERE id = ?", String.class, id);
+        assertTrue(hash.startsWith("$2a$05$"), hash);
+        assertTrue(upgraded.matches(PASSWORD, hash));
+        assertFalse(upgraded.upgradeEncoding(hash));
+        assertEquals(1, meterRegistry.get("digibank.auth.password").tag("operation", "encode").timer().count());
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Long.class, id));
+        assertEquals(List.of(new UserPasswordChanged(id)), events);
+    }
+
+    @Test
+    public void givenWrongPasswordUnknownEmailOrImportedUser_whenAuthenticated_thenShouldFailWithBadCredentials() {
+        // Arrange
+        final var encoder = new BCryptPasswordEncoder(4);
+        insertUser("john@email.com", encoder.encode(PASSWORD), true, Role.USER);
+        insertUser("imported@email.com", "!", true, Role.USER);
+        final var service = service(encoder, 2, 8, 5_000);
+
+        // Act & Assert
+        assertInstanceOf(BadCredentialsException.class, failureOf(service.authenticate("john@email.com", "errada")));
+        assertInstanceOf(BadCredentialsException.class, failureOf(service.authenticate("nobody@email.com", PASSWORD)));
+        assertInstanceOf(BadCredentialsException.class, failureOf(service.authenticate("imported@email.com", "!")));
+        assertEquals(3, meterRegistry.get("digibank.auth.login").tag("result", "bad_credentials").counter().count());
+        assertEquals(3, meterRegistry.get("digibank.auth.password").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    public void givenDisabledUser_whenAuthenticated_thenShouldFailWithDisabledException() {
+        final var encoder = new BCryptPasswordEncoder(4);
+        insertUser("john@email.com", encoder.encode(PASSWORD), false, Role.USER);
+        final var service = service(encoder, 1, 4, 5_000);
+
+        assertInstanceOf(DisabledException.class, failureOf(service.authenticate("john@email.com", PASSWORD)));
+    }
+
+    @Test
+    public void givenFullPoolAndQueue_whenNewLoginArrives_thenShouldBeRejectedImmediately() throws Exception {
+        // Arrange
+        final var encoder = new BlockingPasswordEncoder();
+        insertUser("john@email.com", encoder.encode(PASSWORD), true, Role.USER);
+        final var service = service(encoder, 1, 1, 10_000);
+
+        final var running = service.authenticate("john@email.com", PASSWORD);
+        assertTrue(encoder.started.await(10, TimeUnit.SECONDS));
+        final var queued = service.authenticate("john@email.com", PASSWORD);
+
+        // Act
+        final var rejected = service.authenticate("john@email.com", PASSWORD);
+
+        // Assert
+        assertTrue(rejected.isCompletedExceptionally());
+        assertInstanceOf(LoginUnavailableException.class, failureOf(rejected));
+        assertEquals(1, service.queueSize());
+
+        encoder.release.countDown();
+        assertNotNull(running.get(10, TimeUnit.SECONDS));
+        assertNotNull(queued.get(10, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("digibank.auth.login").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    public void givenLoginWaitingTooLong_whenExecuted_thenShouldBeRejectedWithoutHashing() throws Exception {
+        // Arrange
+        final var encoder = new BlockingPasswordEncoder();
+        insertUser("john@email.com", encoder.encode(PASSWORD), true, Role.USER);
+        final var service = service(encoder, 1, 4, 50);
+
+        final var running = service.authenticate("john@email.com", PASSWORD);
+        assertTrue(encoder.started.await(10, TimeUnit.SECONDS));
+        final var stale = service.authenticate("john@email.com", PASSWORD);
+
+        // Act
+        Thread.sleep(100);
+        encoder.release.countDown();
+
+        // Assert
+        assertNotNull(running.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(LoginUnavailableException.class, failureOf(stale));
+        assertEquals(1, meterRegistry.get("digibank.auth.password").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    public void givenUserReadBeforeLoginRehash_whenSaved_thenShouldFailWithoutRestoringOldHash() throws Exception {
+        // Arrange
+        final String oldHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        final UUID id = insertUser("john@email.com", oldHash, true, Role.USER);
+        final User stale = User.restore(id, "John Doe", oldHash, ValueObjects.email("john@email.com"),
+                ValueObjects.cpf("12345678909"), ValueObjects.phone("+55 (31) 12345-6789"), LocalDate.of(1990, 1, 1),
+                true, Role.USER, null, null, null, null, null, 3);
+        final var gateway = new UserJPAGateway(null, new UserPartialUpdater(jdbcTemplate), null, null, event -> { });
+        service(new BCryptPasswordEncoder(5), 1, 4, 5_000).authenticate("john@email.com", PASSWORD).get(10, TimeUnit.SECONDS);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> gateway.save(stale));
+        final String hash = jdbcTemplate.queryForObject("SELECT password_hash FROM users WHERE id = ?", String.class, id);
+        assertNotEquals(oldHash, hash);
+        assertTrue(hash.startsWith("$2a$05$"), hash);
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Long.class, id));
+    }
+}
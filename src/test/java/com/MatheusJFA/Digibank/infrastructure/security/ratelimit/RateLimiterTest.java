@@ -0,0 +1,217 @@
+package com.MatheusJFA.Digibank.infrastructure.security.ratelimit;
+
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.KeySource;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.Mode;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitProperties.Rule;
+import com.MatheusJFA.Digibank.infrastructure.security.ratelimit.RateLimitStore.Decision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um balde cheio, quando a capacidade é consumida, então a próxima requisição deve ser recusada com o tempo de espera.
+     * 2. Dado um balde vazio, quando o tempo passa, então deve ser reposto na taxa configurada sem passar da capacidade.
+     * 3. Dado mais clientes que o limite de baldes, quando novos clientes chegam, então a memória deve continuar limitada.
+     * 4. Dado várias threads no mesmo balde, quando consomem ao mesmo tempo, então nenhum token deve ser gasto duas vezes.
+     * 5. Dado regras por rota e método, quando a requisição casa com uma delas, então só ela deve ser aplicada e a recusa contada.
+     * 6. Dado o Redis indisponível, quando uma regra é avaliada, então o limite local deve ser aplicado e a falha contada.
+     * 7. Dado os filtros de IP e usuário, quando o limite é excedido, então a resposta deve ser 429 e anônimos não contam por usuário.
+     */
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private LocalRateLimitStore store(int maxBuckets) {
+        return new LocalRateLimitStore(4, maxBuckets, now::get);
+    }
+
+    private RateLimiter rateLimiter(RateLimitStore distributed, Rule... rules) {
+        final var properties = new RateLimitProperties(true, distributed == null ? Mode.LOCAL : Mode.REDIS, 4, 1000, List.of(rules));
+        return new RateLimiter(properties, distributed, store(1000), registry);
+    }
+
+    private static Rule rule(String name, String pattern, List<String> methods, KeySource key, long capacity, double refillPerSecond) {
+        return new Rule(name, pattern, methods, key, capacity, refillPerSecond);
+    }
+
+    private double rejected(String rule) {
+        return registry.get("digibank.ratelimit.rejected").tag("rule", rule).counter().count();
+    }
+
+    @Test
+    public void givenFullBucket_whenCapacityConsumed_thenNextRequestShouldBeRejectedWithRetryAfter() {
+        // Arrange
+        final var store = store(100);
+
+        // Act
+        final Decision first = store.tryAcquire("cliente", 3, 2);
+        store.tryAcquire("cliente", 3, 2);
+        final Decision last = store.tryAcquire("cliente", 3, 2);
+        final Decision rejected = store.tryAcquire("cliente", 3, 2);
+
+        // Assert
+        assertEquals(new Decision(true, 2, 0), first);
+        assertEquals(new Decision(true, 0, 0), last);
+        assertFalse(rejected.allowed());
+        assertEquals(500, rejected.retryAfterMs());
+    }
+
+    @Test
+    public void givenEmptyBucket_whenTimePasses_thenShouldRefillAtConfiguredRateUpToCapacity() {
+        // Arrange
+        final var store = store(100);
+        for (int i = 0; i < 5; i++) store.tryAcquire("cliente", 5, 10);
+
+        // Act
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        final Decision afterRefill = store.tryAcquire("cliente", 5, 10);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        final Decision afterIdle = store.tryAcquire("cliente", 5, 10);
+
+        // Assert
+        assertEquals(new Decision(true, 1, 0), afterRefill);
+        assertEquals(new Decision(true, 4, 0), afterIdle);
+    }
+
+    @Test
+    public void givenMoreClientsThanBucketLimit_whenNewClientsArrive_thenMemoryShouldStayBounded() {
+        // Arrange
+        final var store = store(40);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            store.tryAcquire("cliente-" + i, 10, 1);
+        }
+
+        // Assert
+        assertTrue(store.size() <= 40);
+    }
+
+    @Test
+    public void givenConcurrentThreads_whenConsumingSameBucket_thenNoTokenShouldBeSpentTwice() throws Exception {
+        // Arrange
+        final var store = new LocalRateLimitStore(4, 100);
+        final var allowed = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 1000; i++) {
+                        if (store.tryAcquire("cliente", 500, 0.001).allowed()) allowed.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        // Assert
+        assertEquals(500, allowed.get());
+    }
+
+    @Test
+    public void givenRouteAndMethodRules_whenRequestMatches_thenOnlyMatchingRuleShouldApply() {
+        // Arrange
+        final var rateLimiter = rateLimiter(null,
+                rule("login", "/api/auth/**", List.of("post"), KeySource.IP, 1, 0.1),
+                rule("api", "/api/**", List.of(), KeySource.IP, 100, 10));
+
+        // Act
+        final Decision login = rateLimiter.check(KeySource.IP, "POST", "/api/auth/login", "10.0.0.1");
+        final Decision secondLogin = rateLimiter.check(KeySource.IP, "POST", "/api/auth/login", "10.0.0.1");
+        final Decision otherClient = rateLimiter.check(KeySource.IP, "POST", "/api/auth/login", "10.0.0.2");
+        final Decision get = rateLimiter.check(KeySource.IP, "GET", "/api/auth/login", "10.0.0.1");
+        final Decision outside = rateLimiter.check(KeySource.IP, "GET", "/swagger-ui.html", "10.0.0.1");
+
+        // Assert
+        assertEquals(0, login.remaining());
+        assertFalse(secondLogin.allowed());
+        assertTrue(otherClient.allowed());
+        assertEquals(new Decision(true, 98, 0), get);
+        assertSame(Decision.UNLIMITED, outside);
+        assertEquals(1, rejected("login"));
+        assertEquals(0, rejected("api"));
+    }
+
+    @Test
+    public void givenRedisUnavailable_whenRuleEvaluated_thenLocalLimitShouldApply() {
+        // Arrange
+        final RateLimitStore unavailable = (key, capacity, tokensPerSecond) -> {
+            throw new IllegalStateException("Redis indisponível");
+        };
+        final var rateLimiter = rateLimiter(unavailable, rule("api", "/api/**", List.of(), KeySource.USER, 2, 1));
+
+        // Act
+        final Decision first = rateLimiter.check(KeySource.USER, "GET", "/api/users", "user-1");
+        rateLimiter.check(KeySource.USER, "GET", "/api/users", "user-1");
+        final Decision third = rateLimiter.check(KeySource.USER, "GET", "/api/users", "user-1");
+
+        // Assert
+        assertTrue(first.allowed());
+        assertFalse(third.allowed());
+        assertEquals(3, registry.get("digibank.ratelimit.store.errors").counter().count());
+    }
+
+    @Test
+    public void givenIpAndUserFilters_whenLimitExceeded_thenShouldRespondTooManyRequests() throws Exception {
+        // Arrange
+        final var rateLimiter = rateLimiter(null,
+                rule("api-ip", "/api/**", List.of(), KeySource.IP, 1, 1),
+                rule("api-user", "/api/**", List.of(), KeySource.USER, 1, 0.5));
+        final var ipFilter = new RateLimitFilter(rateLimiter, KeySource.IP);
+        final var userFilter = new RateLimitFilter(rateLimiter, KeySource.USER);
+
+        final var anonymous = new MockHttpServletRequest("GET", "/api/users");
+        anonymous.setRemoteAddr("10.0.0.1");
+        final var anonymousResponse = new MockHttpServletResponse();
+
+        final var authenticated = new MockHttpServletRequest("GET", "/api/users");
+        authenticated.setRemoteAddr("10.0.0.2");
+
+        // Act
+        ipFilter.doFilter(anonymous, anonymousResponse, new MockFilterChain());
+        userFilter.doFilter(anonymous, anonymousResponse, new MockFilterChain());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user-1", null, List.of()));
+        userFilter.doFilter(authenticated, new MockHttpServletResponse(), new MockFilterChain());
+        final var rejected = new MockHttpServletResponse();
+        userFilter.doFilter(new MockHttpServletRequest("GET", "/api/users"), rejected, new MockFilterChain());
+
+        // Assert
+        assertEquals(200, anonymousResponse.getStatus());
+        assertEquals("0", anonymousResponse.getHeader(RateLimitFilter.REMAINING_HEADER));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals(0, rejected("api-ip"));
+        assertEquals(1, rejected("api-user"));
+    }
+}
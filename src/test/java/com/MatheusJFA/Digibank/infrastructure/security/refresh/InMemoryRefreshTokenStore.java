@@ -0,0 +1,61 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Mesma semântica dos scripts Lua do RedisRefreshTokenStore, sem expiração, para os testes do serviço
+class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private record Family(String current, String previous, long rotatedAt) {
+    }
+
+    private final Map<String, Family> families = new HashMap<>();
+    private final Map<UUID, Set<String>> byUser = new HashMap<>();
+    int rotations;
+
+    @Override
+    public synchronized void create(UUID userId, String familyId, String tokenHash, Duration ttl) {
+        families.put(familyId, new Family(tokenHash, null, 0));
+        byUser.computeIfAbsent(userId, id -> new HashSet<>()).add(familyId);
+    }
+
+    @Override
+    public synchronized Rotation rotate(UUID userId, String familyId, String presentedHash, String newHash, Duration ttl, Duration grace) {
+        rotations++;
+        final Family family = families.get(familyId);
+        if (family == null) return Rotation.NOT_FOUND;
+
+        final long now = System.currentTimeMillis();
+        if (family.current.equals(presentedHash)) {
+            families.put(familyId, new Family(newHash, presentedHash, now));
+            return Rotation.ROTATED;
+        }
+        if (presentedHash.equals(family.previous) && now - family.rotatedAt <= grace.toMillis()) {
+            return Rotation.CONCURRENT;
+        }
+
+        families.remove(familyId);
+        return Rotation.REUSED;
+    }
+
+    @Override
+    public synchronized boolean revokeFamily(UUID userId, String familyId, String presentedHash) {
+        final Family family = families.get(familyId);
+        if (family == null || !(family.current.equals(presentedHash) || presentedHash.equals(family.previous))) return false;
+
+        families.remove(familyId);
+        return true;
+    }
+
+    @Override
+    public synchronized int revokeUser(UUID userId) {
+        final Set<String> ids = byUser.remove(userId);
+        if (ids == null) return 0;
+
+        ids.forEach(families::remove);
+        return ids.size();
+    }
+}
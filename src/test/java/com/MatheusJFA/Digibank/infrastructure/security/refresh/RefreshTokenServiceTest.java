@@ -0,0 +1,185 @@
+package com.MatheusJFA.Digibank.infrastructure.security.refresh;
+
+import com.MatheusJFA.Digibank.domain.user.enums.Role;
+import com.MatheusJFA.Digibank.domain.user.events.UserStatusChanged;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtKeyRing;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtTokenUtil;
+import com.MatheusJFA.Digibank.infrastructure.security.UserStatusCache;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException;
+import com.MatheusJFA.Digibank.shared.exceptions.InvalidRefreshTokenException.Reason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshTokenServiceTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um refresh token emitido, quando renovado, então deve devolver um novo par com o papel atual do usuário.
+     * 2. Dado o mesmo token renovado duas vezes no mesmo nó, quando dentro da janela, então deve devolver o mesmo par sem ir ao store.
+     * 3. Dado o mesmo token renovado em outro nó dentro da janela, quando renovado, então deve ser recusado como concorrente sem revogar a família.
+     * 4. Dado um token já substituído, quando apresentado fora da janela, então a família inteira deve ser revogada.
+     * 5. Dado um usuário desativado, quando o evento é publicado, então todas as famílias devem ser revogadas.
+     * 6. Dado um logout, quando o token é apresentado de novo, então deve ser recusado pelo L1 sem ir ao store.
+     * 7. Dado um token malformado, quando renovado, então deve ser recusado como inválido.
+     */
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private JdbcTemplate jdbcTemplate;
+    private UserStatusCache userStatusCache;
+    private JwtTokenUtil jwtTokenUtil;
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:refresh-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id UUID NOT NULL PRIMARY KEY, is_active BOOLEAN NOT NULL, role VARCHAR(255) NOT NULL)");
+        userStatusCache = new UserStatusCache(jdbcTemplate, 64, 60_000);
+
+        final var keyRing = new JwtKeyRing(SECRET, null);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        jwtTokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "claimsCacheSize", 0);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        store = new InMemoryRefreshTokenStore();
+    }
+
+    private RefreshTokenService service(long graceMs) {
+        return new RefreshTokenService(store, jwtTokenUtil, userStatusCache, 604_800_000L, graceMs, 64);
+    }
+
+    private UserDetails insertUser(Role role) {
+        final UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, is_active, role) VALUES (?, TRUE, ?)", id, role.name());
+        return new User(id.toString(), "", List.of(new SimpleGrantedAuthority(role.name())));
+    }
+
+    private static Reason reasonOf(Runnable action) {
+        return assertThrows(InvalidRefreshTokenException.class, action::run).getReason();
+    }
+
+    @Test
+    public void givenIssuedToken_whenRefreshed_thenShouldReturnNewPairWithCurrentRole() {
+        // Arrange
+        final var service = service(10_000);
+        final UserDetails user = insertUser(Role.USER);
+        final TokenPair issued = service.issue(user);
+        userStatusCache.onStatusChanged(new UserStatusChanged(UUID.fromString(user.getUsername()), true, Role.MANAGER));
+
+        // Act
+        final TokenPair refreshed = service.refresh(issued.refreshToken());
+
+        // Assert
+        assertNotEquals(issued.refreshToken(), refreshed.refreshToken());
+        assertEquals(3600, refreshed.expiresIn());
+        final var claims = jwtTokenUtil.parseAndVerify(refreshed.accessToken());
+        assertEquals(user.getUsername(), claims.getSubject());
+        assertEquals(List.of("MANAGER"), claims.get("role"));
+    }
+
+    @Test
+    public void givenSameTokenTwiceOnSameNode_whenWithinGrace_thenShouldReturnSamePair() {
+        // Arrange
+        final var service = service(10_000);
+        final TokenPair issued = service.issue(insertUser(Role.USER));
+
+        // Act
+        final TokenPair first = service.refresh(issued.refreshToken());
+        final TokenPair retry = service.refresh(issued.refreshToken());
+
+        // Assert
+        assertSame(first, retry);
+        assertEquals(1, store.rotations);
+    }
+
+    @Test
+    public void givenSameTokenOnAnotherNode_whenWithinGrace_thenShouldBeConcurrentWithoutRevoking() {
+        // Arrange
+        final var nodeA = service(10_000);
+        final var nodeB = service(10_000);
+        final TokenPair issued = nodeA.issue(insertUser(Role.USER));
+        final TokenPair rotated = nodeA.refresh(issued.refreshToken());
+
+        // Act
+        final Reason reason = reasonOf(() -> nodeB.refresh(issued.refreshToken()));
+
+        // Assert
+        assertEquals(Reason.CONCURRENT, reason);
+        assertNotNull(nodeB.refresh(rotated.refreshToken()));
+    }
+
+    @Test
+    public void givenReplacedToken_whenPresentedAfterGrace_thenFamilyShouldBeRevoked() {
+        // Arrange
+        final var nodeA = service(0);
+        final var nodeB = service(0);
+        final TokenPair issued = nodeA.issue(insertUser(Role.USER));
+        final TokenPair rotated = nodeA.refresh(issued.refreshToken());
+
+        // Act
+        final Reason reason = reasonOf(() -> nodeB.refresh(issued.refreshToken()));
+
+        // Assert
+        assertEquals(Reason.REUSED, reason);
+        assertEquals(Reason.INVALID, reasonOf(() -> nodeA.refresh(rotated.refreshToken())));
+    }
+
+    @Test
+    public void givenDeactivatedUser_whenEventPublished_thenAllFamiliesShouldBeRevoked() {
+        // Arrange
+        final var service = service(10_000);
+        final UserDetails user = insertUser(Role.USER);
+        final TokenPair browser = service.issue(user);
+        final TokenPair phone = service.issue(user);
+        final var event = new UserStatusChanged(UUID.fromString(user.getUsername()), false, Role.USER);
+
+        // Act
+        userStatusCache.onStatusChanged(event);
+        service.onStatusChanged(event);
+
+        // Assert
+        assertEquals(Reason.USER_DISABLED, reasonOf(() -> service.refresh(browser.refreshToken())));
+        assertEquals(Reason.INVALID, reasonOf(() -> service.refresh(browser.refreshToken())));
+        assertEquals(0, service.revokeAll(UUID.fromString(user.getUsername())));
+        assertEquals(Reason.USER_DISABLED, reasonOf(() -> service.refresh(phone.refreshToken())));
+    }
+
+    @Test
+    public void givenLogout_whenTokenPresentedAgain_thenShouldBeRejectedByL1() {
+        // Arrange
+        final var service = service(10_000);
+        final TokenPair issued = service.issue(insertUser(Role.USER));
+
+        // Act
+        service.revoke(issued.refreshToken());
+
+        // Assert
+        assertEquals(Reason.INVALID, reasonOf(() -> service.refresh(issued.refreshToken())));
+        assertEquals(0, store.rotations);
+    }
+
+    @Test
+    public void givenMalformedToken_whenRefreshed_thenShouldBeInvalid() {
+        final var service = service(10_000);
+
+        assertEquals(Reason.INVALID, reasonOf(() -> service.refresh("sem-pontos")));
+        assertEquals(Reason.INVALID, reasonOf(() -> service.refresh("nao-e-uuid.familia.segredo")));
+        assertEquals(Reason.INVALID, reasonOf(() -> service.refresh(UUID.randomUUID() + "..segredo")));
+    }
+}
@@ -0,0 +1,217 @@
+package com.MatheusJFA.Digibank.infrastructure.security.revocation;
+
+import com.MatheusJFA.Digibank.infrastructure.security.JwtKeyRing;
+import com.MatheusJFA.Digibank.infrastructure.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenRevocationServiceTest {
+
+    /***
+     * Cenários de teste:
+     * 1. Dado um filtro de Bloom com n elementos, quando consultado, então não deve haver falso negativo e os falsos positivos devem ficar perto da taxa configurada.
+     * 2. Dado o filtro ainda não carregado, quando um token é verificado, então deve consultar o store.
+     * 3. Dado o filtro carregado, quando um token não revogado é verificado, então não deve consultar o store.
+     * 4. Dado um token revogado em um nó, quando verificado em outro nó, então deve estar revogado pelo pub/sub.
+     * 5. Dado um token cuja revogação expirou, quando o filtro é reconstruído, então ele deve sair do filtro.
+     * 6. Dado uma falha no store, quando o filtro indica revogação, então o token deve ser recusado; antes da carga, aceito.
+     * 7. Dado um token sem jti ou já expirado, quando revogado, então nada deve ser gravado.
+     * 8. Dado um token gerado pelo JwtTokenUtil, quando revogado pelo valor, então deve ter jti e ficar revogado.
+     */
+
+    // Store compartilhado entre "nós" que entrega as revogações a todos os assinantes, como o pub/sub do Redis
+    private static final class InMemoryRevokedTokenStore implements RevokedTokenStore {
+        private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+        private final List<Consumer<String>> listeners = new ArrayList<>();
+        private int lookups;
+        private boolean failing;
+
+        @Override
+        public void revoke(String jti, Duration ttl) {
+            revoked.put(jti, System.currentTimeMillis() + ttl.toMillis());
+            listeners.forEach(listener -> listener.accept(jti));
+        }
+
+        @Override
+        public boolean isRevoked(String jti) {
+            lookups++;
+            if (failing) throw new IllegalStateException("Redis indisponível");
+            final Long expiresAt = revoked.get(jti);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        }
+
+        @Override
+        public void forEachRevoked(Consumer<String> action) {
+            revoked.entrySet().removeIf(entry -> entry.getValue() <= System.currentTimeMillis());
+            revoked.keySet().forEach(action);
+        }
+
+        @Override
+        public void subscribe(Consumer<String> listener) {
+            listeners.add(listener);
+        }
+    }
+
+    private InMemoryRevokedTokenStore store;
+    private JwtTokenUtil jwtTokenUtil;
+
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryRevokedTokenStore();
+
+        final var keyRing = new JwtKeyRing(Base64.getEncoder().encodeToString(new byte[64]), null);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        jwtTokenUtil = new JwtTokenUtil(keyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "claimsCacheSize", 0);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+    }
+
+    private TokenRevocationService node() {
+        final var service = new TokenRevocationService(store, jwtTokenUtil, 1000, 0.01);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    private static Claims claims(String jti, long expiresInMs) {
+        return Jwts.claims()
+                .setId(jti)
+                .setSubject("user-1")
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMs));
+    }
+
+    @Test
+    public void givenBloomFilter_whenQueried_thenShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        // Arrange
+        final var filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.add("jti-" + i);
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("jti-" + i));
+            if (filter.mightContain("other-" + i)) falsePositives++;
+        }
+
+        // Assert
+        assertEquals(7, filter.hashCount());
+        assertTrue(falsePositives < 200, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    public void givenFilterNotLoaded_whenChecked_thenShouldQueryStore() {
+        final var service = node();
+
+        assertFalse(service.isRevoked(claims("jti-1", 60_000)));
+        assertEquals(1, store.lookups);
+    }
+
+    @Test
+    public void givenLoadedFilter_whenNotRevokedTokenChecked_thenShouldNotQueryStore() {
+        // Arrange
+        final var service = node();
+        service.rebuild();
+
+        // Act
+        for (int i = 0; i < 100; i++) assertFalse(service.isRevoked(claims(UUID.randomUUID().toString(), 60_000)));
+
+        // Assert
+        assertTrue(service.isReady());
+        assertEquals(0, store.lookups);
+    }
+
+    @Test
+    public void givenTokenRevokedOnOneNode_whenCheckedOnAnother_thenShouldBeRevoked() {
+        // Arrange
+        final var nodeA = node();
+        final var nodeB = node();
+        nodeA.rebuild();
+        nodeB.rebuild();
+        final Claims claims = claims("jti-1", 60_000);
+
+        // Act
+        assertTrue(nodeA.revoke(claims));
+
+        // Assert
+        assertTrue(nodeA.isRevoked(claims));
+        assertTrue(nodeB.isRevoked(claims));
+        assertFalse(nodeB.isRevoked(claims("jti-2", 60_000)));
+    }
+
+    @Test
+    public void givenExpiredRevocation_whenFilterRebuilt_thenShouldLeaveFilter() throws InterruptedException {
+        // Arrange
+        final var service = node();
+        service.rebuild();
+        service.revoke(claims("short", 20));
+        service.revoke(claims("long", 60_000));
+        Thread.sleep(40);
+
+        // Act
+        service.rebuild();
+        final int before = store.lookups;
+
+        // Assert
+        assertFalse(service.isRevoked(claims("short", 60_000)));
+        assertEquals(before, store.lookups);
+        assertTrue(service.isRevoked(claims("long", 60_000)));
+    }
+
+    @Test
+    public void givenStoreFailure_whenFilterHits_thenShouldRejectAndBeforeLoadShouldAccept() {
+        // Arrange
+        final var loaded = node();
+        loaded.rebuild();
+        loaded.revoke(claims("jti-1", 60_000));
+        final var notLoaded = node();
+        store.failing = true;
+
+        // Act & Assert
+        assertTrue(loaded.isRevoked(claims("jti-1", 60_000)));
+        assertFalse(notLoaded.isRevoked(claims("jti-1", 60_000)));
+    }
+
+    @Test
+    public void givenTokenWithoutJtiOrExpired_whenRevoked_thenNothingShouldBeStored() {
+        final var service = node();
+
+        assertFalse(service.revoke(claims(null, 60_000)));
+        assertFalse(service.revoke(claims("expired", -1000)));
+        assertTrue(store.revoked.isEmpty());
+        assertFalse(service.isRevoked(claims(null, 60_000)));
+    }
+
+    @Test
+    public void givenGeneratedToken_whenRevokedByValue_thenShouldBeRevoked() {
+        // Arrange
+        final var service = node();
+        service.rebuild();
+        final String token = jwtTokenUtil.generateToken(new User(UUID.randomUUID().toString(), "", List.of()));
+        final Claims claims = jwtTokenUtil.parseAndVerify(token);
+
+        // Act
+        final boolean revoked = service.revokeToken(token);
+
+        // Assert
+        assertNotNull(claims.getId());
+        assertTrue(revoked);
+        assertTrue(service.isRevoked(claims));
+        assertFalse(service.revokeToken("nao-e-um-jwt"));
+    }
+}